@@ -0,0 +1,302 @@
+package com.ananum.integration;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache de solutions adressé par contenu, placé devant une MethodeResolution.
+ *
+ * La clé est l'empreinte SHA-256 de ParametresEntree.cleCanonique() (et du nom
+ * de la méthode) : deux requêtes décrivant le même problème partagent la même
+ * entrée, quel que soit l'objet paramètres utilisé.
+ *
+ * - Niveau mémoire : LRU borné par l'empreinte mémoire estimée des solutions.
+ * - Déduplication : des requêtes identiques concurrentes ne déclenchent qu'une
+ *   seule résolution, les autres attendent son résultat.
+ * - Niveau disque optionnel : fichiers FormatBinaireSolution, consultés après
+ *   un défaut en mémoire et alimentés à chaque résolution. Le format ne porte
+ *   que les champs de ResultatResolution : un résultat enrichi sans
+ *   information propre renseignée est relu comme un ResultatResolution ; s'il
+ *   porte des métriques d'erreur, un fichier graphique... (ou s'il est 2D), il
+ *   reste en mémoire seulement, plutôt que d'être relu amputé.
+ *
+ * Chaque appelant reçoit une copie indépendante du résultat mis en cache.
+ */
+public class CacheResolution implements MethodeResolution {
+
+    private static final long SURCOUT_ENTREE = 256;  // objets, clé, en-têtes (estimation)
+    private static final String EXTENSION = ".vf1s";
+
+    private final MethodeResolution methode;
+    private final long capaciteOctets;
+    private final Path repertoireDisque;
+
+    // LRU en ordre d'accès, protégé par son propre verrou
+    private final LinkedHashMap<String, ResultatResolution> entrees = new LinkedHashMap<>(64, 0.75f, true);
+    private long octetsUtilises;
+
+    private final ConcurrentHashMap<String, CompletableFuture<ResultatResolution>> enVol = new ConcurrentHashMap<>();
+
+    private final LongAdder succesMemoire = new LongAdder();
+    private final LongAdder succesDisque = new LongAdder();
+    private final LongAdder defauts = new LongAdder();
+    private final LongAdder dedoublonnes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CacheResolution(MethodeResolution methode, long capaciteOctets) {
+        this(methode, capaciteOctets, null);
+    }
+
+    /**
+     * @param repertoireDisque répertoire du niveau disque, null pour le désactiver
+     */
+    public CacheResolution(MethodeResolution methode, long capaciteOctets, Path repertoireDisque) {
+        if (capaciteOctets <= 0) {
+            throw new IllegalArgumentException("La capacité du cache doit être positive");
+        }
+        this.methode = methode;
+        this.capaciteOctets = capaciteOctets;
+        this.repertoireDisque = repertoireDisque;
+        if (repertoireDisque != null) {
+            try {
+                Files.createDirectories(repertoireDisque);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Répertoire de cache inutilisable: " + repertoireDisque, e);
+            }
+        }
+    }
+
+    @Override
+    public ResultatResolution resoudre(ParametresEntree params) {
+        String cle = cle(params);
+
+        ResultatResolution trouve = lireMemoire(cle);
+        if (trouve != null) {
+            succesMemoire.increment();
+            return trouve.copie();
+        }
+
+        CompletableFuture<ResultatResolution> nouveau = new CompletableFuture<>();
+        CompletableFuture<ResultatResolution> existant = enVol.putIfAbsent(cle, nouveau);
+        if (existant != null) {
+            // Même problème déjà en cours de résolution par un autre appelant
+            dedoublonnes.increment();
+            try {
+                return existant.join().copie();
+            } catch (CompletionException e) {
+                throw propager(e.getCause());
+            }
+        }
+
+        try {
+            // Une résolution concurrente a pu se terminer entre-temps
+            ResultatResolution deja = lireMemoire(cle);
+            if (deja != null) {
+                succesMemoire.increment();
+                nouveau.complete(deja);
+                return deja.copie();
+            }
+
+            ResultatResolution resultat = charger(cle, params);
+            nouveau.complete(resultat);
+            return resultat.copie();
+        } catch (RuntimeException | Error e) {
+            nouveau.completeExceptionally(e);
+            throw e;
+        } finally {
+            enVol.remove(cle, nouveau);
+        }
+    }
+
+    @Override
+    public String getNomMethode() {
+        return methode.getNomMethode();
+    }
+
+    @Override
+    public int getDimension() {
+        return methode.getDimension();
+    }
+
+    /**
+     * Clé de cache (empreinte hexadécimale) d'un jeu de paramètres
+     */
+    public String cle(ParametresEntree params) {
+        String canonique = methode.getNomMethode() + "#" + params.cleCanonique();
+        try {
+            byte[] empreinte = MessageDigest.getInstance("SHA-256")
+                .digest(canonique.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(empreinte.length * 2);
+            for (byte octet : empreinte) {
+                hex.append(Character.forDigit((octet >> 4) & 0xF, 16))
+                   .append(Character.forDigit(octet & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    /**
+     * Vide le niveau mémoire (le niveau disque est conservé)
+     */
+    public void vider() {
+        synchronized (entrees) {
+            entrees.clear();
+            octetsUtilises = 0;
+        }
+    }
+
+    // Métriques
+
+    public long getSuccesMemoire() { return succesMemoire.sum(); }
+    public long getSuccesDisque() { return succesDisque.sum(); }
+    public long getDefauts() { return defauts.sum(); }
+    public long getDedoublonnes() { return dedoublonnes.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+
+    public long getOctetsUtilises() {
+        synchronized (entrees) {
+            return octetsUtilises;
+        }
+    }
+
+    public int getNombreEntrees() {
+        synchronized (entrees) {
+            return entrees.size();
+        }
+    }
+
+    /**
+     * Taux de succès (mémoire + disque + dédoublonnés) sur toutes les requêtes
+     */
+    public double getTauxSucces() {
+        long succes = getSuccesMemoire() + getSuccesDisque() + getDedoublonnes();
+        long total = succes + getDefauts();
+        return total == 0 ? 0.0 : (double) succes / total;
+    }
+
+    public String resumeMetriques() {
+        return String.format("succès mémoire=%d, succès disque=%d, défauts=%d, dédoublonnés=%d, "
+                + "évictions=%d, entrées=%d, octets=%d/%d, taux=%.1f%%",
+            getSuccesMemoire(), getSuccesDisque(), getDefauts(), getDedoublonnes(),
+            getEvictions(), getNombreEntrees(), getOctetsUtilises(), capaciteOctets,
+            100.0 * getTauxSucces());
+    }
+
+    /**
+     * Estimation de l'empreinte mémoire d'un résultat
+     */
+    static long empreinte(ResultatResolution r) {
+        long octets = SURCOUT_ENTREE;
+        if (r.solution != null) octets += 8L * r.solution.length;
+        if (r.x != null) octets += 8L * r.x.length;
+        if (r.y != null) octets += 8L * r.y.length;
+        return octets;
+    }
+
+    private ResultatResolution charger(String cle, ParametresEntree params) {
+        ResultatResolution resultat = lireDisque(cle);
+        if (resultat != null) {
+            succesDisque.increment();
+        } else {
+            defauts.increment();
+            // Copie privée : l'appelant ne doit pas pouvoir modifier l'entrée du cache
+            resultat = methode.resoudre(params).copie();
+            ecrireDisque(cle, resultat);
+        }
+        ecrireMemoire(cle, resultat);
+        return resultat;
+    }
+
+    private ResultatResolution lireMemoire(String cle) {
+        synchronized (entrees) {
+            return entrees.get(cle);
+        }
+    }
+
+    private void ecrireMemoire(String cle, ResultatResolution resultat) {
+        long taille = empreinte(resultat);
+        if (taille > capaciteOctets) {
+            return;   // plus grand que le cache entier : jamais conservé en mémoire
+        }
+
+        synchronized (entrees) {
+            ResultatResolution ancien = entrees.put(cle, resultat);
+            if (ancien != null) {
+                octetsUtilises -= empreinte(ancien);
+            }
+            octetsUtilises += taille;
+
+            Iterator<Map.Entry<String, ResultatResolution>> it = entrees.entrySet().iterator();
+            while (octetsUtilises > capaciteOctets && it.hasNext()) {
+                Map.Entry<String, ResultatResolution> plusAncien = it.next();
+                if (plusAncien.getKey().equals(cle)) continue;
+                octetsUtilises -= empreinte(plusAncien.getValue());
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private ResultatResolution lireDisque(String cle) {
+        if (repertoireDisque == null) return null;
+
+        Path fichier = repertoireDisque.resolve(cle + EXTENSION);
+        if (!Files.isRegularFile(fichier)) return null;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(fichier))) {
+            return FormatBinaireSolution.lire(in);
+        } catch (IOException e) {
+            // Fichier corrompu ou tronqué : traité comme un défaut
+            return null;
+        }
+    }
+
+    private void ecrireDisque(String cle, ResultatResolution resultat) {
+        if (repertoireDisque == null || !persistable(resultat)) return;
+
+        try {
+            // Écriture dans un fichier temporaire puis renommage atomique
+            Path temporaire = Files.createTempFile(repertoireDisque, cle, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaire))) {
+                FormatBinaireSolution.ecrire(resultat, out);
+            }
+            Files.move(temporaire, repertoireDisque.resolve(cle + EXTENSION),
+                       StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Le niveau disque est une optimisation : une écriture ratée n'est pas bloquante
+            System.err.println("Cache disque: écriture impossible (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Vrai si FormatBinaireSolution conserve tout le résultat
+     */
+    static boolean persistable(ResultatResolution resultat) {
+        return resultat.champsDeBaseSeulement()
+            && resultat.x != null && resultat.y == null;
+    }
+
+    private static RuntimeException propager(Throwable cause) {
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ananum.integration;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exécuteurs pour les tâches bloquantes (entrées/sorties).
+ *
+ * Sur un JDK 21+, un thread virtuel est créé par tâche
+ * (Executors.newVirtualThreadPerTaskExecutor, résolu par réflexion puisque le
+ * projet compile en Java 17). Sur les JDK antérieurs, on retombe sur un pool
+ * de threads démons non borné, qui a la même sémantique "un thread par tâche
+ * bloquante" avec des threads plateforme.
+ */
+public final class ExecuteursVirtuels {
+
+    private static final Method NEW_VIRTUAL_EXECUTOR = lookupVirtualExecutor();
+
+    private ExecuteursVirtuels() {
+    }
+
+    /**
+     * Indique si les threads virtuels sont disponibles sur ce JDK
+     */
+    public static boolean disponibles() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Crée un exécuteur "un thread par tâche" pour du travail bloquant
+     */
+    public static ExecutorService nouveau(String prefixe) {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Retombe sur le pool de threads plateforme
+            }
+        }
+        return Executors.newCachedThreadPool(fabriqueDemons(prefixe));
+    }
+
+    /**
+     * Fabrique de threads démons nommés prefixe-1, prefixe-2, ...
+     */
+    public static ThreadFactory fabriqueDemons(String prefixe) {
+        AtomicInteger compteur = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefixe + "-" + compteur.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static Method lookupVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
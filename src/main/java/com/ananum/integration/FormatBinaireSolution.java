@@ -0,0 +1,160 @@
+package com.ananum.integration;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+/**
+ * Format binaire des solutions : doubles IEEE 754 en little-endian.
+ *
+ * Disposition d'un enregistrement complet :
+ * <pre>
+ *   "VF1S"            4 octets
+ *   version (int32)   1
+ *   n (int32)
+ *   tempsCalcul       float64
+ *   iterations        int32
+ *   erreur            float64
+ *   x[0..n)           n x float64
+ *   solution[0..n)    n x float64
+ * </pre>
+ * Tous les entiers et flottants sont en little-endian. Les tableaux seuls
+ * (x ou solution) peuvent aussi être échangés en base64 de leurs octets LE.
+ */
+public final class FormatBinaireSolution {
+
+    private static final byte[] MAGIC = {'V', 'F', '1', 'S'};
+    private static final int VERSION = 1;
+    private static final int ENTETE = 4 + 4 + 4 + 8 + 4 + 8;
+    private static final int BLOC = 8192;   // doubles écrits par bloc
+
+    private FormatBinaireSolution() {
+    }
+
+    /**
+     * Octets little-endian d'un tableau de doubles
+     */
+    public static byte[] versOctets(double[] valeurs) {
+        ByteBuffer buffer = ByteBuffer.allocate(valeurs.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asDoubleBuffer().put(valeurs);
+        return buffer.array();
+    }
+
+    /**
+     * Tableau de doubles à partir de ses octets little-endian
+     */
+    public static double[] depuisOctets(byte[] octets) {
+        if (octets.length % 8 != 0) {
+            throw new IllegalArgumentException("Longueur incompatible avec des float64: " + octets.length);
+        }
+        double[] valeurs = new double[octets.length / 8];
+        ByteBuffer.wrap(octets).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(valeurs);
+        return valeurs;
+    }
+
+    public static String versBase64(double[] valeurs) {
+        return Base64.getEncoder().encodeToString(versOctets(valeurs));
+    }
+
+    public static double[] depuisBase64(String texte) {
+        return depuisOctets(Base64.getDecoder().decode(texte));
+    }
+
+    /**
+     * Taille en octets d'un enregistrement de n points
+     */
+    public static long taille(int n) {
+        return ENTETE + 16L * n;
+    }
+
+    /**
+     * Écrit un résultat complet ; les tableaux sont écrits par blocs, le flux
+     * peut donc être envoyé au fil de l'eau (réponse HTTP chunked, fichier)
+     */
+    public static void ecrire(ResultatResolution resultat, OutputStream out) throws IOException {
+        if (resultat.solution == null || resultat.x == null) {
+            throw new IllegalArgumentException("Le résultat doit contenir la solution et le maillage");
+        }
+        int n = resultat.solution.length;
+
+        ByteBuffer entete = ByteBuffer.allocate(ENTETE).order(ByteOrder.LITTLE_ENDIAN);
+        entete.put(MAGIC);
+        entete.putInt(VERSION);
+        entete.putInt(n);
+        entete.putDouble(resultat.tempsCalcul);
+        entete.putInt(resultat.iterations);
+        entete.putDouble(resultat.erreur);
+        out.write(entete.array());
+
+        ByteBuffer bloc = ByteBuffer.allocate(BLOC * 8).order(ByteOrder.LITTLE_ENDIAN);
+        ecrireTableau(resultat.x, n, bloc, out);
+        ecrireTableau(resultat.solution, n, bloc, out);
+        out.flush();
+    }
+
+    /**
+     * Relit un enregistrement écrit par ecrire
+     */
+    public static ResultatResolution lire(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+
+        byte[] brut = new byte[ENTETE];
+        data.readFully(brut);
+        ByteBuffer entete = ByteBuffer.wrap(brut).order(ByteOrder.LITTLE_ENDIAN);
+
+        byte[] magic = new byte[4];
+        entete.get(magic);
+        if (magic[0] != MAGIC[0] || magic[1] != MAGIC[1] || magic[2] != MAGIC[2] || magic[3] != MAGIC[3]) {
+            throw new IOException("Format de solution non reconnu");
+        }
+        int version = entete.getInt();
+        if (version != VERSION) {
+            throw new IOException("Version de format non supportée: " + version);
+        }
+
+        int n = entete.getInt();
+        if (n < 0) {
+            throw new IOException("Taille de solution invalide: " + n);
+        }
+
+        ResultatResolution resultat = new ResultatResolution();
+        resultat.tempsCalcul = entete.getDouble();
+        resultat.iterations = entete.getInt();
+        resultat.erreur = entete.getDouble();
+        resultat.x = lireTableau(data, n);
+        resultat.solution = lireTableau(data, n);
+        return resultat;
+    }
+
+    private static void ecrireTableau(double[] valeurs, int n, ByteBuffer bloc,
+                                      OutputStream out) throws IOException {
+        for (int debut = 0; debut < n; debut += BLOC) {
+            int fin = Math.min(n, debut + BLOC);
+            bloc.clear();
+            bloc.asDoubleBuffer().put(valeurs, debut, fin - debut);
+            out.write(bloc.array(), 0, (fin - debut) * 8);
+        }
+    }
+
+    private static double[] lireTableau(DataInputStream in, int n) throws IOException {
+        double[] valeurs = new double[n];
+        byte[] octets = new byte[Math.min(n, BLOC) * 8];
+
+        for (int debut = 0; debut < n; debut += BLOC) {
+            int compte = Math.min(n - debut, BLOC);
+            try {
+                in.readFully(octets, 0, compte * 8);
+            } catch (EOFException e) {
+                throw new IOException("Solution tronquée", e);
+            }
+            ByteBuffer.wrap(octets, 0, compte * 8).order(ByteOrder.LITTLE_ENDIAN)
+                      .asDoubleBuffer().get(valeurs, debut, compte);
+        }
+        return valeurs;
+    }
+}
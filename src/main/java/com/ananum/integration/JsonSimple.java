@@ -0,0 +1,170 @@
+package com.ananum.integration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Analyseur JSON minimal pour les requêtes de résolution : objets, chaînes,
+ * nombres, booléens et null (les tableaux ne sont pas nécessaires ici).
+ * Les nombres sont renvoyés en Double, les objets en Map. L'imbrication des
+ * objets est bornée à PROFONDEUR_MAX pour qu'un corps de requête hostile ne
+ * puisse pas épuiser la pile du thread qui l'analyse.
+ */
+final class JsonSimple {
+
+    static final int PROFONDEUR_MAX = 32;
+
+    private final String texte;
+    private int pos;
+    private int profondeur;
+
+    private JsonSimple(String texte) {
+        this.texte = texte;
+    }
+
+    /**
+     * Analyse un objet JSON
+     */
+    static Map<String, Object> analyserObjet(String texte) {
+        JsonSimple parser = new JsonSimple(texte);
+        parser.espaces();
+        Map<String, Object> objet = parser.objet();
+        parser.espaces();
+        if (parser.pos != texte.length()) {
+            throw parser.erreur("contenu inattendu après l'objet");
+        }
+        return objet;
+    }
+
+    /**
+     * Échappe une chaîne pour l'écriture JSON (guillemets inclus)
+     */
+    static String chaine(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (ch < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        sb.append(ch);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private Map<String, Object> objet() {
+        attendre('{');
+        if (++profondeur > PROFONDEUR_MAX) {
+            throw erreur("imbrication supérieure à " + PROFONDEUR_MAX + " niveaux");
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        espaces();
+        if (suivant() == '}') {
+            pos++;
+            profondeur--;
+            return map;
+        }
+        while (true) {
+            espaces();
+            String cle = texteChaine();
+            espaces();
+            attendre(':');
+            espaces();
+            map.put(cle, valeur());
+            espaces();
+            char ch = lire();
+            if (ch == '}') {
+                profondeur--;
+                return map;
+            }
+            if (ch != ',') throw erreur("',' ou '}' attendu");
+        }
+    }
+
+    private Object valeur() {
+        char ch = suivant();
+        if (ch == '{') return objet();
+        if (ch == '"') return texteChaine();
+        if (texte.startsWith("true", pos)) { pos += 4; return Boolean.TRUE; }
+        if (texte.startsWith("false", pos)) { pos += 5; return Boolean.FALSE; }
+        if (texte.startsWith("null", pos)) { pos += 4; return null; }
+        return nombre();
+    }
+
+    private Double nombre() {
+        int debut = pos;
+        while (pos < texte.length() && "+-0123456789.eE".indexOf(texte.charAt(pos)) >= 0) {
+            pos++;
+        }
+        if (debut == pos) throw erreur("valeur attendue");
+        try {
+            return Double.valueOf(texte.substring(debut, pos));
+        } catch (NumberFormatException e) {
+            throw erreur("nombre invalide");
+        }
+    }
+
+    private String texteChaine() {
+        attendre('"');
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            char ch = lire();
+            if (ch == '"') return sb.toString();
+            if (ch != '\\') {
+                sb.append(ch);
+                continue;
+            }
+            char esc = lire();
+            switch (esc) {
+                case '"': case '\\': case '/': sb.append(esc); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    if (pos + 4 > texte.length()) throw erreur("échappement unicode tronqué");
+                    try {
+                        sb.append((char) Integer.parseInt(texte.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw erreur("échappement unicode invalide");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw erreur("échappement invalide");
+            }
+        }
+    }
+
+    private void espaces() {
+        while (pos < texte.length() && Character.isWhitespace(texte.charAt(pos))) pos++;
+    }
+
+    private char suivant() {
+        if (pos >= texte.length()) throw erreur("fin de texte inattendue");
+        return texte.charAt(pos);
+    }
+
+    private char lire() {
+        char ch = suivant();
+        pos++;
+        return ch;
+    }
+
+    private void attendre(char attendu) {
+        if (lire() != attendu) throw erreur("'" + attendu + "' attendu");
+    }
+
+    private IllegalArgumentException erreur(String message) {
+        return new IllegalArgumentException("JSON invalide (position " + pos + "): " + message);
+    }
+}
@@ -9,7 +9,7 @@ public class ParametresEntree {
     public double xMin = 0.0, xMax = 1.0;
     public double yMin = 0.0, yMax = 1.0;
     
-    // Conditions aux limites (Dirichlet)
+    // Conditions aux limites (Dirichlet, Neumann, Robin ou périodiques)
     public ConditionLimite conditionsLimites;
     
     // Discrétisation
@@ -21,9 +21,75 @@ public class ParametresEntree {
     
     // Options
     public boolean anisotrope = false;  // Pour 2D
+    public String schemaConvection;     // Pour 1D: upwind (défaut), central, hybrid, powerlaw,
+                                        // exponential, tvd_minmod, tvd_van_leer
+    
+    /**
+     * Représentation canonique de tous les champs qui déterminent la solution :
+     * deux jeux de paramètres décrivant le même problème ont la même clé
+     * (-0.0 et 0.0 confondus, expression source normalisée comme par l'analyseur,
+     * champs ignorés par le solveur omis : u0, uL et types de bord en
+     * périodique, coefficients alpha/beta hors bord de Robin).
+     * Les sous-classes qui ajoutent des champs influant sur le résultat doivent
+     * les y ajouter.
+     */
+    public String cleCanonique() {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(getClass().getName());
+        ajouter(sb, a); ajouter(sb, b); ajouter(sb, c);
+        ajouter(sb, kxx); ajouter(sb, kyy);
+        ajouter(sb, xMin); ajouter(sb, xMax);
+        ajouter(sb, yMin); ajouter(sb, yMax);
+        sb.append('|').append(nx).append('|').append(ny);
+        sb.append('|').append(mailleUniforme).append('|').append(anisotrope);
+        sb.append('|').append(fonctionSource == null ? "" : fonctionSource.toLowerCase().trim());
+        String schema = schemaConvection == null ? "" : schemaConvection.toLowerCase().trim();
+        sb.append('|').append(schema.isEmpty() ? "upwind" : schema);
+        if (conditionsLimites != null) {
+            ConditionLimite cl = conditionsLimites;
+            if (cl.periodique) {
+                sb.append("|periodique");
+            } else {
+                ajouterBord(sb, cl.type0, cl.u0, cl.alpha0, cl.beta0);
+                ajouterBord(sb, cl.typeL, cl.uL, cl.alphaL, cl.betaL);
+            }
+            sb.append('|').append(cl.uBord == null ? "" : cl.uBord.trim());
+        } else {
+            sb.append("|-");
+        }
+        return sb.toString();
+    }
+    
+    private static void ajouterBord(StringBuilder sb, TypeLimite type, double g,
+                                    double alpha, double beta) {
+        // Type absent traité en Dirichlet, comme par le solveur
+        TypeLimite t = type == null ? TypeLimite.DIRICHLET : type;
+        sb.append('|').append(t);
+        ajouter(sb, g);
+        if (t == TypeLimite.ROBIN) {
+            ajouter(sb, alpha); ajouter(sb, beta);
+        }
+    }
+    
+    protected static void ajouter(StringBuilder sb, double v) {
+        // Bits exacts : aucune perte d'arrondi, -0.0 ramené à 0.0
+        sb.append('|').append(Long.toHexString(Double.doubleToLongBits(v == 0.0 ? 0.0 : v)));
+    }
+    
+    /**
+     * Type d'une condition 1D, de valeur g (u0 ou uL) :
+     * DIRICHLET u = g, NEUMANN du/dn = g (dérivée normale sortante),
+     * ROBIN alpha u + beta du/dn = g
+     */
+    public enum TypeLimite { DIRICHLET, NEUMANN, ROBIN }
     
     public static class ConditionLimite {
-        public double u0, uL;       // Pour 1D: u(xMin), u(xMax)
+        public double u0, uL;       // Pour 1D: valeurs g en xMin, xMax
         public String uBord;        // Pour 2D: expression sur le bord
+        public boolean periodique;  // Pour 1D: u(xMin) = u(xMax), u0 et uL ignorés
+        public TypeLimite type0 = TypeLimite.DIRICHLET;   // Pour 1D: type en xMin
+        public TypeLimite typeL = TypeLimite.DIRICHLET;   // Pour 1D: type en xMax
+        public double alpha0 = 1.0, beta0 = 1.0;          // Coefficients de Robin en xMin
+        public double alphaL = 1.0, betaL = 1.0;          // Coefficients de Robin en xMax
     }
 }
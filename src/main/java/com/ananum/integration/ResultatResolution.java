@@ -7,6 +7,34 @@ public class ResultatResolution {
     public int iterations;          
     public double erreur;           
     
+    /**
+     * Copie indépendante (tableaux dupliqués), pour partager un résultat
+     * entre plusieurs appelants sans aliasing
+     */
+    public ResultatResolution copie() {
+        ResultatResolution r = new ResultatResolution();
+        copierDans(r);
+        return r;
+    }
+    
+    /**
+     * Vrai si le résultat se réduit aux champs de cette classe : une
+     * sous-classe dont les informations propres ne sont pas renseignées
+     * peut alors être conservée comme un ResultatResolution simple
+     */
+    public boolean champsDeBaseSeulement() {
+        return true;
+    }
+    
+    protected void copierDans(ResultatResolution r) {
+        r.solution = solution != null ? solution.clone() : null;
+        r.x = x != null ? x.clone() : null;
+        r.y = y != null ? y.clone() : null;
+        r.tempsCalcul = tempsCalcul;
+        r.iterations = iterations;
+        r.erreur = erreur;
+    }
+    
     public void afficherResume() {
         System.out.println("Temps de calcul: " + tempsCalcul + " ms");
         System.out.println("Nombre de points: " + solution.length);
@@ -0,0 +1,282 @@
+package com.ananum.integration;
+
+import com.ananum.vf1d.metrics.ExportEvent;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Point d'accès HTTP/JSON local (serveur intégré du JDK) pour appeler le
+ * solveur depuis d'autres processus de la même machine.
+ *
+ * POST /resoudre avec un objet JSON reprenant les champs de ParametresEntree :
+ * <pre>
+ * {"a":1, "b":0.5, "c":1, "xMin":0, "xMax":1, "nx":1000,
+ *  "mailleUniforme":true, "fonctionSource":"sin(pi*x)",
+ *  "conditionsLimites":{"u0":0, "uL":0}}
+ * </pre>
+ * ("conditionsLimites":{"periodique":true} pour des conditions périodiques ;
+ * "type0"/"typeL" : "dirichlet", "neumann" ou "robin", de coefficients
+ * "alpha0", "beta0", "alphaL", "betaL" ; "schemaConvection" : "upwind",
+ * "central", "hybrid", "powerlaw", "exponential", "tvd_minmod" ou "tvd_van_leer")
+ * Réponse selon le paramètre de requête format :
+ * - json (défaut) : objet JSON, x et solution en base64 de float64 little-endian ;
+ * - binaire : enregistrement FormatBinaireSolution envoyé en flux chunked.
+ * Erreurs (corps {"erreur": "..."}) : 400 pour un JSON ou des paramètres
+ * invalides (nx entier de 2 à NX_MAX ; fonction source non reconnue avec
+ * ServiceResolution.pourVF1D()), 413 au-delà de 64 Kio de corps,
+ * 503 si le pool de calcul est saturé, 500 pour un échec du solveur.
+ *
+ * Chaque requête est servie sur un thread virtuel (voir ExecuteursVirtuels),
+ * qui attend la résolution exécutée sur le pool de calcul borné du
+ * ServiceResolution. GET /sante renvoie l'état du service.
+ */
+public class ServeurHttpResolution implements AutoCloseable {
+
+    private static final int TAILLE_MAX_REQUETE = 64 * 1024;
+
+    /** Nombre maximal de volumes accepté par requête (mémoire et temps bornés) */
+    public static final int NX_MAX = 1_000_000;
+
+    private final HttpServer serveur;
+    private final ServiceResolution service;
+    private final ExecutorService executeur;
+
+    /**
+     * Démarre le serveur sur l'interface de bouclage (port 0 : port libre)
+     */
+    public ServeurHttpResolution(ServiceResolution service, int port) throws IOException {
+        this.service = service;
+        this.executeur = ExecuteursVirtuels.nouveau("http-resolution");
+        this.serveur = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.serveur.setExecutor(executeur);
+        this.serveur.createContext("/resoudre", this::traiterResolution);
+        this.serveur.createContext("/sante", this::traiterSante);
+        this.serveur.start();
+    }
+
+    public int getPort() {
+        return serveur.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        serveur.stop(0);
+        executeur.shutdown();
+    }
+
+    private void traiterResolution(HttpExchange echange) throws IOException {
+        try (echange) {
+            if (!"POST".equals(echange.getRequestMethod())) {
+                repondreErreur(echange, 405, "Méthode non autorisée, utiliser POST");
+                return;
+            }
+
+            byte[] corps = echange.getRequestBody().readNBytes(TAILLE_MAX_REQUETE + 1);
+            if (corps.length > TAILLE_MAX_REQUETE) {
+                repondreErreur(echange, 413,
+                               "Requête trop volumineuse (max " + TAILLE_MAX_REQUETE + " octets)");
+                return;
+            }
+
+            ParametresEntree params;
+            try {
+                params = lireParametres(new String(corps, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                repondreErreur(echange, 400, e.getMessage());
+                return;
+            }
+
+            ResultatResolution resultat;
+            try {
+                resultat = service.submit(params).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof IllegalArgumentException) {
+                    repondreErreur(echange, 400, cause.getMessage());
+                } else if (cause instanceof RejectedExecutionException) {
+                    repondreErreur(echange, 503, "Service saturé");
+                } else {
+                    repondreErreur(echange, 500, String.valueOf(cause.getMessage()));
+                }
+                return;
+            }
+
+            ExportEvent event = SolverEvents.beginExport();
+            String format = parametreRequete(echange, "format");
+            if ("binaire".equals(format)) {
+                echange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+                echange.sendResponseHeaders(200, 0);   // 0 : corps chunked
+                try (OutputStream out = echange.getResponseBody()) {
+                    FormatBinaireSolution.ecrire(resultat, out);
+                }
+            } else {
+                format = "json";
+                repondre(echange, 200, "application/json", versJson(resultat));
+            }
+            SolverEvents.endExport(event, "http-" + format, resultat.solution.length);
+        }
+    }
+
+    private void traiterSante(HttpExchange echange) throws IOException {
+        try (echange) {
+            String json = "{\"statut\":\"ok\",\"soumissions\":" + service.getSoumissions()
+                + ",\"terminees\":" + service.getTerminees()
+                + ",\"echecs\":" + service.getEchecs()
+                + ",\"fileAttente\":" + service.getFileAttente()
+                + ",\"threadsVirtuels\":" + ExecuteursVirtuels.disponibles() + "}";
+            repondre(echange, 200, "application/json", json);
+        }
+    }
+
+    /**
+     * Construit les paramètres d'entrée à partir du corps JSON
+     */
+    static ParametresEntree lireParametres(String json) {
+        Map<String, Object> objet = JsonSimple.analyserObjet(json);
+
+        ParametresEntree params = new ParametresEntree();
+        params.a = nombre(objet, "a", 1.0);
+        params.b = nombre(objet, "b", 0.0);
+        params.c = nombre(objet, "c", 0.0);
+        params.xMin = nombre(objet, "xMin", 0.0);
+        params.xMax = nombre(objet, "xMax", 1.0);
+        params.nx = nombreVolumes(objet);
+        params.mailleUniforme = booleen(objet, "mailleUniforme", true);
+
+        Object source = objet.get("fonctionSource");
+        if (source != null && !(source instanceof String)) {
+            throw new IllegalArgumentException("Le champ fonctionSource doit être une chaîne");
+        }
+        params.fonctionSource = source != null ? (String) source : "0";
+        Object schema = objet.get("schemaConvection");
+        if (schema != null && !(schema instanceof String)) {
+            throw new IllegalArgumentException("Le champ schemaConvection doit être une chaîne");
+        }
+        params.schemaConvection = (String) schema;
+
+        params.conditionsLimites = new ParametresEntree.ConditionLimite();
+        Object cl = objet.get("conditionsLimites");
+        if (cl instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> limites = (Map<String, Object>) cl;
+            params.conditionsLimites.u0 = nombre(limites, "u0", 0.0);
+            params.conditionsLimites.uL = nombre(limites, "uL", 0.0);
+            params.conditionsLimites.periodique = booleen(limites, "periodique", false);
+            params.conditionsLimites.type0 = typeLimite(limites, "type0");
+            params.conditionsLimites.typeL = typeLimite(limites, "typeL");
+            params.conditionsLimites.alpha0 = nombre(limites, "alpha0", 1.0);
+            params.conditionsLimites.beta0 = nombre(limites, "beta0", 1.0);
+            params.conditionsLimites.alphaL = nombre(limites, "alphaL", 1.0);
+            params.conditionsLimites.betaL = nombre(limites, "betaL", 1.0);
+        } else if (cl != null) {
+            throw new IllegalArgumentException("conditionsLimites doit être un objet");
+        }
+
+        return params;
+    }
+
+    /**
+     * Sérialise le résultat, tableaux en base64 de float64 little-endian
+     */
+    static String versJson(ResultatResolution resultat) {
+        StringBuilder json = new StringBuilder(64 + resultat.solution.length * 22);
+        json.append("{\"n\":").append(resultat.solution.length);
+        json.append(",\"tempsCalcul\":").append(resultat.tempsCalcul);
+        json.append(",\"iterations\":").append(resultat.iterations);
+        json.append(",\"erreur\":").append(resultat.erreur);
+        json.append(",\"encodage\":\"float64-le-base64\"");
+        json.append(",\"x\":").append(JsonSimple.chaine(FormatBinaireSolution.versBase64(resultat.x)));
+        json.append(",\"solution\":").append(JsonSimple.chaine(FormatBinaireSolution.versBase64(resultat.solution)));
+        json.append('}');
+        return json.toString();
+    }
+
+    private static double nombre(Map<String, Object> objet, String cle, double defaut) {
+        Object v = objet.get(cle);
+        if (v == null) return defaut;
+        if (!(v instanceof Double)) {
+            throw new IllegalArgumentException("Le champ " + cle + " doit être numérique");
+        }
+        return (Double) v;
+    }
+
+    /**
+     * Nombre de volumes : entier de 2 à NX_MAX
+     */
+    private static int nombreVolumes(Map<String, Object> objet) {
+        double v = nombre(objet, "nx", 100);
+        if (v != Math.rint(v) || v < 2 || v > NX_MAX) {
+            throw new IllegalArgumentException(
+                "Le champ nx doit être un entier entre 2 et " + NX_MAX + " (reçu " + v + ")");
+        }
+        return (int) v;
+    }
+
+    private static boolean booleen(Map<String, Object> objet, String cle, boolean defaut) {
+        Object v = objet.get(cle);
+        if (v == null) return defaut;
+        if (!(v instanceof Boolean)) {
+            throw new IllegalArgumentException("Le champ " + cle + " doit être booléen");
+        }
+        return (Boolean) v;
+    }
+
+    private static ParametresEntree.TypeLimite typeLimite(Map<String, Object> objet, String cle) {
+        Object v = objet.get(cle);
+        if (v == null) return ParametresEntree.TypeLimite.DIRICHLET;
+        if (v instanceof String) {
+            for (ParametresEntree.TypeLimite type : ParametresEntree.TypeLimite.values()) {
+                if (type.name().equalsIgnoreCase((String) v)) return type;
+            }
+        }
+        throw new IllegalArgumentException(
+            "Le champ " + cle + " doit valoir \"dirichlet\", \"neumann\" ou \"robin\"");
+    }
+
+    private static String parametreRequete(HttpExchange echange, String nom) {
+        String requete = echange.getRequestURI().getRawQuery();
+        if (requete == null) return null;
+        for (String paire : requete.split("&")) {
+            int egal = paire.indexOf('=');
+            if (egal > 0 && paire.substring(0, egal).equals(nom)) {
+                return paire.substring(egal + 1);
+            }
+        }
+        return null;
+    }
+
+    private static void repondreErreur(HttpExchange echange, int code, String message) throws IOException {
+        repondre(echange, code, "application/json",
+                 "{\"erreur\":" + JsonSimple.chaine(String.valueOf(message)) + "}");
+    }
+
+    private static void repondre(HttpExchange echange, int code, String type, String corps) throws IOException {
+        byte[] octets = corps.getBytes(StandardCharsets.UTF_8);
+        echange.getResponseHeaders().set("Content-Type", type + "; charset=utf-8");
+        echange.sendResponseHeaders(code, octets.length);
+        try (OutputStream out = echange.getResponseBody()) {
+            out.write(octets);
+        }
+    }
+
+    /**
+     * Lance le serveur : java ... ServeurHttpResolution [port]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        ServeurHttpResolution serveur = new ServeurHttpResolution(ServiceResolution.pourVF1D(), port);
+        System.out.println("Serveur de résolution VF1D sur http://localhost:" + serveur.getPort() + "/resoudre");
+    }
+}
@@ -0,0 +1,222 @@
+package com.ananum.integration;
+
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.integration.VolumesFinis1DMethodeEnhanced;
+import com.ananum.vf1d.metrics.ExportEvent;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolveCompletedEvent;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.ananum.vf1d.metrics.SolverMetrics;
+import com.ananum.vf1d.visualization.GraphGenerator;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service de résolution non interactif, utilisable par programme.
+ *
+ * Les résolutions (calcul pur) s'exécutent sur un pool borné de threads
+ * plateforme dimensionné sur le nombre de cœurs ; la file d'attente est
+ * bornée, une soumission au-delà de sa capacité échoue immédiatement
+ * (RejectedExecutionException dans le future) au lieu d'accumuler du retard.
+ * Les post-traitements bloquants (graphiques, exports) s'exécutent ensuite
+ * sur des threads virtuels et ne monopolisent donc jamais un cœur de calcul.
+ *
+ * Les paramètres soumis ne doivent pas être modifiés avant la fin de la résolution.
+ */
+public class ServiceResolution implements AutoCloseable {
+
+    /**
+     * Post-traitement bloquant appliqué au résultat d'une résolution
+     */
+    @FunctionalInterface
+    public interface PostTraitement {
+        void appliquer(ParametresEntree params, ResultatResolution resultat) throws IOException;
+    }
+
+    private final MethodeResolution methode;
+    private final ThreadPoolExecutor poolCalcul;
+    private final ExecutorService poolES;
+
+    private final AtomicLong soumissions = new AtomicLong();
+    private final AtomicLong terminees = new AtomicLong();
+    private final AtomicLong echecs = new AtomicLong();
+
+    public ServiceResolution(MethodeResolution methode) {
+        this(methode, Runtime.getRuntime().availableProcessors(), 10_000);
+    }
+
+    public ServiceResolution(MethodeResolution methode, int threadsCalcul, int capaciteFile) {
+        if (threadsCalcul <= 0 || capaciteFile <= 0) {
+            throw new IllegalArgumentException("Le nombre de threads et la capacité de la file doivent être positifs");
+        }
+        this.methode = methode;
+        this.poolCalcul = new ThreadPoolExecutor(
+            threadsCalcul, threadsCalcul, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capaciteFile),
+            ExecuteursVirtuels.fabriqueDemons("resolution-calcul")
+        );
+        this.poolES = ExecuteursVirtuels.nouveau("resolution-es");
+    }
+
+    /**
+     * Service VF1D : méthode Enhanced sans graphique ni analyse intégrés
+     * (les graphiques passent par les post-traitements, hors du pool de calcul)
+     * ni message console par résolution ; une fonction source non reconnue
+     * est rejetée (IllegalArgumentException)
+     */
+    public static ServiceResolution pourVF1D() {
+        VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+        methode.setGenerateGraphs(false);
+        methode.setPerformAnalysis(false);
+        methode.setStrictSource(true);
+        methode.setVerbose(false);
+        return new ServiceResolution(methode);
+    }
+
+    /**
+     * Soumet une résolution
+     */
+    public CompletableFuture<ResultatResolution> submit(ParametresEntree params) {
+        soumissions.incrementAndGet();
+
+        CompletableFuture<ResultatResolution> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> resoudreTrace(params), poolCalcul);
+        } catch (RuntimeException e) {
+            // File pleine ou service arrêté
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((r, e) -> {
+            if (e != null) echecs.incrementAndGet(); else terminees.incrementAndGet();
+        });
+    }
+
+    /**
+     * Résolution encadrée par les événements JFR de la couche d'intégration
+     */
+    private ResultatResolution resoudreTrace(ParametresEntree params) {
+        SolveCompletedEvent event = SolverEvents.solveStarted(
+            params.nx, methode.getNomMethode(), SolverEvents.LAYER_INTEGRATION);
+        boolean succes = false;
+        int iterations = 0;
+        try {
+            ResultatResolution resultat = methode.resoudre(params);
+            iterations = resultat.iterations;
+            succes = true;
+            return resultat;
+        } finally {
+            SolverEvents.solveCompleted(event, params.nx, methode.getNomMethode(),
+                                        SolverEvents.LAYER_INTEGRATION, iterations, Double.NaN, succes);
+        }
+    }
+
+    /**
+     * Soumet une résolution suivie de post-traitements bloquants exécutés,
+     * dans l'ordre, sur un thread virtuel
+     */
+    public CompletableFuture<ResultatResolution> submit(ParametresEntree params,
+                                                        PostTraitement... etapes) {
+        return submit(params).thenApplyAsync(resultat -> {
+            try {
+                for (PostTraitement etape : etapes) {
+                    long t = SolverMetrics.start();
+                    etape.appliquer(params, resultat);
+                    SolverMetrics.stop(Phase.EXPORT, t);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return resultat;
+        }, poolES);
+    }
+
+    /**
+     * Export CSV de la solution dans le répertoire donné (nom de fichier
+     * unique, créé atomiquement : les exports concurrents ne s'écrasent pas)
+     */
+    public static PostTraitement exportCsv(Path repertoire) {
+        return (params, resultat) -> {
+            ExportEvent event = SolverEvents.beginExport();
+            Path fichier = Files.createTempFile(repertoire, "resolution_", ".csv");
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(fichier))) {
+                writer.println("# Temps de calcul: " + resultat.tempsCalcul + " ms");
+                writer.println("x,u");
+                for (int i = 0; i < resultat.solution.length; i++) {
+                    writer.printf(Locale.ROOT, "%.6f,%.6e\n", resultat.x[i], resultat.solution[i]);
+                }
+            }
+            SolverEvents.endExport(event, "csv", resultat.solution.length);
+        };
+    }
+
+    /**
+     * Graphique HTML de la solution dans le répertoire donné (méthodes 1D,
+     * nom de fichier unique comme pour exportCsv)
+     */
+    public static PostTraitement graphique(Path repertoire) {
+        return (params, resultat) -> {
+            ExportEvent event = SolverEvents.beginExport();
+            Path fichier = Files.createTempFile(repertoire, "solution_", ".html");
+            int n = resultat.solution.length;
+            Solution1D sol = new Solution1D(resultat.solution, resultat.x,
+                                            largeursVolumes(resultat.x, params.xMin), n);
+            GraphGenerator.generateSolutionPlot(sol, "Solution - N=" + params.nx, fichier.toString());
+            SolverEvents.endExport(event, "html", n);
+
+            if (resultat instanceof VolumesFinis1DMethodeEnhanced.ResultatResolutionEnhanced) {
+                ((VolumesFinis1DMethodeEnhanced.ResultatResolutionEnhanced) resultat).graphFile =
+                    fichier.getFileName().toString();
+            }
+        };
+    }
+
+    /**
+     * Largeurs des volumes à partir des centres (milieux des faces) et de
+     * la première face xMin : f(i+1) = 2 x(i) - f(i)
+     */
+    static double[] largeursVolumes(double[] x, double xMin) {
+        double[] dx = new double[x.length];
+        double face = xMin;
+        for (int i = 0; i < x.length; i++) {
+            double next = 2 * x[i] - face;
+            dx[i] = next - face;
+            face = next;
+        }
+        return dx;
+    }
+
+    public long getSoumissions() { return soumissions.get(); }
+    public long getTerminees() { return terminees.get(); }
+    public long getEchecs() { return echecs.get(); }
+
+    /**
+     * Nombre de résolutions en attente d'un thread de calcul
+     */
+    public int getFileAttente() {
+        return poolCalcul.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        poolCalcul.shutdown();
+        poolES.shutdown();
+        try {
+            poolCalcul.awaitTermination(1, TimeUnit.MINUTES);
+            poolES.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
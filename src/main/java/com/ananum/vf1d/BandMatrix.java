@@ -0,0 +1,84 @@
+package com.ananum.vf1d;
+
+/**
+ * Matrice bande stockée par lignes : values[row * width + lower + offset]
+ * contient A[row][row + offset]. Sert de copie modifiable d'un
+ * BandedOperator (factorisations incomplètes, opérateurs grossiers).
+ */
+public final class BandMatrix implements BandedOperator {
+    private final int n;
+    private final int lower, upper, width;
+    private final double[] values;
+    
+    public BandMatrix(int n, int lowerBandwidth, int upperBandwidth) {
+        if (n < 1 || lowerBandwidth < 0 || upperBandwidth < 0) {
+            throw new IllegalArgumentException("Dimensions de matrice bande invalides");
+        }
+        this.n = n;
+        this.lower = lowerBandwidth;
+        this.upper = upperBandwidth;
+        this.width = lowerBandwidth + upperBandwidth + 1;
+        this.values = new double[n * width];
+    }
+    
+    /**
+     * Copie des coefficients d'un opérateur bande
+     */
+    public static BandMatrix copyOf(BandedOperator operator) {
+        int n = operator.size();
+        BandMatrix m = new BandMatrix(n, operator.lowerBandwidth(), operator.upperBandwidth());
+        for (int i = 0; i < n; i++) {
+            for (int k = -m.lower; k <= m.upper; k++) {
+                if (i + k >= 0 && i + k < n) {
+                    m.values[i * m.width + m.lower + k] = operator.entry(i, k);
+                }
+            }
+        }
+        return m;
+    }
+    
+    @Override
+    public int size() { return n; }
+    
+    @Override
+    public int lowerBandwidth() { return lower; }
+    
+    @Override
+    public int upperBandwidth() { return upper; }
+    
+    @Override
+    public double entry(int row, int offset) {
+        if (offset < -lower || offset > upper) return 0.0;
+        return values[row * width + lower + offset];
+    }
+    
+    public void set(int row, int offset, double value) {
+        values[index(row, offset)] = value;
+    }
+    
+    public void add(int row, int offset, double value) {
+        values[index(row, offset)] += value;
+    }
+    
+    @Override
+    public void multiply(double[] x, double[] y) {
+        for (int i = 0; i < n; i++) {
+            int from = Math.max(-lower, -i);
+            int to = Math.min(upper, n - 1 - i);
+            int base = i * width + lower;
+            double s = 0;
+            for (int k = from; k <= to; k++) {
+                s += values[base + k] * x[i + k];
+            }
+            y[i] = s;
+        }
+    }
+    
+    private int index(int row, int offset) {
+        int col = row + offset;
+        if (offset < -lower || offset > upper || col < 0 || col >= n) {
+            throw new IllegalArgumentException("Coefficient hors de la bande: (" + row + ", " + col + ")");
+        }
+        return row * width + lower + offset;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ananum.vf1d;
+
+/**
+ * Opérateur linéaire bande : seuls les coefficients A[i][i+k] avec
+ * -lowerBandwidth() &lt;= k &lt;= upperBandwidth() peuvent être non nuls.
+ *
+ * Les solveurs de Krylov n'utilisent que le produit matrice-vecteur
+ * (multiply) ; les préconditionneurs lisent les coefficients par entry.
+ * multiply peut contenir quelques couplages hors bande (coins d'un opérateur
+ * périodique) : les préconditionneurs n'en voient alors que la partie bande.
+ */
+public interface BandedOperator {
+
+    /** Dimension du système */
+    int size();
+    
+    /** Nombre de sous-diagonales */
+    int lowerBandwidth();
+    
+    /** Nombre de sur-diagonales */
+    int upperBandwidth();
+    
+    /**
+     * Coefficient A[row][row + offset] (0 hors de la bande ou de la matrice)
+     */
+    double entry(int row, int offset);
+    
+    /**
+     * y = A x (x et y distincts)
+     */
+    void multiply(double[] x, double[] y);
+}
@@ -0,0 +1,101 @@
+package com.ananum.vf1d;
+
+/**
+ * Type d'une condition aux limites, sous la forme de Robin unifiée
+ *
+ *     alpha u + beta du/dn = g
+ *
+ * où du/dn est la dérivée normale sortante (-u'(0) en x = 0, u'(L) en
+ * x = L) et g la valeur aux limites (u0 ou uL) :
+ * - Dirichlet : alpha = 1, beta = 0 (u = g) ;
+ * - Neumann : alpha = 0, beta = 1 (du/dn = g) ;
+ * - Robin : alpha, beta > 0.
+ *
+ * Seuls alpha et beta déterminent l'opérateur (et sa clé de cache) ; g
+ * n'intervient que dans le second membre. La valeur au bord est éliminée
+ * par l'approximation du/dn ≈ (u_bord - u_voisin) / h à la demi-maille h
+ * du centre du volume de bord :
+ *
+ *     u_bord = (beta u_voisin + h g) / (alpha h + beta)
+ */
+public final class BoundaryCondition {
+
+    public enum Type { DIRICHLET, NEUMANN, ROBIN }
+    
+    public static final BoundaryCondition DIRICHLET = new BoundaryCondition(Type.DIRICHLET, 1.0, 0.0);
+    public static final BoundaryCondition NEUMANN = new BoundaryCondition(Type.NEUMANN, 0.0, 1.0);
+    
+    private final Type type;
+    private final double alpha, beta;
+    
+    private BoundaryCondition(Type type, double alpha, double beta) {
+        this.type = type;
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+    
+    /**
+     * Condition de Robin alpha u + beta du/dn = g, alpha et beta strictement
+     * positifs (échange avec un milieu extérieur)
+     */
+    public static BoundaryCondition robin(double alpha, double beta) {
+        if (!(alpha > 0 && beta > 0) || Double.isInfinite(alpha) || Double.isInfinite(beta)) {
+            throw new IllegalArgumentException(
+                "Condition de Robin : alpha et beta doivent être strictement positifs et finis ("
+                + alpha + ", " + beta + ")");
+        }
+        return new BoundaryCondition(Type.ROBIN, alpha, beta);
+    }
+    
+    /**
+     * Part de l'échange avec le bord qui reste sur la diagonale du volume de
+     * bord (1 pour Dirichlet, 0 pour Neumann) : alpha h / (alpha h + beta)
+     */
+    double diagonalWeight(double h) {
+        return alpha * h / (alpha * h + beta);
+    }
+    
+    /**
+     * Poids de la valeur g dans u_bord : h / (alpha h + beta)
+     */
+    double valueWeight(double h) {
+        return h / (alpha * h + beta);
+    }
+    
+    /**
+     * Neumann aux deux bords sans réaction : les constantes sont dans le
+     * noyau, la solution n'est définie qu'à une constante près
+     */
+    static void checkWellPosed(BoundaryCondition west, BoundaryCondition east, double c) {
+        if (west.type == Type.NEUMANN && east.type == Type.NEUMANN && c == 0) {
+            throw new IllegalArgumentException(
+                "Conditions de Neumann aux deux bords : c doit être non nul (solution définie à une constante près)");
+        }
+    }
+    
+    /** Fixe la valeur de u au bord (Dirichlet) */
+    public boolean isDirichlet() { return beta == 0; }
+    
+    public Type getType() { return type; }
+    public double getAlpha() { return alpha; }
+    public double getBeta() { return beta; }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BoundaryCondition)) return false;
+        BoundaryCondition bc = (BoundaryCondition) o;
+        // Bits exacts, comme les coefficients des clés d'opérateurs
+        return Double.doubleToLongBits(alpha) == Double.doubleToLongBits(bc.alpha)
+            && Double.doubleToLongBits(beta) == Double.doubleToLongBits(bc.beta);
+    }
+    
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(alpha) + Double.hashCode(beta);
+    }
+    
+    @Override
+    public String toString() {
+        return type == Type.ROBIN ? "Robin(" + alpha + ", " + beta + ")" : type.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ananum.vf1d;
+
+/**
+ * Réponse affine de la solution aux valeurs aux limites, pour un opérateur
+ * et un terme source fixés.
+ *
+ * Le second membre est f + g0 u0 e_0 + gL uL e_(N-1), d'où
+ * u(u0, uL) = p + u0 w + uL e avec p = A⁻¹ f (valeurs aux limites nulles)
+ * et w, e les réponses homogènes aux valeurs unitaires. Les trois vecteurs
+ * sont calculés une fois (trois résolutions sur la factorisation en
+ * cache) ; chaque nouveau couple (u0, uL) ne coûte plus qu'une combinaison
+ * O(N), sans résolution. Le résultat est celui d'une résolution directe à
+ * l'arrondi près. u0 et uL sont les valeurs g des conditions (Dirichlet,
+ * Neumann ou Robin) ; pour un problème périodique, ils sont sans effet.
+ *
+ * Immuable : peut être partagée entre threads.
+ */
+public final class BoundaryResponse {
+    private final int n;
+    private final double[] particular;   // p = A⁻¹ f
+    private final double[] west;         // w = A⁻¹ (g0 e_0)
+    private final double[] east;         // e = A⁻¹ (gL e_(N-1))
+    private final double[] meshPoints;
+    private final double[] cellWidths;
+    
+    private BoundaryResponse(int n, double[] particular, double[] west, double[] east,
+                             double[] meshPoints, double[] cellWidths) {
+        this.n = n;
+        this.particular = particular;
+        this.west = west;
+        this.east = east;
+        this.meshPoints = meshPoints;
+        this.cellWidths = cellWidths;
+    }
+    
+    /**
+     * Précalcule les trois réponses sur l'opérateur factorisé de entry
+     */
+    static BoundaryResponse compute(OperatorCache.Entry entry, Function1D source) {
+        TridiagonalOperator op = entry.getOperator();
+        int n = op.getN();
+        Factorization lu = entry.getFactorization();
+        
+        double[] particular = new double[n];
+        op.buildRightHandSide(source, 0.0, 0.0, particular);
+        lu.solve(particular, particular);
+        
+        double[] west = new double[n];
+        op.buildRightHandSide(x -> 0.0, 1.0, 0.0, west);
+        lu.solve(west, west);
+        
+        double[] east = new double[n];
+        op.buildRightHandSide(x -> 0.0, 0.0, 1.0, east);
+        lu.solve(east, east);
+        
+        Mesh1D mesh = op.getMesh();
+        return new BoundaryResponse(n, particular, west, east, mesh.x, mesh.dx);
+    }
+    
+    /**
+     * Solution pour les valeurs aux limites (u0, uL)
+     */
+    public Solution1D solve(double u0, double uL) {
+        double[] u = new double[n];
+        solveInto(u0, uL, u);
+        return new Solution1D(u, meshPoints.clone(), cellWidths.clone(), n);
+    }
+    
+    /**
+     * Solution pour (u0, uL) dans out (n premiers éléments), sans allocation
+     */
+    public double[] solveInto(double u0, double uL, double[] out) {
+        for (int i = 0; i < n; i++) {
+            out[i] = particular[i] + u0 * west[i] + uL * east[i];
+        }
+        return out;
+    }
+    
+    public int getN() { return n; }
+    
+    /** Réponse homogène à u0 = 1 (copie) */
+    public double[] getWestResponse() { return west.clone(); }
+    
+    /** Réponse homogène à uL = 1 (copie) */
+    public double[] getEastResponse() { return east.clone(); }
+}
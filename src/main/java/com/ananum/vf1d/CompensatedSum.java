@@ -0,0 +1,49 @@
+package com.ananum.vf1d;
+
+/**
+ * Somme compensée (Kahan–Neumaier) : l'erreur d'arrondi de chaque addition
+ * est accumulée à part puis réinjectée, de sorte que l'erreur de la somme
+ * ne croît plus avec le nombre de termes (de l'ordre de ε · Σ|terme|
+ * au lieu de N ε · Σ|terme|). La variante de Neumaier reste exacte quand un
+ * terme dépasse la somme courante.
+ *
+ * Accumulateur mutable, à n'utiliser que dans un seul thread.
+ */
+public final class CompensatedSum {
+    private double sum;
+    private double compensation;
+    
+    /**
+     * Ajoute un terme
+     */
+    public void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+    
+    /** Somme compensée des termes ajoutés */
+    public double value() {
+        return sum + compensation;
+    }
+    
+    public void reset() {
+        sum = 0;
+        compensation = 0;
+    }
+    
+    /**
+     * Somme compensée d'un tableau
+     */
+    public static double sum(double[] values) {
+        CompensatedSum s = new CompensatedSum();
+        for (double v : values) {
+            s.add(v);
+        }
+        return s.value();
+    }
+}
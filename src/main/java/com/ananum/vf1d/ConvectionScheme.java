@@ -0,0 +1,227 @@
+package com.ananum.vf1d;
+
+/**
+ * Schéma de discrétisation de la convection bU'.
+ *
+ * Les schémas à coefficients (formulation de Patankar) ne modifient que
+ * la conductance des faces : pour une face de conductance diffusive
+ * D = a / dx_face, les coefficients de voisinage sont
+ *
+ *     aw = G(D, |b|) + max(b, 0),   ae = G(D, |b|) + max(-b, 0)
+ *
+ * avec G = D A(|P|), P = b / D le Péclet de maille :
+ * - UPWIND : A = 1 (ordre 1, inconditionnellement monotone) ;
+ * - CENTRAL : A = 1 - |P|/2 (ordre 2, oscillant si |P| > 2) ;
+ * - HYBRID : A = max(0, 1 - |P|/2) ;
+ * - POWER_LAW : A = max(0, (1 - |P|/10)^5) ;
+ * - EXPONENTIAL : A = |P| / (e^|P| - 1) (Scharfetter–Gummel, exact pour
+ *   la convection-diffusion à coefficients constants sans source).
+ *
+ * Les schémas TVD (minmod, van Leer) gardent l'opérateur upwind et
+ * corrigent la valeur convectée aux faces par une correction différée
+ * limitée (voir DeferredCorrection) : ordre 2 loin des extrema, sans
+ * oscillation.
+ *
+ * Chaque noyau (conductances, corrections) est une boucle propre au
+ * schéma, choisie une fois par assemblage et non à chaque volume.
+ */
+public enum ConvectionScheme {
+    UPWIND("Upwind") {
+        @Override
+        double conductance(double d, double absB) {
+            return d;
+        }
+    },
+    CENTRAL("Central") {
+        @Override
+        double conductance(double d, double absB) {
+            return d - 0.5 * absB;
+        }
+    },
+    HYBRID("Hybrid") {
+        @Override
+        double conductance(double d, double absB) {
+            return Math.max(0.0, d - 0.5 * absB);
+        }
+    },
+    POWER_LAW("PowerLaw") {
+        @Override
+        double conductance(double d, double absB) {
+            double t = Math.max(0.0, 1.0 - 0.1 * absB / d);
+            double t2 = t * t;
+            return d * t2 * t2 * t;
+        }
+    },
+    EXPONENTIAL("Exponential") {
+        @Override
+        double conductance(double d, double absB) {
+            // b = 0 : limite D (traitée par le noyau upwind)
+            return absB == 0 ? d : absB / Math.expm1(absB / d);
+        }
+    },
+    TVD_MINMOD("TVD-minmod") {
+        @Override
+        double conductance(double d, double absB) {
+            return d;
+        }
+    },
+    TVD_VAN_LEER("TVD-vanLeer") {
+        @Override
+        double conductance(double d, double absB) {
+            return d;
+        }
+    };
+    
+    private final String schemeName;
+    
+    ConvectionScheme(String schemeName) {
+        this.schemeName = schemeName;
+    }
+    
+    /** Nom du schéma dans les bilans */
+    public String getSchemeName() { return schemeName; }
+    
+    /**
+     * Schéma de nom name (nom de la constante ou nom du bilan, sans tenir
+     * compte de la casse) ; UPWIND si name est null ou vide
+     */
+    public static ConvectionScheme fromName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return UPWIND;
+        }
+        String key = name.trim();
+        for (ConvectionScheme scheme : values()) {
+            if (scheme.name().equalsIgnoreCase(key) || scheme.schemeName.equalsIgnoreCase(key)) {
+                return scheme;
+            }
+        }
+        throw new IllegalArgumentException("Schéma de convection inconnu : " + name);
+    }
+    
+    /** Schéma TVD : opérateur upwind et correction différée itérée */
+    public boolean isDeferredCorrection() {
+        return this == TVD_MINMOD || this == TVD_VAN_LEER;
+    }
+    
+    /**
+     * Ordre en h de la discrétisation pour la vitesse b, la diffusion a et
+     * le pas dx : 2 sans convection ; avec convection, 1 pour l'upwind et 2
+     * pour le centré et les schémas TVD (loin des extrema). Les schémas
+     * hybride, loi de puissance et exponentiel se ramènent au centré quand le
+     * Péclet de maille |b| dx / a tend vers 0, mais au décentrage amont
+     * au-delà de 2 : ordre 1 sur ce maillage.
+     */
+    public double formalOrder(double b, double a, double dx) {
+        if (b == 0) {
+            return 2.0;
+        }
+        switch (this) {
+            case UPWIND:
+                return 1.0;
+            case HYBRID:
+            case POWER_LAW:
+            case EXPONENTIAL:
+                return Math.abs(b) * dx / a > 2.0 ? 1.0 : 2.0;
+            default:
+                return 2.0;
+        }
+    }
+    
+    /**
+     * Schéma de l'opérateur assemblé (UPWIND pour les schémas TVD) : deux
+     * schémas de même opérateur partagent l'entrée de cache
+     */
+    public ConvectionScheme operatorScheme() {
+        return isDeferredCorrection() ? UPWIND : this;
+    }
+    
+    /**
+     * Conductance G(D, |b|) d'une face de conductance diffusive d
+     */
+    abstract double conductance(double d, double absB);
+    
+    /**
+     * Conductances des n-1 faces intérieures dans g : g[f-1] pour la face
+     * entre les volumes f-1 et f
+     */
+    void conductances(double a, double absB, double[] dx, double[] g, int n) {
+        switch (absB == 0 ? UPWIND : operatorScheme()) {
+            case CENTRAL:
+                for (int f = 1; f < n; f++) {
+                    g[f-1] = a / (0.5 * (dx[f-1] + dx[f])) - 0.5 * absB;
+                }
+                break;
+            case HYBRID:
+                for (int f = 1; f < n; f++) {
+                    g[f-1] = Math.max(0.0, a / (0.5 * (dx[f-1] + dx[f])) - 0.5 * absB);
+                }
+                break;
+            case POWER_LAW:
+                for (int f = 1; f < n; f++) {
+                    double d = a / (0.5 * (dx[f-1] + dx[f]));
+                    double t = Math.max(0.0, 1.0 - 0.1 * absB / d);
+                    double t2 = t * t;
+                    g[f-1] = d * t2 * t2 * t;
+                }
+                break;
+            case EXPONENTIAL:
+                for (int f = 1; f < n; f++) {
+                    g[f-1] = absB / Math.expm1(absB * 0.5 * (dx[f-1] + dx[f]) / a);
+                }
+                break;
+            default:
+                for (int f = 1; f < n; f++) {
+                    g[f-1] = a / (0.5 * (dx[f-1] + dx[f]));
+                }
+                break;
+        }
+    }
+    
+    /**
+     * Corrections de flux convectif b δ_f des n-1 faces intérieures (schémas
+     * TVD) : δ_f = ψ(r) (u_aval - u_amont) / 2 avec ψ le limiteur. La face
+     * voisine d'un bord entrant reste upwind (δ = 0).
+     */
+    void faceCorrections(double b, double[] u, double[] flux, int n) {
+        boolean minmod = this == TVD_MINMOD;
+        if (b >= 0) {
+            flux[0] = 0.0;
+            if (minmod) {
+                for (int f = 2; f < n; f++) {
+                    flux[f-1] = 0.5 * b * minmod(u[f] - u[f-1], u[f-1] - u[f-2]);
+                }
+            } else {
+                for (int f = 2; f < n; f++) {
+                    flux[f-1] = 0.5 * b * vanLeer(u[f] - u[f-1], u[f-1] - u[f-2]);
+                }
+            }
+        } else {
+            flux[n-2] = 0.0;
+            if (minmod) {
+                for (int f = 1; f < n - 1; f++) {
+                    flux[f-1] = 0.5 * b * minmod(u[f-1] - u[f], u[f] - u[f+1]);
+                }
+            } else {
+                for (int f = 1; f < n - 1; f++) {
+                    flux[f-1] = 0.5 * b * vanLeer(u[f-1] - u[f], u[f] - u[f+1]);
+                }
+            }
+        }
+    }
+    
+    /**
+     * ψ(r) du avec r = duUp / du, ψ = max(0, min(1, r)) : sans division
+     */
+    private static double minmod(double du, double duUp) {
+        return 0.5 * (Math.signum(du) + Math.signum(duUp)) * Math.min(Math.abs(du), Math.abs(duUp));
+    }
+    
+    /**
+     * ψ(r) du avec ψ = (r + |r|) / (1 + |r|) : moyenne harmonique 2 du duUp / (du + duUp)
+     * si les pentes sont de même signe, 0 sinon
+     */
+    private static double vanLeer(double du, double duUp) {
+        double s = du * duUp;
+        return s > 0 ? 2 * s / (du + duUp) : 0.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ananum.vf1d;
+
+/**
+ * Factorisation d'une matrice tridiagonale cyclique (conditions
+ * périodiques) par la formule de Sherman–Morrison.
+ *
+ * A = T + u vᵀ où T est tridiagonale : avec γ = -d₀,
+ * u = (γ, 0, ..., 0, α)ᵀ et v = (1, 0, ..., 0, β/γ)ᵀ, α = A[n-1][0] et
+ * β = A[0][n-1]. T est factorisée par Thomas et z = T⁻¹u est calculé une
+ * fois : une résolution coûte une descente-remontée et une combinaison
+ * linéaire, soit O(N).
+ */
+public final class CyclicThomasFactorization implements Factorization {
+    private final int n;
+    private final ThomasFactorization thomas;
+    private final double[] z;       // T⁻¹ u
+    private final double ratio;     // β / γ
+    private final double denominator;  // 1 + vᵀz
+    
+    /**
+     * @param cornerUpper coefficient A[0][n-1]
+     * @param cornerLower coefficient A[n-1][0]
+     */
+    CyclicThomasFactorization(double[] lower, double[] diag, double[] upper,
+                              double cornerUpper, double cornerLower) {
+        this.n = diag.length;
+        if (n < 3) {
+            throw new IllegalArgumentException("Un système cyclique doit contenir au moins 3 inconnues");
+        }
+        
+        double gamma = -diag[0];
+        double[] modified = diag.clone();
+        modified[0] = diag[0] - gamma;
+        modified[n-1] = diag[n-1] - cornerLower * cornerUpper / gamma;
+        this.thomas = new ThomasFactorization(lower, modified, upper);
+        this.ratio = cornerUpper / gamma;
+        
+        double[] u = new double[n];
+        u[0] = gamma;
+        u[n-1] = cornerLower;
+        thomas.solve(u, u);
+        this.z = u;
+        this.denominator = 1 + z[0] + ratio * z[n-1];
+        if (denominator == 0) {
+            throw new IllegalStateException("Système cyclique singulier");
+        }
+    }
+    
+    @Override
+    public void solve(double[] rhs, double[] solution) {
+        thomas.solve(rhs, solution);
+        double factor = (solution[0] + ratio * solution[n-1]) / denominator;
+        for (int i = 0; i < n; i++) {
+            solution[i] -= factor * z[i];
+        }
+    }
+    
+    @Override
+    public int getN() { return n; }
+}
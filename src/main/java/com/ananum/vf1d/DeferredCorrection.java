@@ -0,0 +1,90 @@
+package com.ananum.vf1d;
+
+/**
+ * Correction différée des schémas de convection TVD.
+ *
+ * Le système non linéaire A_upwind u + Δ(b δ(u)) = f est résolu par
+ * itérations de point fixe sur l'opérateur upwind, factorisé une seule fois :
+ *
+ *     A_upwind u^{k+1} = f - Δ(b δ(u^k))
+ *
+ * où b δ(u) sont les corrections de flux limitées aux faces
+ * (ConvectionScheme.faceCorrections). Chaque itération coûte une
+ * descente-remontée et deux passes sur les volumes ; l'arrêt porte sur le
+ * résidu relatif du système TVD.
+ */
+final class DeferredCorrection {
+
+    private DeferredCorrection() {
+    }
+    
+    /**
+     * Résout le système TVD en place dans solution, en partant de la
+     * solution upwind.
+     *
+     * @param rhs second membre (non modifié)
+     * @param flux tableau de travail d'au moins n-1 éléments
+     * @param work tableau de travail d'au moins n éléments
+     */
+    static SolveReport solve(TridiagonalOperator operator, Factorization lu, ConvectionScheme scheme,
+                             double[] rhs, double[] solution, double[] flux, double[] work,
+                             double tolerance, int maxIterations) {
+        return solve(operator, lu, scheme, rhs, solution, flux, work, tolerance, maxIterations, false);
+    }
+    
+    /**
+     * Résout le système TVD en place dans solution ; si warm, le contenu
+     * initial de solution est le point de départ (continuation) au lieu de
+     * la solution upwind
+     */
+    static SolveReport solve(TridiagonalOperator operator, Factorization lu, ConvectionScheme scheme,
+                             double[] rhs, double[] solution, double[] flux, double[] work,
+                             double tolerance, int maxIterations, boolean warm) {
+        long start = System.nanoTime();
+        final int n = operator.getN();
+        final double b = operator.getB();
+        final double[] lower = operator.lower, diag = operator.diag, upper = operator.upper;
+        
+        double bNorm = 0;
+        for (int i = 0; i < n; i++) bNorm = Math.max(bNorm, Math.abs(rhs[i]));
+        ResidualHistory history = new ResidualHistory(maxIterations, 1, bNorm > 0 ? bNorm : 1.0);
+        
+        // Point de départ : solution upwind, sauf démarrage à chaud
+        if (!warm) {
+            System.arraycopy(rhs, 0, solution, 0, n);
+            lu.solve(solution, solution);
+        }
+        
+        int iter = 0;
+        double residual;
+        boolean converged;
+        while (true) {
+            scheme.faceCorrections(b, solution, flux, n);
+            
+            // Second membre corrigé et résidu du système TVD
+            work[0] = rhs[0] - flux[0];
+            for (int i = 1; i < n - 1; i++) {
+                work[i] = rhs[i] - (flux[i] - flux[i-1]);
+            }
+            work[n-1] = rhs[n-1] + flux[n-2];
+            
+            residual = Math.abs(work[0] - diag[0] * solution[0] - upper[0] * solution[1]);
+            for (int i = 1; i < n - 1; i++) {
+                double r = work[i] - lower[i-1] * solution[i-1] - diag[i] * solution[i]
+                    - upper[i] * solution[i+1];
+                residual = Math.max(residual, Math.abs(r));
+            }
+            residual = Math.max(residual,
+                Math.abs(work[n-1] - lower[n-2] * solution[n-2] - diag[n-1] * solution[n-1]));
+            
+            converged = history.record(iter, residual, tolerance);
+            if (converged || iter == maxIterations) break;
+            
+            lu.solve(work, solution);
+            iter++;
+        }
+        
+        return history.report(scheme.getSchemeName(), iter, converged, tolerance, residual,
+                              System.nanoTime() - start);
+    }
+}
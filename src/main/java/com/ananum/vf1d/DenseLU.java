@@ -0,0 +1,59 @@
+package com.ananum.vf1d;
+
+/**
+ * Factorisation LU dense avec pivot partiel, pour les petits systèmes
+ * (grille la plus grossière du multigrille, système réduit des solveurs
+ * partitionnés)
+ */
+public final class DenseLU {
+    private final double[][] lu;
+    private final int[] pivots;
+    
+    /**
+     * Factorise une copie de la matrice carrée
+     */
+    public DenseLU(double[][] matrix) {
+        int n = matrix.length;
+        lu = new double[n][];
+        for (int i = 0; i < n; i++) {
+            lu[i] = matrix[i].clone();
+        }
+        pivots = new int[n];
+        
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            for (int i = k + 1; i < n; i++) {
+                if (Math.abs(lu[i][k]) > Math.abs(lu[p][k])) p = i;
+            }
+            if (lu[p][k] == 0) {
+                throw new IllegalStateException("Matrice singulière (colonne " + k + ")");
+            }
+            pivots[k] = p;
+            double[] tmp = lu[k]; lu[k] = lu[p]; lu[p] = tmp;
+            for (int i = k + 1; i < n; i++) {
+                double f = lu[i][k] / lu[k][k];
+                lu[i][k] = f;
+                for (int j = k + 1; j < n; j++) lu[i][j] -= f * lu[k][j];
+            }
+        }
+    }
+    
+    /**
+     * Résout en place : x contient le second membre et reçoit la solution
+     */
+    public void solve(double[] x) {
+        int n = lu.length;
+        for (int k = 0; k < n; k++) {
+            double tmp = x[k]; x[k] = x[pivots[k]]; x[pivots[k]] = tmp;
+        }
+        for (int i = 1; i < n; i++) {
+            for (int j = 0; j < i; j++) x[i] -= lu[i][j] * x[j];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = i + 1; j < n; j++) x[i] -= lu[i][j] * x[j];
+            x[i] /= lu[i][i];
+        }
+    }
+    
+    public int getN() { return lu.length; }
+}
@@ -0,0 +1,26 @@
+package com.ananum.vf1d;
+
+/**
+ * Factorisation réutilisable d'un opérateur : la factorisation est faite
+ * une fois, chaque nouveau second membre ne coûte plus qu'une résolution.
+ * Les implémentations sont immuables et peuvent être partagées entre threads.
+ */
+public interface Factorization {
+    
+    /**
+     * Résout le système ; rhs peut être modifié, solution peut être rhs
+     */
+    void solve(double[] rhs, double[] solution);
+    
+    /**
+     * Résout le système sans modifier le second membre
+     */
+    default double[] solve(double[] rhs) {
+        double[] solution = rhs.clone();
+        solve(solution, solution);
+        return solution;
+    }
+    
+    /** Dimension du système */
+    int getN();
+}
@@ -3,4 +3,15 @@ package com.ananum.vf1d;
 @FunctionalInterface
 public interface Function1D {
     double evaluate(double x);
-}
\ No newline at end of file
+    
+    /**
+     * Évaluation groupée : values[k] = f(x[offset + k]) pour k < count. À
+     * redéfinir quand la fonction s'évalue plus vite par blocs (tables,
+     * expressions compilées, noyaux vectorisés)
+     */
+    default void evaluate(double[] x, int offset, double[] values, int count) {
+        for (int k = 0; k < count; k++) {
+            values[k] = evaluate(x[offset + k]);
+        }
+    }
+}
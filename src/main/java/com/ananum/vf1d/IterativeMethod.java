@@ -0,0 +1,45 @@
+package com.ananum.vf1d;
+
+/**
+ * Méthodes itératives du solveur de référence
+ */
+public enum IterativeMethod {
+    /** Gauss-Seidel lexicographique (méthode par défaut) */
+    GAUSS_SEIDEL("GaussSeidel", false, false, false),
+    /** SOR lexicographique */
+    SOR("SOR", false, true, false),
+    /** Gauss-Seidel rouge-noir, demi-balayages parallèles */
+    RED_BLACK_GAUSS_SEIDEL("RedBlackGaussSeidel", true, false, false),
+    /** SOR rouge-noir, demi-balayages parallèles */
+    RED_BLACK_SOR("RedBlackSOR", true, true, false),
+    /** Gradient conjugué préconditionné (opérateur symétrique, b = 0) */
+    CONJUGATE_GRADIENT("CG", false, false, true),
+    /** BiCGSTAB préconditionné (opérateur non symétrique) */
+    BICGSTAB("BiCGSTAB", false, false, true),
+    /** GMRES redémarré préconditionné */
+    GMRES("GMRES", false, false, true);
+    
+    private final String methodName;
+    private final boolean redBlack;
+    private final boolean overRelaxed;
+    private final boolean krylov;
+    
+    IterativeMethod(String methodName, boolean redBlack, boolean overRelaxed, boolean krylov) {
+        this.methodName = methodName;
+        this.redBlack = redBlack;
+        this.overRelaxed = overRelaxed;
+        this.krylov = krylov;
+    }
+    
+    /** Nom de la méthode dans les bilans et événements */
+    public String getMethodName() { return methodName; }
+    
+    /** Ordre rouge-noir (parallélisable) plutôt que lexicographique */
+    public boolean isRedBlack() { return redBlack; }
+    
+    /** Utilise un facteur de relaxation omega (sinon omega = 1) */
+    public boolean isOverRelaxed() { return overRelaxed; }
+    
+    /** Méthode de Krylov (paquetage krylov) plutôt que de relaxation */
+    public boolean isKrylov() { return krylov; }
+}
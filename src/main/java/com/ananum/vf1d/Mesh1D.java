@@ -0,0 +1,87 @@
+package com.ananum.vf1d;
+
+import com.ananum.vf1d.metrics.AssemblyEvent;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.ananum.vf1d.metrics.SolverMetrics;
+
+/**
+ * Maillage 1D immuable : centres et largeurs des volumes de contrôle sur [0,L].
+ *
+ * Un maillage ne dépend que de (N, L, générateur) ; il peut donc être
+ * partagé entre résolutions et entre threads (voir OperatorCache). Les
+ * largeurs sont celles des faces produites par le générateur
+ * (MeshGenerator). Les accesseurs publics renvoient des copies, les
+ * solveurs du paquetage lisent directement les tableaux internes.
+ */
+public final class Mesh1D {
+    private final int n;
+    private final double L;
+    private final MeshGenerator generator;
+    final double[] x;     // Centres des volumes
+    final double[] dx;    // Largeurs des volumes
+    
+    private Mesh1D(int n, double L, MeshGenerator generator, double[] x, double[] dx) {
+        this.n = n;
+        this.L = L;
+        this.generator = generator;
+        this.x = x;
+        this.dx = dx;
+    }
+    
+    /**
+     * Construit le maillage uniforme ou raffiné aux bords
+     */
+    public static Mesh1D create(int n, double L, boolean uniforme) {
+        return create(n, L, MeshGenerator.of(uniforme));
+    }
+    
+    /**
+     * Construit le maillage du générateur donné
+     */
+    public static Mesh1D create(int n, double L, MeshGenerator generator) {
+        if (n < 2) {
+            throw new IllegalArgumentException("Le maillage doit contenir au moins 2 volumes");
+        }
+        if (!(L > 0)) {
+            throw new IllegalArgumentException("La longueur du domaine doit être positive");
+        }
+        if (generator == null) {
+            throw new IllegalArgumentException("Le générateur de maillage est obligatoire");
+        }
+        
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        double[] x = new double[n];
+        double[] dx = new double[n];
+        generator.fill(x, dx, n, L);
+        SolverMetrics.stop(Phase.MESH, t);
+        SolverEvents.endAssembly(event, "mesh", n);
+        return new Mesh1D(n, L, generator, x, dx);
+    }
+    
+    public int getN() { return n; }
+    public double getL() { return L; }
+    public boolean isUniforme() { return generator.isUniform(); }
+    public MeshGenerator getGenerator() { return generator; }
+    
+    public double[] getMeshPoints() { return x.clone(); }
+    public double[] getCellWidths() { return dx.clone(); }
+    
+    /**
+     * Positions des N+1 faces (0 et L compris)
+     */
+    public double[] getFaces() {
+        double[] faces = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            faces[i+1] = faces[i] + dx[i];
+        }
+        faces[n] = L;
+        return faces;
+    }
+    
+    @Override
+    public String toString() {
+        return "Mesh1D[n=" + n + ", L=" + L + ", maillage=" + generator + "]";
+    }
+}
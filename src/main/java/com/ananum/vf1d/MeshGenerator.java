@@ -0,0 +1,363 @@
+package com.ananum.vf1d;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Générateur de maillage 1D défini par les faces des volumes.
+ *
+ * Chaque générateur calcule les positions normalisées t des faces dans
+ * [0, 1] en une passe indépendante par face (formule explicite, pas de
+ * récurrence) ; largeurs et centres en découlent exactement :
+ * dx[i] = L (t[i+1] - t[i]), x[i] = L (t[i] + t[i+1]) / 2. Les largeurs de
+ * bord sont donc celles des faces, et non reconstruites depuis les centres.
+ *
+ * Les générateurs sont immuables et comparables (equals/hashCode sur leurs
+ * paramètres) : ils font partie de la clé des maillages en cache
+ * (OperatorCache).
+ */
+public abstract class MeshGenerator {
+
+    /** Maillage uniforme */
+    public static final MeshGenerator UNIFORM = new Uniform();
+    
+    /**
+     * Étirement sinusoïdal t = ξ - sin(2πξ) / (4π), raffiné aux deux bords
+     * (maillage non uniforme historique, désormais défini par les faces)
+     */
+    public static final MeshGenerator SINE = new Sine();
+    
+    /** Points de Chebyshev–Lobatto t = (1 - cos(πξ)) / 2 : raffiné aux deux bords */
+    public static final MeshGenerator CHEBYSHEV = new Chebyshev();
+    
+    MeshGenerator() {
+    }
+    
+    /**
+     * Uniforme ou sinusoïdal, selon l'option historique des solveurs
+     */
+    public static MeshGenerator of(boolean uniforme) {
+        return uniforme ? UNIFORM : SINE;
+    }
+    
+    /**
+     * Progression géométrique : dx[i+1] = ratio dx[i] (raffiné en x = 0 si
+     * ratio > 1, en x = L si ratio < 1)
+     */
+    public static MeshGenerator geometric(double ratio) {
+        if (!(ratio > 0) || Double.isInfinite(ratio)) {
+            throw new IllegalArgumentException("La raison géométrique doit être positive : " + ratio);
+        }
+        return ratio == 1.0 ? UNIFORM : new Geometric(ratio);
+    }
+    
+    /**
+     * Étirement tangente hyperbolique symétrique
+     * t = (1 + tanh(β (2ξ - 1)) / tanh β) / 2, raffiné aux deux bords
+     * (rapport des largeurs centre/bord ≈ cosh² β)
+     */
+    public static MeshGenerator tanh(double beta) {
+        if (!(beta > 0) || Double.isInfinite(beta)) {
+            throw new IllegalArgumentException("Le paramètre d'étirement doit être positif : " + beta);
+        }
+        return new Tanh(beta);
+    }
+    
+    /**
+     * Maillage de Shishkin pour une couche limite d'épaisseur epsilon
+     * (a / |b| en convection-diffusion) : N/2 volumes uniformes dans la
+     * couche de largeur τ = min(L/2, sigma epsilon ln N), N/2 au-dehors.
+     * La couche est en x = L si layerAtEnd (b > 0), en x = 0 sinon.
+     */
+    public static MeshGenerator shishkin(double epsilon, double sigma, boolean layerAtEnd) {
+        if (!(epsilon > 0) || !(sigma > 0)) {
+            throw new IllegalArgumentException(
+                "Maillage de Shishkin : epsilon et sigma doivent être positifs");
+        }
+        return new Shishkin(epsilon, sigma, layerAtEnd);
+    }
+    
+    /**
+     * Équirépartition d'une densité ρ > 0 sur [0, L] : chaque volume porte
+     * la même masse ∫ρ (volumes fins là où ρ est grande). La primitive est
+     * intégrée par trapèzes sur SAMPLES_PER_CELL sous-intervalles par volume
+     * puis inversée par interpolation linéaire. Deux générateurs sont égaux
+     * s'ils portent la même instance de fonction.
+     */
+    public static MeshGenerator density(Function1D rho) {
+        return new Density(Objects.requireNonNull(rho, "La densité est obligatoire"));
+    }
+    
+    /**
+     * Maillage de faces données (N+1 positions strictement croissantes),
+     * ramenées à [0, L] par translation et homothétie : par exemple un
+     * maillage adapté (MovingMesh). Le générateur ne vaut que pour N volumes.
+     */
+    public static MeshGenerator faces(double[] faces) {
+        int n = faces.length - 1;
+        if (n < 2) {
+            throw new IllegalArgumentException("Le maillage doit contenir au moins 2 volumes");
+        }
+        double origin = faces[0], length = faces[n] - faces[0];
+        double[] t = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (!(faces[i+1] > faces[i])) {
+                throw new IllegalArgumentException(
+                    "Les faces doivent être strictement croissantes (face " + (i + 1) + ")");
+            }
+            t[i] = (faces[i+1] - origin) / length;
+        }
+        return new Faces(t);
+    }
+    
+    /**
+     * Positions normalisées des faces droites des n volumes : t[i] pour la
+     * face entre les volumes i et i+1 (t[n-1] = 1, la face gauche du
+     * premier volume est 0)
+     */
+    abstract void rightFaces(double[] t, int n, double L);
+    
+    /**
+     * Centres x et largeurs dx des n volumes sur [0, L], sans allocation
+     * (sauf densité utilisateur)
+     */
+    public final void fill(double[] x, double[] dx, int n, double L) {
+        rightFaces(x, n, L);
+        x[n-1] = 1.0;
+        
+        // Largeurs et centres depuis les faces (de droite à gauche, en place)
+        for (int i = n - 1; i > 0; i--) {
+            double right = L * x[i];
+            double left = L * x[i-1];
+            dx[i] = right - left;
+            x[i] = 0.5 * (left + right);
+        }
+        dx[0] = L * x[0];
+        x[0] = 0.5 * dx[0];
+    }
+    
+    /** Maillage uniforme (largeurs égales) */
+    public boolean isUniform() {
+        return false;
+    }
+    
+    private static final class Uniform extends MeshGenerator {
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            double h = 1.0 / n;
+            for (int i = 0; i < n; i++) {
+                t[i] = (i + 1) * h;
+            }
+        }
+        
+        @Override
+        public boolean isUniform() { return true; }
+        
+        @Override
+        public String toString() { return "uniforme"; }
+    }
+    
+    private static final class Sine extends MeshGenerator {
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            for (int i = 0; i < n; i++) {
+                double xi = (double) (i + 1) / n;
+                t[i] = xi - 0.5 * Math.sin(2 * Math.PI * xi) / (2 * Math.PI);
+            }
+        }
+        
+        @Override
+        public String toString() { return "sinus"; }
+    }
+    
+    private static final class Chebyshev extends MeshGenerator {
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            for (int i = 0; i < n; i++) {
+                t[i] = 0.5 * (1 - Math.cos(Math.PI * (i + 1) / n));
+            }
+        }
+        
+        @Override
+        public String toString() { return "chebyshev"; }
+    }
+    
+    private static final class Geometric extends MeshGenerator {
+        private final double ratio;
+        
+        Geometric(double ratio) {
+            this.ratio = ratio;
+        }
+        
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            // t_i = (r^i - 1) / (r^n - 1), sous la forme expm1 (précise pour r proche de 1)
+            double logRatio = Math.log(ratio);
+            double scale = 1.0 / Math.expm1(n * logRatio);
+            for (int i = 0; i < n; i++) {
+                t[i] = Math.expm1((i + 1) * logRatio) * scale;
+            }
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Geometric
+                && Double.doubleToLongBits(ratio) == Double.doubleToLongBits(((Geometric) o).ratio);
+        }
+        
+        @Override
+        public int hashCode() { return Double.hashCode(ratio); }
+        
+        @Override
+        public String toString() { return "geometrique(" + ratio + ")"; }
+    }
+    
+    private static final class Tanh extends MeshGenerator {
+        private final double beta;
+        
+        Tanh(double beta) {
+            this.beta = beta;
+        }
+        
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            double scale = 0.5 / Math.tanh(beta);
+            for (int i = 0; i < n; i++) {
+                t[i] = 0.5 + scale * Math.tanh(beta * (2.0 * (i + 1) / n - 1));
+            }
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Tanh
+                && Double.doubleToLongBits(beta) == Double.doubleToLongBits(((Tanh) o).beta);
+        }
+        
+        @Override
+        public int hashCode() { return 31 + Double.hashCode(beta); }
+        
+        @Override
+        public String toString() { return "tanh(" + beta + ")"; }
+    }
+    
+    private static final class Shishkin extends MeshGenerator {
+        private final double epsilon, sigma;
+        private final boolean layerAtEnd;
+        
+        Shishkin(double epsilon, double sigma, boolean layerAtEnd) {
+            this.epsilon = epsilon;
+            this.sigma = sigma;
+            this.layerAtEnd = layerAtEnd;
+        }
+        
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            double tau = Math.min(0.5, sigma * epsilon / L * Math.log(n));
+            int half = n / 2;
+            // Zone grossière puis couche (ou l'inverse), chacune uniforme
+            double first = layerAtEnd ? 1 - tau : tau;
+            double h1 = first / half;
+            double h2 = (1 - first) / (n - half);
+            for (int i = 0; i < half; i++) {
+                t[i] = (i + 1) * h1;
+            }
+            for (int i = half; i < n; i++) {
+                t[i] = first + (i + 1 - half) * h2;
+            }
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Shishkin)) return false;
+            Shishkin s = (Shishkin) o;
+            return Double.doubleToLongBits(epsilon) == Double.doubleToLongBits(s.epsilon)
+                && Double.doubleToLongBits(sigma) == Double.doubleToLongBits(s.sigma)
+                && layerAtEnd == s.layerAtEnd;
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Double.hashCode(epsilon) + Double.hashCode(sigma)) + (layerAtEnd ? 1 : 0);
+        }
+        
+        @Override
+        public String toString() {
+            return "shishkin(" + epsilon + ", " + sigma + (layerAtEnd ? ", L)" : ", 0)");
+        }
+    }
+    
+    private static final class Faces extends MeshGenerator {
+        private final double[] t;
+        
+        Faces(double[] t) {
+            this.t = t;
+        }
+        
+        @Override
+        void rightFaces(double[] out, int n, double L) {
+            if (n != t.length) {
+                throw new IllegalArgumentException(
+                    "Maillage de " + t.length + " volumes demandé avec N = " + n);
+            }
+            System.arraycopy(t, 0, out, 0, n);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Faces && Arrays.equals(t, ((Faces) o).t);
+        }
+        
+        @Override
+        public int hashCode() { return Arrays.hashCode(t); }
+        
+        @Override
+        public String toString() { return "faces(" + t.length + ")"; }
+    }
+    
+    private static final class Density extends MeshGenerator {
+        static final int SAMPLES_PER_CELL = 8;
+        
+        private final Function1D rho;
+        
+        Density(Function1D rho) {
+            this.rho = rho;
+        }
+        
+        @Override
+        void rightFaces(double[] t, int n, double L) {
+            // Primitive normalisée de ρ par trapèzes
+            int m = SAMPLES_PER_CELL * n;
+            double[] cumulative = new double[m + 1];
+            double previous = rho.evaluate(0.0);
+            for (int k = 1; k <= m; k++) {
+                double current = rho.evaluate(L * k / m);
+                if (!(current > 0) || !(previous > 0)) {
+                    throw new IllegalArgumentException("La densité du maillage doit être strictement positive");
+                }
+                cumulative[k] = cumulative[k-1] + 0.5 * (previous + current);
+                previous = current;
+            }
+            
+            // Inversion : faces aux masses (i+1)/n, parcours monotone
+            double total = cumulative[m];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                double target = total * (i + 1) / n;
+                while (k < m - 1 && cumulative[k+1] < target) k++;
+                double w = (target - cumulative[k]) / (cumulative[k+1] - cumulative[k]);
+                t[i] = (k + w) / m;
+            }
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Density && ((Density) o).rho == rho;
+        }
+        
+        @Override
+        public int hashCode() { return System.identityHashCode(rho); }
+        
+        @Override
+        public String toString() { return "densite(" + rho + ")"; }
+    }
+}
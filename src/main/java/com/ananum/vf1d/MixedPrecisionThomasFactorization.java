@@ -0,0 +1,122 @@
+package com.ananum.vf1d;
+
+/**
+ * Factorisation de Thomas en précision mixte : les facteurs sont stockés en
+ * float (moitié moins de mémoire que ThomasFactorization) et les
+ * descentes-remontées sont faites en float, puis la précision double est
+ * retrouvée par raffinement itératif, le résidu étant calculé en double
+ * sur l'opérateur exact.
+ *
+ * Un pas de raffinement est fusionné en deux passes : résidu r = b - A x et
+ * descente de la correction dans la même boucle, puis remontée et mise à
+ * jour x += d. La correction est tenue dans un tableau float.
+ *
+ * Les facteurs sont calculés en double puis arrondis. La résolution float
+ * seule laisse un résidu relatif de l'ordre de 1e-7 ; chaque pas de
+ * raffinement le réduit d'un facteur qui décroît quand N croît (≈ 10^3 à
+ * N = 10^5, ≈ 50 à N = 4·10^6) : deux pas atteignent la précision double à
+ * N = 10^5, trois à N = 10^6 (voir MixedPrecisionBenchmark). La
+ * factorisation est immuable et peut être partagée entre threads.
+ */
+public final class MixedPrecisionThomasFactorization implements Factorization {
+    /** Pas de raffinement par défaut */
+    public static final int DEFAULT_REFINEMENT_STEPS = 2;
+    
+    private final int n;
+    private final int refinementSteps;
+    private final float[] multipliers;    // multipliers[i-1] : pivot de la ligne i
+    private final float[] inverseDiag;    // Inverses de la diagonale réduite
+    private final float[] upperF;
+    private final double[] lower, diag, upper;   // Opérateur exact (résidu)
+    
+    MixedPrecisionThomasFactorization(double[] lower, double[] diag, double[] upper,
+                                      int refinementSteps) {
+        if (refinementSteps < 0) {
+            throw new IllegalArgumentException(
+                "Le nombre de pas de raffinement doit être positif ou nul");
+        }
+        this.n = diag.length;
+        this.refinementSteps = refinementSteps;
+        this.lower = lower;
+        this.diag = diag;
+        this.upper = upper;
+        this.multipliers = new float[n-1];
+        this.inverseDiag = new float[n];
+        this.upperF = new float[n-1];
+        
+        // Élimination avant en double, facteurs arrondis en float
+        double reduced = diag[0];
+        inverseDiag[0] = (float) (1.0 / reduced);
+        for (int i = 1; i < n; i++) {
+            double m = lower[i-1] / reduced;
+            reduced = diag[i] - m * upper[i-1];
+            multipliers[i-1] = (float) m;
+            inverseDiag[i] = (float) (1.0 / reduced);
+            upperF[i-1] = (float) upper[i-1];
+        }
+    }
+    
+    /**
+     * Résout le système ; rhs n'est modifié que si solution est rhs
+     */
+    @Override
+    public void solve(double[] rhs, double[] solution) {
+        solve(solution == rhs ? rhs.clone() : rhs, solution, new float[n]);
+    }
+    
+    /**
+     * Résout le système sans allocation : rhs est lu seulement, work
+     * (au moins n éléments) reçoit les corrections
+     */
+    public void solve(double[] rhs, double[] solution, float[] work) {
+        if (rhs == solution) {
+            throw new IllegalArgumentException("Le second membre doit être distinct de la solution");
+        }
+        
+        // Résolution float initiale
+        float y = (float) rhs[0];
+        work[0] = y;
+        for (int i = 1; i < n; i++) {
+            y = (float) rhs[i] - multipliers[i-1] * y;
+            work[i] = y;
+        }
+        float d = work[n-1] * inverseDiag[n-1];
+        solution[n-1] = d;
+        for (int i = n - 2; i >= 0; i--) {
+            d = (work[i] - upperF[i] * d) * inverseDiag[i];
+            solution[i] = d;
+        }
+        
+        for (int step = 0; step < refinementSteps; step++) {
+            refine(rhs, solution, work);
+        }
+    }
+    
+    public int getRefinementSteps() { return refinementSteps; }
+    
+    @Override
+    public int getN() { return n; }
+    
+    /**
+     * Un pas de raffinement : résidu en double et descente fusionnés, puis
+     * remontée et correction de x
+     */
+    private void refine(double[] b, double[] x, float[] work) {
+        float y = (float) (b[0] - diag[0] * x[0] - upper[0] * x[1]);
+        work[0] = y;
+        for (int i = 1; i < n - 1; i++) {
+            double r = b[i] - lower[i-1] * x[i-1] - diag[i] * x[i] - upper[i] * x[i+1];
+            y = (float) r - multipliers[i-1] * y;
+            work[i] = y;
+        }
+        double r = b[n-1] - lower[n-2] * x[n-2] - diag[n-1] * x[n-1];
+        work[n-1] = (float) r - multipliers[n-2] * y;
+        
+        float d = work[n-1] * inverseDiag[n-1];
+        x[n-1] += d;
+        for (int i = n - 2; i >= 0; i--) {
+            d = (work[i] - upperF[i] * d) * inverseDiag[i];
+            x[i] += d;
+        }
+    }
+}
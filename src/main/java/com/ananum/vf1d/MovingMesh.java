@@ -0,0 +1,177 @@
+package com.ananum.vf1d;
+
+/**
+ * Adaptation du maillage à N fixé (r-adaptivité) par équirépartition
+ * d'une fonction de contrôle M calculée sur la solution courante.
+ *
+ * - Contrôle : longueur d'arc M = sqrt(1 + u'²), ou courbure
+ *   M = α + |u''|^(1/2) avec α la moyenne de |u''|^(1/2) (environ la moitié
+ *   des volumes dans les couches), lissé par SMOOTHING_PASSES filtres
+ *   (1/4, 1/2, 1/4) pour borner le rapport des largeurs voisines.
+ * - Équirépartition à la de Boor : M constant par volume, la primitive
+ *   ∫M est linéaire par morceaux et s'inverse en une passe monotone O(N).
+ * - Transfert de la solution par remappage conservatif : moyennes sur les
+ *   nouveaux volumes des valeurs constantes par ancien volume (∫u conservé
+ *   exactement), en une passe sur les intersections.
+ */
+public final class MovingMesh {
+
+    /** Fonctions de contrôle de l'équirépartition */
+    public enum Monitor {
+        /** Longueur d'arc sqrt(1 + u'²) : volumes fins dans les fronts raides */
+        ARC_LENGTH,
+        /** Courbure α + |u''|^(1/2) : volumes fins où u' varie vite */
+        CURVATURE
+    }
+    
+    /** Nombre de passes de lissage de la fonction de contrôle */
+    public static final int SMOOTHING_PASSES = 2;
+    
+    private MovingMesh() {
+    }
+    
+    /**
+     * Résout, puis adapte le maillage et résout de nouveau (en partant de
+     * la solution remappée) adaptations fois. Le générateur du solveur est
+     * remplacé par le dernier maillage adapté.
+     */
+    public static Solution1D solve(VolumesFinis1DSolver solver, Monitor monitor, int adaptations) {
+        if (adaptations < 0) {
+            throw new IllegalArgumentException("Le nombre d'adaptations doit être positif ou nul");
+        }
+        Solution1D solution = solver.solve();
+        for (int k = 0; k < adaptations; k++) {
+            double[] faces = faces(solution);
+            double[] adapted = equidistribute(faces, monitor(solution, monitor));
+            double[] guess = remap(faces, solution.getValues(), adapted);
+            solver.setMeshGenerator(MeshGenerator.faces(adapted));
+            solution = solver.solve(guess);
+        }
+        return solution;
+    }
+    
+    /**
+     * Fonction de contrôle (lissée) par volume
+     */
+    public static double[] monitor(Solution1D solution, Monitor monitor) {
+        int n = solution.getN();
+        double[] x = solution.getMeshPoints();
+        double[] u = solution.getValues();
+        double[] dx = solution.getCellWidths();
+        
+        // Pentes entre centres voisins
+        double[] slope = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            slope[i] = (u[i+1] - u[i]) / (x[i+1] - x[i]);
+        }
+        
+        double[] m = new double[n];
+        if (monitor == Monitor.ARC_LENGTH) {
+            for (int i = 0; i < n; i++) {
+                double s = 0.5 * (slope[Math.max(i - 1, 0)] + slope[Math.min(i, n - 2)]);
+                m[i] = Math.sqrt(1 + s * s);
+            }
+        } else {
+            double mean = 0, length = 0;
+            for (int i = 0; i < n; i++) {
+                double curvature = i == 0 || i == n - 1 ? 0 : (slope[i] - slope[i-1]) / dx[i];
+                m[i] = Math.sqrt(Math.abs(curvature));
+                mean += m[i] * dx[i];
+                length += dx[i];
+            }
+            mean /= length;
+            if (mean == 0) mean = 1;   // Solution affine : maillage uniforme
+            // Volumes de bord : courbure du voisin intérieur
+            m[0] = m[1];
+            m[n-1] = m[n-2];
+            for (int i = 0; i < n; i++) {
+                m[i] += mean;
+            }
+        }
+        
+        double[] work = new double[n];
+        for (int p = 0; p < SMOOTHING_PASSES; p++) {
+            for (int i = 0; i < n; i++) {
+                work[i] = 0.25 * (m[Math.max(i - 1, 0)] + m[Math.min(i + 1, n - 1)]) + 0.5 * m[i];
+            }
+            double[] t = m;
+            m = work;
+            work = t;
+        }
+        return m;
+    }
+    
+    /**
+     * Faces équirépartissant le contrôle monitor (constant par volume)
+     * entre les faces données : chaque nouveau volume porte la même part de ∫M
+     */
+    public static double[] equidistribute(double[] faces, double[] monitor) {
+        int n = monitor.length;
+        if (faces.length != n + 1) {
+            throw new IllegalArgumentException("Il faut N+1 faces pour N valeurs de contrôle");
+        }
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            if (!(monitor[i] > 0)) {
+                throw new IllegalArgumentException(
+                    "La fonction de contrôle doit être strictement positive");
+            }
+            total += monitor[i] * (faces[i+1] - faces[i]);
+        }
+        
+        double[] adapted = new double[n + 1];
+        adapted[0] = faces[0];
+        adapted[n] = faces[n];
+        double step = total / n;
+        double cumulative = 0;   // ∫M jusqu'à faces[k]
+        int k = 0;
+        for (int j = 1; j < n; j++) {
+            double target = j * step;
+            double cell = monitor[k] * (faces[k+1] - faces[k]);
+            while (k < n - 1 && cumulative + cell < target) {
+                cumulative += cell;
+                k++;
+                cell = monitor[k] * (faces[k+1] - faces[k]);
+            }
+            adapted[j] = Math.min(faces[k] + (target - cumulative) / monitor[k], faces[k+1]);
+        }
+        return adapted;
+    }
+    
+    /**
+     * Moyennes sur les volumes newFaces de la fonction constante égale à
+     * values[i] sur [oldFaces[i], oldFaces[i+1]] (mêmes extrémités)
+     */
+    public static double[] remap(double[] oldFaces, double[] values, double[] newFaces) {
+        int n = newFaces.length - 1, m = oldFaces.length - 1;
+        double[] remapped = new double[n];
+        int i = 0;
+        double left = newFaces[0], integral = 0;
+        for (int j = 0; j < n; j++) {
+            // Intersections de [newFaces[j], newFaces[j+1]] avec les anciens volumes
+            while (i < m - 1 && oldFaces[i+1] < newFaces[j+1]) {
+                integral += values[i] * (oldFaces[i+1] - left);
+                left = oldFaces[i+1];
+                i++;
+            }
+            integral += values[i] * (newFaces[j+1] - left);
+            left = newFaces[j+1];
+            remapped[j] = integral / (newFaces[j+1] - newFaces[j]);
+            integral = 0;
+        }
+        return remapped;
+    }
+    
+    /**
+     * Faces de la solution (N+1 positions), depuis les largeurs des volumes
+     */
+    static double[] faces(Solution1D solution) {
+        int n = solution.getN();
+        double[] dx = solution.getCellWidths();
+        double[] faces = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            faces[i+1] = faces[i] + dx[i];
+        }
+        return faces;
+    }
+}
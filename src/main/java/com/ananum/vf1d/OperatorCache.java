@@ -0,0 +1,338 @@
+package com.ananum.vf1d;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache concurrent des maillages et des opérateurs assemblés/factorisés.
+ *
+ * Le maillage ne dépend que de (N, L, générateur) et l'opérateur de
+ * (N, L, générateur, a, b, c), du type des conditions aux limites et du
+ * schéma de convection : les résolutions répétées où seuls le terme
+ * source ou les valeurs aux limites changent ne coûtent plus que
+ * l'assemblage du second membre et une descente-remontée.
+ *
+ * Chaque niveau est un LRU borné en nombre d'entrées ; les valeurs sont
+ * tenues par SoftReference et peuvent donc être libérées par le GC sous
+ * pression mémoire (elles sont alors simplement recalculées).
+ */
+public final class OperatorCache {
+
+    private static final OperatorCache SHARED = new OperatorCache(32);
+    
+    private final SoftLru<MeshKey, Mesh1D> meshes;
+    private final SoftLru<OperatorKey, Entry> operators;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    /**
+     * @param maxEntries nombre maximal d'opérateurs (et de maillages) conservés
+     */
+    public OperatorCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("La taille du cache doit être positive");
+        }
+        this.meshes = new SoftLru<>(maxEntries);
+        this.operators = new SoftLru<>(maxEntries);
+    }
+    
+    /**
+     * Cache partagé par défaut des solveurs
+     */
+    public static OperatorCache shared() {
+        return SHARED;
+    }
+    
+    /**
+     * Maillage (N, L, uniforme), partagé entre tous les opérateurs qui l'utilisent
+     */
+    public Mesh1D mesh(int n, double L, boolean uniforme) {
+        return mesh(n, L, MeshGenerator.of(uniforme));
+    }
+    
+    /**
+     * Maillage (N, L, générateur), partagé entre tous les opérateurs qui l'utilisent
+     */
+    public Mesh1D mesh(int n, double L, MeshGenerator generator) {
+        MeshKey key = new MeshKey(n, L, generator);
+        return meshes.get(key, () -> Mesh1D.create(n, L, generator));
+    }
+    
+    /**
+     * Opérateur assemblé pour (N, L, uniforme, a, b, c), conditions de Dirichlet
+     */
+    public Entry get(int n, double L, boolean uniforme, double a, double b, double c) {
+        return get(n, L, uniforme, a, b, c, false);
+    }
+    
+    /**
+     * Opérateur assemblé pour (N, L, uniforme, a, b, c), périodique ou non
+     * (conditions de Dirichlet)
+     */
+    public Entry get(int n, double L, boolean uniforme, double a, double b, double c,
+                     boolean periodic) {
+        return get(n, L, uniforme, a, b, c, periodic,
+                   BoundaryCondition.DIRICHLET, BoundaryCondition.DIRICHLET);
+    }
+    
+    /**
+     * Opérateur assemblé pour (N, L, uniforme, a, b, c) avec les conditions
+     * west et east, ignorées si periodic (convection upwind)
+     */
+    public Entry get(int n, double L, boolean uniforme, double a, double b, double c,
+                     boolean periodic, BoundaryCondition west, BoundaryCondition east) {
+        return get(n, L, uniforme, a, b, c, periodic, west, east, ConvectionScheme.UPWIND);
+    }
+    
+    /**
+     * Opérateur assemblé pour (N, L, uniforme, a, b, c) avec les conditions
+     * west et east, ignorées si periodic, et le schéma de convection
+     * (un schéma TVD partage l'opérateur upwind)
+     */
+    public Entry get(int n, double L, boolean uniforme, double a, double b, double c,
+                     boolean periodic, BoundaryCondition west, BoundaryCondition east,
+                     ConvectionScheme scheme) {
+        return get(n, L, MeshGenerator.of(uniforme), a, b, c, periodic, west, east, scheme);
+    }
+    
+    /**
+     * Opérateur assemblé pour (N, L, a, b, c) sur le maillage du générateur
+     * donné, avec les conditions west et east, ignorées si periodic, et le
+     * schéma de convection
+     */
+    public Entry get(int n, double L, MeshGenerator generator, double a, double b, double c,
+                     boolean periodic, BoundaryCondition west, BoundaryCondition east,
+                     ConvectionScheme scheme) {
+        if (periodic) {
+            west = BoundaryCondition.DIRICHLET;
+            east = BoundaryCondition.DIRICHLET;
+        }
+        ConvectionScheme operatorScheme = periodic ? scheme : scheme.operatorScheme();
+        OperatorKey key = new OperatorKey(n, L, generator, a, b, c, periodic, west, east,
+                                          operatorScheme);
+        Entry entry = operators.getIfPresent(key);
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+        
+        misses.increment();
+        Mesh1D mesh = mesh(n, L, generator);
+        BoundaryCondition w = west, e = east;
+        return operators.get(key, () -> new Entry(periodic
+            ? TridiagonalOperator.assemblePeriodic(mesh, a, b, c, operatorScheme)
+            : TridiagonalOperator.assemble(mesh, a, b, c, w, e, operatorScheme)));
+    }
+    
+    public void clear() {
+        meshes.clear();
+        operators.clear();
+    }
+    
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public int size() { return operators.size(); }
+    
+    /**
+     * Opérateur en cache : maillage, matrice assemblée, factorisations et
+     * facteur de relaxation SOR optimal (calculés à la première demande)
+     */
+    public static final class Entry {
+        private final TridiagonalOperator operator;
+        private volatile Factorization factorization;
+        private volatile PartitionedTridiagonalSolver partitioned;
+        private volatile MixedPrecisionThomasFactorization mixedPrecision;
+        private volatile double optimalOmega = Double.NaN;
+        
+        Entry(TridiagonalOperator operator) {
+            this.operator = operator;
+        }
+        
+        public Mesh1D getMesh() { return operator.getMesh(); }
+        public TridiagonalOperator getOperator() { return operator; }
+        
+        /**
+         * Thomas, ou Thomas cyclique si l'opérateur est périodique
+         */
+        public Factorization getFactorization() {
+            Factorization f = factorization;
+            if (f == null) {
+                synchronized (this) {
+                    f = factorization;
+                    if (f == null) {
+                        f = operator.factorize();
+                        factorization = f;
+                    }
+                }
+            }
+            return f;
+        }
+        
+        /**
+         * Thomas en précision mixte (DEFAULT_REFINEMENT_STEPS pas de
+         * raffinement), non périodique uniquement
+         */
+        public MixedPrecisionThomasFactorization getMixedPrecisionFactorization() {
+            MixedPrecisionThomasFactorization f = mixedPrecision;
+            if (f == null) {
+                synchronized (this) {
+                    f = mixedPrecision;
+                    if (f == null) {
+                        f = operator.factorizeMixedPrecision(
+                            MixedPrecisionThomasFactorization.DEFAULT_REFINEMENT_STEPS);
+                        mixedPrecision = f;
+                    }
+                }
+            }
+            return f;
+        }
+        
+        /**
+         * Factorisation partitionnée en partitions blocs sur le pool commun ;
+         * seule la dernière demandée est conservée
+         */
+        public PartitionedTridiagonalSolver getPartitionedFactorization(int partitions) {
+            PartitionedTridiagonalSolver f = partitioned;
+            if (f == null || f.getPartitions() != partitions) {
+                f = operator.factorizePartitioned(partitions, ForkJoinPool.commonPool());
+                partitioned = f;
+            }
+            return f;
+        }
+        
+        /**
+         * Omega optimal de SOR, estimé depuis le rayon spectral de Jacobi
+         * (deux threads peuvent le calculer en même temps, avec le même résultat)
+         */
+        public double getOptimalOmega() {
+            double omega = optimalOmega;
+            if (Double.isNaN(omega)) {
+                omega = operator.toSparseMatrix().optimalOmega();
+                optimalOmega = omega;
+            }
+            return omega;
+        }
+    }
+    
+    /**
+     * LRU borné à valeurs SoftReference ; le calcul d'une valeur absente se
+     * fait hors verrou (deux threads peuvent calculer la même valeur, le
+     * premier inséré l'emporte)
+     */
+    private static final class SoftLru<K, V> {
+        private final LinkedHashMap<K, SoftReference<V>> map;
+        
+        SoftLru(int maxEntries) {
+            this.map = new LinkedHashMap<K, SoftReference<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, SoftReference<V>> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+        
+        synchronized V getIfPresent(K key) {
+            SoftReference<V> ref = map.get(key);
+            V value = ref != null ? ref.get() : null;
+            if (ref != null && value == null) {
+                map.remove(key);   // Libérée par le GC
+            }
+            return value;
+        }
+        
+        V get(K key, Supplier<V> factory) {
+            V value = getIfPresent(key);
+            if (value != null) return value;
+            
+            V computed = factory.get();
+            synchronized (this) {
+                SoftReference<V> ref = map.get(key);
+                V existing = ref != null ? ref.get() : null;
+                if (existing != null) return existing;
+                map.put(key, new SoftReference<>(computed));
+                return computed;
+            }
+        }
+        
+        synchronized void clear() {
+            map.clear();
+        }
+        
+        synchronized int size() {
+            return map.size();
+        }
+    }
+    
+    private static final class MeshKey {
+        final int n;
+        final long L;
+        final MeshGenerator generator;
+        
+        MeshKey(int n, double L, MeshGenerator generator) {
+            this.n = n;
+            this.L = Double.doubleToLongBits(L);
+            this.generator = generator;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof MeshKey)) return false;
+            MeshKey k = (MeshKey) o;
+            return n == k.n && L == k.L && generator.equals(k.generator);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * (31 * n + Long.hashCode(L)) + generator.hashCode();
+        }
+    }
+    
+    private static final class OperatorKey {
+        final MeshKey mesh;
+        final long a, b, c;
+        final boolean periodic;
+        final BoundaryCondition west, east;
+        final ConvectionScheme scheme;
+        
+        OperatorKey(int n, double L, MeshGenerator generator, double a, double b, double c,
+                    boolean periodic, BoundaryCondition west, BoundaryCondition east,
+                    ConvectionScheme scheme) {
+            this.mesh = new MeshKey(n, L, generator);
+            // Bits exacts : des coefficients différents d'un ulp donnent
+            // des opérateurs différents
+            this.a = Double.doubleToLongBits(a);
+            this.b = Double.doubleToLongBits(b);
+            this.c = Double.doubleToLongBits(c);
+            this.periodic = periodic;
+            this.west = west;
+            this.east = east;
+            this.scheme = scheme;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof OperatorKey)) return false;
+            OperatorKey k = (OperatorKey) o;
+            return a == k.a && b == k.b && c == k.c && periodic == k.periodic
+                && scheme == k.scheme && mesh.equals(k.mesh)
+                && west.equals(k.west) && east.equals(k.east);
+        }
+        
+        @Override
+        public int hashCode() {
+            int h = mesh.hashCode();
+            h = 31 * h + Long.hashCode(a);
+            h = 31 * h + Long.hashCode(b);
+            h = 31 * h + Long.hashCode(c);
+            h = 31 * h + (periodic ? 1 : 0);
+            h = 31 * h + west.hashCode();
+            h = 31 * h + east.hashCode();
+            return 31 * h + scheme.ordinal();
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package com.ananum.vf1d;
 
+import com.ananum.vf1d.metrics.AssemblyEvent;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolveCompletedEvent;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.ananum.vf1d.metrics.SolverMetrics;
+
+import java.util.Arrays;
+
 /**
  * Version optimisée du solveur volumes finis 1D pour grandes tailles (N > 1000)
- * Utilise l'algorithme de Thomas optimisé et une gestion mémoire efficace
+ * Utilise l'algorithme de Thomas optimisé et une gestion mémoire efficace ;
+ * pour N <= 500 la résolution itérative du parent s'applique (méthode choisie
+ * par setIterativeMethod, SOR rouge-noir compris)
  */
 public class OptimizedVolumesFinis1DSolver extends VolumesFinis1DSolver {
     
-    private int iterations = 0;
-    private static final double OMEGA = 1.8; // Facteur de sur-relaxation pour SOR
+    // Bilan partagé des résolutions dans un espace de travail (sans allocation)
+    private static final SolveReport WORKSPACE_REPORT = SolveReport.direct("Thomas", Double.NaN, 0);
+    
+    private int partitions = 1;   // Blocs de la résolution partitionnée (1 : Thomas)
+    private boolean mixedPrecision;   // Thomas float + raffinement itératif
     
     public OptimizedVolumesFinis1DSolver(int n, double L, double a, double b, double c,
                                         Function1D sourceFunction, double u0, double uL, 
@@ -15,148 +28,255 @@ public class OptimizedVolumesFinis1DSolver extends VolumesFinis1DSolver {
         super(n, L, a, b, c, sourceFunction, u0, uL, uniforme);
     }
     
+    /**
+     * Pour N > 500, pour un problème périodique et en précision mixte,
+     * résolution directe (Thomas) : l'estimation initiale n'y sert qu'aux schémas TVD, dont les
+     * corrections différées démarrent alors sur elle plutôt que sur la
+     * solution upwind ; sinon, résolution itérative du parent
+     */
     @Override
-    public Solution1D solve() {
-        // Pour grandes tailles, utilise l'algorithme de Thomas optimisé
-        if (getN() > 500) {
-            return solveOptimized();
+    public Solution1D solve(double[] initialGuess) {
+        if (getN() > 500 || isPeriodic() || mixedPrecision) {
+            return solveOptimized(initialGuess);
         } else {
-            return super.solve();
+            return super.solve(initialGuess);
         }
     }
     
     /**
-     * Résolution optimisée pour grandes tailles
+     * Résolution optimisée pour grandes tailles : l'opérateur factorisé est
+     * réutilisé (OperatorCache), seuls le second membre et la
+     * descente-remontée sont calculés à chaque résolution
      */
-    private Solution1D solveOptimized() {
+    private Solution1D solveOptimized(double[] initialGuess) {
+        long metrics = SolverMetrics.solveStarted();
         final int n = getN();
-        final double L = getL();
+        String method = directMethodName();
+        SolveCompletedEvent event = SolverEvents.solveStarted(n, method, SolverEvents.LAYER_SOLVER);
+        OperatorCache.Entry entry = operatorEntry();
+        Mesh1D mesh = entry.getMesh();
         
-        // Allocation mémoire optimisée
-        double[] x = new double[n];
-        double[] dx = new double[n];
+        if (getConvectionScheme().isDeferredCorrection()) {
+            // Schéma TVD : corrections différées sur Thomas upwind, à chaud si
+            // une estimation initiale est fournie
+            boolean warm = initialGuess != null;
+            double[] solution = warm ? Arrays.copyOf(initialGuess, n) : new double[n];
+            double[] rhs = new double[n];
+            entry.getOperator().buildRightHandSide(getSourceFunction(), getU0(), getUL(), rhs);
+            long t = SolverMetrics.start();
+            SolveReport report = solveDeferredCorrection(entry, rhs, solution, warm);
+            SolverMetrics.stop(Phase.SOLVE, t);
+            setLastReport(report);
+            SolverMetrics.solveCompleted(metrics, n, report.getIterations(), report.getFinalResidual());
+            SolverEvents.solveCompleted(event, n, report.getMethod(), SolverEvents.LAYER_SOLVER,
+                                        report.getIterations(), report.getFinalResidual(),
+                                        report.isConverged());
+            return new Solution1D(solution, mesh.getMeshPoints(), mesh.getCellWidths(), n);
+        }
         
-        // Création du maillage optimisé
-        createOptimizedMesh(x, dx, n, L);
+        double[] solution = new double[n];
+        boolean wantsResidual = SolverMetrics.isEnabled() || SolverEvents.wantsResidual(event);
+        double[] rhs;
+        long t, start, elapsed;
+        if (mixedPrecision) {
+            // Le raffinement itératif relit le second membre
+            MixedPrecisionThomasFactorization lu = entry.getMixedPrecisionFactorization();
+            rhs = new double[n];
+            entry.getOperator().buildRightHandSide(getSourceFunction(), getU0(), getUL(), rhs);
+            t = SolverMetrics.start();
+            start = System.nanoTime();
+            lu.solve(rhs, solution, new float[n]);
+        } else {
+            Factorization lu = partitions > 1
+                ? entry.getPartitionedFactorization(partitions) : entry.getFactorization();
+            entry.getOperator().buildRightHandSide(getSourceFunction(), getU0(), getUL(), solution);
+            // Second membre conservé pour le résidu uniquement si les métriques
+            // ou l'enregistrement JFR sont actifs
+            rhs = wantsResidual ? solution.clone() : null;
+            t = SolverMetrics.start();
+            start = System.nanoTime();
+            lu.solve(solution, solution);
+        }
+        elapsed = System.nanoTime() - start;
+        SolverMetrics.stop(Phase.SOLVE, t);
         
-        // Coefficients de la matrice tridiagonale
-        double[] lower = new double[n-1];
-        double[] diag = new double[n];
-        double[] upper = new double[n-1];
-        double[] rhs = new double[n];
+        // Thomas est direct
+        double residual = wantsResidual
+            ? entry.getOperator().residualNorm(solution, rhs) : Double.NaN;
+        setLastReport(SolveReport.direct(method, residual, elapsed));
+        SolverMetrics.solveCompleted(metrics, n, 1, residual);
+        SolverEvents.solveCompleted(event, n, method, SolverEvents.LAYER_SOLVER, 1, residual, true);
         
-        // Construction optimisée du système
-        buildOptimizedSystem(x, dx, lower, diag, upper, rhs);
+        return new Solution1D(solution, mesh.getMeshPoints(), mesh.getCellWidths(), n);
+    }
+    
+    /**
+     * Résolution partitionnée en blocs parallèles (pool commun) pour les
+     * grandes tailles ; 1 (défaut) pour Thomas séquentiel
+     */
+    public void setPartitions(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Le nombre de blocs doit être positif");
+        }
+        this.partitions = partitions;
+    }
+    
+    /**
+     * Thomas en précision mixte : facteurs float (moitié de la mémoire des
+     * facteurs) et raffinement itératif en double, non périodique
+     * uniquement ; prioritaire sur la résolution partitionnée et appliqué
+     * quel que soit N (solve ne délègue plus alors au solveur itératif)
+     */
+    public void setMixedPrecision(boolean mixedPrecision) {
+        this.mixedPrecision = mixedPrecision;
+    }
+    
+    public boolean isMixedPrecision() { return mixedPrecision; }
+    
+    private String directMethodName() {
+        if (getConvectionScheme().isDeferredCorrection()) return getConvectionScheme().getSchemeName();
+        if (mixedPrecision) return "MixedThomas";
+        if (partitions > 1) return "PartitionedThomas(" + partitions + ")";
+        return isPeriodic() ? "CyclicThomas" : "Thomas";
+    }
+    
+    /**
+     * Résolution directe (Thomas) dans un espace de travail réutilisable, sans
+     * aucune allocation une fois l'espace dimensionné. Le tableau renvoyé
+     * appartient à l'espace de travail et n'est valide que jusqu'à la résolution
+     * suivante dans ce même espace.
+     *
+     * Un problème périodique (Thomas cyclique) ou en précision mixte passe
+     * par l'opérateur factorisé en cache, sans allocation une fois celui-ci
+     * construit.
+     */
+    public double[] solveInto(SolverWorkspace ws) {
+        if (isPeriodic() || getConvectionScheme().isDeferredCorrection() || mixedPrecision) {
+            return solveCachedInto(ws);
+        }
+        long metrics = SolverMetrics.solveStarted();
+        final int n = getN();
+        SolveCompletedEvent event = SolverEvents.solveStarted(n, "Thomas", SolverEvents.LAYER_SOLVER);
+        ws.ensureCapacity(n);
+        
+        AssemblyEvent assembly = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        getMeshGenerator().fill(ws.x, ws.dx, n, getL());
+        SolverMetrics.stop(Phase.MESH, t);
+        SolverEvents.endAssembly(assembly, "mesh", n);
+        
+        // Matrice et second membre assemblés ensemble
+        assembly = SolverEvents.beginAssembly();
+        t = SolverMetrics.start();
+        buildOptimizedSystem(ws.x, ws.dx, ws.lower, ws.diag, ws.upper, ws.rhs, n);
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(assembly, "operator+rhs", n);
         
-        // Résolution par algorithme de Thomas optimisé
-        double[] solution = solveThomasOptimized(lower, diag, upper, rhs);
+        t = SolverMetrics.start();
+        solveThomasOptimized(ws.lower, ws.diag, ws.upper, ws.rhs, ws.solution, n);
+        SolverMetrics.stop(Phase.SOLVE, t);
+        ws.n = n;
+        setLastReport(WORKSPACE_REPORT);
+        SolverMetrics.solveCompleted(metrics, n, 1, Double.NaN);
+        SolverEvents.solveCompleted(event, n, "Thomas", SolverEvents.LAYER_SOLVER, 1, Double.NaN, true);
         
-        return new Solution1D(solution, x, dx, n);
+        return ws.solution;
     }
     
     /**
-     * Création optimisée du maillage
+     * Problème périodique (Thomas cyclique, sans allocation une fois
+     * l'opérateur en cache), schéma TVD (corrections différées, lower et
+     * diag de l'espace servant de tableaux de travail) ou précision mixte :
+     * opérateur factorisé en cache
      */
-    private void createOptimizedMesh(double[] x, double[] dx, int n, double L) {
-        if (isUniforme()) {
-            double h = L / n;
-            double halfH = 0.5 * h;
-            
-            // Boucle déroulée pour performance
-            for (int i = 0; i < n; i += 4) {
-                if (i < n) {
-                    x[i] = (i + 0.5) * h;
-                    dx[i] = (i == 0) ? 2 * x[i] : 
-                           (i == n-1) ? 2 * (L - x[i]) : h;
-                }
-                if (i + 1 < n) {
-                    x[i+1] = (i + 1.5) * h;
-                    dx[i+1] = (i+1 == n-1) ? 2 * (L - x[i+1]) : h;
-                }
-                if (i + 2 < n) {
-                    x[i+2] = (i + 2.5) * h;
-                    dx[i+2] = (i+2 == n-1) ? 2 * (L - x[i+2]) : h;
-                }
-                if (i + 3 < n) {
-                    x[i+3] = (i + 3.5) * h;
-                    dx[i+3] = (i+3 == n-1) ? 2 * (L - x[i+3]) : h;
-                }
-            }
+    private double[] solveCachedInto(SolverWorkspace ws) {
+        long metrics = SolverMetrics.solveStarted();
+        final int n = getN();
+        String method = directMethodName();
+        SolveCompletedEvent event = SolverEvents.solveStarted(n, method, SolverEvents.LAYER_SOLVER);
+        ws.ensureCapacity(n);
+        
+        OperatorCache.Entry entry = operatorEntry();
+        Mesh1D mesh = entry.getMesh();
+        System.arraycopy(mesh.x, 0, ws.x, 0, n);
+        System.arraycopy(mesh.dx, 0, ws.dx, 0, n);
+        
+        long t;
+        SolveReport report = WORKSPACE_REPORT;
+        if (getConvectionScheme().isDeferredCorrection()) {
+            entry.getOperator().buildRightHandSide(getSourceFunction(), getU0(), getUL(), ws.rhs);
+            t = SolverMetrics.start();
+            report = DeferredCorrection.solve(entry.getOperator(), entry.getFactorization(),
+                getConvectionScheme(), ws.rhs, ws.solution, ws.lower, ws.diag,
+                getTolerance(), getMaxIterations());
+        } else if (mixedPrecision) {
+            entry.getOperator().buildRightHandSide(getSourceFunction(), getU0(), getUL(), ws.rhs);
+            t = SolverMetrics.start();
+            entry.getMixedPrecisionFactorization().solve(ws.rhs, ws.solution, ws.correction(n));
         } else {
-            // Maillage non uniforme standard
-            for (int i = 0; i < n; i++) {
-                double xi = (double)(i + 0.5) / n;
-                x[i] = L * (xi - 0.5 * Math.sin(2 * Math.PI * xi) / (2 * Math.PI));
-            }
-            
-            dx[0] = 2 * x[0];
-            for (int i = 1; i < n - 1; i++) {
-                dx[i] = 0.5 * (x[i+1] - x[i-1]);
-            }
-            dx[n-1] = 2 * (L - x[n-1]);
+            entry.getOperator().buildRightHandSide(getSourceFunction(), getU0(), getUL(), ws.solution);
+            t = SolverMetrics.start();
+            entry.getFactorization().solve(ws.solution, ws.solution);
         }
+        SolverMetrics.stop(Phase.SOLVE, t);
+        ws.n = n;
+        setLastReport(report);
+        SolverMetrics.solveCompleted(metrics, n, report.getIterations(), report.getFinalResidual());
+        SolverEvents.solveCompleted(event, n, method, SolverEvents.LAYER_SOLVER,
+                                    report.getIterations(), report.getFinalResidual(), report.isConverged());
+        
+        return ws.solution;
     }
     
     /**
-     * Construction optimisée du système linéaire
+     * Construction optimisée du système linéaire : boucle intérieure sans
+     * branchement, conditions aux limites appliquées ensuite aux deux
+     * volumes de bord (comme TridiagonalOperator.assemble)
      */
     private void buildOptimizedSystem(double[] x, double[] dx, 
                                      double[] lower, double[] diag, 
-                                     double[] upper, double[] rhs) {
-        final int n = x.length;
+                                     double[] upper, double[] rhs, int n) {
         final double a = getA();
         final double b = getB();
         final double c = getC();
         final Function1D source = getSourceFunction();
-        final double u0 = getU0();
-        final double uL = getUL();
+        final BoundaryCondition west = getWestBoundary();
+        final BoundaryCondition east = getEastBoundary();
+        BoundaryCondition.checkWellPosed(west, east, c);
         
         // Pré-calcul des constantes
+        final ConvectionScheme scheme = getConvectionScheme();
+        final double absB = Math.abs(b);
         final double bPos = Math.max(b, 0);
         final double bNeg = Math.max(-b, 0);
         
-        // Premier élément
-        double dxw0 = 0.5 * dx[0];
-        double dxe0 = 0.5 * (dx[0] + dx[1]);
-        double aw0 = a / dxw0 + bPos;
-        double ae0 = a / dxe0 + bNeg;
-        
-        diag[0] = ae0 + aw0 + c * dx[0] + aw0;
-        upper[0] = -ae0;
-        rhs[0] = source.evaluate(x[0]) * dx[0] + aw0 * u0;
-        
-        // Éléments intérieurs - boucle optimisée
-        for (int i = 1; i < n - 1; i++) {
-            double dxw = 0.5 * (dx[i-1] + dx[i]);
-            double dxe = 0.5 * (dx[i] + dx[i+1]);
-            double aw = a / dxw + bPos;
-            double ae = a / dxe + bNeg;
-            
-            lower[i-1] = -aw;
-            diag[i] = ae + aw + c * dx[i];
-            upper[i] = -ae;
+        // Faces et volumes intérieurs - noyau du schéma, boucles sans branchement
+        scheme.conductances(a, absB, dx, upper, n);
+        TridiagonalOperator.interiorCoefficients(dx, bPos, bNeg, c, lower, diag, upper, n);
+        for (int i = 0; i < n; i++) {
             rhs[i] = source.evaluate(x[i]) * dx[i];
         }
         
-        // Dernier élément
-        double dxwN = 0.5 * (dx[n-2] + dx[n-1]);
-        double dxeN = 0.5 * dx[n-1];
-        double awN = a / dxwN + bPos;
-        double aeN = a / dxeN + bNeg;
+        // Premier élément
+        double h0 = 0.5 * dx[0];
+        double aw0 = scheme.conductance(a / h0, absB) + bPos;
+        diag[0] = -upper[0] + c * dx[0] + aw0 * west.diagonalWeight(h0);
+        rhs[0] += aw0 * west.valueWeight(h0) * getU0();
         
-        lower[n-2] = -awN;
-        diag[n-1] = awN + aeN + c * dx[n-1] + aeN;
-        rhs[n-1] = source.evaluate(x[n-1]) * dx[n-1] + aeN * uL;
+        // Dernier élément
+        double hN = 0.5 * dx[n-1];
+        double aeN = scheme.conductance(a / hN, absB) + bNeg;
+        diag[n-1] = -lower[n-2] + c * dx[n-1] + aeN * east.diagonalWeight(hN);
+        rhs[n-1] += aeN * east.valueWeight(hN) * getUL();
     }
     
     /**
-     * Algorithme de Thomas optimisé (sans allocation supplémentaire)
+     * Algorithme de Thomas optimisé (sans allocation, diag et rhs modifiés en place)
      */
-    private double[] solveThomasOptimized(double[] lower, double[] diag, 
-                                         double[] upper, double[] rhs) {
-        final int n = diag.length;
-        double[] solution = new double[n];
-        
+    private void solveThomasOptimized(double[] lower, double[] diag, 
+                                     double[] upper, double[] rhs,
+                                     double[] solution, int n) {
+
         // Forward elimination - modifie diag et rhs en place
         for (int i = 1; i < n; i++) {
             double m = lower[i-1] / diag[i-1];
@@ -169,148 +289,5 @@ public class OptimizedVolumesFinis1DSolver extends VolumesFinis1DSolver {
         for (int i = n - 2; i >= 0; i--) {
             solution[i] = (rhs[i] - upper[i] * solution[i+1]) / diag[i];
         }
-        
-        iterations = 1; // Thomas est direct
-        return solution;
-    }
-    
-    /**
-     * Méthode SOR (Successive Over-Relaxation) pour très grandes tailles
-     */
-    private double[] solveSOR(double[] lower, double[] diag, 
-                             double[] upper, double[] rhs,
-                             double tolerance, int maxIterations) {
-        final int n = diag.length;
-        double[] x = new double[n];
-        double[] xOld = new double[n];
-        
-        iterations = 0;
-        double error = Double.MAX_VALUE;
-        
-        while (iterations < maxIterations && error > tolerance) {
-            System.arraycopy(x, 0, xOld, 0, n);
-            
-            // Premier élément
-            double sum = rhs[0] - upper[0] * x[1];
-            x[0] = (1 - OMEGA) * xOld[0] + OMEGA * sum / diag[0];
-            
-            // Éléments intérieurs
-            for (int i = 1; i < n - 1; i++) {
-                sum = rhs[i] - lower[i-1] * x[i-1] - upper[i] * xOld[i+1];
-                x[i] = (1 - OMEGA) * xOld[i] + OMEGA * sum / diag[i];
-            }
-            
-            // Dernier élément
-            sum = rhs[n-1] - lower[n-2] * x[n-2];
-            x[n-1] = (1 - OMEGA) * xOld[n-1] + OMEGA * sum / diag[n-1];
-            
-            // Calcul de l'erreur
-            error = 0;
-            for (int i = 0; i < n; i++) {
-                error = Math.max(error, Math.abs(x[i] - xOld[i]));
-            }
-            
-            iterations++;
-        }
-        
-        return x;
-    }
-    
-    /**
-     * Retourne le nombre d'itérations (pour benchmark)
-     */
-    public int getIterations() {
-        return iterations;
-    }
-    
-    // Getters pour accéder aux champs privés de la classe parent
-    private int getN() { 
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("n");
-            field.setAccessible(true);
-            return (int) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private double getL() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("L");
-            field.setAccessible(true);
-            return (double) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private double getA() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("a");
-            field.setAccessible(true);
-            return (double) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private double getB() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("b");
-            field.setAccessible(true);
-            return (double) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private double getC() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("c");
-            field.setAccessible(true);
-            return (double) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private Function1D getSourceFunction() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("sourceFunction");
-            field.setAccessible(true);
-            return (Function1D) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private double getU0() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("u0");
-            field.setAccessible(true);
-            return (double) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private double getUL() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("uL");
-            field.setAccessible(true);
-            return (double) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-    
-    private boolean isUniforme() {
-        try {
-            java.lang.reflect.Field field = VolumesFinis1DSolver.class.getDeclaredField("uniforme");
-            field.setAccessible(true);
-            return (boolean) field.get(this);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,264 @@
+package com.ananum.vf1d;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Continuation paramétrique (homotopie) : suit la solution d'une famille de
+ * problèmes λ → P(λ) par prédiction-correction, d'un point de contrôle au
+ * suivant.
+ *
+ * - Prédiction : extrapolation sécante des deux dernières solutions
+ *   acceptées (la solution précédente au premier pas).
+ * - Correction : résolution de P(λ) par le solveur fourni par la fabrique,
+ *   démarrée sur la prédiction (solve(double[])). Les pas intermédiaires ne
+ *   servent qu'à la prédiction : ils sont résolus à la tolérance de chemin
+ *   (lâche), les points de contrôle à la tolérance du solveur.
+ * - Pas adaptatif : un pas dont la correction ne converge pas (dans le
+ *   nombre maximal d'itérations du solveur) est rejeté et repris avec un pas
+ *   moitié. Avec un nombre d'itérations visé, le pas est doublé si la
+ *   correction a coûté au plus la moitié de ce nombre et divisé par deux
+ *   au-delà ; sans objectif, il est doublé après chaque pas accepté.
+ *
+ * Le gain dépend du correcteur : une méthode itérative converge à un taux
+ * indépendant du point de départ, le démarrage à chaud n'économise que les
+ * décades de résidu déjà acquises par la prédiction. Il est donc d'autant
+ * plus grand que les points de contrôle sont rapprochés, et les pas
+ * intermédiaires ne se justifient que si le problème cible ne converge pas
+ * à froid (d'où l'absence d'objectif par défaut). Un correcteur direct
+ * (OptimizedVolumesFinis1DSolver au-delà de 500 volumes ou périodique,
+ * hors schéma TVD) ignore la prédiction : la continuation n'y apporte rien.
+ *
+ * Pour le nombre de Péclet, le paramètre naturel est log₁₀ Pe (voir
+ * pecletFactory) : la couche limite s'amincit géométriquement avec Pe.
+ */
+public final class ParameterContinuation {
+    /** Tolérance relative des pas intermédiaires */
+    public static final double DEFAULT_PATH_TOLERANCE = 1e-4;
+    
+    /**
+     * Fabrique du solveur du problème P(λ)
+     */
+    @FunctionalInterface
+    public interface SolverFactory {
+        VolumesFinis1DSolver create(double parameter);
+    }
+    
+    private final SolverFactory factory;
+    private final double initialStep;
+    private double minStep;
+    private double maxStep;
+    private int targetIterations;     // 0 : pas d'objectif (pas doublé après chaque succès)
+    private double pathTolerance = DEFAULT_PATH_TOLERANCE;
+    
+    /**
+     * @param initialStep premier pas (valeur absolue), borné par défaut à
+     *                    [initialStep/64, 16 initialStep]
+     */
+    public ParameterContinuation(SolverFactory factory, double initialStep) {
+        if (!(initialStep > 0)) {
+            throw new IllegalArgumentException("Le pas initial doit être positif : " + initialStep);
+        }
+        this.factory = factory;
+        this.initialStep = initialStep;
+        this.minStep = initialStep / 64;
+        this.maxStep = initialStep * 16;
+    }
+    
+    /**
+     * Fabrique pour la continuation en Péclet : λ = log₁₀ Pe, a = L/Pe
+     * (Pe = bL/a avec b = 1), les autres réglages étant faits par configure
+     */
+    public static SolverFactory pecletFactory(int n, double L, double c, Function1D source,
+                                              double u0, double uL,
+                                              Consumer<VolumesFinis1DSolver> configure) {
+        return lambda -> {
+            VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+                n, L, L / Math.pow(10, lambda), 1.0, c, source, u0, uL, true);
+            configure.accept(solver);
+            return solver;
+        };
+    }
+    
+    public void setStepBounds(double minStep, double maxStep) {
+        if (!(minStep > 0) || maxStep < minStep) {
+            throw new IllegalArgumentException(
+                "Bornes du pas invalides : [" + minStep + ", " + maxStep + "]");
+        }
+        this.minStep = minStep;
+        this.maxStep = maxStep;
+    }
+    
+    /**
+     * Itérations de correction visées par pas (0 : aucun objectif)
+     */
+    public void setTargetIterations(int targetIterations) {
+        if (targetIterations < 0) {
+            throw new IllegalArgumentException(
+                "Le nombre d'itérations visé doit être positif ou nul : " + targetIterations);
+        }
+        this.targetIterations = targetIterations;
+    }
+    
+    /**
+     * Tolérance des pas intermédiaires (jamais plus stricte que celle du
+     * solveur, qui s'applique aux points de contrôle)
+     */
+    public void setPathTolerance(double pathTolerance) {
+        if (!(pathTolerance > 0)) {
+            throw new IllegalArgumentException(
+                "La tolérance de chemin doit être positive : " + pathTolerance);
+        }
+        this.pathTolerance = pathTolerance;
+    }
+    
+    /**
+     * Parcourt les points de contrôle dans l'ordre donné (monotone ou non) ;
+     * le premier est résolu à froid
+     *
+     * @throws IllegalStateException si le pas passe sous le pas minimal
+     */
+    public Result run(double... checkpoints) {
+        if (checkpoints.length == 0) {
+            throw new IllegalArgumentException("Au moins un point de contrôle est requis");
+        }
+        long start = System.nanoTime();
+        List<Solution1D> solutions = new ArrayList<>();
+        List<Double> path = new ArrayList<>();
+        List<Integer> iterations = new ArrayList<>();
+        int rejected = 0;
+        int rejectedIterations = 0;
+        
+        double lambda = checkpoints[0];
+        VolumesFinis1DSolver solver = factory.create(lambda);
+        Solution1D current = solver.solve();
+        if (!solver.getLastReport().isConverged()) {
+            throw new IllegalStateException("Le problème initial λ = " + lambda + " n'a pas convergé");
+        }
+        solutions.add(current);
+        path.add(lambda);
+        iterations.add(solver.getIterations());
+        
+        double step = Math.min(initialStep, maxStep);
+        double[] previous = null;
+        double previousStep = 0;
+        double[] guess = new double[current.getValues().length];
+        
+        for (int k = 1; k < checkpoints.length; k++) {
+            double to = checkpoints[k];
+            double direction = Math.signum(to - lambda);
+            if (direction != 0 && previous != null && previousStep * direction < 0) {
+                previous = null;   // Demi-tour : la sécante ne vaut plus
+            }
+            
+            while (direction != 0 && (to - lambda) * direction > 0) {
+                double h = Math.min(step, Math.abs(to - lambda));
+                boolean last = Math.abs(to - lambda) - h <= 1e-12 * Math.max(1, Math.abs(to));
+                double next = last ? to : lambda + direction * h;
+                
+                // Prédiction sécante
+                double[] u = current.getValues();
+                double ratio = previous != null ? h / Math.abs(previousStep) : 0;
+                for (int i = 0; i < u.length; i++) {
+                    guess[i] = previous != null ? u[i] + ratio * (u[i] - previous[i]) : u[i];
+                }
+                
+                // Correction
+                solver = factory.create(next);
+                if (!last) {
+                    solver.setTolerance(Math.max(pathTolerance, solver.getTolerance()));
+                }
+                Solution1D corrected = solver.solve(guess);
+                SolveReport report = solver.getLastReport();
+                
+                if (!report.isConverged()) {
+                    rejected++;
+                    rejectedIterations += report.getIterations();
+                    step = h / 2;
+                    if (step < minStep) {
+                        throw new IllegalStateException(
+                            "La continuation n'a pas convergé à λ = " + next + " (pas " + h + ")");
+                    }
+                    continue;
+                }
+                
+                previous = u;
+                previousStep = next - lambda;
+                lambda = next;
+                current = corrected;
+                path.add(lambda);
+                iterations.add(report.getIterations());
+                
+                // Les points de contrôle (tolérance stricte, pas écourté) ne
+                // renseignent pas sur le pas possible
+                if (last) {
+                    continue;
+                }
+                if (targetIterations == 0 || report.getIterations() <= targetIterations / 2) {
+                    step = Math.min(2 * h, maxStep);
+                } else if (report.getIterations() > targetIterations) {
+                    step = Math.max(h / 2, minStep);
+                }
+            }
+            solutions.add(current);
+        }
+        return new Result(checkpoints.clone(), solutions, path, iterations, rejected,
+                          rejectedIterations, System.nanoTime() - start);
+    }
+    
+    /**
+     * Solutions aux points de contrôle et bilan du chemin parcouru
+     */
+    public static final class Result {
+        private final double[] checkpoints;
+        private final List<Solution1D> solutions;
+        private final List<Double> path;
+        private final List<Integer> iterations;
+        private final int rejectedSteps;
+        private final int rejectedIterations;
+        private final long elapsedNanos;
+        
+        Result(double[] checkpoints, List<Solution1D> solutions, List<Double> path,
+               List<Integer> iterations, int rejectedSteps, int rejectedIterations,
+               long elapsedNanos) {
+            this.checkpoints = checkpoints;
+            this.solutions = Collections.unmodifiableList(solutions);
+            this.path = Collections.unmodifiableList(path);
+            this.iterations = Collections.unmodifiableList(iterations);
+            this.rejectedSteps = rejectedSteps;
+            this.rejectedIterations = rejectedIterations;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        public double[] getCheckpoints() { return checkpoints.clone(); }
+        
+        /** Solution au k-ième point de contrôle (tolérance du solveur) */
+        public Solution1D getSolution(int k) { return solutions.get(k); }
+        
+        public List<Solution1D> getSolutions() { return solutions; }
+        
+        /** Paramètres des pas acceptés, point de départ compris */
+        public List<Double> getPath() { return path; }
+        
+        /** Itérations de correction par pas accepté (résolution à froid en tête) */
+        public List<Integer> getIterations() { return iterations; }
+        
+        public int getRejectedSteps() { return rejectedSteps; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        
+        /** Itérations de tout le parcours, pas rejetés compris */
+        public int getTotalIterations() {
+            int total = rejectedIterations;
+            for (int k : iterations) total += k;
+            return total;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d pas acceptés, %d rejetés, %d itérations, %.2f ms",
+                path.size() - 1, rejectedSteps, getTotalIterations(), elapsedNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.ananum.vf1d;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Résolution partitionnée (type SPIKE) d'un système tridiagonal, cyclique
+ * ou non, parallèle sur les blocs.
+ *
+ * Les N lignes sont découpées en P blocs contigus. Chaque bloc k est
+ * factorisé indépendamment (Thomas local) et ses deux « spikes » sont
+ * précalculés : V_k = T_k⁻¹ (couplage vers le premier inconnu du bloc
+ * suivant) et W_k = T_k⁻¹ (couplage vers le dernier inconnu du bloc
+ * précédent). Une résolution comprend alors :
+ * 1. les P résolutions locales g_k = T_k⁻¹ f_k, en parallèle ;
+ * 2. un système réduit de taille 2P sur les inconnues d'extrémité des blocs
+ *    (LU dense factorisée une fois) ;
+ * 3. la correction x_k = g_k - V_k x(suivant) - W_k x(précédent), en parallèle.
+ *
+ * Pour un système cyclique (conditions périodiques), les coins deviennent
+ * les couplages du premier et du dernier bloc : aucun traitement particulier
+ * n'est nécessaire.
+ */
+public final class PartitionedTridiagonalSolver implements Factorization {
+    private final int n;
+    private final int partitions;
+    private final int[] starts;           // Bloc k : lignes [starts[k], starts[k+1])
+    private final double[] multipliers;   // multipliers[i] : pivot de la ligne i dans son bloc
+    private final double[] reducedDiag;
+    private final double[] upper;
+    private final double[] spikeV;
+    private final double[] spikeW;
+    private final DenseLU reduced;
+    private final ForkJoinPool pool;
+    
+    /**
+     * @param cornerUpper coefficient A[0][n-1] (0 si non cyclique)
+     * @param cornerLower coefficient A[n-1][0] (0 si non cyclique)
+     * @param pool pool des phases parallèles (null : séquentiel)
+     */
+    PartitionedTridiagonalSolver(double[] lower, double[] diag, double[] upper,
+                                 double cornerUpper, double cornerLower,
+                                 int partitions, ForkJoinPool pool) {
+        this.n = diag.length;
+        if (partitions < 1 || 2 * partitions > n) {
+            throw new IllegalArgumentException(
+                "Le nombre de blocs doit être dans [1, N/2] : " + partitions);
+        }
+        this.partitions = partitions;
+        this.upper = upper;
+        this.pool = pool;
+        this.multipliers = new double[n];
+        this.reducedDiag = new double[n];
+        this.spikeV = new double[n];
+        this.spikeW = new double[n];
+        
+        starts = new int[partitions + 1];
+        for (int k = 0; k <= partitions; k++) {
+            starts[k] = (int) ((long) k * n / partitions);
+        }
+        
+        for (int k = 0; k < partitions; k++) {
+            int s = starts[k], e = starts[k+1];
+            
+            // Thomas local
+            reducedDiag[s] = diag[s];
+            for (int i = s + 1; i < e; i++) {
+                double m = lower[i-1] / reducedDiag[i-1];
+                reducedDiag[i] = diag[i] - m * upper[i-1];
+                multipliers[i] = m;
+            }
+            
+            // Couplages hors bloc (coins pour le premier et le dernier bloc)
+            double west = s > 0 ? lower[s-1] : cornerUpper;
+            double east = e < n ? upper[e-1] : cornerLower;
+            spikeW[s] = west;
+            localSolve(s, e, spikeW);
+            spikeV[e-1] = east;
+            localSolve(s, e, spikeV);
+        }
+        
+        // Système réduit : z[2k] = x[début du bloc k], z[2k+1] = x[fin du bloc k]
+        int m = 2 * partitions;
+        double[][] system = new double[m][m];
+        for (int k = 0; k < partitions; k++) {
+            int next = 2 * ((k + 1) % partitions);
+            int previous = 2 * ((k - 1 + partitions) % partitions) + 1;
+            int[] rows = {starts[k], starts[k+1] - 1};
+            for (int r = 0; r < 2; r++) {
+                int row = 2 * k + r;
+                system[row][row] += 1.0;
+                system[row][next] += spikeV[rows[r]];
+                system[row][previous] += spikeW[rows[r]];
+            }
+        }
+        this.reduced = new DenseLU(system);
+    }
+    
+    @Override
+    public void solve(double[] rhs, double[] solution) {
+        if (solution != rhs) {
+            System.arraycopy(rhs, 0, solution, 0, n);
+        }
+        boolean parallel = pool != null && pool.getParallelism() > 1 && partitions > 1;
+        
+        // 1. Résolutions locales
+        if (parallel) {
+            pool.invoke(new BlockTask(solution, null, 0, partitions));
+        } else {
+            for (int k = 0; k < partitions; k++) {
+                localSolve(starts[k], starts[k+1], solution);
+            }
+        }
+        
+        // 2. Système réduit
+        double[] z = new double[2 * partitions];
+        for (int k = 0; k < partitions; k++) {
+            z[2*k] = solution[starts[k]];
+            z[2*k + 1] = solution[starts[k+1] - 1];
+        }
+        reduced.solve(z);
+        
+        // 3. Correction par les spikes
+        if (parallel) {
+            pool.invoke(new BlockTask(solution, z, 0, partitions));
+        } else {
+            for (int k = 0; k < partitions; k++) {
+                correct(k, solution, z);
+            }
+        }
+    }
+    
+    @Override
+    public int getN() { return n; }
+    
+    public int getPartitions() { return partitions; }
+    
+    /**
+     * Résout T_k v = v sur les lignes [s, e) du bloc
+     */
+    private void localSolve(int s, int e, double[] v) {
+        for (int i = s + 1; i < e; i++) {
+            v[i] -= multipliers[i] * v[i-1];
+        }
+        v[e-1] /= reducedDiag[e-1];
+        for (int i = e - 2; i >= s; i--) {
+            v[i] = (v[i] - upper[i] * v[i+1]) / reducedDiag[i];
+        }
+    }
+    
+    private void correct(int k, double[] x, double[] z) {
+        double next = z[2 * ((k + 1) % partitions)];
+        double previous = z[2 * ((k - 1 + partitions) % partitions) + 1];
+        for (int i = starts[k]; i < starts[k+1]; i++) {
+            x[i] -= spikeV[i] * next + spikeW[i] * previous;
+        }
+    }
+    
+    /**
+     * Phase 1 (z == null) ou 3 sur une plage de blocs
+     */
+    private final class BlockTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final transient double[] x, z;
+        private final int from, to;
+        
+        BlockTask(double[] x, double[] z, int from, int to) {
+            this.x = x;
+            this.z = z;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BlockTask(x, z, from, mid), new BlockTask(x, z, mid, to));
+            } else if (z == null) {
+                localSolve(starts[from], starts[from+1], x);
+            } else {
+                correct(from, x, z);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ananum.vf1d;
+
+import java.util.Arrays;
+
+/**
+ * Historique des résidus relatifs d'une résolution itérative, converti en
+ * SolveReport à la fin de la résolution
+ */
+public final class ResidualHistory {
+    private final int[] iterations;
+    private final double[] residuals;
+    private final int checkInterval;
+    private final double bNorm;
+    private int recorded;
+    
+    /**
+     * @param bNorm norme infinie du second membre (1 s'il est nul)
+     */
+    public ResidualHistory(int maxIterations, int checkInterval, double bNorm) {
+        int capacity = maxIterations / checkInterval + 2;
+        this.iterations = new int[capacity];
+        this.residuals = new double[capacity];
+        this.checkInterval = checkInterval;
+        this.bNorm = bNorm;
+    }
+    
+    /**
+     * Enregistre le résidu (norme infinie absolue) et indique si la
+     * tolérance relative est atteinte
+     */
+    public boolean record(int iter, double residual, double tolerance) {
+        if (recorded == iterations.length) {
+            // Relevés supplémentaires (redémarrages) : on garde le dernier
+            recorded--;
+        }
+        iterations[recorded] = iter;
+        residuals[recorded++] = residual / bNorm;
+        return residual / bNorm < tolerance;
+    }
+    
+    public SolveReport report(String method, int iter, boolean converged, double tolerance,
+                              double residual, long elapsedNanos) {
+        return new SolveReport(method, iter, converged, tolerance, checkInterval,
+            Arrays.copyOf(iterations, recorded), Arrays.copyOf(residuals, recorded),
+            residual, elapsedNanos);
+    }
+}
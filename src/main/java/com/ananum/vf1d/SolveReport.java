@@ -0,0 +1,88 @@
+package com.ananum.vf1d;
+
+import java.util.Arrays;
+
+/**
+ * Bilan d'une résolution linéaire : itérations, convergence, historique du
+ * résidu relatif ||b - Ax||∞ / ||b||∞ (relevé tous les checkInterval
+ * balayages) et durée.
+ */
+public final class SolveReport {
+    private static final int[] NO_ITERATIONS = new int[0];
+    private static final double[] NO_RESIDUALS = new double[0];
+    
+    private final String method;
+    private final int iterations;
+    private final boolean converged;
+    private final double tolerance;
+    private final int checkInterval;
+    private final int[] historyIterations;
+    private final double[] residualHistory;
+    private final double finalResidual;
+    private final long elapsedNanos;
+    
+    SolveReport(String method, int iterations, boolean converged, double tolerance,
+                int checkInterval, int[] historyIterations, double[] residualHistory,
+                double finalResidual, long elapsedNanos) {
+        this.method = method;
+        this.iterations = iterations;
+        this.converged = converged;
+        this.tolerance = tolerance;
+        this.checkInterval = checkInterval;
+        this.historyIterations = historyIterations;
+        this.residualHistory = residualHistory;
+        this.finalResidual = finalResidual;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    /**
+     * Bilan d'une méthode directe (une « itération », toujours convergée) ;
+     * residual vaut NaN s'il n'a pas été calculé
+     */
+    static SolveReport direct(String method, double residual, long elapsedNanos) {
+        return new SolveReport(method, 1, true, 0.0, 1, NO_ITERATIONS, NO_RESIDUALS,
+                               residual, elapsedNanos);
+    }
+    
+    public String getMethod() { return method; }
+    public int getIterations() { return iterations; }
+    public boolean isConverged() { return converged; }
+    public double getTolerance() { return tolerance; }
+    public int getCheckInterval() { return checkInterval; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    
+    /** Norme infinie du résidu final ||b - Ax|| (NaN si non calculée) */
+    public double getFinalResidual() { return finalResidual; }
+    
+    /** Résidus relatifs relevés, le premier pour l'estimation initiale */
+    public double[] getResidualHistory() { return residualHistory.clone(); }
+    
+    /** Itération correspondant à chaque résidu de l'historique */
+    public int[] getHistoryIterations() { return historyIterations.clone(); }
+    
+    /** Dernier résidu relatif relevé (NaN pour une méthode directe) */
+    public double getFinalRelativeResidual() {
+        return residualHistory.length > 0 ? residualHistory[residualHistory.length - 1] : Double.NaN;
+    }
+    
+    /**
+     * Taux de convergence moyen par itération sur l'historique
+     */
+    public double getAverageConvergenceRate() {
+        int m = residualHistory.length;
+        if (m < 2 || residualHistory[0] == 0 || historyIterations[m-1] == historyIterations[0]) {
+            return Double.NaN;
+        }
+        return Math.pow(residualHistory[m-1] / residualHistory[0],
+                        1.0 / (historyIterations[m-1] - historyIterations[0]));
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s: %s en %d itération(s), résidu relatif %.3e (tolérance %.1e), %.3f ms",
+            method, converged ? "convergé" : "NON convergé", iterations,
+            getFinalRelativeResidual(), tolerance, elapsedNanos / 1e6)
+            + (residualHistory.length > 8
+               ? "" : ", historique " + Arrays.toString(residualHistory));
+    }
+}
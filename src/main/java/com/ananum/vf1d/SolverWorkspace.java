@@ -0,0 +1,63 @@
+package com.ananum.vf1d;
+
+/**
+ * Espace de travail réutilisable pour les résolutions répétées (balayages de
+ * paramètres, études paramétriques). Les tableaux ne sont réalloués que si la
+ * taille demandée dépasse la capacité courante.
+ *
+ * Un espace de travail n'est pas thread-safe : il doit appartenir à un seul
+ * thread (typiquement un par worker).
+ */
+public class SolverWorkspace {
+    double[] x, dx;
+    double[] lower, diag, upper, rhs;
+    double[] solution;
+    float[] correction;   // Précision mixte uniquement (alloué à la demande)
+    int n;
+    private int capacity;
+    
+    public SolverWorkspace() {
+        this(0);
+    }
+    
+    public SolverWorkspace(int initialCapacity) {
+        ensureCapacity(initialCapacity);
+    }
+    
+    /**
+     * Garantit que les tableaux peuvent contenir n volumes
+     */
+    public void ensureCapacity(int n) {
+        if (n <= capacity && x != null) return;
+        
+        int size = Math.max(n, 2);
+        x = new double[size];
+        dx = new double[size];
+        lower = new double[size - 1];
+        diag = new double[size];
+        upper = new double[size - 1];
+        rhs = new double[size];
+        solution = new double[size];
+        capacity = size;
+    }
+    
+    /**
+     * Tableau float des corrections de la précision mixte, d'au moins n éléments
+     */
+    float[] correction(int n) {
+        if (correction == null || correction.length < n) {
+            correction = new float[Math.max(n, capacity)];
+        }
+        return correction;
+    }
+    
+    /** Nombre de volumes de la dernière résolution */
+    public int getN() { return n; }
+    
+    public int getCapacity() { return capacity; }
+    
+    // Vues sur la dernière résolution (seuls les n premiers éléments sont valides)
+    public double[] getSolution() { return solution; }
+    public double[] getMeshPoints() { return x; }
+    public double[] getCellWidths() { return dx; }
+}
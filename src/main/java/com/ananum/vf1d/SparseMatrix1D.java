@@ -1,14 +1,25 @@
 package com.ananum.vf1d;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 /**
  * Classe représentant une matrice tridiagonale creuse en 1D
  * Utilisée pour la résolution de systèmes linéaires dans les volumes finis 1D
  */
-class SparseMatrix1D {
+class SparseMatrix1D implements BandedOperator {
+    /** Contrôle du résidu tous les DEFAULT_CHECK_INTERVAL balayages */
+    public static final int DEFAULT_CHECK_INTERVAL = 10;
+    /**
+     * Lignes par bloc des balayages rouge-noir parallèles : b, x et les trois
+     * diagonales d'un bloc (~160 Ko) tiennent dans le cache L2 d'un cœur
+     */
+    static final int RED_BLACK_CHUNK = 4096;
+    
     private final int n;
     private final double[] diagonal;
     private final double[] upperDiagonal;
     private final double[] lowerDiagonal;
+    private SolveReport lastReport;
     
     public SparseMatrix1D(int n) {
         this.n = n;
@@ -17,6 +28,56 @@ class SparseMatrix1D {
         this.lowerDiagonal = new double[n-1];
     }
     
+    /**
+     * Vue sur des diagonales déjà assemblées (partagées, non copiées)
+     */
+    SparseMatrix1D(double[] lowerDiagonal, double[] diagonal, double[] upperDiagonal) {
+        this.n = diagonal.length;
+        this.diagonal = diagonal;
+        this.upperDiagonal = upperDiagonal;
+        this.lowerDiagonal = lowerDiagonal;
+    }
+    
+    @Override
+    public int size() { return n; }
+    
+    @Override
+    public int lowerBandwidth() { return 1; }
+    
+    @Override
+    public int upperBandwidth() { return 1; }
+    
+    @Override
+    public double entry(int row, int offset) {
+        switch (offset) {
+            case -1: return row > 0 ? lowerDiagonal[row-1] : 0.0;
+            case 0:  return diagonal[row];
+            case 1:  return row < n-1 ? upperDiagonal[row] : 0.0;
+            default: return 0.0;
+        }
+    }
+    
+    @Override
+    public void multiply(double[] x, double[] y) {
+        multiply(lowerDiagonal, diagonal, upperDiagonal, x, y);
+    }
+    
+    /**
+     * y = A x pour la tridiagonale (lower, diag, upper)
+     */
+    static void multiply(double[] lower, double[] diag, double[] upper, double[] x, double[] y) {
+        int n = diag.length;
+        if (n == 1) {
+            y[0] = diag[0] * x[0];
+            return;
+        }
+        y[0] = diag[0] * x[0] + upper[0] * x[1];
+        for (int i = 1; i < n-1; i++) {
+            y[i] = lower[i-1] * x[i-1] + diag[i] * x[i] + upper[i] * x[i+1];
+        }
+        y[n-1] = lower[n-2] * x[n-2] + diag[n-1] * x[n-1];
+    }
+    
     public void addElement(int row, int col, double value) {
         if (row == col) {
             diagonal[row] += value;
@@ -31,12 +92,223 @@ class SparseMatrix1D {
      * Résolution par méthode de Gauss-Seidel
      */
     public double[] solveGaussSeidel(double[] b, double tolerance, int maxIterations) {
-        double[] x = new double[n];
-        double[] xOld = new double[n];
+        return solveGaussSeidel(b, tolerance, maxIterations, null);
+    }
+    
+    /**
+     * Résolution par méthode de Gauss-Seidel à partir d'une estimation initiale
+     * (null pour partir de zéro). Arrêt sur le résidu relatif
+     * ||b - Ax||∞ / ||b||∞ &lt; tolerance ; le bilan est donné par getLastReport()
+     */
+    public double[] solveGaussSeidel(double[] b, double tolerance, int maxIterations,
+                                     double[] initialGuess) {
+        double[] x = initialGuess != null ? Arrays.copyOf(initialGuess, n) : new double[n];
+        solveSOR(b, x, 1.0, tolerance, maxIterations, DEFAULT_CHECK_INTERVAL);
+        return x;
+    }
+    
+    /**
+     * Gauss-Seidel (omega = 1) ou SOR en place sur x, arrêt sur le résidu
+     * relatif ||b - Ax||∞ / ||b||∞ &lt; tolerance.
+     *
+     * Le résidu n'est évalué que tous les checkInterval balayages, et sans
+     * passe supplémentaire : après un balayage, le résidu de la ligne i ne
+     * dépend plus que de l'incrément de x[i+1], connu pendant le balayage.
+     */
+    public SolveReport solveSOR(double[] b, double[] x, double omega, double tolerance,
+                                int maxIterations, int checkInterval) {
+        if (!(omega > 0 && omega < 2)) {
+            throw new IllegalArgumentException("omega doit être dans ]0, 2[: " + omega);
+        }
+        if (checkInterval < 1) {
+            throw new IllegalArgumentException("L'intervalle de contrôle doit être positif");
+        }
+        long start = System.nanoTime();
         
-        for (int iter = 0; iter < maxIterations; iter++) {
-            System.arraycopy(x, 0, xOld, 0, n);
-            
+        double bNorm = 0;
+        for (int i = 0; i < n; i++) bNorm = Math.max(bNorm, Math.abs(b[i]));
+        if (bNorm == 0) {
+            // Second membre nul : solution nulle exacte
+            Arrays.fill(x, 0, n, 0.0);
+            bNorm = 1;
+        }
+        
+        ResidualHistory history = new ResidualHistory(maxIterations, checkInterval, bNorm);
+        double residual = residualNorm(x, b);
+        boolean converged = history.record(0, residual, tolerance);
+        
+        int iter = 0;
+        while (!converged && iter < maxIterations) {
+            iter++;
+            if (iter % checkInterval == 0 || iter == maxIterations) {
+                residual = sweepWithResidual(b, x, omega);
+                converged = history.record(iter, residual, tolerance);
+            } else {
+                sweep(b, x, omega);
+            }
+        }
+        
+        lastReport = history.report(omega == 1.0 ? "GaussSeidel" : "SOR", iter, converged,
+                                    tolerance, residual, System.nanoTime() - start);
+        return lastReport;
+    }
+    
+    /**
+     * Gauss-Seidel (omega = 1) ou SOR en ordre rouge-noir, en place sur x.
+     *
+     * Les lignes paires (rouges) ne dépendent que des lignes impaires (noires)
+     * et inversement : chaque demi-balayage met à jour ses lignes dans un ordre
+     * quelconque. Il est découpé en blocs de RED_BLACK_CHUNK lignes répartis
+     * sur pool (null : séquentiel). Le résultat ne dépend ni du découpage ni
+     * du nombre de threads.
+     *
+     * Le résidu est recalculé (en parallèle) tous les checkInterval balayages.
+     */
+    public SolveReport solveRedBlackSOR(double[] b, double[] x, double omega, double tolerance,
+                                        int maxIterations, int checkInterval, ForkJoinPool pool) {
+        if (!(omega > 0 && omega < 2)) {
+            throw new IllegalArgumentException("omega doit être dans ]0, 2[: " + omega);
+        }
+        if (checkInterval < 1) {
+            throw new IllegalArgumentException("L'intervalle de contrôle doit être positif");
+        }
+        long start = System.nanoTime();
+        
+        int chunks = (n + RED_BLACK_CHUNK - 1) / RED_BLACK_CHUNK;
+        boolean parallel = pool != null && pool.getParallelism() > 1 && chunks > 1;
+        double[] chunkResiduals = new double[chunks];
+        
+        double bNorm = 0;
+        for (int i = 0; i < n; i++) bNorm = Math.max(bNorm, Math.abs(b[i]));
+        if (bNorm == 0) {
+            Arrays.fill(x, 0, n, 0.0);
+            bNorm = 1;
+        }
+        
+        ResidualHistory history = new ResidualHistory(maxIterations, checkInterval, bNorm);
+        double residual = residualNorm(x, b);
+        boolean converged = history.record(0, residual, tolerance);
+        
+        int iter = 0;
+        while (!converged && iter < maxIterations) {
+            iter++;
+            boolean check = iter % checkInterval == 0 || iter == maxIterations;
+            if (parallel) {
+                pool.invoke(new ChunkTask(b, x, omega, ChunkTask.RED, chunkResiduals, 0, chunks));
+                pool.invoke(new ChunkTask(b, x, omega, ChunkTask.BLACK, chunkResiduals, 0, chunks));
+                if (check) {
+                    pool.invoke(new ChunkTask(b, x, omega, ChunkTask.RESIDUAL, chunkResiduals, 0, chunks));
+                    residual = 0;
+                    for (double r : chunkResiduals) residual = Math.max(residual, r);
+                }
+            } else {
+                relaxColor(b, x, omega, 0, 0, n);
+                relaxColor(b, x, omega, 1, 0, n);
+                if (check) residual = residualNorm(x, b);
+            }
+            if (check) {
+                converged = history.record(iter, residual, tolerance);
+            }
+        }
+        
+        lastReport = history.report(omega == 1.0 ? "RedBlackGaussSeidel" : "RedBlackSOR", iter,
+                                    converged, tolerance, residual, System.nanoTime() - start);
+        return lastReport;
+    }
+    
+    /**
+     * Relaxation des lignes de couleur color (0 : paires, 1 : impaires) de [from, to)
+     */
+    private void relaxColor(double[] b, double[] x, double omega, int color, int from, int to) {
+        double w = 1 - omega;
+        int last = n - 1;
+        for (int i = from + ((from ^ color) & 1); i < to; i += 2) {
+            double g = b[i];
+            if (i > 0) g -= lowerDiagonal[i-1] * x[i-1];
+            if (i < last) g -= upperDiagonal[i] * x[i+1];
+            x[i] = omega == 1.0 ? g / diagonal[i] : w * x[i] + omega * g / diagonal[i];
+        }
+    }
+    
+    /**
+     * Rayon spectral de la matrice de Jacobi J = I - D⁻¹A.
+     *
+     * Si tous les produits l_i u_i sont positifs (cas de l'opérateur volumes
+     * finis), J est semblable à une matrice symétrique tridiagonale de
+     * diagonale nulle et de termes hors diagonale sqrt(l_i u_i / (d_i d_i+1)) :
+     * ses valeurs propres sont réelles et opposées deux à deux, et la plus
+     * grande est encadrée par bisection sur les suites de Sturm (O(N) par pas).
+     *
+     * @return le rayon spectral, ou NaN si un produit l_i u_i est négatif
+     *         (valeurs propres complexes, pas d'omega optimal connu)
+     */
+    public double jacobiSpectralRadius() {
+        if (n == 1) return 0;
+        
+        double[] beta2 = new double[n-1];
+        for (int i = 0; i < n-1; i++) {
+            double p = lowerDiagonal[i] * upperDiagonal[i];
+            double dd = diagonal[i] * diagonal[i+1];
+            if (p < 0 || !(dd > 0)) return Double.NaN;
+            beta2[i] = p / dd;
+        }
+        
+        // Borne de Gershgorin
+        double hi = 0;
+        for (int i = 0; i < n; i++) {
+            double row = (i > 0 ? Math.sqrt(beta2[i-1]) : 0) + (i < n-1 ? Math.sqrt(beta2[i]) : 0);
+            hi = Math.max(hi, row);
+        }
+        if (hi == 0) return 0;
+        
+        double lo = 0;
+        for (int k = 0; k < 200 && hi - lo > 2 * Math.ulp(hi); k++) {
+            double mid = 0.5 * (lo + hi);
+            if (eigenvaluesBelow(beta2, mid) == n) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+        }
+        return hi;
+    }
+    
+    /**
+     * Facteur de relaxation optimal de SOR, 2 / (1 + sqrt(1 - ρ²)) où ρ est
+     * le rayon spectral de Jacobi ; exact pour une matrice tridiagonale (ordre
+     * lexicographique comme rouge-noir). Renvoie 1 (Gauss-Seidel) quand ρ
+     * n'est pas défini ou vaut au moins 1.
+     */
+    public double optimalOmega() {
+        return optimalOmega(jacobiSpectralRadius());
+    }
+    
+    static double optimalOmega(double rho) {
+        if (!(rho >= 0 && rho < 1)) return 1.0;
+        return 2.0 / (1.0 + Math.sqrt((1.0 - rho) * (1.0 + rho)));
+    }
+    
+    /**
+     * Nombre de valeurs propres strictement inférieures à lambda de la matrice
+     * symétrique tridiagonale de diagonale nulle et de carrés hors diagonale
+     * beta2 (loi d'inertie de Sylvester sur la factorisation LDLᵀ de T - λI)
+     */
+    private static int eigenvaluesBelow(double[] beta2, double lambda) {
+        double q = -lambda;
+        int count = q < 0 ? 1 : 0;
+        for (double b2 : beta2) {
+            if (q == 0) q = Double.MIN_NORMAL;
+            q = -lambda - b2 / q;
+            if (q < 0) count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Balayage lexicographique simple
+     */
+    private void sweep(double[] b, double[] x, double omega) {
+        if (omega == 1.0) {
             // Première ligne
             x[0] = (b[0] - upperDiagonal[0] * x[1]) / diagonal[0];
             
@@ -47,43 +319,149 @@ class SparseMatrix1D {
             
             // Dernière ligne
             x[n-1] = (b[n-1] - lowerDiagonal[n-2] * x[n-2]) / diagonal[n-1];
-            
-            // Test de convergence
-            double error = 0;
-            for (int i = 0; i < n; i++) {
-                error = Math.max(error, Math.abs(x[i] - xOld[i]));
+        } else {
+            double w = 1 - omega;
+            x[0] = w * x[0] + omega * (b[0] - upperDiagonal[0] * x[1]) / diagonal[0];
+            for (int i = 1; i < n-1; i++) {
+                x[i] = w * x[i] + omega
+                     * (b[i] - lowerDiagonal[i-1] * x[i-1] - upperDiagonal[i] * x[i+1]) / diagonal[i];
             }
+            x[n-1] = w * x[n-1] + omega * (b[n-1] - lowerDiagonal[n-2] * x[n-2]) / diagonal[n-1];
+        }
+    }
+    
+    /**
+     * Balayage qui renvoie la norme infinie exacte du résidu après balayage.
+     * Avec g = b[i] - l x[i-1] (nouveau) - u x[i+1] (ancien), le résidu final
+     * de la ligne i vaut (g - d x[i]) - u (x[i+1] nouveau - x[i+1] ancien).
+     */
+    private double sweepWithResidual(double[] b, double[] x, double omega) {
+        double w = 1 - omega;
+        double norm = 0;
+        double pending = 0;   // Résidu partiel de la ligne précédente
+        
+        for (int i = 0; i < n; i++) {
+            double g = b[i];
+            if (i > 0) g -= lowerDiagonal[i-1] * x[i-1];
+            if (i < n-1) g -= upperDiagonal[i] * x[i+1];
+            
+            double old = x[i];
+            double xi = omega == 1.0 ? g / diagonal[i] : w * old + omega * g / diagonal[i];
+            x[i] = xi;
             
-            if (error < tolerance) {
-                System.out.println("Convergence atteinte en " + (iter+1) + " itérations");
-                break;
+            if (i > 0) {
+                norm = Math.max(norm, Math.abs(pending - upperDiagonal[i-1] * (xi - old)));
             }
+            pending = g - diagonal[i] * xi;
         }
+        return Math.max(norm, Math.abs(pending));
+    }
+    
+    /**
+     * Nombre d'itérations de la dernière résolution itérative
+     */
+    public int getLastIterations() {
+        return lastReport != null ? lastReport.getIterations() : 0;
+    }
+    
+    /**
+     * Bilan de la dernière résolution itérative (null si aucune)
+     */
+    public SolveReport getLastReport() {
+        return lastReport;
+    }
+    
+    /**
+     * Norme infinie du résidu b - Ax
+     */
+    public double residualNorm(double[] x, double[] b) {
+        return residualNorm(x, b, 0, n);
+    }
+    
+    /**
+     * Norme infinie du résidu sur les lignes [from, to)
+     */
+    private double residualNorm(double[] x, double[] b, int from, int to) {
+        if (n == 1) return Math.abs(b[0] - diagonal[0] * x[0]);
         
-        return x;
+        double r = 0;
+        if (from == 0) {
+            r = Math.abs(b[0] - diagonal[0] * x[0] - upperDiagonal[0] * x[1]);
+        }
+        for (int i = Math.max(from, 1); i < Math.min(to, n-1); i++) {
+            r = Math.max(r, Math.abs(b[i] - lowerDiagonal[i-1] * x[i-1]
+                                          - diagonal[i] * x[i] - upperDiagonal[i] * x[i+1]));
+        }
+        if (to == n) {
+            r = Math.max(r, Math.abs(b[n-1] - lowerDiagonal[n-2] * x[n-2] - diagonal[n-1] * x[n-1]));
+        }
+        return r;
     }
     
     /**
      * Résolution par algorithme de Thomas (plus efficace pour tridiagonale)
      */
     public double[] solveThomas(double[] b) {
+        // Copies : la matrice peut être partagée (OperatorCache)
         double[] c = Arrays.copyOf(upperDiagonal, n-1);
+        double[] diag = Arrays.copyOf(diagonal, n);
         double[] d = Arrays.copyOf(b, n);
         double[] x = new double[n];
         
         // Élimination avant
         for (int i = 1; i < n; i++) {
-            double m = lowerDiagonal[i-1] / diagonal[i-1];
-            diagonal[i] -= m * c[i-1];
+            double m = lowerDiagonal[i-1] / diag[i-1];
+            diag[i] -= m * c[i-1];
             d[i] -= m * d[i-1];
         }
         
         // Substitution arrière
-        x[n-1] = d[n-1] / diagonal[n-1];
+        x[n-1] = d[n-1] / diag[n-1];
         for (int i = n-2; i >= 0; i--) {
-            x[i] = (d[i] - c[i] * x[i+1]) / diagonal[i];
+            x[i] = (d[i] - c[i] * x[i+1]) / diag[i];
         }
         
         return x;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Demi-balayage rouge ou noir (ou calcul du résidu) sur une plage de
+     * blocs, découpée récursivement jusqu'au bloc
+     */
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        static final int RED = 0, BLACK = 1, RESIDUAL = 2;
+        
+        private final transient double[] b, x, chunkResiduals;
+        private final double omega;
+        private final int kind, from, to;
+        
+        ChunkTask(double[] b, double[] x, double omega, int kind, double[] chunkResiduals,
+                  int from, int to) {
+            this.b = b;
+            this.x = x;
+            this.omega = omega;
+            this.kind = kind;
+            this.chunkResiduals = chunkResiduals;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkTask(b, x, omega, kind, chunkResiduals, from, mid),
+                          new ChunkTask(b, x, omega, kind, chunkResiduals, mid, to));
+                return;
+            }
+            int rowFrom = from * RED_BLACK_CHUNK;
+            int rowTo = Math.min(n, rowFrom + RED_BLACK_CHUNK);
+            if (kind == RESIDUAL) {
+                chunkResiduals[from] = residualNorm(x, b, rowFrom, rowTo);
+            } else {
+                relaxColor(b, x, omega, kind, rowFrom, rowTo);
+            }
+        }
+    }
+}
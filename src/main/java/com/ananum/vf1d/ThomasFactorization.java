@@ -0,0 +1,60 @@
+package com.ananum.vf1d;
+
+/**
+ * Factorisation LU d'une matrice tridiagonale (algorithme de Thomas).
+ *
+ * L'élimination avant est faite une seule fois : les multiplicateurs et la
+ * diagonale réduite sont conservés, chaque nouveau second membre ne coûte
+ * plus qu'une descente et une remontée. La factorisation est immuable et
+ * peut être partagée entre threads.
+ */
+public final class ThomasFactorization implements Factorization {
+    private final int n;
+    private final double[] multipliers;   // multipliers[i-1] : pivot de la ligne i
+    private final double[] reducedDiag;
+    private final double[] upper;
+    
+    ThomasFactorization(double[] lower, double[] diag, double[] upper) {
+        this.n = diag.length;
+        this.multipliers = new double[n-1];
+        this.reducedDiag = diag.clone();
+        this.upper = upper;
+        
+        // Élimination avant sur la matrice seule
+        for (int i = 1; i < n; i++) {
+            double m = lower[i-1] / reducedDiag[i-1];
+            reducedDiag[i] -= m * upper[i-1];
+            multipliers[i-1] = m;
+        }
+    }
+    
+    /**
+     * Résout le système ; rhs est modifié en place, solution peut être rhs
+     */
+    @Override
+    public void solve(double[] rhs, double[] solution) {
+        // Descente
+        for (int i = 1; i < n; i++) {
+            rhs[i] -= multipliers[i-1] * rhs[i-1];
+        }
+        
+        // Remontée
+        solution[n-1] = rhs[n-1] / reducedDiag[n-1];
+        for (int i = n - 2; i >= 0; i--) {
+            solution[i] = (rhs[i] - upper[i] * solution[i+1]) / reducedDiag[i];
+        }
+    }
+    
+    /**
+     * Résout le système sans modifier le second membre
+     */
+    @Override
+    public double[] solve(double[] rhs) {
+        double[] solution = rhs.clone();
+        solve(solution, solution);
+        return solution;
+    }
+    
+    @Override
+    public int getN() { return n; }
+}
@@ -0,0 +1,379 @@
+package com.ananum.vf1d;
+
+import com.ananum.vf1d.metrics.AssemblyEvent;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.ananum.vf1d.metrics.SolverMetrics;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Opérateur discret assemblé (matrice tridiagonale) de -aU'' + bU' + cU
+ * sur un maillage donné, schéma upwind pour la convection par défaut (voir
+ * ConvectionScheme).
+ *
+ * Les conditions aux limites (Dirichlet, Neumann ou Robin, voir
+ * BoundaryCondition) ne modifient que la diagonale des deux volumes de bord
+ * et le second membre : elles sont traitées hors de la boucle intérieure.
+ *
+ * Avec des conditions périodiques (assemblePeriodic), le premier et le
+ * dernier volume sont voisins : la matrice est tridiagonale cyclique, les
+ * deux coefficients de coin sont hors de la bande.
+ *
+ * L'opérateur ne dépend que du maillage et de (a, b, c) : il est immuable et
+ * réutilisable pour tout second membre et toutes valeurs aux limites.
+ * Seuls les coefficients de bord sont nécessaires pour assembler le second
+ * membre (buildRightHandSide).
+ */
+public final class TridiagonalOperator implements BandedOperator {
+    private final Mesh1D mesh;
+    private final double a, b, c;
+    private final ConvectionScheme scheme;
+    final double[] lower;   // lower[i-1] : coefficient (i, i-1)
+    final double[] diag;
+    final double[] upper;   // upper[i]   : coefficient (i, i+1)
+    private final BoundaryCondition west, east;
+    private final double westGain, eastGain;   // Poids de u0 et uL dans le second membre
+    private final boolean periodic;
+    private final double cornerUpper, cornerLower;   // A[0][n-1], A[n-1][0] (périodique)
+    
+    private TridiagonalOperator(Mesh1D mesh, double a, double b, double c,
+                                ConvectionScheme scheme, double[] lower, double[] diag, double[] upper,
+                                BoundaryCondition west, BoundaryCondition east,
+                                double westGain, double eastGain,
+                                boolean periodic, double cornerUpper, double cornerLower) {
+        this.mesh = mesh;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.scheme = scheme;
+        this.lower = lower;
+        this.diag = diag;
+        this.upper = upper;
+        this.west = west;
+        this.east = east;
+        this.westGain = westGain;
+        this.eastGain = eastGain;
+        this.periodic = periodic;
+        this.cornerUpper = cornerUpper;
+        this.cornerLower = cornerLower;
+    }
+    
+    /**
+     * Assemble l'opérateur sur le maillage, conditions de Dirichlet
+     */
+    public static TridiagonalOperator assemble(Mesh1D mesh, double a, double b, double c) {
+        return assemble(mesh, a, b, c, BoundaryCondition.DIRICHLET, BoundaryCondition.DIRICHLET);
+    }
+    
+    /**
+     * Assemble l'opérateur sur le maillage avec les conditions west (x = 0) et
+     * east (x = L), convection upwind
+     */
+    public static TridiagonalOperator assemble(Mesh1D mesh, double a, double b, double c,
+                                               BoundaryCondition west, BoundaryCondition east) {
+        return assemble(mesh, a, b, c, west, east, ConvectionScheme.UPWIND);
+    }
+    
+    /**
+     * Assemble l'opérateur sur le maillage avec les conditions west (x = 0) et
+     * east (x = L) et le schéma de convection donné (son schéma d'opérateur :
+     * upwind pour un schéma TVD). Sans condition de Dirichlet ni de Robin, il
+     * faut c != 0 : sinon la solution n'est définie qu'à une constante près.
+     */
+    public static TridiagonalOperator assemble(Mesh1D mesh, double a, double b, double c,
+                                               BoundaryCondition west, BoundaryCondition east,
+                                               ConvectionScheme scheme) {
+        BoundaryCondition.checkWellPosed(west, east, c);
+        scheme = scheme.operatorScheme();
+        
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        final int n = mesh.getN();
+        final double[] dx = mesh.dx;
+        double[] lower = new double[n-1];
+        double[] diag = new double[n];
+        double[] upper = new double[n-1];
+        
+        // Pré-calcul des constantes
+        final double absB = Math.abs(b);
+        final double bPos = Math.max(b, 0);
+        final double bNeg = Math.max(-b, 0);
+        
+        // Faces et volumes intérieurs (noyau du schéma, sans branchement)
+        scheme.conductances(a, absB, dx, upper, n);
+        interiorCoefficients(dx, bPos, bNeg, c, lower, diag, upper, n);
+        
+        // Premier élément : échange avec le bord à la demi-maille h0
+        double h0 = 0.5 * dx[0];
+        double aw0 = scheme.conductance(a / h0, absB) + bPos;
+        diag[0] = -upper[0] + c * dx[0] + aw0 * west.diagonalWeight(h0);
+        
+        // Dernier élément
+        double hN = 0.5 * dx[n-1];
+        double aeN = scheme.conductance(a / hN, absB) + bNeg;
+        diag[n-1] = -lower[n-2] + c * dx[n-1] + aeN * east.diagonalWeight(hN);
+        
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(event, "operator", n);
+        return new TridiagonalOperator(mesh, a, b, c, scheme, lower, diag, upper, west, east,
+                                       aw0 * west.valueWeight(h0), aeN * east.valueWeight(hN),
+                                       false, 0.0, 0.0);
+    }
+    
+    /**
+     * Coefficients des faces et volumes intérieurs : upper contient en entrée
+     * les conductances des n-1 faces (ConvectionScheme.conductances) ; en
+     * sortie lower, upper et diag[1..n-2]. Les diagonales de bord restent à
+     * compléter.
+     */
+    static void interiorCoefficients(double[] dx, double bPos, double bNeg, double c,
+                                     double[] lower, double[] diag, double[] upper, int n) {
+        for (int f = 1; f < n; f++) {
+            double g = upper[f-1];
+            lower[f-1] = -(g + bPos);
+            upper[f-1] = -(g + bNeg);
+        }
+        for (int i = 1; i < n - 1; i++) {
+            diag[i] = -lower[i-1] - upper[i] + c * dx[i];
+        }
+    }
+    
+    /**
+     * Assemble l'opérateur avec conditions périodiques, convection upwind
+     */
+    public static TridiagonalOperator assemblePeriodic(Mesh1D mesh, double a, double b, double c) {
+        return assemblePeriodic(mesh, a, b, c, ConvectionScheme.UPWIND);
+    }
+    
+    /**
+     * Assemble l'opérateur avec conditions périodiques : le voisin ouest du
+     * premier volume est le dernier, à la distance 0.5 (dx[n-1] + dx[0]).
+     * Il faut c != 0 : sinon les constantes sont dans le noyau et la solution
+     * n'est définie qu'à une constante près. Les schémas TVD ne sont pas
+     * disponibles (correction différée non cyclique).
+     */
+    public static TridiagonalOperator assemblePeriodic(Mesh1D mesh, double a, double b, double c,
+                                                       ConvectionScheme scheme) {
+        final int n = mesh.getN();
+        if (n < 3) {
+            throw new IllegalArgumentException("Conditions périodiques : au moins 3 volumes");
+        }
+        if (c == 0) {
+            throw new IllegalArgumentException(
+                "Conditions périodiques : c doit être non nul (solution définie à une constante près)");
+        }
+        if (scheme.isDeferredCorrection()) {
+            throw new IllegalArgumentException(
+                "Conditions périodiques : schéma " + scheme.getSchemeName() + " non disponible");
+        }
+        
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        final double[] dx = mesh.dx;
+        double[] lower = new double[n-1];
+        double[] diag = new double[n];
+        double[] upper = new double[n-1];
+        
+        final double absB = Math.abs(b);
+        final double bPos = Math.max(b, 0);
+        final double bNeg = Math.max(-b, 0);
+        
+        scheme.conductances(a, absB, dx, upper, n);
+        interiorCoefficients(dx, bPos, bNeg, c, lower, diag, upper, n);
+        
+        // Face de raccord entre le dernier et le premier volume
+        double gWrap = scheme.conductance(a / (0.5 * (dx[n-1] + dx[0])), absB);
+        double awWrap = gWrap + bPos;
+        double aeWrap = gWrap + bNeg;
+        diag[0] = awWrap - upper[0] + c * dx[0];
+        diag[n-1] = -lower[n-2] + aeWrap + c * dx[n-1];
+        
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(event, "operator", n);
+        return new TridiagonalOperator(mesh, a, b, c, scheme, lower, diag, upper,
+                                       BoundaryCondition.DIRICHLET, BoundaryCondition.DIRICHLET,
+                                       0.0, 0.0, true, -awWrap, -aeWrap);
+    }
+    
+    /**
+     * Même opérateur pour un autre coefficient de réaction : c n'intervient
+     * que sur la diagonale (c dx[i]), décalée ici en O(N) sans recalculer
+     * les conductances ; lower, upper et le maillage sont partagés. La
+     * diagonale obtenue peut différer d'un ulp de celle d'un assemblage
+     * direct avec c.
+     */
+    public TridiagonalOperator withReaction(double c) {
+        if (periodic && c == 0) {
+            throw new IllegalArgumentException(
+                "Conditions périodiques : c doit être non nul (solution définie à une constante près)");
+        }
+        if (!periodic) {
+            BoundaryCondition.checkWellPosed(west, east, c);
+        }
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        final int n = mesh.getN();
+        final double[] dx = mesh.dx;
+        final double shift = c - this.c;
+        double[] shifted = new double[n];
+        for (int i = 0; i < n; i++) {
+            shifted[i] = diag[i] + shift * dx[i];
+        }
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(event, "operator-shift", n);
+        return new TridiagonalOperator(mesh, a, b, c, scheme, lower, shifted, upper, west, east,
+                                       westGain, eastGain, periodic, cornerUpper, cornerLower);
+    }
+    
+    /**
+     * Assemble le second membre (source intégrée et conditions aux limites)
+     * dans rhs, sans allocation ; u0 et uL sont les valeurs g des conditions
+     * (valeur, dérivée normale sortante ou second membre de Robin), ignorées
+     * si l'opérateur est périodique
+     */
+    public void buildRightHandSide(Function1D source, double u0, double uL, double[] rhs) {
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        final int n = mesh.getN();
+        final double[] x = mesh.x;
+        final double[] dx = mesh.dx;
+        
+        for (int i = 0; i < n; i++) {
+            rhs[i] = source.evaluate(x[i]) * dx[i];
+        }
+        rhs[0] += westGain * u0;
+        rhs[n-1] += eastGain * uL;
+        SolverMetrics.stop(Phase.RHS, t);
+        SolverEvents.endAssembly(event, "rhs", n);
+    }
+    
+    /**
+     * Factorisation réutilisable de l'opérateur : Thomas, ou Thomas cyclique
+     * (Sherman–Morrison) s'il est périodique. Comptée dans la phase
+     * d'assemblage : elle est mise en cache avec l'opérateur.
+     */
+    public Factorization factorize() {
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        Factorization lu = periodic
+            ? new CyclicThomasFactorization(lower, diag, upper, cornerUpper, cornerLower)
+            : new ThomasFactorization(lower, diag, upper);
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(event, "factorization", mesh.getN());
+        return lu;
+    }
+    
+    /**
+     * Factorisation de Thomas en précision mixte (facteurs float, raffinement
+     * itératif en double) ; indisponible pour un opérateur périodique
+     */
+    public MixedPrecisionThomasFactorization factorizeMixedPrecision(int refinementSteps) {
+        if (periodic) {
+            throw new IllegalStateException("Précision mixte indisponible pour un opérateur périodique");
+        }
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        MixedPrecisionThomasFactorization lu =
+            new MixedPrecisionThomasFactorization(lower, diag, upper, refinementSteps);
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(event, "factorization", mesh.getN());
+        return lu;
+    }
+    
+    /**
+     * Factorisation partitionnée en blocs, résolue en parallèle sur pool
+     * (null : séquentiel) ; périodique ou non
+     */
+    public PartitionedTridiagonalSolver factorizePartitioned(int partitions, ForkJoinPool pool) {
+        AssemblyEvent event = SolverEvents.beginAssembly();
+        long t = SolverMetrics.start();
+        PartitionedTridiagonalSolver lu = new PartitionedTridiagonalSolver(
+            lower, diag, upper, cornerUpper, cornerLower, partitions, pool);
+        SolverMetrics.stop(Phase.ASSEMBLY, t);
+        SolverEvents.endAssembly(event, "factorization", mesh.getN());
+        return lu;
+    }
+    
+    /**
+     * Vue en matrice creuse pour les solveurs de relaxation (lecture seule) ;
+     * indisponible pour un opérateur périodique
+     */
+    SparseMatrix1D toSparseMatrix() {
+        if (periodic) {
+            throw new IllegalStateException(
+                "Opérateur périodique : utiliser une méthode de Krylov ou une factorisation");
+        }
+        return new SparseMatrix1D(lower, diag, upper);
+    }
+    
+    /**
+     * Norme infinie du résidu b - Ax (coins compris)
+     */
+    public double residualNorm(double[] x, double[] b) {
+        final int n = diag.length;
+        double[] ax = new double[n];
+        multiply(x, ax);
+        double r = 0;
+        for (int i = 0; i < n; i++) {
+            r = Math.max(r, Math.abs(b[i] - ax[i]));
+        }
+        return r;
+    }
+    
+    @Override
+    public int size() { return mesh.getN(); }
+    
+    @Override
+    public int lowerBandwidth() { return 1; }
+    
+    @Override
+    public int upperBandwidth() { return 1; }
+    
+    @Override
+    public double entry(int row, int offset) {
+        switch (offset) {
+            case -1: return row > 0 ? lower[row-1] : 0.0;
+            case 0:  return diag[row];
+            case 1:  return row < diag.length - 1 ? upper[row] : 0.0;
+            default: return 0.0;
+        }
+    }
+    
+    /**
+     * y = A x, y compris les coins d'un opérateur périodique (hors bande)
+     */
+    @Override
+    public void multiply(double[] x, double[] y) {
+        SparseMatrix1D.multiply(lower, diag, upper, x, y);
+        if (periodic) {
+            int n = diag.length;
+            y[0] += cornerUpper * x[n-1];
+            y[n-1] += cornerLower * x[0];
+        }
+    }
+    
+    /**
+     * Opérateur symétrique (b = 0 : diffusion-réaction seule)
+     */
+    public boolean isSymmetric() {
+        for (int i = 0; i < upper.length; i++) {
+            if (upper[i] != lower[i]) return false;
+        }
+        return cornerUpper == cornerLower;
+    }
+    
+    public boolean isPeriodic() { return periodic; }
+    
+    public BoundaryCondition getWestBoundary() { return west; }
+    public BoundaryCondition getEastBoundary() { return east; }
+    
+    public Mesh1D getMesh() { return mesh; }
+    public int getN() { return mesh.getN(); }
+    public double getA() { return a; }
+    public double getB() { return b; }
+    public double getC() { return c; }
+    
+    /** Schéma de convection de l'opérateur (jamais TVD : voir operatorScheme) */
+    public ConvectionScheme getScheme() { return scheme; }
+}
@@ -1,18 +1,51 @@
 package com.ananum.vf1d;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import com.ananum.vf1d.krylov.BiCGSTAB;
+import com.ananum.vf1d.krylov.ConjugateGradient;
+import com.ananum.vf1d.krylov.Gmres;
+import com.ananum.vf1d.krylov.KrylovSolver;
+import com.ananum.vf1d.krylov.Preconditioner;
+import com.ananum.vf1d.krylov.PreconditionerType;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolveCompletedEvent;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.ananum.vf1d.metrics.SolverMetrics;
 
 /**
  * Solveur pour l'équation aU'' + bU' + cU = f sur [0,L]
- * avec conditions de Dirichlet par la méthode des volumes finis
+ * avec conditions de Dirichlet, Neumann, Robin (ou périodiques) par la
+ * méthode des volumes finis
  */
 public class VolumesFinis1DSolver {
+    /** Tolérance par défaut sur le résidu relatif des méthodes itératives */
+    public static final double TOLERANCE = 1e-10;
+    public static final int MAX_ITERATIONS = 10000;
+    
     private final int n;              // Nombre de volumes de contrôle
     private final double L;           // Longueur du domaine
-    private final double a, b, c;     // Coefficients de l'équation
+    private final double a, b;        // Coefficients de l'équation
+    private double c;                 // Réaction (modifiable : setReaction)
     private final Function1D sourceFunction;
-    private final double u0, uL;      // Conditions aux limites
-    private final boolean uniforme;   // Type de maillage
+    private final double u0, uL;      // Valeurs aux limites (u, du/dn ou second membre de Robin)
+    private MeshGenerator meshGenerator;   // Type de maillage
+    private OperatorCache operatorCache = OperatorCache.shared();
+    private SolveReport lastReport;   // Bilan de la dernière résolution
+    private IterativeMethod iterativeMethod = IterativeMethod.GAUSS_SEIDEL;
+    private double relaxationFactor = Double.NaN;   // NaN : omega optimal estimé
+    private int maxIterations = MAX_ITERATIONS;
+    private double tolerance = TOLERANCE;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private PreconditionerType preconditioner = PreconditionerType.MULTIGRID;
+    private boolean periodic;         // Conditions périodiques (u0, uL ignorés)
+    private BoundaryCondition westBoundary = BoundaryCondition.DIRICHLET;
+    private BoundaryCondition eastBoundary = BoundaryCondition.DIRICHLET;
+    private ConvectionScheme convectionScheme = ConvectionScheme.UPWIND;
+    private OperatorCache.Entry shiftedEntry;   // Opérateur décalé par setReaction
+    private boolean warmStart;        // Estimation initiale : solution précédente
+    private double[] previousSolution;
     
     public VolumesFinis1DSolver(int n, double L, double a, double b, double c,
                                Function1D sourceFunction, double u0, double uL, boolean uniforme) {
@@ -24,150 +57,365 @@ public class VolumesFinis1DSolver {
         this.sourceFunction = sourceFunction;
         this.u0 = u0;
         this.uL = uL;
-        this.uniforme = uniforme;
+        this.meshGenerator = MeshGenerator.of(uniforme);
     }
     
     /**
      * Résout le système par volumes finis
      */
     public Solution1D solve() {
-        // Discrétisation du domaine
-        double[] x = createMesh();
-        double[] dx = createCellWidths(x);
+        return solve(warmStart ? previousSolution : null);
+    }
+    
+    /**
+     * Résout le système en partant d'une estimation initiale de la solution
+     * (par exemple une solution grossière prolongée), null pour partir de zéro
+     */
+    public Solution1D solve(double[] initialGuess) {
+        long metrics = SolverMetrics.solveStarted();
+        SolveCompletedEvent event = SolverEvents.solveStarted(n, iterativeMethod.getMethodName(),
+                                                              SolverEvents.LAYER_SOLVER);
         
-        // Construction du système linéaire
-        SparseMatrix1D matrix = buildMatrix(dx);
-        double[] rhs = buildRightHandSide(x, dx);
+        // Maillage et matrice du système (réutilisés d'une résolution à l'autre)
+        OperatorCache.Entry entry = operatorEntry();
+        Mesh1D mesh = entry.getMesh();
+        
+        // Second membre
+        double[] rhs = new double[n];
+        entry.getOperator().buildRightHandSide(sourceFunction, u0, uL, rhs);
         
         // Résolution
-        double[] solution = matrix.solveGaussSeidel(rhs, 1e-10, 10000);
+        long t = SolverMetrics.start();
+        double[] solution = initialGuess != null ? Arrays.copyOf(initialGuess, n) : new double[n];
+        SolveReport report = convectionScheme.isDeferredCorrection()
+            ? solveDeferredCorrection(entry, rhs, solution, initialGuess != null)
+            : iterate(entry, rhs, solution);
+        SolverMetrics.stop(Phase.SOLVE, t);
         
-        return new Solution1D(solution, x, dx, n);
+        lastReport = report;
+        SolverMetrics.solveCompleted(metrics, n, report.getIterations(), report.getFinalResidual());
+        SolverEvents.solveCompleted(event, n, report.getMethod(), SolverEvents.LAYER_SOLVER,
+                                    report.getIterations(), report.getFinalResidual(),
+                                    report.isConverged());
+        
+        // Copie privée : l'appelant peut modifier le tableau renvoyé
+        previousSolution = solution.clone();
+        return new Solution1D(solution, mesh.getMeshPoints(), mesh.getCellWidths(), n);
     }
     
     /**
-     * Création du maillage (centres des volumes)
+     * Schéma TVD : correction différée sur l'opérateur upwind factorisé (la
+     * méthode itérative choisie ne s'applique pas)
+     *
+     * @param warm partir du contenu de solution (estimation initiale) plutôt
+     *             que de la solution upwind
      */
-    private double[] createMesh() {
-        double[] x = new double[n];
+    protected SolveReport solveDeferredCorrection(OperatorCache.Entry entry, double[] rhs,
+                                                  double[] solution, boolean warm) {
+        return DeferredCorrection.solve(entry.getOperator(), entry.getFactorization(),
+                                        convectionScheme, rhs, solution, new double[n - 1],
+                                        new double[n], tolerance, maxIterations, warm);
+    }
+    
+    /**
+     * Résolution itérative en place sur solution selon la méthode choisie
+     */
+    private SolveReport iterate(OperatorCache.Entry entry, double[] rhs, double[] solution) {
+        TridiagonalOperator operator = entry.getOperator();
         
-        if (uniforme) {
-            double h = L / n;
-            for (int i = 0; i < n; i++) {
-                x[i] = (i + 0.5) * h;
-            }
-        } else {
-            // Maillage non uniforme (raffiné aux bords)
-            for (int i = 0; i < n; i++) {
-                double xi = (double)(i + 0.5) / n;
-                // Transformation pour raffiner aux bords
-                x[i] = L * (xi - 0.5 * Math.sin(2 * Math.PI * xi) / (2 * Math.PI));
+        if (iterativeMethod.isKrylov()) {
+            Preconditioner m = preconditioner.create(operator);
+            KrylovSolver krylov;
+            switch (iterativeMethod) {
+                case CONJUGATE_GRADIENT:
+                    if (!operator.isSymmetric()) {
+                        throw new IllegalStateException(
+                            "Le gradient conjugué requiert un opérateur symétrique (b = 0)");
+                    }
+                    krylov = new ConjugateGradient(tolerance, maxIterations, m);
+                    break;
+                case BICGSTAB:
+                    krylov = new BiCGSTAB(tolerance, maxIterations, m);
+                    break;
+                default:
+                    krylov = new Gmres(tolerance, maxIterations, m);
+                    break;
             }
+            return krylov.solve(operator, rhs, solution);
         }
         
-        return x;
+        SparseMatrix1D matrix = operator.toSparseMatrix();
+        double omega = 1.0;
+        if (iterativeMethod.isOverRelaxed()) {
+            omega = Double.isNaN(relaxationFactor) ? entry.getOptimalOmega() : relaxationFactor;
+        }
+        return iterativeMethod.isRedBlack()
+            ? matrix.solveRedBlackSOR(rhs, solution, omega, tolerance, maxIterations,
+                                      SparseMatrix1D.DEFAULT_CHECK_INTERVAL, pool)
+            : matrix.solveSOR(rhs, solution, omega, tolerance, maxIterations,
+                              SparseMatrix1D.DEFAULT_CHECK_INTERVAL);
     }
     
     /**
-     * Calcul des largeurs des volumes
+     * Méthode itérative de la résolution (Gauss-Seidel lexicographique par défaut)
      */
-    private double[] createCellWidths(double[] x) {
-        double[] dx = new double[n];
-        
-        // Premier volume
-        dx[0] = 2 * x[0];
-        
-        // Volumes intérieurs
-        for (int i = 1; i < n - 1; i++) {
-            dx[i] = 0.5 * (x[i+1] - x[i-1]);
+    public void setIterativeMethod(IterativeMethod iterativeMethod) {
+        if (iterativeMethod == null) {
+            throw new IllegalArgumentException("La méthode itérative est obligatoire");
         }
-        
-        // Dernier volume
-        dx[n-1] = 2 * (L - x[n-1]);
-        
-        return dx;
+        this.iterativeMethod = iterativeMethod;
     }
     
     /**
-     * Construction de la matrice du système
+     * Facteur de relaxation des méthodes SOR, dans ]0, 2[ ; NaN (défaut) pour
+     * l'omega optimal estimé depuis le rayon spectral de Jacobi
      */
-    private SparseMatrix1D buildMatrix(double[] dx) {
-        SparseMatrix1D matrix = new SparseMatrix1D(n);
-        
-        for (int i = 0; i < n; i++) {
-            double dxi = dx[i];
-            
-            // Distances aux interfaces
-            double dxe = (i < n-1) ? 0.5 * (dx[i] + dx[i+1]) : 0.5 * dx[i];
-            double dxw = (i > 0) ? 0.5 * (dx[i-1] + dx[i]) : 0.5 * dx[i];
-            
-            // Coefficients pour les flux diffusifs et convectifs
-            double ae = a / dxe + Math.max(-b, 0);  // Upwind pour la convection
-            double aw = a / dxw + Math.max(b, 0);
-            double ap = ae + aw + c * dxi;
-            
-            if (i == 0) {
-                // Premier volume (avec condition limite gauche)
-                matrix.addElement(i, i, ap + aw);
-                if (i < n-1) matrix.addElement(i, i+1, -ae);
-            }
-            else if (i == n-1) {
-                // Dernier volume (avec condition limite droite)
-                matrix.addElement(i, i-1, -aw);
-                matrix.addElement(i, i, ap + ae);
-            }
-            else {
-                // Volumes intérieurs
-                matrix.addElement(i, i-1, -aw);
-                matrix.addElement(i, i, ap);
-                matrix.addElement(i, i+1, -ae);
-            }
+    public void setRelaxationFactor(double omega) {
+        if (!Double.isNaN(omega) && !(omega > 0 && omega < 2)) {
+            throw new IllegalArgumentException("omega doit être dans ]0, 2[: " + omega);
         }
-        
-        return matrix;
+        this.relaxationFactor = omega;
     }
     
     /**
-     * Construction du second membre
+     * Préconditionneur des méthodes de Krylov (multigrille par défaut : nombre
+     * d'itérations quasi indépendant de N ; ILU(0) est exact pour l'opérateur
+     * tridiagonal)
      */
-    private double[] buildRightHandSide(double[] x, double[] dx) {
-        double[] rhs = new double[n];
-        
-        for (int i = 0; i < n; i++) {
-            // Terme source intégré sur le volume
-            rhs[i] = sourceFunction.evaluate(x[i]) * dx[i];
-            
-            // Conditions aux limites
-            if (i == 0) {
-                double dxw = 0.5 * dx[0];
-                double aw = a / dxw + Math.max(b, 0);
-                rhs[i] += aw * u0;
-            }
-            if (i == n-1) {
-                double dxe = 0.5 * dx[n-1];
-                double ae = a / dxe + Math.max(-b, 0);
-                rhs[i] += ae * uL;
+    public void setPreconditioner(PreconditionerType preconditioner) {
+        if (preconditioner == null) {
+            throw new IllegalArgumentException("Le préconditionneur est obligatoire (NONE pour aucun)");
+        }
+        this.preconditioner = preconditioner;
+    }
+    
+    /**
+     * Nombre maximal de balayages (MAX_ITERATIONS par défaut)
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Le nombre d'itérations doit être positif");
+        }
+        this.maxIterations = maxIterations;
+    }
+    
+    /**
+     * Tolérance sur le résidu relatif (TOLERANCE par défaut) ; une tolérance
+     * lâche convient aux étapes intermédiaires d'une continuation
+     */
+    public void setTolerance(double tolerance) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("La tolérance doit être positive : " + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+    
+    public int getMaxIterations() { return maxIterations; }
+    
+    public double getTolerance() { return tolerance; }
+    
+    /**
+     * Pool des demi-balayages rouge-noir (commun par défaut, null pour les
+     * exécuter dans le thread appelant)
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    
+    /**
+     * Conditions périodiques u(0) = u(L) : u0 et uL sont ignorés et c doit
+     * être non nul. L'opérateur est tridiagonal cyclique : seules les
+     * méthodes de Krylov (et les solveurs directs du solveur optimisé) s'y
+     * appliquent.
+     */
+    public void setPeriodic(boolean periodic) {
+        this.periodic = periodic;
+    }
+    
+    public boolean isPeriodic() {
+        return periodic;
+    }
+    
+    /**
+     * Types des conditions en x = 0 et x = L (Dirichlet par défaut) ; u0 et
+     * uL en sont les valeurs g. Ignorés pour un problème périodique.
+     */
+    public void setBoundaryConditions(BoundaryCondition west, BoundaryCondition east) {
+        if (west == null || east == null) {
+            throw new IllegalArgumentException("Les types des conditions aux limites sont obligatoires");
+        }
+        this.westBoundary = west;
+        this.eastBoundary = east;
+    }
+    
+    /**
+     * Schéma de convection (upwind par défaut). Un schéma TVD est résolu par
+     * correction différée sur l'opérateur upwind factorisé, quelle que soit
+     * la méthode itérative.
+     */
+    public void setConvectionScheme(ConvectionScheme convectionScheme) {
+        if (convectionScheme == null) {
+            throw new IllegalArgumentException("Le schéma de convection est obligatoire");
+        }
+        this.convectionScheme = convectionScheme;
+    }
+    
+    public ConvectionScheme getConvectionScheme() { return convectionScheme; }
+    
+    /**
+     * Change le coefficient de réaction c. Seule la diagonale de l'opérateur
+     * en dépend (c dx) : l'opérateur courant est décalé en O(N)
+     * (TridiagonalOperator.withReaction) au lieu d'être réassemblé, et
+     * conservé par ce solveur hors du cache partagé. Un changement de
+     * configuration ultérieur (maillage, conditions, schéma) revient à
+     * l'assemblage normal.
+     */
+    public void setReaction(double c) {
+        TridiagonalOperator current = operatorEntry().getOperator();
+        this.c = c;
+        shiftedEntry = new OperatorCache.Entry(current.withReaction(c));
+    }
+    
+    /**
+     * Démarrage à chaud : solve() part de la dernière solution calculée par
+     * ce solveur (balayages de paramètres, continuation) ; sans effet sur
+     * les méthodes directes
+     */
+    public void setWarmStart(boolean warmStart) {
+        this.warmStart = warmStart;
+    }
+    
+    public boolean isWarmStart() { return warmStart; }
+    
+    /**
+     * Générateur du maillage (uniforme ou sinusoïdal selon le constructeur),
+     * par exemple un maillage de Shishkin pour une couche limite
+     */
+    public void setMeshGenerator(MeshGenerator meshGenerator) {
+        if (meshGenerator == null) {
+            throw new IllegalArgumentException("Le générateur de maillage est obligatoire");
+        }
+        this.meshGenerator = meshGenerator;
+    }
+    
+    public MeshGenerator getMeshGenerator() { return meshGenerator; }
+    
+    public BoundaryCondition getWestBoundary() { return westBoundary; }
+    public BoundaryCondition getEastBoundary() { return eastBoundary; }
+    
+    /**
+     * Cache de maillages et d'opérateurs utilisé par ce solveur
+     * (OperatorCache.shared() par défaut, null pour tout réassembler)
+     */
+    public void setOperatorCache(OperatorCache operatorCache) {
+        this.operatorCache = operatorCache;
+    }
+    
+    /**
+     * Maillage et opérateur assemblé du problème, depuis le cache si possible
+     */
+    protected OperatorCache.Entry operatorEntry() {
+        if (shiftedEntry != null) {
+            if (matchesConfiguration(shiftedEntry.getOperator())) {
+                return shiftedEntry;
             }
+            shiftedEntry = null;
         }
-        
-        return rhs;
+        if (operatorCache != null) {
+            return operatorCache.get(n, L, meshGenerator, a, b, c, periodic, westBoundary, eastBoundary,
+                                     convectionScheme);
+        }
+        Mesh1D mesh = Mesh1D.create(n, L, meshGenerator);
+        return new OperatorCache.Entry(periodic
+            ? TridiagonalOperator.assemblePeriodic(mesh, a, b, c, convectionScheme)
+            : TridiagonalOperator.assemble(mesh, a, b, c, westBoundary, eastBoundary,
+                                           convectionScheme));
+    }
+    
+    /**
+     * Réponse affine aux valeurs aux limites pour l'opérateur et le terme
+     * source de ce solveur : une solution pour de nouvelles valeurs (u0, uL)
+     * ne coûte plus qu'une combinaison O(N) (boucles de contrôle). Résolution
+     * directe sur la factorisation en cache, quelle que soit la méthode
+     * itérative ; indisponible pour un schéma TVD.
+     */
+    public BoundaryResponse boundaryResponse() {
+        if (convectionScheme.isDeferredCorrection()) {
+            throw new IllegalStateException(
+                "Schéma TVD non linéaire : la solution n'est pas affine en (u0, uL)");
+        }
+        return BoundaryResponse.compute(operatorEntry(), sourceFunction);
+    }
+    
+    /**
+     * L'opérateur correspond-il au problème courant (setReaction puis
+     * autres changements de configuration) ?
+     */
+    private boolean matchesConfiguration(TridiagonalOperator op) {
+        Mesh1D mesh = op.getMesh();
+        return mesh.getN() == n && mesh.getL() == L && mesh.getGenerator().equals(meshGenerator)
+            && op.getA() == a && op.getB() == b && op.getC() == c
+            && op.isPeriodic() == periodic
+            && op.getScheme() == (periodic ? convectionScheme : convectionScheme.operatorScheme())
+            && (periodic || op.getWestBoundary().equals(westBoundary)
+                         && op.getEastBoundary().equals(eastBoundary));
+    }
+    
+    /**
+     * Bilan de la dernière résolution (itérations, historique du résidu,
+     * convergence, durée), null avant la première résolution
+     */
+    public SolveReport getLastReport() {
+        return lastReport;
+    }
+    
+    /**
+     * Nombre d'itérations de la dernière résolution (1 pour une méthode directe)
+     */
+    public int getIterations() {
+        return lastReport != null ? lastReport.getIterations() : 0;
+    }
+    
+    /**
+     * Norme infinie du résidu final de la dernière résolution (NaN si non
+     * calculé : pour une méthode directe, il ne l'est que si les métriques
+     * ou l'enregistrement JFR sont actifs)
+     */
+    public double getResidual() {
+        return lastReport != null ? lastReport.getFinalResidual() : Double.NaN;
     }
     
+    protected void setLastReport(SolveReport report) {
+        this.lastReport = report;
+    }
+    
+    // Accès aux paramètres du problème pour les solveurs dérivés
+    
+    protected int getN() { return n; }
+    protected double getL() { return L; }
+    protected double getA() { return a; }
+    protected double getB() { return b; }
+    protected double getC() { return c; }
+    protected Function1D getSourceFunction() { return sourceFunction; }
+    protected double getU0() { return u0; }
+    protected double getUL() { return uL; }
+    protected boolean isUniforme() { return meshGenerator.isUniform(); }
+    
     /**
-     * Calcul de l'erreur L2 par rapport à une solution exacte
+     * Calcul de l'erreur L2 par rapport à une solution exacte (sommation compensée)
      */
     public double computeL2Error(Solution1D numerical, Function1D exact) {
-        double error = 0;
+        CompensatedSum error = new CompensatedSum();
         double[] x = numerical.getMeshPoints();
         double[] dx = numerical.getCellWidths();
         double[] u = numerical.getValues();
         
         for (int i = 0; i < n; i++) {
             double diff = u[i] - exact.evaluate(x[i]);
-            error += diff * diff * dx[i];
+            error.add(diff * diff * dx[i]);
         }
         
-        return Math.sqrt(error / L);
+        return Math.sqrt(error.value() / L);
     }
 }
 
@@ -3,6 +3,8 @@ package com.ananum.vf1d.analysis;
 import com.ananum.vf1d.*;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Outils d'analyse avancés pour la méthode des volumes finis 1D
@@ -102,22 +104,81 @@ public class AnalysisTools {
      */
     public static class ErrorAnalysis {
         
+        /** Taille des blocs de la réduction par paires parallèle */
+        public static final int PAIRWISE_BLOCK = 4096;
+        
+        // Solution exacte d'un bloc, un tampon par thread du pool
+        private static final ThreadLocal<double[]> BLOCK_VALUES =
+            ThreadLocal.withInitial(() -> new double[PAIRWISE_BLOCK]);
+        
         /**
-         * Calcule différentes normes d'erreur
+         * Calcule différentes normes d'erreur (sommation compensée)
          */
         public static ErrorMetrics computeErrorMetrics(Solution1D numerical, 
                                                       Function1D exact) {
-            ErrorMetrics metrics = new ErrorMetrics();
-            
+            return computeErrorMetrics(numerical, exact, SummationMode.COMPENSATED);
+        }
+        
+        /**
+         * Calcule différentes normes d'erreur avec le mode de sommation donné
+         * (réduction parallèle sur le pool commun)
+         */
+        public static ErrorMetrics computeErrorMetrics(Solution1D numerical, Function1D exact,
+                                                      SummationMode mode) {
+            return computeErrorMetrics(numerical, exact, mode, ForkJoinPool.commonPool());
+        }
+        
+        /**
+         * Calcule différentes normes d'erreur ; pool n'est utilisé que par
+         * la réduction par paires parallèle
+         */
+        public static ErrorMetrics computeErrorMetrics(Solution1D numerical, Function1D exact,
+                                                      SummationMode mode, ForkJoinPool pool) {
             double[] x = numerical.getMeshPoints();
             double[] u = numerical.getValues();
             double[] dx = numerical.getCellWidths();
             int n = numerical.getN();
             
+            // Σ|e| dx, Σe² dx, Σ|u| dx, Σu² dx, max|e|, max|u|
+            double[] s;
+            switch (mode) {
+                case NAIVE:
+                    s = accumulate(x, u, dx, exact, 0, n);
+                    break;
+                case COMPENSATED:
+                    s = accumulateCompensated(x, u, dx, exact, n);
+                    break;
+                default:
+                    int blocks = (n + PAIRWISE_BLOCK - 1) / PAIRWISE_BLOCK;
+                    s = pool.invoke(new PairwiseTask(x, u, dx, exact, n, 0, blocks));
+                    break;
+            }
+            
+            ErrorMetrics metrics = new ErrorMetrics();
+            double errorL1 = s[0], errorL2 = Math.sqrt(s[1]), errorLinf = s[4];
+            double normL1 = s[2], normL2 = Math.sqrt(s[3]), normLinf = s[5];
+            
+            metrics.errorL1 = errorL1;
+            metrics.errorL2 = errorL2;
+            metrics.errorLinf = errorLinf;
+            
+            // Erreurs relatives
+            metrics.relativeErrorL1 = normL1 > 0 ? errorL1 / normL1 : errorL1;
+            metrics.relativeErrorL2 = normL2 > 0 ? errorL2 / normL2 : errorL2;
+            metrics.relativeErrorLinf = normLinf > 0 ? errorLinf / normLinf : errorLinf;
+            
+            return metrics;
+        }
+        
+        /**
+         * Sommes naïves des volumes [from, to)
+         */
+        private static double[] accumulate(double[] x, double[] u, double[] dx, Function1D exact,
+                                           int from, int to) {
             double errorL1 = 0, errorL2 = 0, errorLinf = 0;
             double normL1 = 0, normL2 = 0, normLinf = 0;
             
-            for (int i = 0; i < n; i++) {
+            for (int i = from; i < to; i++) {
                 double uExact = exact.evaluate(x[i]);
                 double error = Math.abs(u[i] - uExact);
                 
@@ -131,20 +192,91 @@ public class AnalysisTools {
                 normL2 += uExact * uExact * dx[i];
                 normLinf = Math.max(normLinf, Math.abs(uExact));
             }
+            return new double[] {errorL1, errorL2, normL1, normL2, errorLinf, normLinf};
+        }
+        
+        private static double[] accumulateCompensated(double[] x, double[] u, double[] dx,
+                                                      Function1D exact, int n) {
+            CompensatedSum errorL1 = new CompensatedSum(), errorL2 = new CompensatedSum();
+            CompensatedSum normL1 = new CompensatedSum(), normL2 = new CompensatedSum();
+            double errorLinf = 0, normLinf = 0;
             
-            errorL2 = Math.sqrt(errorL2);
-            normL2 = Math.sqrt(normL2);
-            
-            metrics.errorL1 = errorL1;
-            metrics.errorL2 = errorL2;
-            metrics.errorLinf = errorLinf;
+            for (int i = 0; i < n; i++) {
+                double uExact = exact.evaluate(x[i]);
+                double error = Math.abs(u[i] - uExact);
+                errorL1.add(error * dx[i]);
+                errorL2.add(error * error * dx[i]);
+                errorLinf = Math.max(errorLinf, error);
+                normL1.add(Math.abs(uExact) * dx[i]);
+                normL2.add(uExact * uExact * dx[i]);
+                normLinf = Math.max(normLinf, Math.abs(uExact));
+            }
+            return new double[] {errorL1.value(), errorL2.value(), normL1.value(), normL2.value(),
+                                 errorLinf, normLinf};
+        }
+        
+        /**
+         * Réduction par paires sur les blocs [from, to) : l'arbre (milieu
+         * (from + to) / 2) ne dépend que de N, la répartition sur les
+         * threads ne change donc pas le résultat. Chaque bloc évalue la
+         * solution exacte d'un seul appel (Function1D, évaluation groupée).
+         */
+        private static final class PairwiseTask extends RecursiveTask<double[]> {
+            private static final long serialVersionUID = 1L;
+            
+            private final transient double[] x, u, dx;
+            private final transient Function1D exact;
+            private final int n, from, to;
+            
+            PairwiseTask(double[] x, double[] u, double[] dx, Function1D exact,
+                         int n, int from, int to) {
+                this.x = x;
+                this.u = u;
+                this.dx = dx;
+                this.exact = exact;
+                this.n = n;
+                this.from = from;
+                this.to = to;
+            }
             
-            // Erreurs relatives
-            metrics.relativeErrorL1 = normL1 > 0 ? errorL1 / normL1 : errorL1;
-            metrics.relativeErrorL2 = normL2 > 0 ? errorL2 / normL2 : errorL2;
-            metrics.relativeErrorLinf = normLinf > 0 ? errorLinf / normLinf : errorLinf;
+            @Override
+            protected double[] compute() {
+                if (to - from <= 1) {
+                    return accumulateBlock(from * PAIRWISE_BLOCK, Math.min(to * PAIRWISE_BLOCK, n));
+                }
+                int mid = (from + to) >>> 1;
+                PairwiseTask left = new PairwiseTask(x, u, dx, exact, n, from, mid);
+                left.fork();
+                double[] right = new PairwiseTask(x, u, dx, exact, n, mid, to).compute();
+                double[] s = left.join();
+                for (int k = 0; k < 4; k++) s[k] += right[k];
+                s[4] = Math.max(s[4], right[4]);
+                s[5] = Math.max(s[5], right[5]);
+                return s;
+            }
             
-            return metrics;
+            /**
+             * Sommes naïves d'un bloc, solution exacte évaluée en une fois
+             */
+            private double[] accumulateBlock(int start, int end) {
+                int count = end - start;
+                double[] uExact = BLOCK_VALUES.get();
+                exact.evaluate(x, start, uExact, count);
+                
+                double errorL1 = 0, errorL2 = 0, errorLinf = 0;
+                double normL1 = 0, normL2 = 0, normLinf = 0;
+                for (int k = 0; k < count; k++) {
+                    int i = start + k;
+                    double error = Math.abs(u[i] - uExact[k]);
+                    errorL1 += error * dx[i];
+                    errorL2 += error * error * dx[i];
+                    errorLinf = Math.max(errorLinf, error);
+                    normL1 += Math.abs(uExact[k]) * dx[i];
+                    normL2 += uExact[k] * uExact[k] * dx[i];
+                    normLinf = Math.max(normLinf, Math.abs(uExact[k]));
+                }
+                return new double[] {errorL1, errorL2, normL1, normL2, errorLinf, normLinf};
+            }
         }
         
         /**
@@ -165,32 +297,77 @@ public class AnalysisTools {
                 double u0, double uL,
                 int[] meshSizes) {
             
+            return performConvergenceStudy(L, exact, meshSizes,
+                n -> new VolumesFinis1DSolver(n, L, a, b, c, source, u0, uL, true));
+        }
+        
+        /**
+         * Analyse de convergence avec une fabrique de solveur (conditions aux
+         * limites, schéma de convection... configurés par la fabrique)
+         */
+        public static ConvergenceStudy performConvergenceStudy(
+                double L, Function1D exact, int[] meshSizes,
+                ParallelConvergenceStudy.SolverFactory factory) {
+            
             ConvergenceStudy study = new ConvergenceStudy();
             study.meshSizes = meshSizes;
             study.errors = new ErrorMetrics[meshSizes.length];
-            study.orders = new double[meshSizes.length - 1];
             study.executionTimes = new long[meshSizes.length];
             
             for (int i = 0; i < meshSizes.length; i++) {
-                long startTime = System.currentTimeMillis();
+                long startTime = System.nanoTime();
                 
-                VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
-                    meshSizes[i], L, a, b, c, source, u0, uL, true
-                );
+                VolumesFinis1DSolver solver = factory.create(meshSizes[i]);
                 Solution1D solution = solver.solve();
                 
-                study.executionTimes[i] = System.currentTimeMillis() - startTime;
+                study.executionTimes[i] = (System.nanoTime() - startTime) / 1_000_000;
                 study.errors[i] = computeErrorMetrics(solution, exact);
-                
-                if (i > 0) {
-                    double h1 = L / meshSizes[i-1];
-                    double h2 = L / meshSizes[i];
-                    study.orders[i-1] = estimateConvergenceOrder(
-                        study.errors[i-1].errorL2,
-                        study.errors[i].errorL2,
-                        h1, h2
-                    );
-                }
+            }
+            
+            computeOrders(study, L);
+            return study;
+        }
+        
+        /**
+         * Analyse de convergence complète, les maillages étant résolus en parallèle
+         * (résultats identiques à performConvergenceStudy, hors temps d'exécution)
+         */
+        public static ConvergenceStudy performConvergenceStudyParallel(
+                double L, double a, double b, double c,
+                Function1D source, Function1D exact,
+                double u0, double uL,
+                int[] meshSizes, int parallelism) {
+            
+            return new ParallelConvergenceStudy(parallelism).run(
+                L, a, b, c, source, exact, u0, uL, meshSizes
+            );
+        }
+        
+        /**
+         * Analyse de convergence parallèle avec une fabrique de solveur
+         */
+        public static ConvergenceStudy performConvergenceStudyParallel(
+                double L, Function1D exact, int[] meshSizes,
+                ParallelConvergenceStudy.SolverFactory factory, int parallelism) {
+            
+            return new ParallelConvergenceStudy(parallelism).run(L, exact, meshSizes, factory);
+        }
+        
+        /**
+         * Calcule les ordres successifs et l'ordre moyen une fois toutes les erreurs connues
+         */
+        static void computeOrders(ConvergenceStudy study, double L) {
+            int[] meshSizes = study.meshSizes;
+            study.orders = new double[Math.max(0, meshSizes.length - 1)];
+            
+            for (int i = 1; i < meshSizes.length; i++) {
+                double h1 = L / meshSizes[i-1];
+                double h2 = L / meshSizes[i];
+                study.orders[i-1] = estimateConvergenceOrder(
+                    study.errors[i-1].errorL2,
+                    study.errors[i].errorL2,
+                    h1, h2
+                );
             }
             
             // Calcul de l'ordre moyen
@@ -203,8 +380,6 @@ public class AnalysisTools {
                 }
             }
             study.averageOrder = count > 0 ? sumOrder / count : Double.NaN;
-            
-            return study;
         }
     }
     
@@ -0,0 +1,162 @@
+package com.ananum.vf1d.analysis;
+
+import com.ananum.vf1d.*;
+import com.ananum.vf1d.analysis.AnalysisTools.ConvergenceStudy;
+import com.ananum.vf1d.analysis.AnalysisTools.ErrorMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moteur d'étude de convergence parallèle.
+ *
+ * Chaque taille de maillage est résolue indépendamment sur un pool de threads
+ * borné. Les maillages les plus fins sont soumis en premier (ordonnancement
+ * "largest-first") pour que la tâche la plus longue ne termine pas seule en
+ * fin d'étude. Les ordres de convergence ne sont calculés qu'une fois tous
+ * les résultats collectés, avec le même code que l'étude séquentielle : les
+ * erreurs et les ordres sont donc identiques bit à bit. Seuls les temps
+ * d'exécution diffèrent, puisque les résolutions partagent les cœurs.
+ */
+public class ParallelConvergenceStudy {
+
+    /**
+     * Fabrique de solveur pour une taille de maillage donnée
+     */
+    @FunctionalInterface
+    public interface SolverFactory {
+        VolumesFinis1DSolver create(int n);
+    }
+
+    /**
+     * Résultat brut d'une taille de maillage
+     */
+    public static class MeshResult {
+        public final int n;
+        public final ErrorMetrics errors;
+        /** Erreur L2 du solveur (computeL2Error : sqrt(somme(e² dx) / L)) */
+        public final double solverErrorL2;
+        public final long wallTimeNanos;
+
+        MeshResult(int n, ErrorMetrics errors, double solverErrorL2, long wallTimeNanos) {
+            this.n = n;
+            this.errors = errors;
+            this.solverErrorL2 = solverErrorL2;
+            this.wallTimeNanos = wallTimeNanos;
+        }
+    }
+
+    private final int parallelism;
+
+    public ParallelConvergenceStudy() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelConvergenceStudy(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Le parallélisme doit être positif");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Étude de convergence sur maillages uniformes avec le solveur de référence
+     */
+    public ConvergenceStudy run(double L, double a, double b, double c,
+                                Function1D source, Function1D exact,
+                                double u0, double uL, int[] meshSizes) {
+        return run(L, exact, meshSizes,
+            n -> new VolumesFinis1DSolver(n, L, a, b, c, source, u0, uL, true));
+    }
+
+    /**
+     * Étude de convergence avec une fabrique de solveur quelconque
+     */
+    public ConvergenceStudy run(double L, Function1D exact, int[] meshSizes,
+                                SolverFactory factory) {
+        MeshResult[] results = solveAll(exact, meshSizes, factory);
+
+        ConvergenceStudy study = new ConvergenceStudy();
+        study.meshSizes = meshSizes;
+        study.errors = new ErrorMetrics[meshSizes.length];
+        study.executionTimes = new long[meshSizes.length];
+
+        for (int i = 0; i < meshSizes.length; i++) {
+            study.errors[i] = results[i].errors;
+            study.executionTimes[i] = results[i].wallTimeNanos / 1_000_000;
+        }
+
+        AnalysisTools.ErrorAnalysis.computeOrders(study, L);
+        return study;
+    }
+
+    /**
+     * Résout toutes les tailles de maillage et renvoie les résultats dans
+     * l'ordre de meshSizes (quel que soit l'ordre d'exécution)
+     */
+    public MeshResult[] solveAll(Function1D exact, int[] meshSizes, SolverFactory factory) {
+        MeshResult[] results = new MeshResult[meshSizes.length];
+        if (meshSizes.length == 0) {
+            return results;
+        }
+
+        // Ordonnancement du plus grand au plus petit maillage
+        Integer[] order = new Integer[meshSizes.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> meshSizes[i]).reversed());
+
+        int threads = Math.min(parallelism, meshSizes.length);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, newThreadFactory());
+        try {
+            List<Future<MeshResult>> futures = new ArrayList<>(order.length);
+            for (int idx : order) {
+                final int n = meshSizes[idx];
+                futures.add(executor.submit(() -> solveOne(n, exact, factory)));
+            }
+
+            for (int k = 0; k < order.length; k++) {
+                results[order[k]] = futures.get(k).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Étude de convergence interrompue", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec d'une résolution de l'étude de convergence",
+                                            e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private static MeshResult solveOne(int n, Function1D exact, SolverFactory factory) {
+        long startTime = System.nanoTime();
+
+        VolumesFinis1DSolver solver = factory.create(n);
+        Solution1D solution = solver.solve();
+
+        long wallTime = System.nanoTime() - startTime;
+
+        // Les métriques sont calculées dans la tâche pour libérer la solution au plus tôt
+        return new MeshResult(n, AnalysisTools.ErrorAnalysis.computeErrorMetrics(solution, exact),
+                              solver.computeL2Error(solution, exact), wallTime);
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "vf1d-convergence-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package com.ananum.vf1d.analysis;
+
+import com.ananum.vf1d.*;
+import com.ananum.vf1d.analysis.ParallelConvergenceStudy.SolverFactory;
+
+/**
+ * Extrapolation de Richardson sur maillages uniformes emboîtés (N, 2N, 4N, ...).
+ *
+ * Chaque niveau est résolu en partant de la solution du niveau précédent
+ * prolongée sur le maillage fin, ce qui réduit fortement le nombre
+ * d'itérations des solveurs itératifs. Les solutions fines sont ramenées aux
+ * centres du maillage le plus grossier par interpolation cubique (erreur en
+ * O(h^4), qui ne pollue pas le terme d'erreur dominant en O(h^2)), puis
+ * comparées entre elles : aucune solution exacte n'est nécessaire.
+ *
+ * Avec deux niveaux, l'ordre théorique est supposé ; à partir de trois
+ * niveaux, l'ordre observé est estimé à partir des trois derniers.
+ */
+public class RichardsonExtrapolation {
+
+    /**
+     * Résultat de l'extrapolation
+     */
+    public static class Result {
+        public int[] meshSizes;
+        public long[] executionTimes;       // ms, par niveau
+        public double observedOrder;        // NaN si seulement deux niveaux
+        public double orderUsed;            // ordre effectivement utilisé pour l'extrapolation
+        public double[] coarseMeshPoints;   // centres du maillage le plus grossier
+        public double[] extrapolated;       // estimation de Richardson aux centres grossiers
+        public double estimatedErrorL2;     // erreur estimée de la solution la plus fine
+        public double estimatedErrorLinf;
+        public Solution1D finest;           // solution sur le maillage le plus fin
+    }
+
+    private RichardsonExtrapolation() {
+    }
+
+    /**
+     * Résout levels niveaux emboîtés à partir de coarseN et extrapole.
+     *
+     * @param theoreticalOrder ordre supposé lorsque seuls deux niveaux sont résolus
+     */
+    public static Result estimate(SolverFactory factory, int coarseN, int levels,
+                                  double theoreticalOrder) {
+        if (levels < 2) {
+            throw new IllegalArgumentException("Au moins deux niveaux de maillage sont nécessaires");
+        }
+        if (coarseN < 4) {
+            throw new IllegalArgumentException("Le maillage grossier doit avoir au moins 4 volumes");
+        }
+
+        Result result = new Result();
+        result.meshSizes = new int[levels];
+        result.executionTimes = new long[levels];
+
+        // Restrictions successives sur le maillage grossier
+        double[][] restricted = new double[levels][];
+        Solution1D coarse = null;
+        Solution1D previous = null;
+
+        for (int k = 0; k < levels; k++) {
+            int n = coarseN << k;
+            result.meshSizes[k] = n;
+
+            long startTime = System.nanoTime();
+
+            VolumesFinis1DSolver solver = factory.create(n);
+            double[] guess = previous != null ? prolongate(previous.getValues()) : null;
+            Solution1D solution = solver.solve(guess);
+
+            result.executionTimes[k] = (System.nanoTime() - startTime) / 1_000_000;
+
+            if (k == 0) {
+                coarse = solution;
+                restricted[0] = solution.getValues();
+            } else {
+                restricted[k] = restrictToCoarse(solution.getValues(), k);
+            }
+            previous = solution;
+        }
+
+        double[] dxCoarse = coarse.getCellWidths();
+        int m = levels - 1;
+
+        // Ordre observé à partir des trois derniers niveaux
+        if (levels >= 3) {
+            double e1 = weightedL2(restricted[m-2], restricted[m-1], dxCoarse);
+            double e2 = weightedL2(restricted[m-1], restricted[m], dxCoarse);
+            result.observedOrder = (e2 > 0 && e1 > 0) ? Math.log(e1 / e2) / Math.log(2.0) : Double.NaN;
+        } else {
+            result.observedOrder = Double.NaN;
+        }
+
+        // Un ordre observé aberrant (pré-asymptotique) retombe sur l'ordre théorique
+        result.orderUsed = Double.isFinite(result.observedOrder) && result.observedOrder > 0.5
+            ? result.observedOrder : theoreticalOrder;
+
+        double factor = 1.0 / (Math.pow(2.0, result.orderUsed) - 1.0);
+        double[] fine = restricted[m];
+        double[] medium = restricted[m-1];
+        result.extrapolated = new double[fine.length];
+        for (int i = 0; i < fine.length; i++) {
+            result.extrapolated[i] = fine[i] + (fine[i] - medium[i]) * factor;
+        }
+
+        result.estimatedErrorL2 = weightedL2(fine, result.extrapolated, dxCoarse);
+        double linf = 0;
+        for (int i = 0; i < fine.length; i++) {
+            linf = Math.max(linf, Math.abs(fine[i] - result.extrapolated[i]));
+        }
+        result.estimatedErrorLinf = linf;
+        result.coarseMeshPoints = coarse.getMeshPoints();
+        result.finest = previous;
+
+        return result;
+    }
+
+    /**
+     * Prolongation d'une solution de n volumes vers 2n volumes : chaque volume
+     * est coupé en deux, valeurs obtenues par pente centrée (linéaire par morceaux)
+     */
+    static double[] prolongate(double[] coarse) {
+        int n = coarse.length;
+        double[] fine = new double[2 * n];
+
+        for (int i = 0; i < n; i++) {
+            double slope;
+            if (i == 0) {
+                slope = coarse[1] - coarse[0];
+            } else if (i == n - 1) {
+                slope = coarse[n-1] - coarse[n-2];
+            } else {
+                slope = 0.5 * (coarse[i+1] - coarse[i-1]);
+            }
+            // Les centres fins sont à ±H/4 du centre grossier
+            fine[2*i]     = coarse[i] - 0.25 * slope;
+            fine[2*i + 1] = coarse[i] + 0.25 * slope;
+        }
+
+        return fine;
+    }
+
+    /**
+     * Ramène une solution du niveau k (n0 * 2^k volumes) aux centres du niveau 0
+     * par interpolations cubiques successives d'un facteur 2
+     */
+    static double[] restrictToCoarse(double[] fine, int level) {
+        double[] u = fine;
+        for (int k = 0; k < level; k++) {
+            u = restrictOnce(u);
+        }
+        return u;
+    }
+
+    /**
+     * Interpolation cubique au milieu de deux centres fins consécutifs
+     */
+    private static double[] restrictOnce(double[] fine) {
+        int n = fine.length / 2;
+        double[] coarse = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            int j = 2 * i;  // le centre grossier est entre j et j+1
+            if (j - 1 >= 0 && j + 2 < fine.length) {
+                coarse[i] = (-fine[j-1] + 9 * fine[j] + 9 * fine[j+1] - fine[j+2]) / 16.0;
+            } else if (j - 1 < 0) {
+                // Stencil décentré à droite : points j..j+3, évaluation à j+1/2
+                coarse[i] = (5 * fine[j] + 15 * fine[j+1] - 5 * fine[j+2] + fine[j+3]) / 16.0;
+            } else {
+                // Stencil décentré à gauche : points j-2..j+1, évaluation à j+1/2
+                coarse[i] = (fine[j-2] - 5 * fine[j-1] + 15 * fine[j] + 5 * fine[j+1]) / 16.0;
+            }
+        }
+
+        return coarse;
+    }
+
+    private static double weightedL2(double[] u, double[] v, double[] dx) {
+        CompensatedSum sum = new CompensatedSum();
+        for (int i = 0; i < u.length; i++) {
+            double d = u[i] - v[i];
+            sum.add(d * d * dx[i]);
+        }
+        return Math.sqrt(sum.value());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ananum.vf1d.analysis;
+
+/**
+ * Sommation des normes d'erreur (AnalysisTools.ErrorAnalysis)
+ */
+public enum SummationMode {
+    /** Somme naïve séquentielle (erreur d'arrondi en N ε) */
+    NAIVE,
+    /** Somme compensée de Kahan–Neumaier, séquentielle (par défaut) */
+    COMPENSATED,
+    /**
+     * Réduction par paires parallèle (fork-join) : blocs de taille fixe,
+     * solution exacte évaluée par bloc et sommée séquentiellement, puis
+     * arbre binaire de réduction fixé par N seul (résultat identique bit à
+     * bit d'une exécution à l'autre, quel que soit le nombre de threads)
+     */
+    PAIRWISE_PARALLEL
+}
@@ -1,6 +1,7 @@
 package com.ananum.vf1d.benchmark;
 
 import com.ananum.vf1d.*;
+import com.ananum.vf1d.analysis.ParallelConvergenceStudy;
 import com.ananum.vf1d.visualization.GraphGenerator;
 import com.ananum.vf1d.visualization.GraphGenerator.BenchmarkResult;
 
@@ -124,29 +125,28 @@ public class BenchmarkRunner {
         double[] errors = new double[meshSizes.length];
         double[] orders = new double[meshSizes.length];
         
+        // Résolution concurrente de tous les maillages, affichage dans l'ordre croissant
+        ParallelConvergenceStudy.MeshResult[] results = new ParallelConvergenceStudy().solveAll(
+            exact, meshSizes,
+            n -> new OptimizedVolumesFinis1DSolver(n, L, a, b, c, source, u0, uL, true)
+        );
+        
         System.out.println("N\th\t\tErreur L2\tOrdre\tTemps (ms)");
         System.out.println("-------------------------------------------------------");
         
         for (int i = 0; i < meshSizes.length; i++) {
-            long startTime = System.currentTimeMillis();
-            
-            OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
-                meshSizes[i], L, a, b, c, source, u0, uL, true
-            );
-            Solution1D solution = solver.solve();
-            
-            long endTime = System.currentTimeMillis();
+            long elapsedMs = results[i].wallTimeNanos / 1_000_000;
             
-            errors[i] = solver.computeL2Error(solution, exact);
+            errors[i] = results[i].solverErrorL2;
             double h = L / meshSizes[i];
             
             if (i > 0) {
                 orders[i] = Math.log(errors[i-1] / errors[i]) / Math.log(2.0);
                 System.out.printf("%d\t%.4f\t\t%.3e\t%.2f\t%d\n", 
-                    meshSizes[i], h, errors[i], orders[i], endTime - startTime);
+                    meshSizes[i], h, errors[i], orders[i], elapsedMs);
             } else {
                 System.out.printf("%d\t%.4f\t\t%.3e\t-\t%d\n", 
-                    meshSizes[i], h, errors[i], endTime - startTime);
+                    meshSizes[i], h, errors[i], elapsedMs);
             }
         }
         
@@ -0,0 +1,102 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.ParameterContinuation;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Continuation en Péclet contre résolutions à froid : solutions à des
+ * points de contrôle λ = log₁₀ Pe de plus en plus rapprochés entre Pe = 1 et
+ * Pe = 10⁴, obtenues par un chemin de continuation ou indépendamment. Itérations et temps totaux, pour
+ * BiCGSTAB / GMRES (upwind) et la correction différée TVD van Leer (non
+ * linéaire).
+ */
+public class ContinuationBenchmark {
+
+    private static final Function1D SOURCE = x -> 1.0;
+    
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 800;
+        double finalPeclet = args.length > 1 ? Double.parseDouble(args[1]) : 1e4;
+        double to = Math.log10(finalPeclet);
+        
+        System.out.println("=== Benchmark Continuation en Péclet ===");
+        System.out.println("N = " + n + ", Pe : 1 → " + finalPeclet + "\n");
+        
+        Consumer<VolumesFinis1DSolver> bicgstab = s -> s.setIterativeMethod(IterativeMethod.BICGSTAB);
+        Consumer<VolumesFinis1DSolver> gmres = s -> s.setIterativeMethod(IterativeMethod.GMRES);
+        Consumer<VolumesFinis1DSolver> tvd = s -> s.setConvectionScheme(ConvectionScheme.TVD_VAN_LEER);
+        
+        // Échauffement
+        for (int k = 0; k < 3; k++) {
+            run("", n, checkpoints(to, 0.5), bicgstab, false);
+            run("", n, checkpoints(to, 0.5), tvd, false);
+        }
+        
+        for (double spacing : new double[] {0.5, 0.1, 0.02}) {
+            double[] checkpoints = checkpoints(to, spacing);
+            System.out.println("--- " + checkpoints.length + " points de contrôle, Δλ = " + spacing
+                + " ---");
+            System.out.println("Méthode\t\tParcours\tProblèmes\tItérations\tTemps (ms)");
+            System.out.println("-------------------------------------------------------------------");
+            run("BiCGSTAB", n, checkpoints, bicgstab, true);
+            run("GMRES", n, checkpoints, gmres, true);
+            run("TVD-vanLeer", n, checkpoints, tvd, true);
+        }
+    }
+    
+    /** λ = 0, Δλ, 2Δλ, ..., to */
+    private static double[] checkpoints(double to, double spacing) {
+        double[] checkpoints = new double[(int) Math.ceil(to / spacing - 1e-9) + 1];
+        for (int k = 0; k < checkpoints.length; k++) {
+            checkpoints[k] = Math.min(to, spacing * k);
+        }
+        return checkpoints;
+    }
+    
+    private static void run(String name, int n, double[] checkpoints,
+                            Consumer<VolumesFinis1DSolver> configure, boolean print) {
+        ParameterContinuation.SolverFactory factory =
+            ParameterContinuation.pecletFactory(n, 1.0, 0.0, SOURCE, 0.0, 0.0, configure);
+        ParameterContinuation.Result path = new ParameterContinuation(factory, 0.5).run(checkpoints);
+        
+        // Mêmes points de contrôle, à froid
+        int coldIterations = 0;
+        boolean coldConverged = true;
+        double gap = 0;
+        long coldStart = System.nanoTime();
+        for (int k = 0; k < checkpoints.length; k++) {
+            VolumesFinis1DSolver solver = factory.create(checkpoints[k]);
+            double[] u = solver.solve().getValues();
+            coldIterations += solver.getIterations();
+            coldConverged &= solver.getLastReport().isConverged();
+            double[] v = path.getSolution(k).getValues();
+            for (int i = 0; i < n; i++) gap = Math.max(gap, Math.abs(u[i] - v[i]));
+        }
+        long cold = System.nanoTime() - coldStart;
+        
+        if (!print) return;
+        System.out.printf("%-12s\tcontinuation\t%d (+%d rej.)\t%d\t\t%.2f\n",
+            name, path.getPath().size(), path.getRejectedSteps(), path.getTotalIterations(),
+            path.getElapsedNanos() / 1e6);
+        System.out.printf("%-12s\tà froid\t\t%d\t\t%d%s\t\t%.2f\t(%.1fx)\n",
+            name, checkpoints.length, coldIterations, coldConverged ? "" : " (non convergé)",
+            cold / 1e6, (double) cold / path.getElapsedNanos());
+        System.out.printf("  écart max aux points de contrôle %.2e%s\n\n", gap,
+            path.getPath().size() <= 16 ? ", λ = " + format(path.getPath()) : "");
+    }
+    
+    private static String format(List<Double> parameters) {
+        StringBuilder sb = new StringBuilder();
+        for (double p : parameters) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(String.format("%.3f", p));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.SolverWorkspace;
+
+/**
+ * Schémas de convection sur la couche limite de -aU'' + bU' = 0, U(0) = 0,
+ * U(1) = 1 (solution exacte (e^{bx/a} - 1) / (e^{b/a} - 1), b = 1) :
+ * - erreur maximale en fonction de N pour chaque schéma ;
+ * - plus petit N (puissances de 2) atteignant l'erreur cible et temps de
+ *   résolution correspondant.
+ * Résolutions directes dans un espace de travail (Thomas, ou corrections
+ * différées pour les schémas TVD). Erreur mesurée aux centres : une couche
+ * limite entièrement contenue dans la dernière demi-maille (N très petit,
+ * schémas hybride et loi de puissance) donne une erreur faible sans être
+ * résolue.
+ */
+public class ConvectionSchemeBenchmark {
+
+    private static final int MAX_N = 1 << 20;
+    
+    public static void main(String[] args) {
+        double target = args.length > 0 ? Double.parseDouble(args[0]) : 1e-3;
+        SolverWorkspace ws = new SolverWorkspace();
+        
+        System.out.println("=== Benchmark Schémas de Convection ===\n");
+        
+        for (double peclet : new double[] {100, 1000}) {
+            double a = 1.0 / peclet;
+            // Forme sans dépassement pour les grands Péclet
+            Function1D exact = x -> (Math.exp(peclet * (x - 1)) - Math.exp(-peclet)) / -Math.expm1(-peclet);
+            
+            System.out.println("--- Pe = " + peclet + " : erreur maximale ---");
+            System.out.println("Schéma\t\tN=64\t\tN=256\t\tN=1024\t\tN=4096");
+            System.out.println("-------------------------------------------------------------------------------");
+            for (ConvectionScheme scheme : ConvectionScheme.values()) {
+                StringBuilder line = new StringBuilder(String.format("%-12s", scheme.getSchemeName()));
+                for (int n : new int[] {64, 256, 1024, 4096}) {
+                    line.append(String.format("\t%.3e", error(scheme, n, a, exact, ws)));
+                }
+                System.out.println(line);
+            }
+            
+            System.out.println("\n--- Pe = " + peclet + " : plus petit N pour une erreur < " + target + " ---");
+            System.out.println("Schéma\t\tN\t\tErreur\t\tTemps (ms)\tItérations");
+            System.out.println("-------------------------------------------------------------------------------");
+            for (ConvectionScheme scheme : ConvectionScheme.values()) {
+                int n = 16;
+                double e = error(scheme, n, a, exact, ws);
+                while (!(e < target) && n < MAX_N) {
+                    n *= 2;
+                    e = error(scheme, n, a, exact, ws);
+                }
+                if (!(e < target)) {
+                    System.out.printf("%-12s\t> %d\n", scheme.getSchemeName(), MAX_N);
+                    continue;
+                }
+                
+                OptimizedVolumesFinis1DSolver solver = solver(scheme, n, a);
+                for (int r = 0; r < 200; r++) solver.solveInto(ws);   // Échauffement
+                int repetitions = 100;
+                long start = System.nanoTime();
+                for (int r = 0; r < repetitions; r++) solver.solveInto(ws);
+                double ms = (System.nanoTime() - start) / 1e6 / repetitions;
+                System.out.printf("%-12s\t%d\t\t%.3e\t%.3f\t\t%d\n",
+                    scheme.getSchemeName(), n, e, ms, solver.getIterations());
+            }
+            System.out.println();
+        }
+    }
+    
+    private static OptimizedVolumesFinis1DSolver solver(ConvectionScheme scheme, int n, double a) {
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, a, 1.0, 0.0, x -> 0.0, 0.0, 1.0, true);
+        solver.setConvectionScheme(scheme);
+        return solver;
+    }
+    
+    /**
+     * Erreur maximale aux centres des volumes (NaN ou infinie si le schéma
+     * est instable sur ce maillage)
+     */
+    private static double error(ConvectionScheme scheme, int n, double a, Function1D exact,
+                                SolverWorkspace ws) {
+        double[] u = solver(scheme, n, a).solveInto(ws);
+        double[] x = ws.getMeshPoints();
+        double max = 0;
+        for (int i = 0; i < n; i++) {
+            double e = Math.abs(u[i] - exact.evaluate(x[i]));
+            if (!(e <= max)) max = e;   // Propage NaN
+        }
+        return max;
+    }
+}
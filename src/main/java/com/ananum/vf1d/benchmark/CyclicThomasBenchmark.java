@@ -0,0 +1,78 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.Factorization;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.TridiagonalOperator;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Coût d'une résolution périodique (système tridiagonal cyclique) rapporté
+ * à celui de Thomas sur le même opérateur non périodique : Thomas cyclique
+ * par Sherman–Morrison (objectif : moins de 2×) et résolution partitionnée
+ * en blocs sur 1, 2, ... cœurs. Factorisations exclues : seule la
+ * résolution pour un nouveau second membre est mesurée.
+ */
+public class CyclicThomasBenchmark {
+
+    public static void main(String[] args) {
+        int repetitions = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int cores = Runtime.getRuntime().availableProcessors();
+        OperatorCache cache = new OperatorCache(8);
+        
+        System.out.println("=== Benchmark Thomas Cyclique (Conditions Périodiques) ===\n");
+        System.out.println("N\t\tMéthode\t\t\tTemps/résolution (ms)\tRapport à Thomas");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        for (int n : new int[] {10_000, 100_000, 1_000_000, 4_000_000}) {
+            double[] rhs = new double[n];
+            for (int i = 0; i < n; i++) rhs[i] = Math.sin(2 * Math.PI * i / n);
+            double[] solution = new double[n];
+            
+            Factorization thomas = cache.get(n, 1.0, true, 1.0, 0.5, 1.0, false).getFactorization();
+            TridiagonalOperator periodic = cache.get(n, 1.0, true, 1.0, 0.5, 1.0, true).getOperator();
+            Factorization cyclic = cache.get(n, 1.0, true, 1.0, 0.5, 1.0, true).getFactorization();
+            
+            double reference = time(thomas, rhs, solution, repetitions);
+            print(n, "Thomas", reference, reference);
+            print(n, "CyclicThomas", time(cyclic, rhs, solution, repetitions), reference);
+            
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+                try {
+                    int partitions = Math.max(1, threads * 4);
+                    Factorization partitioned = periodic.factorizePartitioned(partitions, pool);
+                    print(n, "Partitionné " + threads + "t/" + partitions + "b",
+                          time(partitioned, rhs, solution, repetitions), reference);
+                } finally {
+                    if (pool != null) pool.shutdown();
+                }
+            }
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Temps moyen (ms) d'une résolution, après échauffement
+     */
+    private static double time(Factorization lu, double[] rhs, double[] solution, int repetitions) {
+        double[] work = new double[rhs.length];
+        for (int r = 0; r < 10; r++) {
+            System.arraycopy(rhs, 0, work, 0, rhs.length);
+            lu.solve(work, solution);
+        }
+        
+        long total = 0;
+        for (int r = 0; r < repetitions; r++) {
+            System.arraycopy(rhs, 0, work, 0, rhs.length);
+            long start = System.nanoTime();
+            lu.solve(work, solution);
+            total += System.nanoTime() - start;
+        }
+        return total / 1e6 / repetitions;
+    }
+    
+    private static void print(int n, String method, double ms, double reference) {
+        System.out.printf("%d\t\t%-24s\t%.3f\t\t\t%.2fx\n", n, method, ms, ms / reference);
+    }
+}
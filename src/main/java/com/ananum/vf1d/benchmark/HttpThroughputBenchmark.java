@@ -0,0 +1,103 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.integration.ServeurHttpResolution;
+import com.ananum.integration.ServiceResolution;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Débit du point d'accès HTTP sur localhost : serveur intégré démarré dans
+ * le processus, client java.net.http avec un nombre fixe de requêtes en vol,
+ * pour les deux formats de réponse (JSON base64 et binaire chunked)
+ */
+public class HttpThroughputBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int inFlight = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int n = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+
+        System.out.println("=== Débit du Point d'Accès HTTP (localhost) ===");
+        System.out.println("Requêtes: " + requests + ", concurrence: " + inFlight + ", N = " + n + "\n");
+
+        String corps = "{\"a\":1.0,\"b\":0.5,\"c\":1.0,\"xMin\":0.0,\"xMax\":1.0,\"nx\":" + n
+            + ",\"mailleUniforme\":true,\"fonctionSource\":\"sin(pi*x)\","
+            + "\"conditionsLimites\":{\"u0\":0.0,\"uL\":0.0}}";
+
+        try (ServeurHttpResolution serveur = new ServeurHttpResolution(ServiceResolution.pourVF1D(), 0)) {
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://localhost:" + serveur.getPort() + "/resoudre";
+
+            System.out.println("Format\t\tRequêtes/s\tp50 (ms)\tp99 (ms)\tMo reçus\tÉchecs");
+            System.out.println("-----------------------------------------------------------------------");
+
+            for (String format : new String[] {"json", "binaire"}) {
+                URI uri = URI.create(base + "?format=" + format);
+
+                // Échauffement
+                run(client, uri, corps, Math.min(500, requests), inFlight);
+
+                long startTime = System.nanoTime();
+                Stats stats = run(client, uri, corps, requests, inFlight);
+                long elapsed = System.nanoTime() - startTime;
+
+                Arrays.sort(stats.latencies);
+                System.out.printf("%s\t\t%.0f\t\t%.2f\t\t%.2f\t\t%.1f\t\t%d\n",
+                    format, requests / (elapsed / 1e9),
+                    stats.latencies[requests / 2] / 1e6,
+                    stats.latencies[Math.max(0, (int) Math.ceil(requests * 0.99) - 1)] / 1e6,
+                    stats.bytes / (1024.0 * 1024.0),
+                    stats.failures.get());
+            }
+        }
+    }
+
+    private static class Stats {
+        long[] latencies;
+        long bytes;
+        AtomicInteger failures = new AtomicInteger();
+    }
+
+    private static Stats run(HttpClient client, URI uri, String corps, int requests, int inFlight)
+            throws InterruptedException {
+        Stats stats = new Stats();
+        stats.latencies = new long[requests];
+        long[] sizes = new long[requests];
+        Semaphore permits = new Semaphore(inFlight);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(corps))
+            .build();
+
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            final int index = i;
+            final long submitted = System.nanoTime();
+
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, e) -> {
+                    stats.latencies[index] = System.nanoTime() - submitted;
+                    if (e != null || response.statusCode() != 200) {
+                        stats.failures.incrementAndGet();
+                    } else {
+                        sizes[index] = response.body().length;
+                    }
+                    permits.release();
+                });
+        }
+
+        CompletableFuture.allOf(futures).exceptionally(e -> null).join();
+        for (long s : sizes) stats.bytes += s;
+        return stats;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.Factorization;
+import com.ananum.vf1d.Mesh1D;
+import com.ananum.vf1d.MixedPrecisionThomasFactorization;
+import com.ananum.vf1d.TridiagonalOperator;
+
+/**
+ * Thomas en précision mixte contre Thomas double : temps d'une résolution
+ * (factorisations exclues), débit mémoire effectif, écart relatif à la
+ * solution double et résidu relatif |b - Ax| / |b|, pour 0 à 3 pas de
+ * raffinement. Au-delà de N ≈ 10^6, l'écart entre deux solutions « double »
+ * est dominé par le conditionnement : seul le résidu compare les précisions.
+ *
+ * Octets par ligne (modèle) : Thomas double 56 (facteurs 24, vecteurs 32) ;
+ * précision mixte 36 pour la résolution float, plus 76 par pas de
+ * raffinement (opérateur double 24, b et x en lecture, x en écriture,
+ * facteurs float 12, correction float).
+ */
+public class MixedPrecisionBenchmark {
+
+    private static final int DOUBLE_BYTES = 56;
+    private static final int FLOAT_SOLVE_BYTES = 36;
+    private static final int REFINEMENT_BYTES = 76;
+    
+    public static void main(String[] args) {
+        int repetitions = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int[] sizes = args.length > 1
+            ? new int[] {Integer.parseInt(args[1])} : new int[] {100_000, 1_000_000, 4_000_000};
+        
+        System.out.println("=== Benchmark Thomas en Précision Mixte ===\n");
+        System.out.println("N\t\tMéthode\t\t\tTemps (ms)\tDébit (Go/s)\tÉcart relatif\tRésidu");
+        System.out.println("-----------------------------------------------------------------------------------------------");
+        
+        for (int n : sizes) {
+            TridiagonalOperator op = TridiagonalOperator.assemble(Mesh1D.create(n, 1.0, true), 1.0, 0.5, 1.0);
+            double[] rhs = new double[n];
+            op.buildRightHandSide(x -> Math.sin(Math.PI * x) + 1, 0.0, 1.0, rhs);
+            double[] reference = new double[n];
+            double[] work = new double[n];
+            
+            Factorization thomas = op.factorize();
+            double ms = time(() -> {
+                System.arraycopy(rhs, 0, work, 0, n);
+                thomas.solve(work, reference);
+            }, repetitions);
+            print(n, "Thomas (double)", ms, DOUBLE_BYTES, 0.0, op.residualNorm(reference, rhs) / max(rhs));
+            
+            double[] solution = new double[n];
+            float[] correction = new float[n];
+            for (int steps = 0; steps <= 3; steps++) {
+                MixedPrecisionThomasFactorization mixed = op.factorizeMixedPrecision(steps);
+                ms = time(() -> mixed.solve(rhs, solution, correction), repetitions);
+                print(n, "Mixte, " + steps + " pas", ms, FLOAT_SOLVE_BYTES + steps * REFINEMENT_BYTES,
+                      relativeError(solution, reference), op.residualNorm(solution, rhs) / max(rhs));
+            }
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Temps moyen (ms) d'une résolution, après échauffement
+     */
+    private static double time(Runnable solve, int repetitions) {
+        for (int r = 0; r < 10; r++) solve.run();
+        long start = System.nanoTime();
+        for (int r = 0; r < repetitions; r++) solve.run();
+        return (System.nanoTime() - start) / 1e6 / repetitions;
+    }
+    
+    private static double relativeError(double[] u, double[] reference) {
+        double error = 0, scale = 0;
+        for (int i = 0; i < u.length; i++) {
+            error = Math.max(error, Math.abs(u[i] - reference[i]));
+            scale = Math.max(scale, Math.abs(reference[i]));
+        }
+        return error / scale;
+    }
+    
+    private static double max(double[] v) {
+        double m = 0;
+        for (double x : v) m = Math.max(m, Math.abs(x));
+        return m;
+    }
+    
+    private static void print(int n, String method, double ms, int bytesPerRow, double error,
+                              double residual) {
+        System.out.printf("%d\t\t%-20s\t%.3f\t\t%.2f\t\t%.1e\t\t%.1e\n",
+            n, method, ms, (double) bytesPerRow * n / (ms * 1e6), error, residual);
+    }
+}
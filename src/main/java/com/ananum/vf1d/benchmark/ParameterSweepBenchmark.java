@@ -0,0 +1,69 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.sweep.ParameterSweep;
+import com.ananum.vf1d.sweep.SweepExecutor;
+import com.ananum.vf1d.sweep.SweepResultTable;
+
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * Benchmark du moteur de balayage de paramètres : débit en résolutions par
+ * seconde, séquentiel (1 worker) contre parallèle (tous les cœurs)
+ */
+public class ParameterSweepBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int samples = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        ParametresEntree base = new ParametresEntree();
+        base.xMin = 0.0;
+        base.xMax = 1.0;
+        base.conditionsLimites = new ParametresEntree.ConditionLimite();
+        base.conditionsLimites.u0 = 0.0;
+        base.conditionsLimites.uL = 1.0;
+        base.mailleUniforme = true;
+        base.fonctionSource = "0";
+
+        System.out.println("=== Benchmark Balayage de Paramètres ===");
+        System.out.println("Hypercube latin de " + samples + " points sur (a, b, c, N, source)\n");
+
+        // Échauffement
+        runOnce(base, Math.min(samples, 5_000), 1);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Workers\tTemps (ms)\tRésolutions/s\tTemps solveur cumulé (ms)");
+        System.out.println("-----------------------------------------------------------------");
+
+        SweepResultTable table = null;
+        for (int workers : new int[] {1, cores}) {
+            long startTime = System.nanoTime();
+            table = runOnce(base, samples, workers);
+            long elapsed = System.nanoTime() - startTime;
+
+            System.out.printf("%d\t%d\t\t%.0f\t\t%d\n",
+                workers, elapsed / 1_000_000,
+                table.size() / (elapsed / 1e9),
+                table.totalSolveNanos() / 1_000_000);
+        }
+
+        try (FileWriter writer = new FileWriter("sweep_results.csv")) {
+            table.writeCsv(writer);
+        }
+        System.out.println("\nTable de résultats sauvegardée: sweep_results.csv");
+    }
+
+    private static SweepResultTable runOnce(ParametresEntree base, int samples, int workers) {
+        ParameterSweep sweep = ParameterSweep.latinHypercube(base, samples, 42L)
+            .aRange(0.01, 2.0)
+            .bRange(-5.0, 5.0)
+            .cRange(0.0, 10.0)
+            .nRange(50, 2000)
+            .sources("0", "1", "sin(pi*x)", "exp(x)");
+
+        try (SweepExecutor executor = new SweepExecutor(workers)) {
+            return executor.run(sweep);
+        }
+    }
+}
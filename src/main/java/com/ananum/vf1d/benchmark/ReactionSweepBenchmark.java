@@ -0,0 +1,90 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+/**
+ * Balayage de continuation sur le coefficient de réaction c : un solveur
+ * froid par valeur (assemblage, factorisation et départ de zéro) contre un
+ * seul solveur mis à jour par setReaction (décalage diagonal O(N)) et
+ * démarré à chaud depuis la solution précédente.
+ */
+public class ReactionSweepBenchmark {
+
+    private static final Function1D SOURCE = x -> Math.sin(Math.PI * x);
+    
+    public static void main(String[] args) {
+        int steps = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        double cMax = args.length > 1 ? Double.parseDouble(args[1]) : 50.0;
+        
+        System.out.println("=== Benchmark Balayage en c (Continuation) ===\n");
+        System.out.println(steps + " valeurs de c dans ]0, " + cMax + "]");
+        System.out.println("N\tMéthode\t\tFroid (ms)\tItérations\tChaud (ms)\tItérations\tAccélération");
+        System.out.println("-------------------------------------------------------------------------------------------");
+        
+        // Échauffement
+        sweep(200, IterativeMethod.SOR, 20, cMax, false);
+        sweep(200, IterativeMethod.SOR, 20, cMax, true);
+        
+        for (IterativeMethod method : new IterativeMethod[] {
+                IterativeMethod.SOR, IterativeMethod.BICGSTAB, IterativeMethod.GMRES}) {
+            long[] cold = sweep(400, method, steps, cMax, false);
+            long[] warm = sweep(400, method, steps, cMax, true);
+            print(400, method.getMethodName(), cold, warm);
+        }
+        
+        // Direct (Thomas) : seul l'assemblage est économisé
+        for (int n : new int[] {100_000, 1_000_000}) {
+            long[] cold = directSweep(n, steps, cMax, false);
+            long[] warm = directSweep(n, steps, cMax, true);
+            print(n, "Thomas", cold, warm);
+        }
+    }
+    
+    /**
+     * Durée totale (ns) et itérations cumulées du balayage
+     */
+    private static long[] sweep(int n, IterativeMethod method, int steps, double cMax, boolean update) {
+        OperatorCache.shared().clear();
+        long start = System.nanoTime();
+        long iterations = 0;
+        VolumesFinis1DSolver solver = null;
+        for (int k = 1; k <= steps; k++) {
+            double c = cMax * k / steps;
+            if (update && solver != null) {
+                solver.setReaction(c);
+            } else {
+                solver = new VolumesFinis1DSolver(n, 1.0, 1.0, 0.5, c, SOURCE, 0.0, 1.0, true);
+                solver.setIterativeMethod(method);
+                solver.setWarmStart(update);
+            }
+            solver.solve();
+            iterations += solver.getIterations();
+        }
+        return new long[] {System.nanoTime() - start, iterations};
+    }
+    
+    private static long[] directSweep(int n, int steps, double cMax, boolean update) {
+        OperatorCache.shared().clear();
+        long start = System.nanoTime();
+        VolumesFinis1DSolver solver = null;
+        for (int k = 1; k <= steps; k++) {
+            double c = cMax * k / steps;
+            if (update && solver != null) {
+                solver.setReaction(c);
+            } else {
+                solver = new OptimizedVolumesFinis1DSolver(n, 1.0, 1.0, 0.5, c, SOURCE, 0.0, 1.0, true);
+            }
+            solver.solve();
+        }
+        return new long[] {System.nanoTime() - start, steps};
+    }
+    
+    private static void print(int n, String method, long[] cold, long[] warm) {
+        System.out.printf("%d\t%-12s\t%.1f\t\t%d\t\t%.1f\t\t%d\t\t%.2fx\n", n, method,
+            cold[0] / 1e6, cold[1], warm[0] / 1e6, warm[1], (double) cold[0] / warm[0]);
+    }
+}
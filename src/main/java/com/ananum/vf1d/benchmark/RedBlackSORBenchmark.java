@@ -0,0 +1,105 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.SolveReport;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Méthodes itératives du solveur de référence :
+ * - itérations et temps jusqu'à la tolérance, Gauss-Seidel et SOR
+ *   lexicographiques (omega = 1.8 et optimal) contre rouge-noir ;
+ * - débit des balayages pour un grand N (nombre de balayages fixé),
+ *   SOR séquentiel contre SOR rouge-noir sur 1, 2, ... cœurs.
+ */
+public class RedBlackSORBenchmark {
+
+    private static final Function1D SOURCE = x -> Math.sin(Math.PI * x);
+    
+    public static void main(String[] args) {
+        int largeN = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int sweeps = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        
+        System.out.println("=== Benchmark Gauss-Seidel / SOR Rouge-Noir ===\n");
+        System.out.println("--- Convergence (tolérance " + VolumesFinis1DSolver.TOLERANCE
+            + ", au plus " + VolumesFinis1DSolver.MAX_ITERATIONS + " balayages) ---");
+        System.out.println("N\tMéthode\t\t\tOmega\tItérations\tTemps (ms)\tConvergé");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        for (int n : new int[] {100, 200, 400, 800}) {
+            double optimal = OperatorCache.shared().get(n, 1.0, true, 1.0, 0.5, 1.0).getOptimalOmega();
+            convergence(n, IterativeMethod.GAUSS_SEIDEL, 1.0);
+            convergence(n, IterativeMethod.SOR, 1.8);
+            convergence(n, IterativeMethod.SOR, optimal);
+            convergence(n, IterativeMethod.RED_BLACK_GAUSS_SEIDEL, 1.0);
+            convergence(n, IterativeMethod.RED_BLACK_SOR, optimal);
+            System.out.println();
+        }
+        
+        System.out.println("--- Débit : N = " + largeN + ", " + sweeps + " balayages ---");
+        System.out.println("Méthode\t\t\tThreads\tTemps (ms)\tBalayages/s\tAccélération");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        // Échauffement
+        throughput(largeN, IterativeMethod.SOR, Math.min(sweeps, 20), null);
+        throughput(largeN, IterativeMethod.RED_BLACK_SOR, Math.min(sweeps, 20), null);
+        
+        long serial = throughput(largeN, IterativeMethod.SOR, sweeps, null);
+        printThroughput("SOR", 1, serial, sweeps, serial);
+        long redBlackSerial = throughput(largeN, IterativeMethod.RED_BLACK_SOR, sweeps, null);
+        printThroughput("RedBlackSOR", 1, redBlackSerial, sweeps, serial);
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 2; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                throughput(largeN, IterativeMethod.RED_BLACK_SOR, Math.min(sweeps, 20), pool);
+                long elapsed = throughput(largeN, IterativeMethod.RED_BLACK_SOR, sweeps, pool);
+                printThroughput("RedBlackSOR", threads, elapsed, sweeps, serial);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        if (cores == 1) {
+            System.out.println("(un seul cœur disponible : pas de mesure parallèle)");
+        }
+    }
+    
+    private static void convergence(int n, IterativeMethod method, double omega) {
+        VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.5, 1.0, SOURCE, 0.0, 1.0, true);
+        solver.setIterativeMethod(method);
+        if (method.isOverRelaxed()) {
+            solver.setRelaxationFactor(omega);
+        }
+        solver.solve();
+        SolveReport report = solver.getLastReport();
+        
+        System.out.printf("%d\t%-20s\t%.4f\t%d\t\t%.2f\t\t%s\n",
+            n, method.getMethodName(), omega, report.getIterations(),
+            report.getElapsedNanos() / 1e6, report.isConverged() ? "oui" : "non");
+    }
+    
+    /**
+     * Durée (ns) de sweeps balayages exactement (tolérance hors d'atteinte)
+     */
+    private static long throughput(int n, IterativeMethod method, int sweeps, ForkJoinPool pool) {
+        VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.5, 1.0, SOURCE, 0.0, 1.0, true);
+        solver.setIterativeMethod(method);
+        solver.setRelaxationFactor(1.9);
+        solver.setMaxIterations(sweeps);
+        solver.setPool(pool);
+        solver.solve();
+        return solver.getLastReport().getElapsedNanos();
+    }
+    
+    private static void printThroughput(String method, int threads, long elapsed, int sweeps,
+                                        long serial) {
+        System.out.printf("%-20s\t%d\t%.1f\t\t%.1f\t\t%.2fx\n",
+            method, threads, elapsed / 1e6, sweeps / (elapsed / 1e9), (double) serial / elapsed);
+    }
+}
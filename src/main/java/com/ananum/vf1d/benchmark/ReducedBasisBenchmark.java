@@ -0,0 +1,76 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.reduced.ParametrizedProblem;
+import com.ananum.vf1d.reduced.ReducedBasis;
+
+/**
+ * Base réduite POD contre résolution complète (Thomas) pour un grand nombre
+ * de requêtes μ = (a, b, c, s) :
+ * - coût hors ligne (clichés, POD, données affines) et taille de la base ;
+ * - coût en ligne par requête (indépendant de N) contre Thomas ;
+ * - erreur L2 réelle et borne a posteriori sur des points de test.
+ */
+public class ReducedBasisBenchmark {
+
+    private static final double[] MIN = {0.05, -2.0, 0.0, 0.5};
+    private static final double[] MAX = {1.0, 2.0, 5.0, 2.0};
+    
+    public static void main(String[] args) {
+        int training = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        
+        System.out.println("=== Benchmark Base Réduite (POD) ===");
+        System.out.println("μ = (a, b, c, s) dans [" + MIN[0] + ", " + MAX[0] + "] x ["
+            + MIN[1] + ", " + MAX[1] + "] x [" + MIN[2] + ", " + MAX[2] + "] x ["
+            + MIN[3] + ", " + MAX[3] + "], " + training + " clichés\n");
+        System.out.println("N\tr\tHors ligne (ms)\tEn ligne (μs)\tThomas (μs)\tAccélération"
+            + "\tErreur max\tBorne max\tEfficacité max");
+        System.out.println("--------------------------------------------------------------------"
+            + "----------------------------------------------------");
+        
+        double[][] test = ReducedBasis.trainingSet(MIN, MAX, 500, 7L);
+        for (int n : new int[] {400, 4000, 40000}) {
+            ParametrizedProblem problem = new ParametrizedProblem(
+                n, 1.0, x -> Math.sin(Math.PI * x), 0.5, 1.0);
+            ReducedBasis basis = ReducedBasis.offline(
+                problem, ReducedBasis.trainingSet(MIN, MAX, training, 1L), 1e-6, 40);
+            ReducedBasis.Evaluator evaluator = basis.evaluator();
+            double[] dx = problem.getMesh().getCellWidths();
+            
+            // Précision sur les points de test
+            double maxError = 0, maxBound = 0, maxEffectivity = 0;
+            long truth = 0;
+            for (double[] mu : test) {
+                double bound = evaluator.solve(mu[0], mu[1], mu[2], mu[3]);
+                long t = System.nanoTime();
+                double[] u = problem.solve(mu[0], mu[1], mu[2], mu[3]).getValues();
+                truth += System.nanoTime() - t;
+                double[] v = evaluator.reconstruct().getValues();
+                double error = 0;
+                for (int i = 0; i < n; i++) error += dx[i] * (u[i] - v[i]) * (u[i] - v[i]);
+                error = Math.sqrt(error);
+                maxError = Math.max(maxError, error);
+                maxBound = Math.max(maxBound, bound);
+                maxEffectivity = Math.max(maxEffectivity, bound / error);
+            }
+            
+            // Débit en ligne (échauffement compris)
+            double sink = 0;
+            for (int k = 0; k < queries / 10; k++) {
+                double[] mu = test[k % test.length];
+                sink += evaluator.solve(mu[0], mu[1], mu[2], mu[3]);
+            }
+            long start = System.nanoTime();
+            for (int k = 0; k < queries; k++) {
+                double[] mu = test[k % test.length];
+                sink += evaluator.solve(mu[0], mu[1], mu[2], mu[3]);
+            }
+            double online = (System.nanoTime() - start) / 1e3 / queries;
+            double thomas = truth / 1e3 / test.length;
+            
+            System.out.printf("%d\t%d\t%.1f\t\t%.2f\t\t%.1f\t\t%.0fx\t\t%.2e\t%.2e\t%.0f%s\n",
+                n, basis.getSize(), basis.getOfflineNanos() / 1e6, online, thomas, thomas / online,
+                maxError, maxBound, maxEffectivity, Double.isNaN(sink) ? " (NaN)" : "");
+        }
+    }
+}
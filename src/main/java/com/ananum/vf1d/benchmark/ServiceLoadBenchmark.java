@@ -0,0 +1,89 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.integration.ResultatResolution;
+import com.ananum.integration.ServiceResolution;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Test de charge du service de résolution : un nombre fixe de requêtes en
+ * vol, latence de bout en bout (soumission → résultat) mesurée par requête,
+ * rapport p50 / p99 / max et débit
+ */
+public class ServiceLoadBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int inFlight = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+
+        System.out.println("=== Test de Charge - Service de Résolution ===");
+        System.out.println("Requêtes: " + requests + ", concurrence: " + inFlight);
+
+        try (ServiceResolution service = ServiceResolution.pourVF1D()) {
+            // Échauffement
+            run(service, Math.min(500, requests), inFlight);
+
+            long startTime = System.nanoTime();
+            long[] latencies = run(service, requests, inFlight);
+            long elapsed = System.nanoTime() - startTime;
+
+            Arrays.sort(latencies);
+            System.out.println("\nLatence (μs)\tp50\t\tp99\t\tmax");
+            System.out.printf("\t\t%.1f\t\t%.1f\t\t%.1f\n",
+                percentile(latencies, 0.50) / 1e3,
+                percentile(latencies, 0.99) / 1e3,
+                latencies[latencies.length - 1] / 1e3);
+            System.out.printf("Débit: %.0f résolutions/s\n", requests / (elapsed / 1e9));
+            System.out.println("Échecs: " + service.getEchecs());
+        }
+    }
+
+    private static long[] run(ServiceResolution service, int requests, int inFlight)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        Semaphore permits = new Semaphore(inFlight);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            final int index = i;
+            final long submitted = System.nanoTime();
+
+            CompletableFuture<ResultatResolution> f = service.submit(createParams(i));
+            futures[i] = f.whenComplete((r, e) -> {
+                latencies[index] = System.nanoTime() - submitted;
+                permits.release();
+            });
+        }
+
+        CompletableFuture.allOf(futures).join();
+        return latencies;
+    }
+
+    /**
+     * Mélange de petites et grandes tailles, représentatif d'un tableau de bord
+     */
+    private static ParametresEntree createParams(int i) {
+        ParametresEntree params = new ParametresEntree();
+        params.a = 1.0;
+        params.b = (i % 7) * 0.5;
+        params.c = 1.0;
+        params.xMin = 0.0;
+        params.xMax = 1.0;
+        params.nx = (i % 10 == 0) ? 2000 : 200;
+        params.mailleUniforme = true;
+        params.fonctionSource = "sin(pi*x)";
+        params.conditionsLimites = new ParametresEntree.ConditionLimite();
+        params.conditionsLimites.u0 = 0.0;
+        params.conditionsLimites.uL = 0.0;
+        return params;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
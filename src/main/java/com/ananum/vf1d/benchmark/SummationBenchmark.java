@@ -0,0 +1,119 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.analysis.AnalysisTools.ErrorAnalysis;
+import com.ananum.vf1d.analysis.SummationMode;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Coût et précision des modes de sommation des normes d'erreur : somme
+ * naïve, compensée (Kahan–Neumaier) et réduction par paires parallèle,
+ * sur une erreur synthétique de 1e-9 (solution exacte polynomiale, pour
+ * que l'évaluation ne masque pas le coût de la sommation). L'écart est
+ * mesuré sur Σe² dx contre une somme exacte en BigDecimal.
+ *
+ * Puis, pour le plus grand N, la réduction par paires parallèle avec une
+ * solution exacte coûteuse (sinus) sur 1, 2, ... cœurs, rapportée au temps
+ * d'une résolution de Thomas sur le même maillage.
+ */
+public class SummationBenchmark {
+
+    private static final Function1D EXACT = x -> x * (1 - x);
+    
+    public static void main(String[] args) {
+        int repetitions = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int[] sizes = args.length > 1
+            ? new int[] {Integer.parseInt(args[1])} : new int[] {1_000_000, 10_000_000};
+        
+        System.out.println("=== Benchmark Sommation des Normes d'Erreur ===\n");
+        System.out.println("N\t\tMode\t\t\tTemps (ms)\tRapport\t\tÉcart relatif (Σe² dx)");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        for (int n : sizes) {
+            double[] x = new double[n], u = new double[n], dx = new double[n];
+            for (int i = 0; i < n; i++) {
+                dx[i] = 1.0 / n;
+                x[i] = (i + 0.5) / n;
+                u[i] = EXACT.evaluate(x[i]) + 1e-9 * Math.sin(13 * x[i]);
+            }
+            Solution1D solution = new Solution1D(u, x, dx, n);
+            double reference = exactSquaredError(u, x, dx);
+            
+            double naive = Double.NaN;
+            for (SummationMode mode : SummationMode.values()) {
+                double[] result = new double[1];
+                Runnable run = () -> {
+                    double e = ErrorAnalysis.computeErrorMetrics(solution, EXACT, mode).errorL2;
+                    result[0] = e * e;
+                };
+                for (int r = 0; r < 3; r++) run.run();
+                long start = System.nanoTime();
+                for (int r = 0; r < repetitions; r++) run.run();
+                double ms = (System.nanoTime() - start) / 1e6 / repetitions;
+                if (mode == SummationMode.NAIVE) naive = ms;
+                
+                System.out.printf("%d\t\t%-20s\t%.2f\t\t%.2fx\t\t%.1e\n", n, mode, ms, ms / naive,
+                    Math.abs(result[0] - reference) / reference);
+            }
+            System.out.println();
+        }
+        
+        parallelMetrics(sizes[sizes.length - 1], repetitions);
+    }
+    
+    private static void parallelMetrics(int n, int repetitions) {
+        Function1D exact = x -> Math.sin(Math.PI * x);
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.0, 0.0, x -> Math.PI * Math.PI * Math.sin(Math.PI * x), 0.0, 0.0, true);
+        Solution1D solution = solver.solve();
+        long start = System.nanoTime();
+        for (int r = 0; r < repetitions; r++) solution = solver.solve();
+        double solveMs = (System.nanoTime() - start) / 1e6 / repetitions;
+        Solution1D solved = solution;
+        
+        System.out.println("--- Normes d'erreur en parallèle : N = " + n + ", résolution (Thomas) "
+            + String.format("%.2f", solveMs) + " ms ---");
+        System.out.println("Threads	Temps (ms)	Rapport à la résolution	Identique à 1 thread");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        double reference = Double.NaN;
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double[] errorL2 = new double[1];
+                Runnable run = () -> errorL2[0] = ErrorAnalysis.computeErrorMetrics(
+                    solved, exact, SummationMode.PAIRWISE_PARALLEL, pool).errorL2;
+                for (int r = 0; r < 3; r++) run.run();
+                start = System.nanoTime();
+                for (int r = 0; r < repetitions; r++) run.run();
+                double ms = (System.nanoTime() - start) / 1e6 / repetitions;
+                if (threads == 1) reference = errorL2[0];
+                System.out.printf("%d\t%.2f\t\t%.2fx\t\t\t%s\n", threads, ms, ms / solveMs,
+                    errorL2[0] == reference ? "oui" : "non");
+            } finally {
+                pool.shutdown();
+            }
+        }
+        if (cores == 1) {
+            System.out.println("(un seul cœur disponible : pas de mesure parallèle)");
+        }
+    }
+    
+    /**
+     * Σe² dx exacte (termes arrondis en double, somme en BigDecimal)
+     */
+    private static double exactSquaredError(double[] u, double[] x, double[] dx) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < u.length; i++) {
+            double error = Math.abs(u[i] - EXACT.evaluate(x[i]));
+            sum = sum.add(new BigDecimal(error * error * dx[i]));
+        }
+        return sum.round(MathContext.DECIMAL64).doubleValue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ananum.vf1d.benchmark;
+
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+import com.ananum.vf1d.reduced.SurrogateCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Cache de substitution sur μ = (λ = log₁₀ Pe, c), le vrai solveur étant la
+ * correction différée TVD van Leer (non affine en μ) :
+ * - balayage raffiné : grilles 11², 21², 41², 81² parcourues en serpentin,
+ *   chaque grille contenant la précédente ;
+ * - charge aléatoire : tirages uniformes, par blocs successifs.
+ * Pour chaque passe : taux de succès, latences par interpolation et par le
+ * vrai solveur, accélération contre la passe entièrement résolue (au coût
+ * moyen d'un échec de la même passe), erreur L2 réelle des requêtes
+ * interpolées (échantillon) et dépassements de tolérance.
+ */
+public class SurrogateCacheBenchmark {
+
+    private static final double[] MIN = {0.0, 0.0};
+    private static final double[] MAX = {2.0, 5.0};
+    
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 800;
+        double tolerance = args.length > 1 ? Double.parseDouble(args[1]) : 1e-2;
+        
+        SurrogateCache.Solver solver = mu -> {
+            VolumesFinis1DSolver s = new VolumesFinis1DSolver(
+                n, 1.0, Math.pow(10, -mu[0]), 1.0, mu[1], x -> 1.0, 0.0, 1.0, true);
+            s.setConvectionScheme(ConvectionScheme.TVD_VAN_LEER);
+            return s.solve();
+        };
+        
+        // Échauffement du vrai solveur
+        Random random = new Random(11L);
+        for (int k = 0; k < 600; k++) solver.solve(uniform(random));
+        
+        System.out.println("=== Benchmark Cache de Substitution ===");
+        System.out.printf("N = %d, μ = (log10 Pe, c) dans [%.0f, %.0f] x [%.0f, %.0f], tolérance %.0e%n%n",
+            n, MIN[0], MAX[0], MIN[1], MAX[1], tolerance);
+        System.out.println("Passe		Requêtes	Succès	Stockées	Interp. (μs)	Solveur (μs)"
+            + "	Accélération	Erreur max	Dépassements");
+        System.out.println("--------------------------------------------------------------------"
+            + "------------------------------------------------------------");
+        
+        SurrogateCache cache = new SurrogateCache(solver, MIN, MAX, tolerance);
+        for (int side : new int[] {11, 21, 41, 81}) {
+            List<double[]> grid = new ArrayList<>();
+            for (int i = 0; i < side; i++) {
+                for (int j = 0; j < side; j++) {
+                    int jj = i % 2 == 0 ? j : side - 1 - j;
+                    grid.add(new double[] {MIN[0] + (MAX[0] - MIN[0]) * i / (side - 1),
+                                           MIN[1] + (MAX[1] - MIN[1]) * jj / (side - 1)});
+                }
+            }
+            run("grille " + side + "²", grid, cache, solver, tolerance);
+        }
+        System.out.println();
+        
+        cache = new SurrogateCache(solver, MIN, MAX, tolerance);
+        for (int block = 1; block <= 4; block++) {
+            List<double[]> load = new ArrayList<>();
+            for (int k = 0; k < 5000; k++) load.add(uniform(random));
+            run("aléatoire " + block, load, cache, solver, tolerance);
+        }
+        System.out.println("\n" + cache);
+    }
+    
+    private static double[] uniform(Random random) {
+        return new double[] {MIN[0] + (MAX[0] - MIN[0]) * random.nextDouble(),
+                             MIN[1] + (MAX[1] - MIN[1]) * random.nextDouble()};
+    }
+    
+    private static void run(String label, List<double[]> load, SurrogateCache cache,
+                            SurrogateCache.Solver solver, double tolerance) {
+        cache.resetStatistics();
+        List<double[]> interpolated = new ArrayList<>();
+        List<Solution1D> answers = new ArrayList<>();
+        
+        long start = System.nanoTime();
+        for (double[] mu : load) {
+            long before = cache.getHits();
+            Solution1D solution = cache.query(mu);
+            if (cache.getHits() > before && cache.getLastEstimate() > 0 && interpolated.size() < 200) {
+                interpolated.add(mu);
+                answers.add(solution);
+            }
+        }
+        double elapsed = System.nanoTime() - start;
+        
+        // Erreur réelle sur (au plus) 200 requêtes interpolées, hors chronométrage
+        double maxError = 0;
+        int exceeded = 0;
+        for (int k = 0; k < interpolated.size(); k++) {
+            double[] u = solver.solve(interpolated.get(k)).getValues();
+            double[] v = answers.get(k).getValues();
+            double[] dx = answers.get(k).getCellWidths();
+            double error = 0, length = 0;
+            for (int i = 0; i < u.length; i++) {
+                error += dx[i] * (u[i] - v[i]) * (u[i] - v[i]);
+                length += dx[i];
+            }
+            error = Math.sqrt(error / length);
+            maxError = Math.max(maxError, error);
+            if (error > tolerance) exceeded++;
+        }
+        
+        System.out.printf("%-12s\t%d\t\t%.1f %%\t%d\t\t%.1f\t\t%.0f\t\t%.1fx\t\t%.2e\t%d/%d%n",
+            label, load.size(), 100 * cache.getHitRate(), cache.getSize(),
+            cache.getMeanHitNanos() / 1e3, cache.getMeanMissNanos() / 1e3,
+            cache.getMeanMissNanos() * load.size() / elapsed, maxError, exceeded, interpolated.size());
+    }
+}
@@ -0,0 +1,42 @@
+package com.ananum.vf1d.integration;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+/**
+ * Conversion des conditions aux limites des paramètres d'entrée vers le
+ * solveur VF1D (partagée par les méthodes, les balayages et les services)
+ */
+public final class BoundaryConditions {
+
+    private BoundaryConditions() {
+    }
+    
+    /**
+     * Applique au solveur les conditions périodiques ou les types de
+     * conditions aux deux bords ; u0 et uL ont été passés au constructeur
+     */
+    public static void configure(VolumesFinis1DSolver solver, ParametresEntree.ConditionLimite limites) {
+        solver.setPeriodic(limites.periodique);
+        if (!limites.periodique) {
+            solver.setBoundaryConditions(
+                of(limites.type0, limites.alpha0, limites.beta0),
+                of(limites.typeL, limites.alphaL, limites.betaL));
+        }
+    }
+    
+    /**
+     * Type de condition du solveur (Dirichlet si type est null)
+     */
+    public static BoundaryCondition of(ParametresEntree.TypeLimite type, double alpha, double beta) {
+        if (type == null) {
+            return BoundaryCondition.DIRICHLET;
+        }
+        switch (type) {
+            case NEUMANN: return BoundaryCondition.NEUMANN;
+            case ROBIN:   return BoundaryCondition.robin(alpha, beta);
+            default:      return BoundaryCondition.DIRICHLET;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ananum.vf1d.integration;
+
+import com.ananum.vf1d.Function1D;
+
+/**
+ * Analyse des expressions de fonctions source reconnues par la méthode VF1D
+ * (partagée par la méthode Enhanced, les balayages de paramètres et les services)
+ */
+public final class SourceFunctions {
+    
+    private SourceFunctions() {
+    }
+    
+    /**
+     * Crée la fonction source à partir de l'expression (f(x) = 0, avec un
+     * avertissement, si l'expression n'est pas reconnue)
+     */
+    public static Function1D parse(String expression) {
+        Function1D f = recognize(expression);
+        if (f == null) {
+            System.out.println("⚠️  Expression '" + expression + "' non reconnue, utilisation de f(x) = 0");
+            return x -> 0.0;
+        }
+        return f;
+    }
+    
+    /**
+     * Crée la fonction source à partir de l'expression, en rejetant les
+     * expressions absentes ou non reconnues (requêtes de services)
+     */
+    public static Function1D parseStrict(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("La fonction source doit être spécifiée");
+        }
+        Function1D f = recognize(expression);
+        if (f == null) {
+            throw new IllegalArgumentException("Expression de fonction source non reconnue: '" + expression + "'");
+        }
+        return f;
+    }
+    
+    /**
+     * Fonction correspondant à l'expression, ou null si elle n'est pas reconnue
+     */
+    private static Function1D recognize(String expression) {
+        // Gestion des expressions mathématiques courantes
+        expression = expression.toLowerCase().trim();
+        
+        // Cas constants
+        if (expression.equals("0") || expression.equals("zero")) {
+            return x -> 0.0;
+        }
+        if (expression.equals("1") || expression.equals("un")) {
+            return x -> 1.0;
+        }
+        
+        // Cas polynomiaux
+        if (expression.equals("x")) {
+            return x -> x;
+        }
+        if (expression.equals("x^2") || expression.equals("x²")) {
+            return x -> x * x;
+        }
+        if (expression.equals("x^3")) {
+            return x -> x * x * x;
+        }
+        
+        // Cas trigonométriques
+        if (expression.equals("sin(x)")) {
+            return x -> Math.sin(x);
+        }
+        if (expression.equals("cos(x)")) {
+            return x -> Math.cos(x);
+        }
+        if (expression.equals("sin(pi*x)") || expression.equals("sin(πx)")) {
+            return x -> Math.sin(Math.PI * x);
+        }
+        if (expression.equals("sin(2*pi*x)") || expression.equals("sin(2πx)")) {
+            return x -> Math.sin(2 * Math.PI * x);
+        }
+        
+        // Cas exponentiels
+        if (expression.equals("exp(x)") || expression.equals("e^x")) {
+            return x -> Math.exp(x);
+        }
+        if (expression.equals("exp(-x)") || expression.equals("e^(-x)")) {
+            return x -> Math.exp(-x);
+        }
+        
+        // Cas combinés
+        if (expression.contains("gaussian") || expression.contains("gauss")) {
+            return x -> Math.exp(-x * x);
+        }
+        
+        // Par défaut, essayer de parser comme constante
+        try {
+            double val = Double.parseDouble(expression);
+            return x -> val;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
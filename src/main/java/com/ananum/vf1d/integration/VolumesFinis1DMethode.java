@@ -1,7 +1,10 @@
 package com.ananum.vf1d.integration;
 
 
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.IterativeMethod;
 import com.ananum.vf1d.VolumesFinis1DSolver;
+import com.ananum.vf1d.krylov.PreconditionerType;
 import com.ananum.integration.*;
 import com.ananum.vf1d.Function1D;
 import com.ananum.vf1d.Solution1D;
@@ -30,17 +33,26 @@ public class VolumesFinis1DMethode implements MethodeResolution {
             params.conditionsLimites.uL,
             params.mailleUniforme
         );
+        BoundaryConditions.configure(solver, params.conditionsLimites);
+        solver.setConvectionScheme(ConvectionScheme.fromName(params.schemaConvection));
+        if (params.conditionsLimites.periodique) {
+            // Opérateur cyclique : pas de Gauss-Seidel, BiCGSTAB préconditionné
+            // par ILU(0) de la partie tridiagonale
+            solver.setIterativeMethod(IterativeMethod.BICGSTAB);
+            solver.setPreconditioner(PreconditionerType.ILU0);
+        }
         
         // Résolution
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Solution1D sol = solver.solve();
-        long endTime = System.currentTimeMillis();
+        long endTime = System.nanoTime();
         
         // Construction du résultat
         ResultatResolution resultat = new ResultatResolution();
         resultat.solution = sol.getValues();
         resultat.x = translateMesh(sol.getMeshPoints(), params.xMin);
-        resultat.tempsCalcul = endTime - startTime;
+        resultat.tempsCalcul = (endTime - startTime) / 1e6;
+        resultat.iterations = solver.getIterations();
         
         return resultat;
     }
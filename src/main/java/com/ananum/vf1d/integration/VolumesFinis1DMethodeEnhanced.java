@@ -3,11 +3,18 @@ package com.ananum.vf1d.integration;
 import com.ananum.vf1d.*;
 import com.ananum.vf1d.visualization.GraphGenerator;
 import com.ananum.vf1d.analysis.AnalysisTools;
+import com.ananum.vf1d.analysis.ParallelConvergenceStudy;
+import com.ananum.vf1d.analysis.RichardsonExtrapolation;
+import com.ananum.vf1d.metrics.ExportEvent;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolverEvents;
+import com.ananum.vf1d.metrics.SolverMetrics;
 import com.ananum.integration.*;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Version améliorée de la méthode volumes finis 1D avec visualisation et analyse
@@ -16,7 +23,11 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
     
     private boolean generateGraphs = true;
     private boolean performAnalysis = true;
-    private Map<String, Object> additionalResults = new HashMap<>();
+    private boolean parallelConvergence = true;
+    private boolean strictSource = false;
+    private boolean verbose = true;
+    // Partagée entre résolutions concurrentes (ServiceResolution)
+    private Map<String, Object> additionalResults = new ConcurrentHashMap<>();
     
     @Override
     public ResultatResolution resoudre(ParametresEntree params) {
@@ -43,47 +54,30 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
         // Domaine
         double L = params.xMax - params.xMin;
         
-        // Choix du solveur selon la taille
-        VolumesFinis1DSolver solver;
-        if (params.nx > 500) {
-            solver = new OptimizedVolumesFinis1DSolver(
-                params.nx, L, 
-                params.a, params.b, params.c,
-                sourceFunction,
-                params.conditionsLimites.u0,
-                params.conditionsLimites.uL,
-                params.mailleUniforme
-            );
+        VolumesFinis1DSolver solver = createSolver(params, params.nx, L, sourceFunction,
+                                                   params.mailleUniforme);
+        if (verbose && solver instanceof OptimizedVolumesFinis1DSolver) {
             System.out.println("Utilisation du solveur optimisé pour N = " + params.nx);
-        } else {
-            solver = new VolumesFinis1DSolver(
-                params.nx, L, 
-                params.a, params.b, params.c,
-                sourceFunction,
-                params.conditionsLimites.u0,
-                params.conditionsLimites.uL,
-                params.mailleUniforme
-            );
         }
         
         // Résolution avec mesure du temps
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         Solution1D sol = solver.solve();
-        long endTime = System.currentTimeMillis();
+        long endTime = System.nanoTime();
         
         // Construction du résultat standard
         ResultatResolution resultat = new ResultatResolutionEnhanced();
         resultat.solution = sol.getValues();
         resultat.x = translateMesh(sol.getMeshPoints(), params.xMin);
-        resultat.tempsCalcul = endTime - startTime;
+        resultat.tempsCalcul = (endTime - startTime) / 1e6;
         
         // Ajout des informations supplémentaires
-        if (solver instanceof OptimizedVolumesFinis1DSolver) {
-            resultat.iterations = ((OptimizedVolumesFinis1DSolver) solver).getIterations();
-        }
+        resultat.iterations = solver.getIterations();
         
         // Génération des graphiques si demandé
         if (generateGraphs) {
+            ExportEvent event = SolverEvents.beginExport();
+            long t = SolverMetrics.start();
             try {
                 String baseFilename = "vf1d_solution_" + System.currentTimeMillis();
                 
@@ -95,11 +89,15 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
                 );
                 
                 ((ResultatResolutionEnhanced) resultat).graphFile = baseFilename + ".html";
-                System.out.println("✓ Graphique généré: " + baseFilename + ".html");
+                if (verbose) {
+                    System.out.println("✓ Graphique généré: " + baseFilename + ".html");
+                }
                 
             } catch (IOException e) {
                 System.err.println("Erreur lors de la génération des graphiques: " + e.getMessage());
             }
+            SolverMetrics.stop(Phase.EXPORT, t);
+            SolverEvents.endExport(event, "html", params.nx);
         }
         
         // Analyse d'erreur si solution exacte disponible
@@ -111,7 +109,9 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
                     AnalysisTools.ErrorAnalysis.computeErrorMetrics(sol, exact);
                 
                 ((ResultatResolutionEnhanced) resultat).errorMetrics = errors;
-                System.out.println("Erreur L2: " + String.format("%.3e", errors.errorL2));
+                if (verbose) {
+                    System.out.println("Erreur L2: " + String.format("%.3e", errors.errorL2));
+                }
             }
         }
         
@@ -129,7 +129,8 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
     }
     
     /**
-     * Effectue une étude de convergence complète
+     * Effectue une étude de convergence complète, chaque maillage (uniforme)
+     * étant résolu avec les conditions aux limites et le schéma de baseParams
      */
     public AnalysisTools.ConvergenceStudy performConvergenceStudy(
             ParametresEntree baseParams,
@@ -138,13 +139,46 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
         
         double L = baseParams.xMax - baseParams.xMin;
         Function1D source = createSourceFunction(baseParams.fonctionSource);
+        ParallelConvergenceStudy.SolverFactory factory =
+            n -> createSolver(baseParams, n, L, source, true);
+        
+        if (parallelConvergence) {
+            return AnalysisTools.ErrorAnalysis.performConvergenceStudyParallel(
+                L, exactSolution, meshSizes, factory,
+                Runtime.getRuntime().availableProcessors()
+            );
+        }
         
         return AnalysisTools.ErrorAnalysis.performConvergenceStudy(
-            L, baseParams.a, baseParams.b, baseParams.c,
-            source, exactSolution,
-            baseParams.conditionsLimites.u0,
-            baseParams.conditionsLimites.uL,
-            meshSizes
+            L, exactSolution, meshSizes, factory
+        );
+    }
+    
+    /**
+     * Estime l'erreur de discrétisation par extrapolation de Richardson sur
+     * levels maillages uniformes emboîtés, sans solution exacte (ordre
+     * formel du schéma évalué au Péclet du maillage grossier)
+     */
+    public RichardsonExtrapolation.Result estimateDiscretizationError(
+            ParametresEntree baseParams,
+            int coarseN,
+            int levels) {
+        
+        double L = baseParams.xMax - baseParams.xMin;
+        Function1D source = createSourceFunction(baseParams.fonctionSource);
+        double u0 = baseParams.conditionsLimites.u0;
+        double uL = baseParams.conditionsLimites.uL;
+        ConvectionScheme scheme = ConvectionScheme.fromName(baseParams.schemaConvection);
+        
+        return RichardsonExtrapolation.estimate(
+            n -> {
+                OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                    n, L, baseParams.a, baseParams.b, baseParams.c, source, u0, uL, true);
+                BoundaryConditions.configure(solver, baseParams.conditionsLimites);
+                solver.setConvectionScheme(scheme);
+                return solver;
+            },
+            coarseN, levels, scheme.formalOrder(baseParams.b, baseParams.a, L / coarseN)
         );
     }
     
@@ -162,6 +196,61 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
         this.performAnalysis = analyze;
     }
     
+    /**
+     * Active/désactive la résolution parallèle des études de convergence
+     */
+    public void setParallelConvergence(boolean parallel) {
+        this.parallelConvergence = parallel;
+    }
+    
+    /**
+     * Active/désactive les messages d'information de resoudre (solveur
+     * utilisé, graphique généré, erreur L2) sur la sortie standard
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+    
+    /**
+     * Active/désactive le rejet (IllegalArgumentException) des expressions de
+     * fonction source non reconnues, au lieu du repli sur f(x) = 0
+     */
+    public void setStrictSource(boolean strict) {
+        this.strictSource = strict;
+    }
+    
+    /**
+     * Solveur de n volumes configuré d'après params (conditions aux limites,
+     * schéma de convection) : solveur optimisé au-delà de 500 volumes ou
+     * pour un problème périodique (direct), solveur de référence sinon
+     */
+    private VolumesFinis1DSolver createSolver(ParametresEntree params, int n, double L,
+                                              Function1D sourceFunction, boolean uniforme) {
+        VolumesFinis1DSolver solver;
+        if (n > 500 || params.conditionsLimites.periodique) {
+            solver = new OptimizedVolumesFinis1DSolver(
+                n, L,
+                params.a, params.b, params.c,
+                sourceFunction,
+                params.conditionsLimites.u0,
+                params.conditionsLimites.uL,
+                uniforme
+            );
+        } else {
+            solver = new VolumesFinis1DSolver(
+                n, L,
+                params.a, params.b, params.c,
+                sourceFunction,
+                params.conditionsLimites.u0,
+                params.conditionsLimites.uL,
+                uniforme
+            );
+        }
+        BoundaryConditions.configure(solver, params.conditionsLimites);
+        solver.setConvectionScheme(ConvectionScheme.fromName(params.schemaConvection));
+        return solver;
+    }
+    
     /**
      * Validation des paramètres d'entrée
      */
@@ -187,63 +276,7 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
      * Crée la fonction source à partir de l'expression
      */
     private Function1D createSourceFunction(String expression) {
-        // Gestion des expressions mathématiques courantes
-        expression = expression.toLowerCase().trim();
-        
-        // Cas constants
-        if (expression.equals("0") || expression.equals("zero")) {
-            return x -> 0.0;
-        }
-        if (expression.equals("1") || expression.equals("un")) {
-            return x -> 1.0;
-        }
-        
-        // Cas polynomiaux
-        if (expression.equals("x")) {
-            return x -> x;
-        }
-        if (expression.equals("x^2") || expression.equals("x²")) {
-            return x -> x * x;
-        }
-        if (expression.equals("x^3")) {
-            return x -> x * x * x;
-        }
-        
-        // Cas trigonométriques
-        if (expression.equals("sin(x)")) {
-            return x -> Math.sin(x);
-        }
-        if (expression.equals("cos(x)")) {
-            return x -> Math.cos(x);
-        }
-        if (expression.equals("sin(pi*x)") || expression.equals("sin(πx)")) {
-            return x -> Math.sin(Math.PI * x);
-        }
-        if (expression.equals("sin(2*pi*x)") || expression.equals("sin(2πx)")) {
-            return x -> Math.sin(2 * Math.PI * x);
-        }
-        
-        // Cas exponentiels
-        if (expression.equals("exp(x)") || expression.equals("e^x")) {
-            return x -> Math.exp(x);
-        }
-        if (expression.equals("exp(-x)") || expression.equals("e^(-x)")) {
-            return x -> Math.exp(-x);
-        }
-        
-        // Cas combinés
-        if (expression.contains("gaussian") || expression.contains("gauss")) {
-            return x -> Math.exp(-x * x);
-        }
-        
-        // Par défaut, essayer de parser comme constante
-        try {
-            double val = Double.parseDouble(expression);
-            return x -> val;
-        } catch (NumberFormatException e) {
-            System.out.println("⚠️  Expression '" + expression + "' non reconnue, utilisation de f(x) = 0");
-            return x -> 0.0;
-        }
+        return strictSource ? SourceFunctions.parseStrict(expression) : SourceFunctions.parse(expression);
     }
     
     /**
@@ -275,6 +308,21 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
         public AnalysisTools.ErrorMetrics errorMetrics;
         public Map<String, Object> additionalData = new HashMap<>();
         
+        @Override
+        public ResultatResolution copie() {
+            ResultatResolutionEnhanced r = new ResultatResolutionEnhanced();
+            copierDans(r);
+            r.graphFile = graphFile;
+            r.errorMetrics = errorMetrics;
+            r.additionalData = new HashMap<>(additionalData);
+            return r;
+        }
+        
+        @Override
+        public boolean champsDeBaseSeulement() {
+            return graphFile == null && errorMetrics == null && additionalData.isEmpty();
+        }
+        
         @Override
         public void afficherResume() {
             super.afficherResume();
@@ -299,5 +347,11 @@ public class VolumesFinis1DMethodeEnhanced implements MethodeResolution {
         public boolean genererGraphiques = true;
         public boolean analyseStabilite = true;
         public int[] maillesConvergence;  // Pour étude de convergence automatique
+        
+        @Override
+        public String cleCanonique() {
+            // Seule la solution exacte change le résultat (métriques d'erreur)
+            return super.cleCanonique() + "|" + (solutionExacte == null ? "" : solutionExacte.toLowerCase().trim());
+        }
     }
 }
\ No newline at end of file
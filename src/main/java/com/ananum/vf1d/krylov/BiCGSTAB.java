@@ -0,0 +1,111 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandedOperator;
+import com.ananum.vf1d.ResidualHistory;
+import com.ananum.vf1d.SolveReport;
+
+import java.util.Arrays;
+
+/**
+ * BiCGSTAB préconditionné à droite (van der Vorst), pour les opérateurs non
+ * symétriques (convection). En cas de rupture (ρ ou rhatᵀv nul), la méthode
+ * redémarre depuis le résidu vrai.
+ */
+public class BiCGSTAB extends KrylovSolver {
+
+    public BiCGSTAB(double tolerance, int maxIterations, Preconditioner preconditioner) {
+        super(tolerance, maxIterations, preconditioner);
+    }
+    
+    @Override
+    public String getName() { return "BiCGSTAB"; }
+    
+    @Override
+    protected SolveReport iterate(BandedOperator operator, double[] b, double[] x,
+                                  double bNorm, ResidualHistory history, long start) {
+        int n = operator.size();
+        double[] r = new double[n];
+        double[] rHat = new double[n];
+        double[] p = new double[n];
+        double[] v = new double[n];
+        double[] pHat = new double[n];
+        double[] sHat = new double[n];
+        double[] t = new double[n];
+        
+        double residual = residual(operator, b, x, r);
+        boolean converged = history.record(0, residual, tolerance);
+        System.arraycopy(r, 0, rHat, 0, n);
+        double rho = 1, alpha = 1, omega = 1;
+        
+        int iter = 0;
+        while (!converged && iter < maxIterations) {
+            iter++;
+            double rhoNew = dot(rHat, r, n);
+            if (rhoNew == 0) {
+                restart(operator, b, x, r, rHat, p, v);
+                rho = alpha = omega = 1;
+                continue;
+            }
+            double beta = (rhoNew / rho) * (alpha / omega);
+            rho = rhoNew;
+            for (int i = 0; i < n; i++) {
+                p[i] = r[i] + beta * (p[i] - omega * v[i]);
+            }
+            
+            preconditioner.apply(p, pHat);
+            operator.multiply(pHat, v);
+            double rHatV = dot(rHat, v, n);
+            if (rHatV == 0) {
+                restart(operator, b, x, r, rHat, p, v);
+                rho = alpha = omega = 1;
+                continue;
+            }
+            alpha = rho / rHatV;
+            
+            // s = r - alpha v (stocké dans r)
+            for (int i = 0; i < n; i++) {
+                r[i] -= alpha * v[i];
+            }
+            if (normInf(r, n) / bNorm < tolerance) {
+                for (int i = 0; i < n; i++) x[i] += alpha * pHat[i];
+            } else {
+                preconditioner.apply(r, sHat);
+                operator.multiply(sHat, t);
+                double tt = dot(t, t, n);
+                omega = tt > 0 ? dot(t, r, n) / tt : 0;
+                for (int i = 0; i < n; i++) {
+                    x[i] += alpha * pHat[i] + omega * sHat[i];
+                    r[i] -= omega * t[i];
+                }
+            }
+            residual = normInf(r, n);
+            
+            if (residual / bNorm < tolerance) {
+                residual = residual(operator, b, x, r);
+                converged = history.record(iter, residual, tolerance);
+                if (!converged) {
+                    restart(operator, b, x, r, rHat, p, v);
+                    rho = alpha = omega = 1;
+                }
+            } else {
+                history.record(iter, residual, tolerance);
+                if (omega == 0) {
+                    // Stagnation : nouvelle direction d'ombre
+                    restart(operator, b, x, r, rHat, p, v);
+                    rho = alpha = omega = 1;
+                }
+            }
+        }
+        
+        return history.report(reportName(), iter, converged, tolerance, residual,
+                              System.nanoTime() - start);
+    }
+    
+    private static void restart(BandedOperator operator, double[] b, double[] x,
+                                double[] r, double[] rHat, double[] p, double[] v) {
+        residual(operator, b, x, r);
+        System.arraycopy(r, 0, rHat, 0, r.length);
+        Arrays.fill(p, 0.0);
+        Arrays.fill(v, 0.0);
+    }
+}
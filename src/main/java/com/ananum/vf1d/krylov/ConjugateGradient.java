@@ -0,0 +1,76 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandedOperator;
+import com.ananum.vf1d.ResidualHistory;
+import com.ananum.vf1d.SolveReport;
+
+/**
+ * Gradient conjugué préconditionné, pour les opérateurs symétriques
+ * définis positifs (b = 0 : diffusion-réaction). Le préconditionneur doit
+ * lui aussi être symétrique défini positif.
+ */
+public class ConjugateGradient extends KrylovSolver {
+
+    public ConjugateGradient(double tolerance, int maxIterations, Preconditioner preconditioner) {
+        super(tolerance, maxIterations, preconditioner);
+    }
+    
+    @Override
+    public String getName() { return "CG"; }
+    
+    @Override
+    protected SolveReport iterate(BandedOperator operator, double[] b, double[] x,
+                                  double bNorm, ResidualHistory history, long start) {
+        int n = operator.size();
+        double[] r = new double[n];
+        double[] z = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        
+        double residual = residual(operator, b, x, r);
+        boolean converged = history.record(0, residual, tolerance);
+        preconditioner.apply(r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rz = dot(r, z, n);
+        
+        int iter = 0;
+        while (!converged && iter < maxIterations) {
+            iter++;
+            operator.multiply(p, q);
+            double pq = dot(p, q, n);
+            if (!(pq > 0)) {
+                throw new IllegalStateException(
+                    "Gradient conjugué : opérateur non défini positif (pᵀAp = " + pq + ")");
+            }
+            double alpha = rz / pq;
+            for (int i = 0; i < n; i++) {
+                x[i] += alpha * p[i];
+                r[i] -= alpha * q[i];
+            }
+            residual = normInf(r, n);
+            
+            if (residual / bNorm < tolerance) {
+                // Confirmation sur le résidu vrai ; sinon on repart de celui-ci
+                residual = residual(operator, b, x, r);
+                converged = history.record(iter, residual, tolerance);
+                if (converged) break;
+                preconditioner.apply(r, z);
+                System.arraycopy(z, 0, p, 0, n);
+                rz = dot(r, z, n);
+                continue;
+            }
+            history.record(iter, residual, tolerance);
+            
+            preconditioner.apply(r, z);
+            double rzNew = dot(r, z, n);
+            double beta = rzNew / rz;
+            rz = rzNew;
+            for (int i = 0; i < n; i++) {
+                p[i] = z[i] + beta * p[i];
+            }
+        }
+        
+        return history.report(reportName(), iter, converged, tolerance, residual,
+                              System.nanoTime() - start);
+    }
+}
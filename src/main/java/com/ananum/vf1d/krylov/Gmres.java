@@ -0,0 +1,116 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandedOperator;
+import com.ananum.vf1d.ResidualHistory;
+import com.ananum.vf1d.SolveReport;
+
+import java.util.Arrays;
+
+/**
+ * GMRES(m) préconditionné à droite : orthogonalisation de Gram-Schmidt
+ * modifiée, rotations de Givens, redémarrage tous les m pas.
+ *
+ * Pendant un cycle, l'historique enregistre l'estimation ||r||₂ donnée par
+ * les rotations (majorant de ||r||∞) ; le résidu vrai est recalculé en fin
+ * de cycle.
+ */
+public class Gmres extends KrylovSolver {
+    public static final int DEFAULT_RESTART = 30;
+    
+    private final int restart;
+    
+    public Gmres(double tolerance, int maxIterations, Preconditioner preconditioner) {
+        this(tolerance, maxIterations, preconditioner, DEFAULT_RESTART);
+    }
+    
+    public Gmres(double tolerance, int maxIterations, Preconditioner preconditioner, int restart) {
+        super(tolerance, maxIterations, preconditioner);
+        if (restart < 1) {
+            throw new IllegalArgumentException("La longueur de redémarrage doit être positive");
+        }
+        this.restart = restart;
+    }
+    
+    @Override
+    public String getName() { return "GMRES(" + restart + ")"; }
+    
+    @Override
+    protected SolveReport iterate(BandedOperator operator, double[] b, double[] x,
+                                  double bNorm, ResidualHistory history, long start) {
+        int n = operator.size();
+        int m = Math.min(restart, n);
+        double[][] basis = new double[m + 1][n];
+        double[][] h = new double[m + 1][m];
+        double[] cs = new double[m];
+        double[] sn = new double[m];
+        double[] g = new double[m + 1];
+        double[] y = new double[m];
+        double[] w = new double[n];
+        double[] z = new double[n];
+        
+        double residual = residual(operator, b, x, basis[0]);
+        boolean converged = history.record(0, residual, tolerance);
+        
+        int iter = 0;
+        while (!converged && iter < maxIterations) {
+            double beta = Math.sqrt(dot(basis[0], basis[0], n));
+            for (int i = 0; i < n; i++) basis[0][i] /= beta;
+            Arrays.fill(g, 0.0);
+            g[0] = beta;
+            
+            int k = 0;
+            while (k < m && iter < maxIterations) {
+                iter++;
+                // w = A M⁻¹ v_k
+                preconditioner.apply(basis[k], z);
+                operator.multiply(z, w);
+                for (int j = 0; j <= k; j++) {
+                    double hj = dot(w, basis[j], n);
+                    h[j][k] = hj;
+                    for (int i = 0; i < n; i++) w[i] -= hj * basis[j][i];
+                }
+                double hNext = Math.sqrt(dot(w, w, n));
+                h[k + 1][k] = hNext;
+                
+                // Rotations précédentes puis nouvelle rotation
+                for (int j = 0; j < k; j++) {
+                    double t = cs[j] * h[j][k] + sn[j] * h[j + 1][k];
+                    h[j + 1][k] = -sn[j] * h[j][k] + cs[j] * h[j + 1][k];
+                    h[j][k] = t;
+                }
+                double d = Math.hypot(h[k][k], hNext);
+                cs[k] = d == 0 ? 1 : h[k][k] / d;
+                sn[k] = d == 0 ? 0 : hNext / d;
+                h[k][k] = d;
+                h[k + 1][k] = 0;
+                g[k + 1] = -sn[k] * g[k];
+                g[k] = cs[k] * g[k];
+                k++;
+                
+                double estimate = Math.abs(g[k]);
+                history.record(iter, estimate, tolerance);
+                if (estimate / bNorm < tolerance || hNext == 0) break;
+                for (int i = 0; i < n; i++) basis[k][i] = w[i] / hNext;
+            }
+            
+            // x += M⁻¹ V y avec H y = g (triangulaire supérieure)
+            for (int i = k - 1; i >= 0; i--) {
+                double s = g[i];
+                for (int j = i + 1; j < k; j++) s -= h[i][j] * y[j];
+                y[i] = s / h[i][i];
+            }
+            Arrays.fill(w, 0.0);
+            for (int j = 0; j < k; j++) {
+                for (int i = 0; i < n; i++) w[i] += y[j] * basis[j][i];
+            }
+            preconditioner.apply(w, z);
+            for (int i = 0; i < n; i++) x[i] += z[i];
+            
+            residual = residual(operator, b, x, basis[0]);
+            converged = history.record(iter, residual, tolerance);
+        }
+        
+        return history.report(reportName(), iter, converged, tolerance, residual,
+                              System.nanoTime() - start);
+    }
+}
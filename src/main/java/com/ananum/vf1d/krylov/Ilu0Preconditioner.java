@@ -0,0 +1,73 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandMatrix;
+import com.ananum.vf1d.BandedOperator;
+
+/**
+ * Factorisation LU incomplète sans remplissage, ILU(0) : L et U ont la
+ * structure des coefficients non nuls de A, tout remplissage hors de cette
+ * structure est ignoré.
+ *
+ * Pour une matrice tridiagonale il n'y a pas de remplissage : ILU(0) est
+ * alors la factorisation exacte (Thomas) et le solveur de Krylov converge
+ * en une itération. L'intérêt apparaît pour les opérateurs plus larges
+ * (schémas d'ordre élevé) dont la bande contient des zéros.
+ */
+public class Ilu0Preconditioner implements Preconditioner {
+    private final BandMatrix factors;   // L (unitaire, sous la diagonale) et U
+    private final int n, lower, upper;
+    
+    public Ilu0Preconditioner(BandedOperator operator) {
+        this.factors = BandMatrix.copyOf(operator);
+        this.n = operator.size();
+        this.lower = operator.lowerBandwidth();
+        this.upper = operator.upperBandwidth();
+        
+        // Variante IKJ restreinte à la structure de A
+        for (int i = 1; i < n; i++) {
+            for (int k = Math.max(0, i - lower); k < i; k++) {
+                if (operator.entry(i, k - i) == 0) continue;
+                
+                double pivot = factors.entry(k, 0);
+                if (pivot == 0) {
+                    throw new IllegalStateException("Pivot nul dans ILU(0) à la ligne " + k);
+                }
+                double l = factors.entry(i, k - i) / pivot;
+                factors.set(i, k - i, l);
+                
+                for (int j = k + 1; j <= Math.min(n - 1, k + upper); j++) {
+                    if (j - i >= -lower && operator.entry(i, j - i) != 0) {
+                        factors.add(i, j - i, -l * factors.entry(k, j - k));
+                    }
+                }
+            }
+        }
+        if (factors.entry(n - 1, 0) == 0) {
+            throw new IllegalStateException("Pivot nul dans ILU(0) à la ligne " + (n - 1));
+        }
+    }
+    
+    @Override
+    public void apply(double[] r, double[] z) {
+        // Descente : L y = r (L unitaire)
+        for (int i = 0; i < n; i++) {
+            double s = r[i];
+            for (int k = Math.max(-lower, -i); k < 0; k++) {
+                s -= factors.entry(i, k) * z[i + k];
+            }
+            z[i] = s;
+        }
+        
+        // Remontée : U z = y
+        for (int i = n - 1; i >= 0; i--) {
+            double s = z[i];
+            for (int k = 1; k <= Math.min(upper, n - 1 - i); k++) {
+                s -= factors.entry(i, k) * z[i + k];
+            }
+            z[i] = s / factors.entry(i, 0);
+        }
+    }
+    
+    @Override
+    public String getName() { return "ILU(0)"; }
+}
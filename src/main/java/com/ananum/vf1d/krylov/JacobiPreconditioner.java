@@ -0,0 +1,32 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandedOperator;
+
+/**
+ * Préconditionneur de Jacobi : M = diag(A)
+ */
+public class JacobiPreconditioner implements Preconditioner {
+    private final double[] inverseDiagonal;
+    
+    public JacobiPreconditioner(BandedOperator operator) {
+        int n = operator.size();
+        inverseDiagonal = new double[n];
+        for (int i = 0; i < n; i++) {
+            double d = operator.entry(i, 0);
+            if (d == 0) {
+                throw new IllegalArgumentException("Diagonale nulle à la ligne " + i);
+            }
+            inverseDiagonal[i] = 1.0 / d;
+        }
+    }
+    
+    @Override
+    public void apply(double[] r, double[] z) {
+        for (int i = 0; i < inverseDiagonal.length; i++) {
+            z[i] = inverseDiagonal[i] * r[i];
+        }
+    }
+    
+    @Override
+    public String getName() { return "Jacobi"; }
+}
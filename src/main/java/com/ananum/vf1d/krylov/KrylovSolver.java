@@ -0,0 +1,92 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandedOperator;
+import com.ananum.vf1d.ResidualHistory;
+import com.ananum.vf1d.SolveReport;
+
+import java.util.Arrays;
+
+/**
+ * Base des solveurs de Krylov sans matrice : l'opérateur n'est utilisé que
+ * par produits matrice-vecteur, le préconditionneur (à droite pour GMRES et
+ * BiCGSTAB) est appliqué par Preconditioner.apply.
+ *
+ * Même critère d'arrêt que les méthodes de relaxation : résidu relatif
+ * ||b - Ax||∞ / ||b||∞ &lt; tolerance, confirmé sur le résidu vrai (et non
+ * récurrent) avant de déclarer la convergence.
+ */
+public abstract class KrylovSolver {
+    protected final double tolerance;
+    protected final int maxIterations;
+    protected final Preconditioner preconditioner;
+    
+    protected KrylovSolver(double tolerance, int maxIterations, Preconditioner preconditioner) {
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("La tolérance doit être positive");
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Le nombre d'itérations doit être positif");
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.preconditioner = preconditioner != null ? preconditioner : Preconditioner.IDENTITY;
+    }
+    
+    /**
+     * Résout A x = b ; x contient l'estimation initiale et reçoit la solution
+     */
+    public SolveReport solve(BandedOperator operator, double[] b, double[] x) {
+        int n = operator.size();
+        if (b.length < n || x.length < n) {
+            throw new IllegalArgumentException("Vecteurs de taille insuffisante pour N = " + n);
+        }
+        long start = System.nanoTime();
+        
+        double bNorm = normInf(b, n);
+        if (bNorm == 0) {
+            // Second membre nul : solution nulle exacte
+            Arrays.fill(x, 0, n, 0.0);
+            bNorm = 1;
+        }
+        ResidualHistory history = new ResidualHistory(maxIterations, 1, bNorm);
+        return iterate(operator, b, x, bNorm, history, start);
+    }
+    
+    /** Nom de la méthode (sans le préconditionneur) */
+    public abstract String getName();
+    
+    protected abstract SolveReport iterate(BandedOperator operator, double[] b, double[] x,
+                                           double bNorm, ResidualHistory history, long start);
+    
+    /** Nom complet pour les bilans, par exemple « BiCGSTAB+ILU(0) » */
+    protected String reportName() {
+        return preconditioner == Preconditioner.IDENTITY
+            ? getName() : getName() + "+" + preconditioner.getName();
+    }
+    
+    /**
+     * r = b - A x ; renvoie ||r||∞
+     */
+    protected static double residual(BandedOperator operator, double[] b, double[] x, double[] r) {
+        int n = operator.size();
+        operator.multiply(x, r);
+        double norm = 0;
+        for (int i = 0; i < n; i++) {
+            r[i] = b[i] - r[i];
+            norm = Math.max(norm, Math.abs(r[i]));
+        }
+        return norm;
+    }
+    
+    protected static double dot(double[] u, double[] v, int n) {
+        double s = 0;
+        for (int i = 0; i < n; i++) s += u[i] * v[i];
+        return s;
+    }
+    
+    protected static double normInf(double[] v, int n) {
+        double norm = 0;
+        for (int i = 0; i < n; i++) norm = Math.max(norm, Math.abs(v[i]));
+        return norm;
+    }
+}
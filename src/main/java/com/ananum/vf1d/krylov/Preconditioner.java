@@ -0,0 +1,29 @@
+package com.ananum.vf1d.krylov;
+
+/**
+ * Préconditionneur M ≈ A : applique z = M⁻¹ r.
+ *
+ * Les implémentations gardent des tableaux de travail et ne sont pas
+ * sûres entre threads : une instance par résolution concurrente.
+ */
+public interface Preconditioner {
+
+    /** Préconditionneur identité (pas de préconditionnement) */
+    Preconditioner IDENTITY = new Preconditioner() {
+        @Override
+        public void apply(double[] r, double[] z) {
+            System.arraycopy(r, 0, z, 0, r.length);
+        }
+        
+        @Override
+        public String getName() { return "aucun"; }
+    };
+    
+    /**
+     * z = M⁻¹ r (r n'est pas modifié, r et z distincts)
+     */
+    void apply(double[] r, double[] z);
+    
+    /** Nom court pour les bilans */
+    String getName();
+}
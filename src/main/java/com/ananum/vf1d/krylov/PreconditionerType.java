@@ -0,0 +1,25 @@
+package com.ananum.vf1d.krylov;
+
+import com.ananum.vf1d.BandedOperator;
+
+/**
+ * Préconditionneurs disponibles pour les solveurs de Krylov
+ */
+public enum PreconditionerType {
+    NONE,
+    JACOBI,
+    ILU0,
+    MULTIGRID;
+    
+    /**
+     * Construit le préconditionneur pour l'opérateur
+     */
+    public Preconditioner create(BandedOperator operator) {
+        switch (this) {
+            case JACOBI:    return new JacobiPreconditioner(operator);
+            case ILU0:      return new Ilu0Preconditioner(operator);
+            case MULTIGRID: return new AggregationMultigridPreconditioner(operator);
+            default:        return Preconditioner.IDENTITY;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ananum.vf1d.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR de durée : construction du maillage, assemblage ou
+ * factorisation de l'opérateur, assemblage du second membre
+ */
+@Name("com.ananum.vf1d.Assembly")
+@Label("Assembly")
+@Category({"VF1D", "Solver"})
+@StackTrace(false)
+public class AssemblyEvent extends jdk.jfr.Event {
+    
+    @Label("Stage")
+    String stage;
+    
+    @Label("N")
+    int n;
+}
@@ -0,0 +1,22 @@
+package com.ananum.vf1d.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR de durée : export d'une solution (CSV, graphique, binaire)
+ */
+@Name("com.ananum.vf1d.Export")
+@Label("Export")
+@Category({"VF1D", "Integration"})
+@StackTrace(false)
+public class ExportEvent extends jdk.jfr.Event {
+    
+    @Label("Format")
+    String format;
+    
+    @Label("N")
+    int n;
+}
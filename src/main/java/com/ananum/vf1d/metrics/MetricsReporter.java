@@ -0,0 +1,57 @@
+package com.ananum.vf1d.metrics;
+
+import java.io.PrintStream;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rapport texte périodique des métriques sur un flux (System.out par défaut),
+ * depuis un thread démon ; rien n'est écrit tant qu'aucune résolution
+ * nouvelle n'a été mesurée
+ */
+public class MetricsReporter implements AutoCloseable {
+    
+    private static final DateTimeFormatter HEURE = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
+    private final ScheduledExecutorService scheduler;
+    private final PrintStream out;
+    private long lastSolves = -1;
+    
+    public MetricsReporter(long period, TimeUnit unit) {
+        this(System.out, period, unit);
+    }
+    
+    public MetricsReporter(PrintStream out, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("La période doit être positive");
+        }
+        this.out = out;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "vf1d-metrics-reporter");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(this::report, period, period, unit);
+    }
+    
+    /**
+     * Écrit immédiatement un rapport si de nouvelles résolutions ont été mesurées
+     */
+    public synchronized void report() {
+        MetricsSnapshot snapshot = SolverMetrics.snapshot();
+        if (snapshot.getSolves() == lastSolves) return;
+        lastSolves = snapshot.getSolves();
+        
+        out.print("[métriques VF1D " + LocalTime.now().format(HEURE) + "] " + snapshot.format());
+        out.flush();
+    }
+    
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        report();
+    }
+}
@@ -0,0 +1,79 @@
+package com.ananum.vf1d.metrics;
+
+/**
+ * Valeurs des métriques à un instant donné
+ */
+public final class MetricsSnapshot {
+    private final long[] phaseCounts;
+    private final long[] phaseNanos;
+    private final long[] phaseMaxNanos;
+    private final long solves;
+    private final long totalIterations;
+    private final int lastN;
+    private final int lastIterations;
+    private final double lastResidual;
+    private final double maxResidual;
+    private final long lastAllocatedBytes;
+    private final long totalAllocatedBytes;
+    
+    MetricsSnapshot(long[] phaseCounts, long[] phaseNanos, long[] phaseMaxNanos,
+                    long solves, long totalIterations, int lastN, int lastIterations,
+                    double lastResidual, double maxResidual,
+                    long lastAllocatedBytes, long totalAllocatedBytes) {
+        this.phaseCounts = phaseCounts;
+        this.phaseNanos = phaseNanos;
+        this.phaseMaxNanos = phaseMaxNanos;
+        this.solves = solves;
+        this.totalIterations = totalIterations;
+        this.lastN = lastN;
+        this.lastIterations = lastIterations;
+        this.lastResidual = lastResidual;
+        this.maxResidual = maxResidual;
+        this.lastAllocatedBytes = lastAllocatedBytes;
+        this.totalAllocatedBytes = totalAllocatedBytes;
+    }
+    
+    public long getCount(Phase phase) { return phaseCounts[phase.ordinal()]; }
+    public long getTotalNanos(Phase phase) { return phaseNanos[phase.ordinal()]; }
+    public long getMaxNanos(Phase phase) { return phaseMaxNanos[phase.ordinal()]; }
+    
+    public double getMeanNanos(Phase phase) {
+        long count = getCount(phase);
+        return count == 0 ? 0.0 : (double) getTotalNanos(phase) / count;
+    }
+    
+    public long getSolves() { return solves; }
+    public long getTotalIterations() { return totalIterations; }
+    public int getLastN() { return lastN; }
+    public int getLastIterations() { return lastIterations; }
+    public double getLastResidual() { return lastResidual; }
+    public double getMaxResidual() { return maxResidual; }
+    public long getLastAllocatedBytes() { return lastAllocatedBytes; }
+    public long getTotalAllocatedBytes() { return totalAllocatedBytes; }
+    
+    public double getMeanAllocatedBytes() {
+        return solves == 0 ? 0.0 : (double) totalAllocatedBytes / solves;
+    }
+    
+    /**
+     * Rapport texte sur plusieurs lignes
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("résolutions=%d  itérations=%d (dernière: %d, N=%d)  "
+                + "résidu dernier=%.3e max=%.3e  alloc. moy.=%.1f Ko (dernière: %.1f Ko)%n",
+            solves, totalIterations, lastIterations, lastN, lastResidual, maxResidual,
+            getMeanAllocatedBytes() / 1024.0, lastAllocatedBytes / 1024.0));
+        for (Phase phase : Phase.values()) {
+            sb.append(String.format("  %-14s n=%-8d total=%10.3f ms  moy=%9.1f µs  max=%9.1f µs%n",
+                phase.getLabel(), getCount(phase), getTotalNanos(phase) / 1e6,
+                getMeanNanos(phase) / 1e3, getMaxNanos(phase) / 1e3));
+        }
+        return sb.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ananum.vf1d.metrics;
+
+/**
+ * Phases chronométrées d'une résolution
+ */
+public enum Phase {
+    MESH("maillage"),
+    ASSEMBLY("assemblage"),
+    RHS("second membre"),
+    SOLVE("résolution"),
+    EXPORT("export");
+    
+    private final String label;
+    
+    Phase(String label) {
+        this.label = label;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+}
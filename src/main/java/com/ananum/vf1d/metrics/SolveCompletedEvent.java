@@ -0,0 +1,38 @@
+package com.ananum.vf1d.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR de durée : résolution complète (du début de la résolution à
+ * la solution), avec itérations et résidu final
+ */
+@Name("com.ananum.vf1d.SolveCompleted")
+@Label("Solve Completed")
+@Category({"VF1D", "Solver"})
+@Description("Résolution terminée : durée, itérations et résidu final")
+@StackTrace(false)
+public class SolveCompletedEvent extends jdk.jfr.Event {
+    
+    @Label("N")
+    int n;
+    
+    @Label("Method")
+    String method;
+    
+    @Label("Layer")
+    String layer;
+    
+    @Label("Iterations")
+    int iterations;
+    
+    @Label("Final Residual")
+    @Description("Norme infinie de b - Au (NaN si non calculée)")
+    double residual;
+    
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,29 @@
+package com.ananum.vf1d.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR instantané : début d'une résolution
+ */
+@Name("com.ananum.vf1d.SolveStarted")
+@Label("Solve Started")
+@Category({"VF1D", "Solver"})
+@Description("Début d'une résolution (solveur ou couche d'intégration)")
+@StackTrace(false)
+public class SolveStartedEvent extends jdk.jfr.Event {
+    
+    @Label("N")
+    @Description("Nombre de volumes de contrôle")
+    int n;
+    
+    @Label("Method")
+    String method;
+    
+    @Label("Layer")
+    @Description("solveur ou intégration")
+    String layer;
+}
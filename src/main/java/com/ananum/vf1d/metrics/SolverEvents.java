@@ -0,0 +1,91 @@
+package com.ananum.vf1d.metrics;
+
+/**
+ * Émission des événements JFR du solveur.
+ *
+ * Les événements sont créés et commencés à l'entrée de la phase, puis
+ * renseignés et validés à la sortie seulement si un enregistrement les
+ * demande (shouldCommit) ; hors enregistrement, la création est éliminée
+ * par le JIT et le coût se limite à un test.
+ * <pre>
+ *   AssemblyEvent event = SolverEvents.beginAssembly();
+ *   ... travail ...
+ *   SolverEvents.endAssembly(event, "operator", n);
+ * </pre>
+ */
+public final class SolverEvents {
+    
+    public static final String LAYER_SOLVER = "solveur";
+    public static final String LAYER_INTEGRATION = "intégration";
+    
+    private SolverEvents() {
+    }
+    
+    /**
+     * Émet SolveStarted et renvoie l'événement SolveCompleted commencé
+     */
+    public static SolveCompletedEvent solveStarted(int n, String method, String layer) {
+        SolveStartedEvent started = new SolveStartedEvent();
+        if (started.isEnabled()) {
+            started.n = n;
+            started.method = method;
+            started.layer = layer;
+            started.commit();
+        }
+        
+        SolveCompletedEvent completed = new SolveCompletedEvent();
+        completed.begin();
+        return completed;
+    }
+    
+    /**
+     * Indique si le résidu final doit être calculé pour cet événement
+     */
+    public static boolean wantsResidual(SolveCompletedEvent event) {
+        return event.isEnabled();
+    }
+    
+    public static void solveCompleted(SolveCompletedEvent event, int n, String method, String layer,
+                                      int iterations, double residual, boolean succeeded) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.n = n;
+            event.method = method;
+            event.layer = layer;
+            event.iterations = iterations;
+            event.residual = residual;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+    
+    public static AssemblyEvent beginAssembly() {
+        AssemblyEvent event = new AssemblyEvent();
+        event.begin();
+        return event;
+    }
+    
+    public static void endAssembly(AssemblyEvent event, String stage, int n) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.stage = stage;
+            event.n = n;
+            event.commit();
+        }
+    }
+    
+    public static ExportEvent beginExport() {
+        ExportEvent event = new ExportEvent();
+        event.begin();
+        return event;
+    }
+    
+    public static void endExport(ExportEvent event, String format, int n) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.format = format;
+            event.n = n;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.ananum.vf1d.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Métriques des chemins critiques du solveur : chronomètres en nanosecondes
+ * par phase (maillage, assemblage, second membre, résolution, export),
+ * itérations, résidu final et octets alloués par résolution.
+ *
+ * Utilisation dans le code instrumenté :
+ * <pre>
+ *   long t = SolverMetrics.start();
+ *   ... travail ...
+ *   SolverMetrics.stop(Phase.ASSEMBLY, t);
+ * </pre>
+ * Désactivées (défaut, ou -Dvf1d.metrics=false), chaque point de mesure se
+ * réduit à la lecture d'un booléen volatile : ni horloge, ni allocation.
+ * Les compteurs sont des LongAdder, sans contention entre threads.
+ */
+public final class SolverMetrics {
+    
+    static final String OBJECT_NAME = "com.ananum.vf1d:type=SolverMetrics";
+    private static final long DISABLED = Long.MIN_VALUE;
+    
+    private static volatile boolean enabled = Boolean.getBoolean("vf1d.metrics");
+    
+    private static final PhaseStats[] PHASES = new PhaseStats[Phase.values().length];
+    static {
+        for (int i = 0; i < PHASES.length; i++) PHASES[i] = new PhaseStats();
+    }
+    
+    private static final LongAdder solves = new LongAdder();
+    private static final LongAdder totalIterations = new LongAdder();
+    private static final LongAdder totalAllocated = new LongAdder();
+    private static final LongAccumulator maxResidualBits = new LongAccumulator(Long::max, 0L);
+    private static volatile int lastN;
+    private static volatile int lastIterations;
+    private static volatile double lastResidual;
+    private static volatile long lastAllocated;
+    
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+    
+    private SolverMetrics() {
+    }
+    
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+    
+    /**
+     * Début d'une phase ; valeur à repasser à stop
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+    
+    /**
+     * Fin d'une phase commencée par start
+     */
+    public static void stop(Phase phase, long start) {
+        if (start != DISABLED) {
+            PHASES[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Début d'une résolution complète ; valeur à repasser à solveCompleted
+     */
+    public static long solveStarted() {
+        if (!enabled) return DISABLED;
+        return ALLOCATION_BEAN != null ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+    
+    /**
+     * Fin d'une résolution : itérations, résidu final (norme infinie de
+     * b - Au) et octets alloués par le thread depuis solveStarted
+     */
+    public static void solveCompleted(long token, int n, int iterations, double residual) {
+        if (token == DISABLED) return;
+        
+        solves.increment();
+        totalIterations.add(iterations);
+        lastN = n;
+        lastIterations = iterations;
+        lastResidual = residual;
+        if (residual >= 0) {
+            // Bits ordonnés comme les valeurs pour les doubles positifs
+            maxResidualBits.accumulate(Double.doubleToLongBits(residual));
+        }
+        if (token >= 0) {
+            long allocated = ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() - token;
+            lastAllocated = allocated;
+            totalAllocated.add(allocated);
+        }
+    }
+    
+    /**
+     * Remet tous les compteurs à zéro
+     */
+    public static void reset() {
+        for (PhaseStats p : PHASES) p.reset();
+        solves.reset();
+        totalIterations.reset();
+        totalAllocated.reset();
+        maxResidualBits.reset();
+        lastN = 0;
+        lastIterations = 0;
+        lastResidual = 0;
+        lastAllocated = 0;
+    }
+    
+    /**
+     * Instantané cohérent (à la précision des compteurs concurrents près)
+     */
+    public static MetricsSnapshot snapshot() {
+        int phases = PHASES.length;
+        long[] counts = new long[phases];
+        long[] totals = new long[phases];
+        long[] max = new long[phases];
+        for (int i = 0; i < phases; i++) {
+            counts[i] = PHASES[i].count.sum();
+            totals[i] = PHASES[i].nanos.sum();
+            max[i] = PHASES[i].max.get();
+        }
+        return new MetricsSnapshot(counts, totals, max,
+            solves.sum(), totalIterations.sum(), lastN, lastIterations, lastResidual,
+            Double.longBitsToDouble(maxResidualBits.get()),
+            lastAllocated, totalAllocated.sum());
+    }
+    
+    /**
+     * Enregistre le MXBean (com.ananum.vf1d:type=SolverMetrics) sur le
+     * serveur de la plateforme ; sans effet s'il l'est déjà
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new SolverMetricsJmx(), name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Enregistrement JMX impossible: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Indique si le comptage des octets alloués est disponible sur cette JVM
+     */
+    public static boolean isAllocationTrackingSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+    
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                    return sunBean;
+                }
+            }
+        } catch (UnsupportedOperationException | LinkageError e) {
+            // JVM sans extension com.sun.management
+        }
+        return null;
+    }
+    
+    private static final class PhaseStats {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+        
+        void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+            max.accumulate(elapsed);
+        }
+        
+        void reset() {
+            count.reset();
+            nanos.reset();
+            max.reset();
+        }
+    }
+}
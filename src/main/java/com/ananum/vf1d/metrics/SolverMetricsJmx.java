@@ -0,0 +1,39 @@
+package com.ananum.vf1d.metrics;
+
+/**
+ * Implémentation du MXBean : chaque attribut lit un instantané courant
+ */
+class SolverMetricsJmx implements SolverMetricsMXBean {
+    
+    private static MetricsSnapshot s() {
+        return SolverMetrics.snapshot();
+    }
+    
+    @Override public boolean isEnabled() { return SolverMetrics.isEnabled(); }
+    @Override public void setEnabled(boolean enabled) { SolverMetrics.setEnabled(enabled); }
+    
+    @Override public long getSolveCount() { return s().getSolves(); }
+    @Override public long getTotalIterations() { return s().getTotalIterations(); }
+    @Override public int getLastIterations() { return s().getLastIterations(); }
+    @Override public int getLastN() { return s().getLastN(); }
+    @Override public double getLastResidual() { return s().getLastResidual(); }
+    @Override public double getMaxResidual() { return s().getMaxResidual(); }
+    @Override public long getLastAllocatedBytes() { return s().getLastAllocatedBytes(); }
+    @Override public long getTotalAllocatedBytes() { return s().getTotalAllocatedBytes(); }
+    
+    @Override public long getMeshNanos() { return s().getTotalNanos(Phase.MESH); }
+    @Override public long getAssemblyNanos() { return s().getTotalNanos(Phase.ASSEMBLY); }
+    @Override public long getRhsNanos() { return s().getTotalNanos(Phase.RHS); }
+    @Override public long getSolveNanos() { return s().getTotalNanos(Phase.SOLVE); }
+    @Override public long getExportNanos() { return s().getTotalNanos(Phase.EXPORT); }
+    
+    @Override public long getMeshCount() { return s().getCount(Phase.MESH); }
+    @Override public long getAssemblyCount() { return s().getCount(Phase.ASSEMBLY); }
+    @Override public long getRhsCount() { return s().getCount(Phase.RHS); }
+    @Override public long getSolvePhaseCount() { return s().getCount(Phase.SOLVE); }
+    @Override public long getExportCount() { return s().getCount(Phase.EXPORT); }
+    
+    @Override public String getReport() { return s().format(); }
+    
+    @Override public void reset() { SolverMetrics.reset(); }
+}
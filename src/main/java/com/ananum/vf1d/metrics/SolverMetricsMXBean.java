@@ -0,0 +1,37 @@
+package com.ananum.vf1d.metrics;
+
+/**
+ * Vue JMX des métriques du solveur (com.ananum.vf1d:type=SolverMetrics).
+ * Les temps sont en nanosecondes.
+ */
+public interface SolverMetricsMXBean {
+    
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+    
+    long getSolveCount();
+    long getTotalIterations();
+    int getLastIterations();
+    int getLastN();
+    double getLastResidual();
+    double getMaxResidual();
+    long getLastAllocatedBytes();
+    long getTotalAllocatedBytes();
+    
+    long getMeshNanos();
+    long getAssemblyNanos();
+    long getRhsNanos();
+    long getSolveNanos();
+    long getExportNanos();
+    
+    long getMeshCount();
+    long getAssemblyCount();
+    long getRhsCount();
+    long getSolvePhaseCount();
+    long getExportCount();
+    
+    /** Rapport texte complet */
+    String getReport();
+    
+    void reset();
+}
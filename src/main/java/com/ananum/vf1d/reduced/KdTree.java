@@ -0,0 +1,100 @@
+package com.ananum.vf1d.reduced;
+
+import java.util.Arrays;
+
+/**
+ * Arbre k-d à insertion incrémentale sur des points de dimension fixe
+ * (distance euclidienne) : recherche des k plus proches voisins en
+ * O(log m) en moyenne pour des points répartis sans ordre particulier.
+ * L'arbre n'est pas rééquilibré ; les indices des points sont leurs rangs
+ * d'insertion.
+ */
+final class KdTree {
+    private final int dimension;
+    private double[][] points = new double[16][];
+    private int[] left = new int[16], right = new int[16];
+    private int size;
+    
+    // Meilleurs candidats de la recherche en cours, triés par distance croissante
+    private int[] bestIndex;
+    private double[] bestDistance;
+    private int found;
+    
+    KdTree(int dimension) {
+        this.dimension = dimension;
+    }
+    
+    /**
+     * Ajoute un point (non copié) et renvoie son indice
+     */
+    int insert(double[] point) {
+        if (size == points.length) {
+            points = Arrays.copyOf(points, 2 * size);
+            left = Arrays.copyOf(left, 2 * size);
+            right = Arrays.copyOf(right, 2 * size);
+        }
+        int index = size++;
+        points[index] = point;
+        left[index] = -1;
+        right[index] = -1;
+        if (index == 0) return index;
+        
+        int node = 0;
+        for (int depth = 0; ; depth++) {
+            int axis = depth % dimension;
+            int[] side = point[axis] < points[node][axis] ? left : right;
+            if (side[node] < 0) {
+                side[node] = index;
+                return index;
+            }
+            node = side[node];
+        }
+    }
+    
+    /**
+     * k plus proches voisins de query : indices et distances dans index et
+     * distance (triés par distance croissante) ; renvoie leur nombre
+     * (min(k, taille))
+     */
+    int nearest(double[] query, int k, int[] index, double[] distance) {
+        bestIndex = index;
+        bestDistance = distance;
+        found = 0;
+        Arrays.fill(distance, 0, k, Double.POSITIVE_INFINITY);
+        if (size > 0) search(0, 0, query, k);
+        for (int i = 0; i < found; i++) distance[i] = Math.sqrt(distance[i]);
+        return found;
+    }
+    
+    int size() { return size; }
+    
+    double[] point(int index) { return points[index]; }
+    
+    private void search(int node, int depth, double[] query, int k) {
+        double[] p = points[node];
+        double d2 = 0;
+        for (int i = 0; i < dimension; i++) d2 += (query[i] - p[i]) * (query[i] - p[i]);
+        if (found < k || d2 < bestDistance[k - 1]) {
+            // Insertion triée (k petit)
+            int i = Math.min(found, k - 1);
+            while (i > 0 && bestDistance[i - 1] > d2) {
+                bestDistance[i] = bestDistance[i - 1];
+                bestIndex[i] = bestIndex[i - 1];
+                i--;
+            }
+            bestDistance[i] = d2;
+            bestIndex[i] = node;
+            if (found < k) found++;
+        }
+        
+        int axis = depth % dimension;
+        double delta = query[axis] - p[axis];
+        int near = delta < 0 ? left[node] : right[node];
+        int far = delta < 0 ? right[node] : left[node];
+        if (near >= 0) search(near, depth + 1, query, k);
+        // Le demi-espace opposé n'est visité que s'il peut contenir un meilleur candidat
+        if (far >= 0 && (found < k || delta * delta < bestDistance[k - 1])) {
+            search(far, depth + 1, query, k);
+        }
+    }
+}
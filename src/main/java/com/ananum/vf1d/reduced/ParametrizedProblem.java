@@ -0,0 +1,87 @@
+package com.ananum.vf1d.reduced;
+
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.Mesh1D;
+import com.ananum.vf1d.MeshGenerator;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.TridiagonalOperator;
+
+/**
+ * Problème complet paramétré -aU'' + bU' + cU = s f(x) sur [0,L], pour
+ * μ = (a, b, c, s) : maillage, forme f de la source, conditions aux limites
+ * et leurs valeurs sont fixés, seuls les coefficients et l'amplitude de la
+ * source varient. La convection est upwind, seul schéma dont l'opérateur
+ * est affine en (a, b) (voir ReducedBasis).
+ */
+public final class ParametrizedProblem {
+    private final int n;
+    private final double L;
+    private final Function1D sourceShape;
+    private final double u0, uL;
+    private MeshGenerator meshGenerator = MeshGenerator.UNIFORM;
+    private BoundaryCondition westBoundary = BoundaryCondition.DIRICHLET;
+    private BoundaryCondition eastBoundary = BoundaryCondition.DIRICHLET;
+    private Mesh1D mesh;
+    
+    /**
+     * @param sourceShape forme f de la source (multipliée par s)
+     */
+    public ParametrizedProblem(int n, double L, Function1D sourceShape, double u0, double uL) {
+        if (n < 3) {
+            throw new IllegalArgumentException("Au moins 3 volumes sont nécessaires : " + n);
+        }
+        this.n = n;
+        this.L = L;
+        this.sourceShape = sourceShape;
+        this.u0 = u0;
+        this.uL = uL;
+    }
+    
+    public void setMeshGenerator(MeshGenerator meshGenerator) {
+        if (meshGenerator == null) {
+            throw new IllegalArgumentException("Le générateur de maillage est obligatoire");
+        }
+        this.meshGenerator = meshGenerator;
+        this.mesh = null;
+    }
+    
+    public void setBoundaryConditions(BoundaryCondition west, BoundaryCondition east) {
+        if (west == null || east == null) {
+            throw new IllegalArgumentException("Les deux conditions aux limites sont obligatoires");
+        }
+        this.westBoundary = west;
+        this.eastBoundary = east;
+    }
+    
+    /**
+     * Résolution complète (Thomas) du problème pour μ = (a, b, c, s)
+     */
+    public Solution1D solve(double a, double b, double c, double s) {
+        TridiagonalOperator operator = operator(a, b, c);
+        double[] u = new double[n];
+        operator.buildRightHandSide(x -> s * sourceShape.evaluate(x), u0, uL, u);
+        operator.factorize().solve(u, u);
+        Mesh1D m = getMesh();
+        return new Solution1D(u, m.getMeshPoints(), m.getCellWidths(), n);
+    }
+    
+    TridiagonalOperator operator(double a, double b, double c) {
+        return TridiagonalOperator.assemble(getMesh(), a, b, c, westBoundary, eastBoundary);
+    }
+    
+    public Mesh1D getMesh() {
+        if (mesh == null) {
+            mesh = Mesh1D.create(n, L, meshGenerator);
+        }
+        return mesh;
+    }
+    
+    public int getN() { return n; }
+    public double getL() { return L; }
+    public Function1D getSourceShape() { return sourceShape; }
+    public double getU0() { return u0; }
+    public double getUL() { return uL; }
+    public BoundaryCondition getWestBoundary() { return westBoundary; }
+    public BoundaryCondition getEastBoundary() { return eastBoundary; }
+}
@@ -0,0 +1,511 @@
+package com.ananum.vf1d.reduced;
+
+import com.ananum.vf1d.Factorization;
+import com.ananum.vf1d.Mesh1D;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.TridiagonalOperator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Base réduite (POD) d'un problème paramétré, pour les évaluations en très
+ * grand nombre (optimisation, quantification d'incertitude).
+ *
+ * Décomposition affine : avec la convection upwind, l'opérateur et le
+ * second membre sont affines en μ = (a, b, c, s) :
+ *
+ *     A(μ) = a D + b⁺ Cw + b⁻ Ce + c M,   f(μ) = s F + a Ra + b⁺ R₊ + b⁻ R₋
+ *
+ * (b⁺ = max(b, 0), b⁻ = max(-b, 0) ; R· : contributions des valeurs aux
+ * limites). Les termes sont obtenus par différences d'opérateurs assemblés
+ * par TridiagonalOperator, sans dupliquer l'assemblage.
+ *
+ * Hors ligne (offline) :
+ * 1. clichés u(μ_k) aux points d'entraînement, par Thomas ;
+ * 2. POD par la méthode des clichés pour le produit L2 discret (Σ dx u v) :
+ *    les r premiers modes capturent l'énergie 1 - tolerance² ;
+ * 3. projections Vᵀ A_q V, Vᵀ f_q et factorisation QR, pour le produit
+ *    scalaire dual (y, z) = yᵀ X⁻¹ z, des vecteurs [f_q, A_q v_k] qui
+ *    engendrent tout résidu ;
+ * 4. encadrements des spectres généralisés (A_q^s, X) des parties
+ *    symétriques (Sturm).
+ *
+ * La norme d'énergie X = D (D + M si aucune condition ne fixe la valeur)
+ * est celle de la diffusion : mesurer le résidu dans la norme duale
+ * ||r||_X' = √(rᵀ X⁻¹ r) plutôt qu'en norme euclidienne évite de payer le
+ * conditionnement O(h⁻²) de D dans la borne.
+ *
+ * En ligne (Evaluator), pour chaque μ, en O(r³) indépendamment de N :
+ * système de Galerkin r × r, norme duale du résidu ||R coef|| (sans
+ * l'annulation catastrophique du développement de ||f - A V x||²), et
+ * borne d'erreur
+ *
+ *     ||u_h(μ) - V x||_L2 ≤ √(λmax(M, X) / L) ||r(μ)||_X' / α_LB(μ)
+ *
+ * où α_LB(μ) = Σ θ_q λmin(A_q^s, X) (λmax si θ_q < 0) minore la coercivité
+ * de A(μ) en norme X (vᵀ A v ≥ α vᵀ X v ; α_LB ≥ a pour Dirichlet). La
+ * borne est rigoureuse ; elle est infinie si α_LB ≤ 0 (par exemple c < 0
+ * marqué) et son efficacité se dégrade comme le Péclet |b| L / a.
+ */
+public final class ReducedBasis {
+    /** Termes affines de l'opérateur (a, b⁺, b⁻, c) et du second membre (s, a, b⁺, b⁻) */
+    static final int OPERATOR_TERMS = 4, RHS_TERMS = 4;
+    
+    private final ParametrizedProblem problem;
+    private final int n;
+    private final double[][] modes;              // modes[k] : mode k, orthonormé en L2 discret
+    private final double[] podValues;            // Valeurs propres de corrélation, décroissantes
+    private final double[][][] reducedOperators; // [q][i][j] = v_i · A_q v_j
+    private final double[][] reducedRhs;         // [q][i] = v_i · f_q
+    private final double[][] residualFactor;     // R de la QR (produit X⁻¹) des [f_q, A_q v_k]
+    private final double[] spectrumMin, spectrumMax;   // Spectres généralisés (A_q^s, X)
+    private final double normFactor;             // √(λmax(M, X) / L) : norme X → norme L2
+    private final long offlineNanos;
+    
+    private ReducedBasis(ParametrizedProblem problem, double[][] modes, double[] podValues,
+                         double[][][] reducedOperators, double[][] reducedRhs,
+                         double[][] residualFactor, double[] spectrumMin, double[] spectrumMax,
+                         double normFactor, long offlineNanos) {
+        this.problem = problem;
+        this.n = problem.getN();
+        this.modes = modes;
+        this.podValues = podValues;
+        this.reducedOperators = reducedOperators;
+        this.reducedRhs = reducedRhs;
+        this.residualFactor = residualFactor;
+        this.spectrumMin = spectrumMin;
+        this.spectrumMax = spectrumMax;
+        this.normFactor = normFactor;
+        this.offlineNanos = offlineNanos;
+    }
+    
+    /**
+     * Phase hors ligne : clichés aux points d'entraînement (lignes
+     * {a, b, c, s}), base POD et données affines réduites
+     *
+     * @param tolerance erreur relative de projection visée (énergie non
+     *                  capturée ≤ tolerance²)
+     * @param maxSize taille maximale de la base
+     */
+    public static ReducedBasis offline(ParametrizedProblem problem, double[][] training,
+                                       double tolerance, int maxSize) {
+        if (training.length == 0) {
+            throw new IllegalArgumentException("Au moins un point d'entraînement est requis");
+        }
+        if (!(tolerance > 0) || maxSize < 1) {
+            throw new IllegalArgumentException(
+                "Tolérance et taille maximale doivent être positives : " + tolerance + ", " + maxSize);
+        }
+        long start = System.nanoTime();
+        final int n = problem.getN();
+        Mesh1D mesh = problem.getMesh();
+        double[] dx = mesh.getCellWidths();
+        
+        // 1. Clichés
+        int m = training.length;
+        double[][] snapshots = new double[m][];
+        for (int k = 0; k < m; k++) {
+            double[] mu = training[k];
+            if (mu.length != 4) {
+                throw new IllegalArgumentException(
+                    "Un point d'entraînement est un quadruplet {a, b, c, s}");
+            }
+            snapshots[k] = problem.solve(mu[0], mu[1], mu[2], mu[3]).getValues();
+        }
+        
+        // 2. POD : corrélation K_ij = (u_i, u_j)_L2
+        double[][] correlation = new double[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j <= i; j++) {
+                double s = 0;
+                for (int p = 0; p < n; p++) s += dx[p] * snapshots[i][p] * snapshots[j][p];
+                correlation[i][j] = s;
+                correlation[j][i] = s;
+            }
+        }
+        double[] values = new double[m];
+        double[][] vectors = new double[m][m];
+        SymmetricEigen.decompose(correlation, values, vectors);
+        
+        double total = 0;
+        for (double v : values) total += Math.max(v, 0);
+        int r = 0;
+        double captured = 0;
+        while (r < Math.min(maxSize, m) && values[r] > 1e-14 * values[0]
+               && total - captured > tolerance * tolerance * total) {
+            captured += values[r++];
+        }
+        r = Math.max(r, 1);
+        
+        double[][] modes = new double[r][n];
+        int size = 0;
+        for (int k = 0; k < r; k++) {
+            double[] v = modes[size];
+            for (int i = 0; i < m; i++) {
+                double w = vectors[i][k];
+                for (int p = 0; p < n; p++) v[p] += w * snapshots[i][p];
+            }
+            // Réorthonormalisation (Gram-Schmidt modifié, deux passes)
+            double before = Math.sqrt(inner(v, v, dx));
+            for (int pass = 0; pass < 2; pass++) {
+                for (int j = 0; j < size; j++) {
+                    double proj = inner(v, modes[j], dx);
+                    for (int p = 0; p < n; p++) v[p] -= proj * modes[j][p];
+                }
+            }
+            double norm = Math.sqrt(inner(v, v, dx));
+            if (norm <= 1e-10 * before) {
+                Arrays.fill(v, 0.0);
+                continue;
+            }
+            for (int p = 0; p < n; p++) v[p] /= norm;
+            size++;
+        }
+        if (size < r) {
+            double[][] kept = new double[size][];
+            System.arraycopy(modes, 0, kept, 0, size);
+            modes = kept;
+            r = size;
+        }
+        
+        // 3. Termes affines
+        TridiagonalOperator base = problem.operator(1.0, 0.0, 1.0);
+        TridiagonalOperator west = problem.operator(1.0, 1.0, 1.0);
+        TridiagonalOperator east = problem.operator(1.0, -1.0, 1.0);
+        double[][][] terms = {
+            difference(base, null, dx),   // D = A(1, 0, 1) - M
+            difference(west, base, null), // Cw
+            difference(east, base, null), // Ce
+            {new double[n - 1], dx.clone(), new double[n - 1]}   // M
+        };
+        double[][] rhs = new double[RHS_TERMS][n];
+        base.buildRightHandSide(problem.getSourceShape(), 0.0, 0.0, rhs[0]);
+        base.buildRightHandSide(x -> 0.0, problem.getU0(), problem.getUL(), rhs[1]);
+        west.buildRightHandSide(x -> 0.0, problem.getU0(), problem.getUL(), rhs[2]);
+        east.buildRightHandSide(x -> 0.0, problem.getU0(), problem.getUL(), rhs[3]);
+        for (int p = 0; p < n; p++) {
+            rhs[2][p] -= rhs[1][p];
+            rhs[3][p] -= rhs[1][p];
+        }
+        
+        double[][][] applied = new double[OPERATOR_TERMS][r][n];
+        double[][][] reducedOperators = new double[OPERATOR_TERMS][r][r];
+        double[][] reducedRhs = new double[RHS_TERMS][r];
+        for (int q = 0; q < OPERATOR_TERMS; q++) {
+            for (int j = 0; j < r; j++) {
+                multiply(terms[q], modes[j], applied[q][j]);
+            }
+            for (int i = 0; i < r; i++) {
+                for (int j = 0; j < r; j++) {
+                    reducedOperators[q][i][j] = dot(modes[i], applied[q][j]);
+                }
+            }
+        }
+        for (int q = 0; q < RHS_TERMS; q++) {
+            for (int i = 0; i < r; i++) reducedRhs[q][i] = dot(modes[i], rhs[q]);
+        }
+        
+        // Résidu : r(μ) = Σ θf_q f_q - Σ θa_q x_k A_q v_k = Z coef, Z = Q R
+        double[][] columns = new double[RHS_TERMS + OPERATOR_TERMS * r][];
+        System.arraycopy(rhs, 0, columns, 0, RHS_TERMS);
+        for (int q = 0; q < OPERATOR_TERMS; q++) {
+            for (int k = 0; k < r; k++) columns[RHS_TERMS + q * r + k] = applied[q][k].clone();
+        }
+        boolean valueFixed = problem.getWestBoundary().getAlpha() != 0
+                             || problem.getEastBoundary().getAlpha() != 0;
+        TridiagonalOperator energy = problem.operator(1.0, 0.0, valueFixed ? 0.0 : 1.0);
+        double[][] residualFactor = triangularFactor(columns, energy.factorize());
+        
+        // 4. Spectres généralisés des parties symétriques, relativement à X
+        double[][] x = difference(energy, null, new double[n]);
+        double[] spectrumMin = new double[OPERATOR_TERMS];
+        double[] spectrumMax = new double[OPERATOR_TERMS];
+        for (int q = 0; q < OPERATOR_TERMS; q++) {
+            double[] off = new double[n - 1];
+            for (int p = 0; p < n - 1; p++) off[p] = 0.5 * (terms[q][0][p] + terms[q][2][p]);
+            double[] bounds = SymmetricEigen.spectrumBounds(terms[q][1], off, x[1], x[2]);
+            spectrumMin[q] = bounds[0];
+            spectrumMax[q] = bounds[1];
+        }
+        double mass = SymmetricEigen.spectrumBounds(dx, new double[n - 1], x[1], x[2])[1];
+        
+        return new ReducedBasis(problem, modes, values, reducedOperators, reducedRhs,
+                                residualFactor, spectrumMin, spectrumMax,
+                                Math.sqrt(mass / mesh.getL()), System.nanoTime() - start);
+    }
+    
+    /**
+     * Points d'entraînement en hypercube latin sur le pavé [min, max]
+     * (quadruplets {a, b, c, s}), reproductibles pour une graine donnée
+     */
+    public static double[][] trainingSet(double[] min, double[] max, int count, long seed) {
+        if (min.length != 4 || max.length != 4 || count < 1) {
+            throw new IllegalArgumentException(
+                "Bornes {a, b, c, s} et nombre de points positif requis");
+        }
+        Random random = new Random(seed);
+        double[][] points = new double[count][4];
+        for (int axis = 0; axis < 4; axis++) {
+            int[] strata = new int[count];
+            for (int k = 0; k < count; k++) strata[k] = k;
+            for (int k = count - 1; k > 0; k--) {
+                int j = random.nextInt(k + 1);
+                int t = strata[k]; strata[k] = strata[j]; strata[j] = t;
+            }
+            for (int k = 0; k < count; k++) {
+                double u = (strata[k] + random.nextDouble()) / count;
+                points[k][axis] = min[axis] + u * (max[axis] - min[axis]);
+            }
+        }
+        return points;
+    }
+    
+    /**
+     * Évaluateur en ligne : tableaux de travail préalloués, non thread-safe
+     * (un par thread)
+     */
+    public Evaluator evaluator() {
+        return new Evaluator();
+    }
+    
+    /**
+     * Coefficients réduits d'une fonctionnelle linéaire w · u (par exemple
+     * une moyenne pondérée) : sa valeur en ligne est Evaluator.output
+     */
+    public double[] reduceFunctional(double[] weights) {
+        if (weights.length != n) {
+            throw new IllegalArgumentException("La fonctionnelle doit avoir " + n + " poids");
+        }
+        double[] reduced = new double[modes.length];
+        for (int k = 0; k < modes.length; k++) reduced[k] = dot(weights, modes[k]);
+        return reduced;
+    }
+    
+    /**
+     * Solution reconstruite V x (O(N r))
+     */
+    public Solution1D reconstruct(double[] coefficients) {
+        double[] u = new double[n];
+        for (int k = 0; k < modes.length; k++) {
+            double x = coefficients[k];
+            for (int p = 0; p < n; p++) u[p] += x * modes[k][p];
+        }
+        Mesh1D mesh = problem.getMesh();
+        return new Solution1D(u, mesh.getMeshPoints(), mesh.getCellWidths(), n);
+    }
+    
+    /** Taille r de la base */
+    public int getSize() { return modes.length; }
+    
+    public int getN() { return n; }
+    
+    public ParametrizedProblem getProblem() { return problem; }
+    
+    /** Valeurs propres de la corrélation des clichés, décroissantes */
+    public double[] getPodValues() { return podValues.clone(); }
+    
+    public double[] getMode(int k) { return modes[k].clone(); }
+    
+    public long getOfflineNanos() { return offlineNanos; }
+    
+    /**
+     * Évaluation en ligne pour un μ : coefficients réduits, résidu et borne
+     * d'erreur
+     */
+    public final class Evaluator {
+        private final int r = modes.length;
+        private final double[][] matrix = new double[r][r];
+        private final double[] coefficients = new double[r];
+        private final double[] coef = new double[RHS_TERMS + OPERATOR_TERMS * r];
+        private final double[] thetaA = new double[OPERATOR_TERMS];
+        private final double[] thetaF = new double[RHS_TERMS];
+        private double residual;
+        private double stability;
+        
+        private Evaluator() {
+        }
+        
+        /**
+         * Résout le système réduit pour μ = (a, b, c, s)
+         *
+         * @return borne de l'erreur L2 par rapport à la solution complète
+         *         (infinie si la coercivité n'est pas garantie)
+         */
+        public double solve(double a, double b, double c, double s) {
+            if (!(a > 0)) {
+                throw new IllegalArgumentException("La diffusion a doit être positive : " + a);
+            }
+            double bPos = Math.max(b, 0), bNeg = Math.max(-b, 0);
+            thetaA[0] = a; thetaA[1] = bPos; thetaA[2] = bNeg; thetaA[3] = c;
+            thetaF[0] = s; thetaF[1] = a; thetaF[2] = bPos; thetaF[3] = bNeg;
+            
+            // Système de Galerkin
+            for (int i = 0; i < r; i++) {
+                double rhs = 0;
+                for (int q = 0; q < RHS_TERMS; q++) rhs += thetaF[q] * reducedRhs[q][i];
+                coefficients[i] = rhs;
+                double[] row = matrix[i];
+                for (int j = 0; j < r; j++) {
+                    double v = 0;
+                    for (int q = 0; q < OPERATOR_TERMS; q++) v += thetaA[q] * reducedOperators[q][i][j];
+                    row[j] = v;
+                }
+            }
+            solveInPlace(matrix, coefficients);
+            
+            // Norme du résidu
+            System.arraycopy(thetaF, 0, coef, 0, RHS_TERMS);
+            for (int q = 0; q < OPERATOR_TERMS; q++) {
+                for (int k = 0; k < r; k++) coef[RHS_TERMS + q * r + k] = -thetaA[q] * coefficients[k];
+            }
+            double sum = 0;
+            for (int i = 0; i < coef.length; i++) {
+                double[] row = residualFactor[i];
+                double y = 0;
+                for (int j = i; j < coef.length; j++) y += row[j] * coef[j];
+                sum += y * y;
+            }
+            residual = Math.sqrt(sum);
+            
+            // Minorant de coercivité
+            stability = 0;
+            for (int q = 0; q < OPERATOR_TERMS; q++) {
+                stability += thetaA[q] * (thetaA[q] >= 0 ? spectrumMin[q] : spectrumMax[q]);
+            }
+            return stability > 0 ? normFactor * residual / stability : Double.POSITIVE_INFINITY;
+        }
+        
+        /** Coefficient k de la dernière solution réduite */
+        public double getCoefficient(int k) { return coefficients[k]; }
+        
+        public double[] getCoefficients() { return coefficients.clone(); }
+        
+        /** Valeur de la fonctionnelle réduite (reduceFunctional) pour la dernière solution */
+        public double output(double[] reducedFunctional) {
+            double v = 0;
+            for (int k = 0; k < r; k++) v += reducedFunctional[k] * coefficients[k];
+            return v;
+        }
+        
+        /** Norme duale ||r||_X' du résidu complet de la dernière solution */
+        public double getResidualNorm() { return residual; }
+        
+        /** Minorant de coercivité α_LB (en norme X) de la dernière évaluation */
+        public double getStabilityBound() { return stability; }
+        
+        public Solution1D reconstruct() {
+            return ReducedBasis.this.reconstruct(coefficients);
+        }
+    }
+    
+    /**
+     * Élimination de Gauss avec pivot partiel, en place (matrix est détruite)
+     */
+    private static void solveInPlace(double[][] matrix, double[] x) {
+        int r = x.length;
+        for (int k = 0; k < r; k++) {
+            int p = k;
+            for (int i = k + 1; i < r; i++) {
+                if (Math.abs(matrix[i][k]) > Math.abs(matrix[p][k])) p = i;
+            }
+            if (matrix[p][k] == 0) {
+                throw new IllegalStateException("Système réduit singulier (colonne " + k + ")");
+            }
+            if (p != k) {
+                double[] row = matrix[k]; matrix[k] = matrix[p]; matrix[p] = row;
+                double t = x[k]; x[k] = x[p]; x[p] = t;
+            }
+            double[] pivotRow = matrix[k];
+            for (int i = k + 1; i < r; i++) {
+                double f = matrix[i][k] / pivotRow[k];
+                if (f == 0) continue;
+                double[] row = matrix[i];
+                for (int j = k + 1; j < r; j++) row[j] -= f * pivotRow[j];
+                x[i] -= f * x[k];
+            }
+        }
+        for (int i = r - 1; i >= 0; i--) {
+            double s = x[i];
+            for (int j = i + 1; j < r; j++) s -= matrix[i][j] * x[j];
+            x[i] = s / matrix[i][i];
+        }
+    }
+    
+    /**
+     * Facteur R (triangulaire supérieur) de la QR des colonnes pour le
+     * produit scalaire (y, z) = yᵀ X⁻¹ z, par Gram-Schmidt modifié à deux
+     * passes. Les projections n'utilisent que les représentants de Riesz
+     * X⁻¹ q_i des colonnes déjà orthonormées ; celui de la nouvelle colonne
+     * est recalculé après orthogonalisation (le mettre à jour par les mêmes
+     * combinaisons amplifie les arrondis quand la colonne est presque
+     * dépendante). Les colonnes sont détruites
+     */
+    private static double[][] triangularFactor(double[][] columns, Factorization riesz) {
+        int k = columns.length;
+        double[][] r = new double[k][k];
+        double[][] represented = new double[k][];
+        for (int j = 0; j < k; j++) {
+            double[] v = columns[j];
+            for (int pass = 0; pass < 2; pass++) {
+                for (int i = 0; i < j; i++) {
+                    if (represented[i] == null) continue;
+                    double proj = dot(represented[i], v);
+                    r[i][j] += proj;
+                    for (int p = 0; p < v.length; p++) v[p] -= proj * columns[i][p];
+                }
+            }
+            double[] w = riesz.solve(v);
+            double norm = Math.sqrt(Math.max(dot(v, w), 0));
+            r[j][j] = norm;
+            if (norm > 0) {
+                // Sinon colonne dépendante : aucune direction nouvelle
+                for (int p = 0; p < v.length; p++) {
+                    v[p] /= norm;
+                    w[p] /= norm;
+                }
+                represented[j] = w;
+            }
+        }
+        return r;
+    }
+    
+    /**
+     * Tridiagonale {lower, diag, upper} de a - b (b null : a - M, M = diag(dx))
+     */
+    private static double[][] difference(TridiagonalOperator a, TridiagonalOperator b, double[] dx) {
+        int n = a.getN();
+        double[] lower = new double[n - 1], diag = new double[n], upper = new double[n - 1];
+        for (int i = 0; i < n; i++) {
+            diag[i] = a.entry(i, 0) - (b != null ? b.entry(i, 0) : dx[i]);
+            if (i < n - 1) {
+                upper[i] = a.entry(i, 1) - (b != null ? b.entry(i, 1) : 0);
+                lower[i] = a.entry(i + 1, -1) - (b != null ? b.entry(i + 1, -1) : 0);
+            }
+        }
+        return new double[][] {lower, diag, upper};
+    }
+    
+    private static void multiply(double[][] t, double[] x, double[] y) {
+        double[] lower = t[0], diag = t[1], upper = t[2];
+        int n = diag.length;
+        for (int i = 0; i < n; i++) {
+            double v = diag[i] * x[i];
+            if (i > 0) v += lower[i-1] * x[i-1];
+            if (i < n - 1) v += upper[i] * x[i+1];
+            y[i] = v;
+        }
+    }
+    
+    private static double dot(double[] u, double[] v) {
+        double s = 0;
+        for (int p = 0; p < u.length; p++) s += u[p] * v[p];
+        return s;
+    }
+    
+    private static double inner(double[] u, double[] v, double[] dx) {
+        double s = 0;
+        for (int p = 0; p < u.length; p++) s += dx[p] * u[p] * v[p];
+        return s;
+    }
+}
@@ -0,0 +1,270 @@
+package com.ananum.vf1d.reduced;
+
+import com.ananum.vf1d.Solution1D;
+
+import java.util.Arrays;
+
+/**
+ * Cache de substitution sur l'espace des paramètres, alternative légère à
+ * la base réduite quand le solveur n'est pas affine en μ (schémas TVD,
+ * correction différée...) ou quand les requêtes se concentrent dans une
+ * petite région.
+ *
+ * Les solutions calculées sont stockées avec leurs paramètres normalisés
+ * ((μ - min) / (max - min)) dans un arbre k-d. Une requête cherche ses k
+ * plus proches voisins et les combine par pondération inverse à la
+ * distance (IDW, poids d_i^-p). L'interpolant étant une combinaison
+ * convexe, si u est L-lipschitzienne autour de μ :
+ *
+ *     ||ū(μ) - u(μ)||_L2 ≤ Σ w_i ||u_i - u(μ)||_L2 ≤ Σ w_i L_i d_i
+ *
+ * Chaque point stocké porte une constante de Lipschitz locale L_i, la plus
+ * grande pente ||u_i - u_j|| / d_ij observée avec ses voisins (mise à jour
+ * à chaque insertion) : l'estimation Σ w_i L_i d_i coûte O(k), et
+ * l'interpolation O(k N). Au-delà de la tolérance, tant qu'un voisin n'a
+ * aucune pente connue, ou si les voisins sont tous du même côté de μ
+ * (extrapolation : barycentre pondéré des voisins à plus de la moitié de
+ * leur distance moyenne), la requête est résolue par le vrai solveur et le
+ * résultat enrichit le cache : le cache s'adapte à la charge.
+ *
+ * L'estimation n'est pas une borne (les pentes observées minorent la
+ * vraie constante, surtout en extrapolation vers une région plus raide),
+ * mais elle est du bon ordre pour les solutions régulières en μ. Non
+ * thread-safe (un cache par thread).
+ */
+public final class SurrogateCache {
+    public static final int DEFAULT_POWER = 2;
+    
+    /** Vrai solveur, appelé en cas d'échec du cache */
+    public interface Solver {
+        Solution1D solve(double[] mu);
+    }
+    
+    private final Solver solver;
+    private final double[] min, scale;
+    private final double tolerance;
+    private final int dimension;
+    private int neighbours;
+    private int power = DEFAULT_POWER;
+    
+    private final KdTree tree;
+    private double[][] solutions = new double[16][];
+    private double[] lipschitz = new double[16];
+    private double[] meshPoints, cellWidths;
+    private double length;
+    
+    private final double[] query, offset;
+    private int[] index;
+    private double[] distance, weight;
+    
+    private long hits, misses, hitNanos, missNanos;
+    private double lastEstimate;
+    
+    /**
+     * @param min, max pavé des paramètres (normalisation des distances)
+     * @param tolerance erreur L2 estimée au-delà de laquelle le vrai
+     *                  solveur est appelé
+     */
+    public SurrogateCache(Solver solver, double[] min, double[] max, double tolerance) {
+        if (solver == null || min.length == 0 || min.length != max.length) {
+            throw new IllegalArgumentException("Solveur et pavé [min, max] de même dimension requis");
+        }
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("La tolérance doit être positive : " + tolerance);
+        }
+        this.solver = solver;
+        this.dimension = min.length;
+        this.min = min.clone();
+        this.scale = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            if (!(max[i] > min[i])) {
+                throw new IllegalArgumentException("Intervalle vide pour le paramètre " + i);
+            }
+            scale[i] = max[i] - min[i];
+        }
+        this.tolerance = tolerance;
+        this.tree = new KdTree(dimension);
+        this.query = new double[dimension];
+        this.offset = new double[dimension];
+        setNeighbours(2 * dimension);
+    }
+    
+    /** Nombre k de voisins interpolés */
+    public void setNeighbours(int neighbours) {
+        if (neighbours < 2) {
+            throw new IllegalArgumentException("Au moins 2 voisins sont nécessaires : " + neighbours);
+        }
+        this.neighbours = neighbours;
+        this.index = new int[neighbours];
+        this.distance = new double[neighbours];
+        this.weight = new double[neighbours];
+    }
+    
+    /** Exposant p des poids d_i^-p */
+    public void setPower(int power) {
+        if (power < 1) {
+            throw new IllegalArgumentException("L'exposant doit être au moins 1 : " + power);
+        }
+        this.power = power;
+    }
+    
+    /**
+     * Résout au point μ par le vrai solveur et stocke le résultat
+     * (préremplissage), sans compter dans les statistiques
+     */
+    public Solution1D add(double... mu) {
+        normalize(mu);
+        int found = tree.nearest(query, neighbours, index, distance);
+        if (found > 0 && distance[0] == 0) return copy(solutions[index[0]]);
+        return store(mu, found);
+    }
+    
+    /**
+     * Solution au point μ : interpolée si l'erreur estimée est sous la
+     * tolérance, sinon calculée par le vrai solveur et stockée
+     */
+    public Solution1D query(double... mu) {
+        long start = System.nanoTime();
+        normalize(mu);
+        int found = tree.nearest(query, neighbours, index, distance);
+        
+        Solution1D result = null;
+        if (found > 0 && distance[0] == 0) {
+            lastEstimate = 0;
+            result = copy(solutions[index[0]]);
+        } else if (found >= 2) {
+            lastEstimate = estimate(found);
+            if (lastEstimate <= tolerance) result = interpolate(found);
+        } else {
+            lastEstimate = Double.POSITIVE_INFINITY;
+        }
+        
+        if (result != null) {
+            hits++;
+            hitNanos += System.nanoTime() - start;
+        } else {
+            result = store(mu, found);
+            misses++;
+            missNanos += System.nanoTime() - start;
+        }
+        return result;
+    }
+    
+    /** Erreur L2 estimée de la dernière requête (infinie sans voisinage entourant μ) */
+    public double getLastEstimate() { return lastEstimate; }
+    
+    /** Nombre de solutions stockées */
+    public int getSize() { return tree.size(); }
+    
+    public long getHits() { return hits; }
+    
+    public long getMisses() { return misses; }
+    
+    public double getHitRate() {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+    
+    /** Latence moyenne d'une requête servie par interpolation (ns) */
+    public double getMeanHitNanos() { return hits == 0 ? 0 : (double) hitNanos / hits; }
+    
+    /** Latence moyenne d'une requête servie par le vrai solveur (ns) */
+    public double getMeanMissNanos() { return misses == 0 ? 0 : (double) missNanos / misses; }
+    
+    public void resetStatistics() {
+        hits = misses = hitNanos = missNanos = 0;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d requêtes, taux de succès %.1f %%, latence %.1f μs (interpolation) / %.1f μs (solveur), %d solutions stockées",
+            hits + misses, 100 * getHitRate(), getMeanHitNanos() / 1e3, getMeanMissNanos() / 1e3, getSize());
+    }
+    
+    private void normalize(double[] mu) {
+        if (mu.length != dimension) {
+            throw new IllegalArgumentException("Le point doit avoir " + dimension + " paramètres");
+        }
+        for (int i = 0; i < dimension; i++) query[i] = (mu[i] - min[i]) / scale[i];
+    }
+    
+    /**
+     * Poids IDW normalisés des voisins trouvés et erreur estimée Σ w_i L_i d_i
+     * (infinie en extrapolation)
+     */
+    private double estimate(int found) {
+        double total = 0;
+        for (int i = 0; i < found; i++) {
+            weight[i] = 1 / Math.pow(distance[i], power);
+            total += weight[i];
+        }
+        double error = 0, mean = 0;
+        Arrays.fill(offset, 0.0);
+        for (int i = 0; i < found; i++) {
+            double w = weight[i] /= total;
+            error += w * lipschitz[index[i]] * distance[i];
+            mean += w * distance[i];
+            double[] p = tree.point(index[i]);
+            for (int a = 0; a < dimension; a++) offset[a] += w * (p[a] - query[a]);
+        }
+        double shift = 0;
+        for (int a = 0; a < dimension; a++) shift += offset[a] * offset[a];
+        return Math.sqrt(shift) > 0.5 * mean ? Double.POSITIVE_INFINITY : error;
+    }
+    
+    private Solution1D interpolate(int found) {
+        double[] u = new double[solutions[index[0]].length];
+        for (int i = 0; i < found; i++) {
+            double w = weight[i];
+            double[] s = solutions[index[i]];
+            for (int p = 0; p < u.length; p++) u[p] += w * s[p];
+        }
+        return new Solution1D(u, meshPoints, cellWidths, u.length);
+    }
+    
+    /**
+     * Vrai solveur au point μ (normalisé dans query), dont les found plus
+     * proches voisins sont dans index/distance ; met à jour les pentes locales
+     */
+    private Solution1D store(double[] mu, int found) {
+        Solution1D solution = solver.solve(mu.clone());
+        double[] u = solution.getValues().clone();
+        if (meshPoints == null) {
+            meshPoints = solution.getMeshPoints();
+            cellWidths = solution.getCellWidths();
+            for (double h : cellWidths) length += h;
+        } else if (u.length != cellWidths.length) {
+            throw new IllegalStateException("Le solveur a changé de maillage : " + u.length
+                + " volumes au lieu de " + cellWidths.length);
+        }
+        
+        int added = tree.insert(query.clone());
+        if (added == solutions.length) {
+            solutions = Arrays.copyOf(solutions, 2 * added);
+            lipschitz = Arrays.copyOf(lipschitz, 2 * added);
+        }
+        solutions[added] = u;
+        lipschitz[added] = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < found; i++) {
+            int j = index[i];
+            double slope = norm(u, solutions[j]) / distance[i];
+            lipschitz[added] = raise(lipschitz[added], slope);
+            lipschitz[j] = raise(lipschitz[j], slope);
+        }
+        return solution;
+    }
+    
+    /** Plus grande pente observée (une constante infinie signifie : aucune pente connue) */
+    private static double raise(double current, double slope) {
+        return current == Double.POSITIVE_INFINITY ? slope : Math.max(current, slope);
+    }
+    
+    private double norm(double[] u, double[] v) {
+        double s = 0;
+        for (int p = 0; p < u.length; p++) s += cellWidths[p] * (u[p] - v[p]) * (u[p] - v[p]);
+        return Math.sqrt(s / length);
+    }
+    
+    private Solution1D copy(double[] u) {
+        return new Solution1D(u.clone(), meshPoints, cellWidths, u.length);
+    }
+}
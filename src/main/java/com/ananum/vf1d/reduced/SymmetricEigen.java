@@ -0,0 +1,134 @@
+package com.ananum.vf1d.reduced;
+
+import java.util.Arrays;
+
+/**
+ * Décompositions spectrales de matrices symétriques : Jacobi cyclique pour
+ * les petites matrices pleines (corrélation des clichés), bisection de
+ * Sturm pour les extrémités du spectre généralisé d'un couple de matrices
+ * tridiagonales.
+ */
+final class SymmetricEigen {
+    private static final int MAX_SWEEPS = 100;
+    private static final int BISECTIONS = 200;
+    
+    private SymmetricEigen() {
+    }
+    
+    /**
+     * Valeurs propres (décroissantes) et vecteurs propres de la matrice
+     * symétrique a (non modifiée) : vectors[i][k] est la composante i du
+     * vecteur propre k
+     */
+    static void decompose(double[][] a, double[] values, double[][] vectors) {
+        int m = a.length;
+        double[][] s = new double[m][];
+        for (int i = 0; i < m; i++) {
+            s[i] = a[i].clone();
+            Arrays.fill(vectors[i], 0.0);
+            vectors[i][i] = 1.0;
+        }
+        
+        double norm = 0;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) norm += s[i][j] * s[i][j];
+        }
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            double off = 0;
+            for (int i = 0; i < m; i++) {
+                for (int j = i + 1; j < m; j++) off += s[i][j] * s[i][j];
+            }
+            if (off <= 1e-30 * norm) break;
+            
+            for (int p = 0; p < m; p++) {
+                for (int q = p + 1; q < m; q++) {
+                    if (s[p][q] == 0) continue;
+                    // Rotation annulant s[p][q]
+                    double theta = (s[q][q] - s[p][p]) / (2 * s[p][q]);
+                    double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+                    if (theta == 0) t = 1;
+                    double c = 1 / Math.sqrt(t * t + 1), sn = t * c;
+                    for (int k = 0; k < m; k++) {
+                        double kp = s[k][p], kq = s[k][q];
+                        s[k][p] = c * kp - sn * kq;
+                        s[k][q] = sn * kp + c * kq;
+                    }
+                    for (int k = 0; k < m; k++) {
+                        double pk = s[p][k], qk = s[q][k];
+                        s[p][k] = c * pk - sn * qk;
+                        s[q][k] = sn * pk + c * qk;
+                    }
+                    for (int k = 0; k < m; k++) {
+                        double vp = vectors[k][p], vq = vectors[k][q];
+                        vectors[k][p] = c * vp - sn * vq;
+                        vectors[k][q] = sn * vp + c * vq;
+                    }
+                }
+            }
+        }
+        
+        // Tri décroissant (sélection, m petit)
+        for (int k = 0; k < m; k++) values[k] = s[k][k];
+        for (int k = 0; k < m; k++) {
+            int best = k;
+            for (int j = k + 1; j < m; j++) {
+                if (values[j] > values[best]) best = j;
+            }
+            if (best != k) {
+                double v = values[k]; values[k] = values[best]; values[best] = v;
+                for (int i = 0; i < m; i++) {
+                    double w = vectors[i][k]; vectors[i][k] = vectors[i][best]; vectors[i][best] = w;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Encadrement {λmin, λmax} des valeurs propres généralisées T v = λ X v,
+     * T et X tridiagonales symétriques (diagonales d, xd ; sous-diagonales e,
+     * xe), X définie positive : bornes extérieures des intervalles de
+     * bisection, donc minorant de λmin et majorant de λmax
+     */
+    static double[] spectrumBounds(double[] d, double[] e, double[] xd, double[] xe) {
+        int n = d.length;
+        
+        // Intervalle initial, élargi jusqu'à contenir tout le spectre
+        double lo = -1, hi = 1;
+        for (int k = 0; k < 1100 && countBelow(d, e, xd, xe, lo) > 0; k++) lo *= 2;
+        for (int k = 0; k < 1100 && countBelow(d, e, xd, xe, hi) < n; k++) hi *= 2;
+        double tol = 1e-13 * Math.max(-lo, hi);
+        
+        // λmin : plus petit σ tel qu'au moins une valeur propre soit < σ
+        double a = lo, b = hi;
+        for (int k = 0; k < BISECTIONS && b - a > tol; k++) {
+            double mid = 0.5 * (a + b);
+            if (countBelow(d, e, xd, xe, mid) >= 1) b = mid; else a = mid;
+        }
+        double min = a;
+        
+        // λmax : plus petit σ tel que toutes les valeurs propres soient < σ
+        a = lo;
+        b = hi;
+        for (int k = 0; k < BISECTIONS && b - a > tol; k++) {
+            double mid = 0.5 * (a + b);
+            if (countBelow(d, e, xd, xe, mid) == n) b = mid; else a = mid;
+        }
+        return new double[] {min, b};
+    }
+    
+    /**
+     * Nombre de valeurs propres généralisées strictement inférieures à σ :
+     * inertie de T - σX (loi de Sylvester), par la suite de Sturm
+     */
+    private static int countBelow(double[] d, double[] e, double[] xd, double[] xe, double sigma) {
+        int count = 0;
+        double q = 1;
+        for (int i = 0; i < d.length; i++) {
+            double off = i > 0 ? e[i-1] - sigma * xe[i-1] : 0;
+            q = d[i] - sigma * xd[i] - (i > 0 ? off * off / q : 0);
+            if (q == 0) q = -Double.MIN_NORMAL;   // Pivot nul : compté négatif
+            if (q < 0) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,274 @@
+package com.ananum.vf1d.sweep;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.integration.SourceFunctions;
+
+import java.util.Random;
+
+/**
+ * Définition déclarative d'un balayage de paramètres sur les champs
+ * (a, b, c, nx, fonctionSource) de ParametresEntree.
+ *
+ * Deux plans d'expérience sont disponibles :
+ * - CARTESIAN : produit cartésien de listes de valeurs ;
+ * - LATIN_HYPERCUBE : hypercube latin de taille fixe, chaque axe étant soit
+ *   un intervalle continu, soit une liste discrète échantillonnée par strates.
+ *
+ * Les axes non renseignés gardent la valeur du jeu de paramètres de base
+ * (qui fournit aussi le domaine, les conditions aux limites et le type de
+ * maillage). Les points sont calculés à la demande : un balayage de 10^5
+ * combinaisons n'est jamais matérialisé en objets ParametresEntree.
+ */
+public class ParameterSweep {
+
+    public enum Design { CARTESIAN, LATIN_HYPERCUBE }
+
+    private static final int AXIS_A = 0, AXIS_B = 1, AXIS_C = 2, AXIS_N = 3, AXIS_SOURCE = 4;
+    private static final int AXES = 5;
+
+    private final ParametresEntree base;
+    private final Design design;
+    private final int samples;
+    private final long seed;
+
+    // Pour chaque axe : liste discrète de valeurs, ou intervalle [min, max]
+    private final double[][] values = new double[AXES][];
+    private final double[][] ranges = new double[AXES][];
+    private String[] sourceExpressions;
+
+    // Plan compilé (figé au premier accès)
+    private volatile boolean compiled;
+    private Function1D[] sourceFunctions;
+    private double[][] lhsSamples;
+    private long size;
+
+    private ParameterSweep(ParametresEntree base, Design design, int samples, long seed) {
+        if (base == null || base.conditionsLimites == null) {
+            throw new IllegalArgumentException("Les paramètres de base et leurs conditions aux limites sont requis");
+        }
+        this.base = base;
+        this.design = design;
+        this.samples = samples;
+        this.seed = seed;
+    }
+
+    /**
+     * Balayage en produit cartésien des listes de valeurs
+     */
+    public static ParameterSweep cartesian(ParametresEntree base) {
+        return new ParameterSweep(base, Design.CARTESIAN, 0, 0L);
+    }
+
+    /**
+     * Balayage en hypercube latin de samples points (reproductible pour une graine donnée)
+     */
+    public static ParameterSweep latinHypercube(ParametresEntree base, int samples, long seed) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Le nombre d'échantillons doit être positif");
+        }
+        return new ParameterSweep(base, Design.LATIN_HYPERCUBE, samples, seed);
+    }
+
+    // Axes discrets
+
+    public ParameterSweep a(double... v) { return setValues(AXIS_A, v); }
+    public ParameterSweep b(double... v) { return setValues(AXIS_B, v); }
+    public ParameterSweep c(double... v) { return setValues(AXIS_C, v); }
+
+    public ParameterSweep n(int... v) {
+        double[] d = new double[v.length];
+        for (int i = 0; i < v.length; i++) {
+            if (v[i] < 2) {
+                throw new IllegalArgumentException("Le nombre de volumes doit être au moins 2");
+            }
+            d[i] = v[i];
+        }
+        return setValues(AXIS_N, d);
+    }
+
+    public ParameterSweep sources(String... expressions) {
+        checkMutable();
+        if (expressions.length == 0) {
+            throw new IllegalArgumentException("Au moins une fonction source est requise");
+        }
+        double[] idx = new double[expressions.length];
+        for (int i = 0; i < idx.length; i++) idx[i] = i;
+        sourceExpressions = expressions.clone();
+        return setValues(AXIS_SOURCE, idx);
+    }
+
+    // Axes continus (hypercube latin uniquement)
+
+    public ParameterSweep aRange(double min, double max) { return setRange(AXIS_A, min, max); }
+    public ParameterSweep bRange(double min, double max) { return setRange(AXIS_B, min, max); }
+    public ParameterSweep cRange(double min, double max) { return setRange(AXIS_C, min, max); }
+
+    public ParameterSweep nRange(int min, int max) {
+        if (min < 2) {
+            throw new IllegalArgumentException("Le nombre de volumes doit être au moins 2");
+        }
+        return setRange(AXIS_N, min, max);
+    }
+
+    /**
+     * Nombre total de points du balayage
+     */
+    public long size() {
+        compile();
+        return size;
+    }
+
+    public Design getDesign() {
+        return design;
+    }
+
+    /**
+     * Expressions des fonctions source (indexées par la colonne "source" des résultats)
+     */
+    public String[] getSourceExpressions() {
+        compile();
+        return sourceExpressions.clone();
+    }
+
+    /**
+     * Remplit target avec les paramètres du point index (target est réutilisable)
+     */
+    public void fill(long index, ParametresEntree target) {
+        compile();
+        target.a = coordinate(AXIS_A, index, base.a);
+        target.b = coordinate(AXIS_B, index, base.b);
+        target.c = coordinate(AXIS_C, index, base.c);
+        target.nx = (int) Math.round(coordinate(AXIS_N, index, base.nx));
+        target.fonctionSource = sourceExpressions[sourceIndex(index)];
+        target.xMin = base.xMin;
+        target.xMax = base.xMax;
+        target.mailleUniforme = base.mailleUniforme;
+        target.conditionsLimites = base.conditionsLimites;
+        target.schemaConvection = base.schemaConvection;
+    }
+
+    /**
+     * Indice de la fonction source du point index
+     */
+    public int sourceIndex(long index) {
+        compile();
+        return (int) coordinate(AXIS_SOURCE, index, 0);
+    }
+
+    /**
+     * Fonction source déjà analysée du point index
+     */
+    public Function1D sourceFunction(long index) {
+        // sourceIndex compile le plan : le tableau n'est lu qu'ensuite
+        int source = sourceIndex(index);
+        return sourceFunctions[source];
+    }
+
+    ParametresEntree getBase() {
+        return base;
+    }
+
+    private double coordinate(int axis, long index, double defaultValue) {
+        if (design == Design.LATIN_HYPERCUBE) {
+            double[] s = lhsSamples[axis];
+            return s != null ? s[(int) index] : defaultValue;
+        }
+
+        double[] v = values[axis];
+        if (v == null) return defaultValue;
+
+        // Décodage en base mixte : l'axe a varie le plus lentement
+        long stride = 1;
+        for (int k = axis + 1; k < AXES; k++) {
+            if (values[k] != null) stride *= values[k].length;
+        }
+        return v[(int) ((index / stride) % v.length)];
+    }
+
+    private ParameterSweep setValues(int axis, double[] v) {
+        checkMutable();
+        if (v.length == 0) {
+            throw new IllegalArgumentException("Un axe doit contenir au moins une valeur");
+        }
+        values[axis] = v.clone();
+        ranges[axis] = null;
+        return this;
+    }
+
+    private ParameterSweep setRange(int axis, double min, double max) {
+        checkMutable();
+        if (design != Design.LATIN_HYPERCUBE) {
+            throw new IllegalStateException("Les intervalles continus nécessitent un hypercube latin");
+        }
+        if (!(max >= min)) {
+            throw new IllegalArgumentException("Intervalle invalide [" + min + ", " + max + "]");
+        }
+        ranges[axis] = new double[] {min, max};
+        values[axis] = null;
+        return this;
+    }
+
+    private void checkMutable() {
+        if (compiled) {
+            throw new IllegalStateException("Le balayage ne peut plus être modifié après utilisation");
+        }
+    }
+
+    private synchronized void compile() {
+        if (compiled) return;
+
+        if (sourceExpressions == null) {
+            sourceExpressions = new String[] {base.fonctionSource};
+        }
+        sourceFunctions = new Function1D[sourceExpressions.length];
+        for (int i = 0; i < sourceExpressions.length; i++) {
+            sourceFunctions[i] = SourceFunctions.parse(sourceExpressions[i]);
+        }
+
+        if (design == Design.CARTESIAN) {
+            long total = 1;
+            for (double[] v : values) {
+                if (v != null) total = Math.multiplyExact(total, (long) v.length);
+            }
+            size = total;
+        } else {
+            lhsSamples = new double[AXES][];
+            Random random = new Random(seed);
+            for (int axis = 0; axis < AXES; axis++) {
+                if (values[axis] != null || ranges[axis] != null) {
+                    lhsSamples[axis] = sampleAxis(axis, random);
+                }
+            }
+            size = samples;
+        }
+
+        compiled = true;
+    }
+
+    /**
+     * Une valeur par strate, strates permutées aléatoirement
+     */
+    private double[] sampleAxis(int axis, Random random) {
+        int[] perm = new int[samples];
+        for (int i = 0; i < samples; i++) perm[i] = i;
+        for (int i = samples - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = perm[i]; perm[i] = perm[j]; perm[j] = t;
+        }
+
+        double[] out = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            double u = (perm[i] + random.nextDouble()) / samples;
+            if (ranges[axis] != null) {
+                double min = ranges[axis][0], max = ranges[axis][1];
+                double v = min + u * (max - min);
+                out[i] = axis == AXIS_N ? Math.round(v) : v;
+            } else {
+                double[] v = values[axis];
+                out[i] = v[Math.min(v.length - 1, (int) (u * v.length))];
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,122 @@
+package com.ananum.vf1d.sweep;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.SolverWorkspace;
+import com.ananum.vf1d.integration.BoundaryConditions;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Exécution d'un balayage de paramètres sur un ForkJoinPool.
+ *
+ * L'intervalle des indices est découpé récursivement ; les sous-intervalles
+ * sont répartis par vol de travail, ce qui absorbe les écarts de coût entre
+ * points (N variable d'un point à l'autre). Chaque worker possède son propre
+ * SolverWorkspace, réutilisé pour toutes ses résolutions : une fois les
+ * tableaux dimensionnés pour le plus grand N rencontré, le balayage ne fait
+ * plus d'allocation proportionnelle à N.
+ *
+ * Toutes les résolutions passent par l'algorithme de Thomas, quel que soit N.
+ */
+public class SweepExecutor implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final ThreadLocal<SolverWorkspace> workspaces = ThreadLocal.withInitial(SolverWorkspace::new);
+
+    public SweepExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SweepExecutor(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Le parallélisme doit être positif");
+        }
+        this.parallelism = parallelism;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Exécute le balayage complet et renvoie la table de résultats
+     */
+    public SweepResultTable run(ParameterSweep sweep) {
+        long size = sweep.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Balayage trop grand : " + size + " points");
+        }
+
+        int rows = (int) size;
+        SweepResultTable table = new SweepResultTable(rows, sweep.getSourceExpressions());
+
+        // Environ 16 tâches feuilles par worker pour laisser du travail à voler
+        int grain = Math.max(1, rows / (parallelism * 16));
+        pool.invoke(new SweepTask(sweep, table, 0, rows, grain));
+
+        return table;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private final class SweepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ParameterSweep sweep;
+        private final transient SweepResultTable table;
+        private final int from, to, grain;
+
+        SweepTask(ParameterSweep sweep, SweepResultTable table, int from, int to, int grain) {
+            this.sweep = sweep;
+            this.table = table;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                solveRange();
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new SweepTask(sweep, table, from, mid, grain),
+                      new SweepTask(sweep, table, mid, to, grain));
+        }
+
+        private void solveRange() {
+            SolverWorkspace ws = workspaces.get();
+            ParametresEntree params = new ParametresEntree();
+            double L = sweep.getBase().xMax - sweep.getBase().xMin;
+
+            for (int i = from; i < to; i++) {
+                sweep.fill(i, params);
+
+                long startTime = System.nanoTime();
+
+                OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                    params.nx, L,
+                    params.a, params.b, params.c,
+                    sweep.sourceFunction(i),
+                    params.conditionsLimites.u0,
+                    params.conditionsLimites.uL,
+                    params.mailleUniforme
+                );
+                BoundaryConditions.configure(solver, params.conditionsLimites);
+                solver.setConvectionScheme(ConvectionScheme.fromName(params.schemaConvection));
+                double[] u = solver.solveInto(ws);
+
+                long elapsed = System.nanoTime() - startTime;
+
+                table.record(i, params.a, params.b, params.c, sweep.sourceIndex(i),
+                             u, ws.getCellWidths(), ws.getN(), elapsed);
+            }
+        }
+    }
+}
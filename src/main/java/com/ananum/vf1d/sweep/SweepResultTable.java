@@ -0,0 +1,122 @@
+package com.ananum.vf1d.sweep;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Table de résultats en colonnes d'un balayage de paramètres.
+ *
+ * Une ligne par point du balayage, à l'indice du point : les workers écrivent
+ * directement dans des lignes disjointes, sans verrou ni objet intermédiaire
+ * par résolution. Seules des grandeurs scalaires sont conservées (les champs
+ * de solution complets ne sont jamais stockés).
+ */
+public class SweepResultTable {
+
+    private final int rows;
+    private final String[] sourceExpressions;
+
+    // Paramètres
+    public final double[] a, b, c;
+    public final int[] n;
+    public final int[] source;
+
+    // Résultats
+    public final double[] uMin, uMax;
+    public final double[] uMean;      // moyenne pondérée par les largeurs de volumes
+    public final double[] normL2;     // sqrt(somme u² dx)
+    public final long[] solveNanos;
+
+    private final AtomicInteger completed = new AtomicInteger();
+
+    SweepResultTable(int rows, String[] sourceExpressions) {
+        this.rows = rows;
+        this.sourceExpressions = sourceExpressions;
+        this.a = new double[rows];
+        this.b = new double[rows];
+        this.c = new double[rows];
+        this.n = new int[rows];
+        this.source = new int[rows];
+        this.uMin = new double[rows];
+        this.uMax = new double[rows];
+        this.uMean = new double[rows];
+        this.normL2 = new double[rows];
+        this.solveNanos = new long[rows];
+    }
+
+    /**
+     * Enregistre une ligne à partir de la solution (n premiers éléments de u)
+     */
+    void record(int row, double a, double b, double c, int sourceIndex,
+                double[] u, double[] dx, int count, long nanos) {
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        double sum = 0, sumSq = 0, length = 0;
+        for (int i = 0; i < count; i++) {
+            double v = u[i];
+            double w = dx[i];
+            if (v < min) min = v;
+            if (v > max) max = v;
+            sum += v * w;
+            sumSq += v * v * w;
+            length += w;
+        }
+
+        this.a[row] = a;
+        this.b[row] = b;
+        this.c[row] = c;
+        this.n[row] = count;
+        this.source[row] = sourceIndex;
+        this.uMin[row] = min;
+        this.uMax[row] = max;
+        this.uMean[row] = length > 0 ? sum / length : Double.NaN;
+        this.normL2[row] = Math.sqrt(sumSq);
+        this.solveNanos[row] = nanos;
+
+        completed.incrementAndGet();
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Nombre de lignes déjà calculées (suivi de progression)
+     */
+    public int completedRows() {
+        return completed.get();
+    }
+
+    public String sourceExpression(int row) {
+        return sourceExpressions[source[row]];
+    }
+
+    /**
+     * Temps total de résolution cumulé sur toutes les lignes (ns)
+     */
+    public long totalSolveNanos() {
+        long total = 0;
+        for (long t : solveNanos) total += t;
+        return total;
+    }
+
+    /**
+     * Export CSV de la table complète (expression source entre guillemets,
+     * guillemets internes doublés)
+     */
+    public void writeCsv(Writer out) throws IOException {
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("a,b,c,n,source,uMin,uMax,uMean,normL2,solveNanos");
+        for (int i = 0; i < rows; i++) {
+            writer.printf(Locale.ROOT, "%.17g,%.17g,%.17g,%d,\"%s\",%.17g,%.17g,%.17g,%.17g,%d%n",
+                a[i], b[i], c[i], n[i], sourceExpressions[source[i]].replace("\"", "\"\""),
+                uMin[i], uMax[i], uMean[i], normL2[i], solveNanos[i]);
+        }
+        writer.flush();
+        if (writer.checkError()) {
+            throw new IOException("Erreur d'écriture de la table de résultats");
+        }
+    }
+}
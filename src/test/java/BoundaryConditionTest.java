@@ -0,0 +1,93 @@
+import org.junit.Test;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.SolverWorkspace;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests des conditions de Neumann, Robin et mixtes
+ */
+public class BoundaryConditionTest {
+
+    @Test
+    public void testNeumannDirichlet() {
+        System.out.println("Test: Neumann en 0, Dirichlet en L");
+        
+        // -u'' = -2, -u'(0) = 0, u(1) = 1 => u(x) = x²
+        Function1D exact = x -> x * x;
+        VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+            200, 1.0, 1.0, 0.0, 0.0, x -> -2.0, 0.0, 1.0, true);
+        solver.setBoundaryConditions(BoundaryCondition.NEUMANN, BoundaryCondition.DIRICHLET);
+        solver.setIterativeMethod(IterativeMethod.CONJUGATE_GRADIENT);
+        Solution1D solution = solver.solve();
+        
+        double error = solver.computeL2Error(solution, exact);
+        System.out.println("Erreur L2: " + error);
+        assertTrue(error < 1e-5);
+        
+        // Solveur optimisé (Thomas) : assemblage en cache et en espace de travail
+        OptimizedVolumesFinis1DSolver optimized = new OptimizedVolumesFinis1DSolver(
+            600, 1.0, 1.0, 0.0, 0.0, x -> -2.0, 0.0, 1.0, true);
+        optimized.setBoundaryConditions(BoundaryCondition.NEUMANN, BoundaryCondition.DIRICHLET);
+        Solution1D direct = optimized.solve();
+        assertArrayEquals(direct.getValues(), optimized.solveInto(new SolverWorkspace()), 1e-12);
+        assertTrue(optimized.computeL2Error(direct, exact) < 1e-6);
+        
+        System.out.println("✓ Test réussi");
+    }
+    
+    @Test
+    public void testRobinConvectionReaction() {
+        System.out.println("Test: Robin aux deux bords");
+        
+        // -u'' + u' + u = e^x, u = e^x :
+        // u(0) + 2 du/dn(0) = 1 - 2 = -1, u(1) + du/dn(1) = 2e
+        Function1D exact = Math::exp;
+        double[] errors = new double[2];
+        int[] sizes = {400, 800};
+        for (int k = 0; k < 2; k++) {
+            OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                sizes[k], 1.0, 1.0, 1.0, 1.0, Math::exp, -1.0, 2 * Math.E, true);
+            solver.setBoundaryConditions(BoundaryCondition.robin(1.0, 2.0),
+                                         BoundaryCondition.robin(1.0, 1.0));
+            errors[k] = solver.computeL2Error(solver.solve(), exact);
+        }
+        System.out.println("Erreurs L2: " + errors[0] + ", " + errors[1]);
+        // Convection upwind : ordre 1
+        assertTrue(errors[1] < 1e-2);
+        assertTrue(errors[0] / errors[1] > 1.8);
+        
+        // Le type de condition fait partie de la clé de l'opérateur
+        OperatorCache cache = new OperatorCache(4);
+        OperatorCache.Entry dirichlet = cache.get(50, 1.0, true, 1.0, 1.0, 1.0, false);
+        OperatorCache.Entry robin = cache.get(50, 1.0, true, 1.0, 1.0, 1.0, false,
+            BoundaryCondition.robin(1.0, 2.0), BoundaryCondition.DIRICHLET);
+        assertNotSame(dirichlet, robin);
+        assertSame(robin, cache.get(50, 1.0, true, 1.0, 1.0, 1.0, false,
+            BoundaryCondition.robin(1.0, 2.0), BoundaryCondition.DIRICHLET));
+        
+        ParametresEntree p = new ParametresEntree();
+        p.conditionsLimites = new ParametresEntree.ConditionLimite();
+        String cle = p.cleCanonique();
+        p.conditionsLimites.type0 = ParametresEntree.TypeLimite.NEUMANN;
+        assertNotEquals(cle, p.cleCanonique());
+        
+        System.out.println("✓ Test réussi");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNeumannPurSansReaction() {
+        VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+            20, 1.0, 1.0, 0.0, 0.0, x -> 0.0, 0.0, 0.0, true);
+        solver.setBoundaryConditions(BoundaryCondition.NEUMANN, BoundaryCondition.NEUMANN);
+        solver.solve();
+    }
+}
@@ -0,0 +1,54 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.BoundaryResponse;
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la réponse affine aux valeurs aux limites
+ */
+public class BoundaryResponseTest {
+
+    @Test
+    public void testCombinaisonEgaleResolutionComplete() {
+        System.out.println("Test: réponse affine aux valeurs aux limites");
+
+        int n = 2000;
+        BoundaryResponse response = solver(n, 0.0, 0.0).boundaryResponse();
+        double[] out = new double[n];
+        double[][] values = {{0.0, 1.0}, {2.5, -1.0}, {-3.0, 0.25}};
+        for (double[] v : values) {
+            double[] full = solver(n, v[0], v[1]).solve().getValues();
+            double[] fast = response.solveInto(v[0], v[1], out);
+            double scale = 0;
+            for (int i = 0; i < n; i++) scale = Math.max(scale, Math.abs(full[i]));
+            for (int i = 0; i < n; i++) {
+                assertEquals(full[i], fast[i], 1e-13 * scale);
+            }
+        }
+        assertArrayEquals(out, response.solve(-3.0, 0.25).getValues(), 0.0);
+
+        // Schéma TVD : non affine
+        VolumesFinis1DSolver tvd = solver(n, 0.0, 0.0);
+        tvd.setConvectionScheme(ConvectionScheme.TVD_VAN_LEER);
+        try {
+            tvd.boundaryResponse();
+            fail("Schéma TVD accepté");
+        } catch (IllegalStateException expected) {
+            // attendu
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    private static VolumesFinis1DSolver solver(int n, double u0, double uL) {
+        VolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, 1.0, 2.0, 1.0, x -> Math.exp(x), u0, uL, true);
+        solver.setBoundaryConditions(BoundaryCondition.robin(1.0, 0.5), BoundaryCondition.DIRICHLET);
+        return solver;
+    }
+}
@@ -0,0 +1,317 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ananum.integration.CacheResolution;
+import com.ananum.integration.MethodeResolution;
+import com.ananum.integration.ParametresEntree;
+import com.ananum.integration.ResultatResolution;
+import com.ananum.vf1d.analysis.AnalysisTools;
+import com.ananum.vf1d.integration.VolumesFinis1DMethodeEnhanced;
+import com.ananum.vf1d.integration.VolumesFinis1DMethodeEnhanced.ResultatResolutionEnhanced;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du cache de solutions adressé par contenu
+ */
+public class CacheResolutionTest {
+
+    @Rule
+    public TemporaryFolder dossier = new TemporaryFolder();
+
+    /**
+     * Méthode factice qui compte ses appels (solution = x + a)
+     */
+    private static class MethodeComptee implements MethodeResolution {
+        final AtomicInteger appels = new AtomicInteger();
+        final CountDownLatch demarree = new CountDownLatch(1);
+        volatile CountDownLatch barriere;
+
+        @Override
+        public ResultatResolution resoudre(ParametresEntree params) {
+            appels.incrementAndGet();
+            demarree.countDown();
+            if (barriere != null) {
+                try {
+                    barriere.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ResultatResolution r = new ResultatResolution();
+            r.x = new double[params.nx];
+            r.solution = new double[params.nx];
+            for (int i = 0; i < params.nx; i++) {
+                r.x[i] = (i + 0.5) / params.nx;
+                r.solution[i] = r.x[i] + params.a;
+            }
+            return r;
+        }
+
+        @Override
+        public String getNomMethode() { return "Factice"; }
+
+        @Override
+        public int getDimension() { return 1; }
+    }
+
+    private static ParametresEntree params(double a, int n) {
+        ParametresEntree p = new ParametresEntree();
+        p.a = a;
+        p.nx = n;
+        p.fonctionSource = "sin(pi*x)";
+        p.conditionsLimites = new ParametresEntree.ConditionLimite();
+        return p;
+    }
+
+    @Test
+    public void testCleCanonique() {
+        System.out.println("Test: Clé canonique");
+
+        CacheResolution cache = new CacheResolution(new MethodeComptee(), 1 << 20);
+        ParametresEntree p1 = params(0.0, 10);
+        ParametresEntree p2 = params(-0.0, 10);
+        p2.fonctionSource = "  SIN(PI*X) ";
+
+        assertEquals(cache.cle(p1), cache.cle(p2));
+        assertNotEquals(cache.cle(p1), cache.cle(params(1.0, 10)));
+        assertNotEquals(cache.cle(p1), cache.cle(params(0.0, 11)));
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testCleCanoniqueConditionsEquivalentes() {
+        System.out.println("Test: Clé canonique des conditions aux limites équivalentes");
+
+        CacheResolution cache = new CacheResolution(new MethodeComptee(), 1 << 20);
+
+        // Coefficients de Robin sans effet hors d'un bord de Robin
+        ParametresEntree n1 = params(1.0, 10);
+        n1.conditionsLimites.type0 = ParametresEntree.TypeLimite.NEUMANN;
+        ParametresEntree n2 = params(1.0, 10);
+        n2.conditionsLimites.type0 = ParametresEntree.TypeLimite.NEUMANN;
+        n2.conditionsLimites.alpha0 = 4.0;
+        n2.conditionsLimites.betaL = -2.0;
+        assertEquals(cache.cle(n1), cache.cle(n2));
+
+        ParametresEntree r1 = params(1.0, 10);
+        r1.conditionsLimites.typeL = ParametresEntree.TypeLimite.ROBIN;
+        ParametresEntree r2 = params(1.0, 10);
+        r2.conditionsLimites.typeL = ParametresEntree.TypeLimite.ROBIN;
+        r2.conditionsLimites.alphaL = 4.0;
+        assertNotEquals(cache.cle(r1), cache.cle(r2));
+        r2.conditionsLimites.alphaL = 1.0;
+        r2.conditionsLimites.alpha0 = 4.0;
+        assertEquals(cache.cle(r1), cache.cle(r2));
+
+        // Valeurs et types de bord sans effet en périodique
+        ParametresEntree p1 = params(1.0, 10);
+        p1.conditionsLimites.periodique = true;
+        ParametresEntree p2 = params(1.0, 10);
+        p2.conditionsLimites.periodique = true;
+        p2.conditionsLimites.u0 = 3.0;
+        p2.conditionsLimites.uL = -1.0;
+        p2.conditionsLimites.typeL = ParametresEntree.TypeLimite.NEUMANN;
+        assertEquals(cache.cle(p1), cache.cle(p2));
+        assertNotEquals(cache.cle(p1), cache.cle(params(1.0, 10)));
+
+        // Type absent équivalent à Dirichlet
+        ParametresEntree d = params(1.0, 10);
+        d.conditionsLimites.type0 = null;
+        assertEquals(cache.cle(params(1.0, 10)), cache.cle(d));
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testSuccesEtCopiesIndependantes() {
+        System.out.println("Test: Succès du cache et copies indépendantes");
+
+        MethodeComptee methode = new MethodeComptee();
+        CacheResolution cache = new CacheResolution(methode, 1 << 20);
+
+        ResultatResolution r1 = cache.resoudre(params(1.0, 50));
+        r1.solution[0] = 1e9;   // ne doit pas polluer le cache
+        ResultatResolution r2 = cache.resoudre(params(1.0, 50));
+
+        assertEquals(1, methode.appels.get());
+        assertEquals(1, cache.getDefauts());
+        assertEquals(1, cache.getSuccesMemoire());
+        assertEquals(1.0 + 0.5 / 50, r2.solution[0], 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testEvictionParOctets() {
+        System.out.println("Test: Éviction LRU bornée en octets");
+
+        MethodeComptee methode = new MethodeComptee();
+        // Environ deux entrées de 1000 points (2 x 16 ko + surcoût)
+        CacheResolution cache = new CacheResolution(methode, 2 * (16_000 + 256));
+
+        cache.resoudre(params(1.0, 1000));
+        cache.resoudre(params(2.0, 1000));
+        cache.resoudre(params(1.0, 1000));   // 1.0 devient le plus récent
+        cache.resoudre(params(3.0, 1000));   // évince 2.0
+
+        assertEquals(1, cache.getEvictions());
+        assertTrue(cache.getOctetsUtilises() <= 2 * (16_000 + 256));
+
+        cache.resoudre(params(1.0, 1000));
+        assertEquals(3, methode.appels.get());
+        cache.resoudre(params(2.0, 1000));
+        assertEquals(4, methode.appels.get());
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testDeduplicationConcurrente() throws Exception {
+        System.out.println("Test: Déduplication des requêtes concurrentes");
+
+        MethodeComptee methode = new MethodeComptee();
+        methode.barriere = new CountDownLatch(1);
+        CacheResolution cache = new CacheResolution(methode, 1 << 20);
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch arrives = new CountDownLatch(threads);
+        try {
+            List<Future<ResultatResolution>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    arrives.countDown();
+                    return cache.resoudre(params(1.0, 100));
+                }));
+            }
+
+            // La résolution reste bloquée tant que tous les appelants ne sont pas
+            // arrivés ; quel que soit l'ordre, un seul appel atteint la méthode
+            assertTrue(methode.demarree.await(5, TimeUnit.SECONDS));
+            assertTrue(arrives.await(5, TimeUnit.SECONDS));
+            methode.barriere.countDown();
+
+            for (Future<ResultatResolution> f : futures) {
+                assertEquals(100, f.get(5, TimeUnit.SECONDS).solution.length);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, methode.appels.get());
+        assertEquals(threads - 1, cache.getDedoublonnes() + cache.getSuccesMemoire());
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testNiveauDisque() throws Exception {
+        System.out.println("Test: Niveau disque au format binaire");
+
+        MethodeComptee methode = new MethodeComptee();
+        CacheResolution cache1 = new CacheResolution(methode, 1 << 20, dossier.getRoot().toPath());
+        ResultatResolution r1 = cache1.resoudre(params(1.0, 64));
+
+        // Nouveau cache mémoire vide, même répertoire
+        CacheResolution cache2 = new CacheResolution(methode, 1 << 20, dossier.getRoot().toPath());
+        ResultatResolution r2 = cache2.resoudre(params(1.0, 64));
+
+        assertEquals(1, methode.appels.get());
+        assertEquals(1, cache2.getSuccesDisque());
+        assertArrayEquals(r1.solution, r2.solution, 0.0);
+        assertArrayEquals(r1.x, r2.x, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testNiveauDisqueResultatEnrichi() throws Exception {
+        System.out.println("Test: Résultat enrichi conservé en mémoire seulement");
+
+        AnalysisTools.ErrorMetrics metriques = new AnalysisTools.ErrorMetrics();
+        metriques.errorL2 = 1.5e-4;
+        MethodeComptee base = new MethodeComptee();
+        MethodeResolution enrichie = new MethodeResolution() {
+            @Override
+            public ResultatResolution resoudre(ParametresEntree params) {
+                ResultatResolution simple = base.resoudre(params);
+                ResultatResolutionEnhanced r = new ResultatResolutionEnhanced();
+                r.x = simple.x;
+                r.solution = simple.solution;
+                r.graphFile = "solution_1.html";
+                r.errorMetrics = metriques;
+                return r;
+            }
+
+            @Override
+            public String getNomMethode() { return "FacticeEnrichie"; }
+
+            @Override
+            public int getDimension() { return 1; }
+        };
+
+        CacheResolution cache1 = new CacheResolution(enrichie, 1 << 20, dossier.getRoot().toPath());
+        ResultatResolution r1 = cache1.resoudre(params(1.0, 64));
+        ResultatResolution r1bis = cache1.resoudre(params(1.0, 64));
+        assertTrue(r1bis instanceof ResultatResolutionEnhanced);
+        assertEquals("solution_1.html", ((ResultatResolutionEnhanced) r1bis).graphFile);
+
+        try (Stream<Path> fichiers = Files.list(dossier.getRoot().toPath())) {
+            assertEquals("Aucun fichier disque pour un résultat enrichi", 0, fichiers.count());
+        }
+
+        // Un nouveau cache ne doit pas relire une version amputée du résultat
+        CacheResolution cache2 = new CacheResolution(enrichie, 1 << 20, dossier.getRoot().toPath());
+        ResultatResolution r2 = cache2.resoudre(params(1.0, 64));
+        assertEquals(0, cache2.getSuccesDisque());
+        assertEquals(2, base.appels.get());
+        assertTrue(r2 instanceof ResultatResolutionEnhanced);
+        ResultatResolutionEnhanced e2 = (ResultatResolutionEnhanced) r2;
+        assertEquals("solution_1.html", e2.graphFile);
+        assertSame(metriques, e2.errorMetrics);
+        assertArrayEquals(r1.solution, r2.solution, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testNiveauDisqueMethodeVF1D() throws Exception {
+        System.out.println("Test: Niveau disque devant la méthode VF1D enrichie");
+
+        VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+        methode.setGenerateGraphs(false);
+        methode.setPerformAnalysis(false);
+        CacheResolution cache = new CacheResolution(methode, 1 << 20, dossier.getRoot().toPath());
+
+        ParametresEntree p = params(1.0, 40);
+        ResultatResolution r1 = cache.resoudre(p);
+        assertTrue(r1 instanceof ResultatResolutionEnhanced);
+        try (Stream<Path> fichiers = Files.list(dossier.getRoot().toPath())) {
+            assertEquals("Résultat sans information enrichie : écrit sur disque", 1, fichiers.count());
+        }
+
+        cache.vider();
+        ResultatResolution r2 = cache.resoudre(p);
+        assertEquals(1, cache.getDefauts());
+        assertEquals(1, cache.getSuccesDisque());
+        assertArrayEquals(r1.solution, r2.solution, 0.0);
+        assertArrayEquals(r1.x, r2.x, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,118 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.ParameterContinuation;
+import com.ananum.vf1d.SolverWorkspace;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la continuation paramétrique en Péclet
+ */
+public class ContinuationTest {
+
+    @Test
+    public void testPointsDeControleIdentiquesAuxResolutionsAFroid() {
+        System.out.println("Test: continuation en Péclet = résolutions à froid");
+
+        int n = 200;
+        ParameterContinuation.SolverFactory factory = ParameterContinuation.pecletFactory(
+            n, 1.0, 0.0, x -> 1.0, 0.0, 0.0, s -> s.setIterativeMethod(IterativeMethod.BICGSTAB));
+        double[] checkpoints = new double[21];
+        for (int k = 0; k < checkpoints.length; k++) {
+            checkpoints[k] = 0.1 * k;
+        }
+
+        ParameterContinuation.Result path = new ParameterContinuation(factory, 0.1).run(checkpoints);
+
+        int coldIterations = 0;
+        for (int k = 0; k < checkpoints.length; k++) {
+            VolumesFinis1DSolver solver = factory.create(checkpoints[k]);
+            double[] cold = solver.solve().getValues();
+            coldIterations += solver.getIterations();
+            assertArrayEquals(cold, path.getSolution(k).getValues(), 1e-8);
+        }
+        assertEquals(0, path.getRejectedSteps());
+        assertEquals(checkpoints.length, path.getPath().size());
+        assertTrue(path.getTotalIterations() < coldIterations);
+
+        System.out.println("  " + path + " (à froid : " + coldIterations + " itérations)");
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testPasRejeteEtDemarrageAChaudTVD() {
+        System.out.println("Test: rejet de pas et correction différée TVD à chaud");
+
+        ParameterContinuation.SolverFactory factory = ParameterContinuation.pecletFactory(
+            200, 1.0, 0.0, x -> 1.0, 0.0, 0.0, s -> {
+                s.setConvectionScheme(ConvectionScheme.TVD_VAN_LEER);
+                s.setMaxIterations(25);
+            });
+        ParameterContinuation continuation = new ParameterContinuation(factory, 2.0);
+        continuation.setStepBounds(0.25, 2.0);
+
+        // Vers Pe = 10^3.25 (cellule à Péclet ~10), la correction différée
+        // demande plus de 25 itérations, même à chaud
+        try {
+            continuation.run(0.0, 4.0);
+            fail("La continuation aurait dû échouer");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("n'a pas convergé"));
+        }
+
+        // Jusqu'à λ = 2, un seul pas démarré à chaud suffit
+        ParameterContinuation.Result path = continuation.run(0.0, 2.0);
+        VolumesFinis1DSolver cold = factory.create(2.0);
+        cold.setMaxIterations(VolumesFinis1DSolver.MAX_ITERATIONS);
+        assertArrayEquals(cold.solve().getValues(), path.getSolution(1).getValues(), 1e-8);
+
+        System.out.println("  " + path + ", λ = " + path.getPath());
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testEstimationInitialeEtToleranceSolveurOptimiseTVD() {
+        System.out.println("Test: solveur optimisé TVD à chaud, tolérance et itérations configurées");
+
+        int n = 600;
+        OptimizedVolumesFinis1DSolver froid = tvd(n);
+        double[] reference = froid.solve().getValues();
+        int iterationsFroid = froid.getIterations();
+
+        // Au-delà de 500 volumes, l'estimation initiale doit atteindre les
+        // corrections différées
+        OptimizedVolumesFinis1DSolver chaud = tvd(n);
+        double[] solution = chaud.solve(reference).getValues();
+        assertTrue(chaud.getLastReport().isConverged());
+        assertTrue(chaud.getIterations() + " >= " + iterationsFroid, chaud.getIterations() < iterationsFroid);
+        assertArrayEquals(reference, solution, 1e-8);
+
+        // Résolution dans un espace de travail : tolérance et plafond du solveur
+        OptimizedVolumesFinis1DSolver plafonne = tvd(n);
+        plafonne.setMaxIterations(1);
+        plafonne.solveInto(new SolverWorkspace());
+        assertEquals(1, plafonne.getLastReport().getIterations());
+        assertFalse(plafonne.getLastReport().isConverged());
+
+        OptimizedVolumesFinis1DSolver lache = tvd(n);
+        lache.setTolerance(1e-3);
+        lache.solveInto(new SolverWorkspace());
+        assertTrue(lache.getLastReport().isConverged());
+        assertTrue(lache.getIterations() < iterationsFroid);
+
+        System.out.println("  à froid : " + iterationsFroid + " itérations, à chaud : "
+                           + chaud.getIterations() + ", tolérance 1e-3 : " + lache.getIterations());
+        System.out.println("✓ Test réussi");
+    }
+
+    private static OptimizedVolumesFinis1DSolver tvd(int n) {
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, 0.01, 1.0, 0.0, x -> 1.0, 0.0, 0.0, true);
+        solver.setConvectionScheme(ConvectionScheme.TVD_VAN_LEER);
+        return solver;
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.SolverWorkspace;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests des schémas de convection (coefficients de Patankar et TVD)
+ */
+public class ConvectionSchemeTest {
+
+    private static final double A = 0.01;   // Pe = 100
+    private static final Function1D EXACT = x -> Math.expm1(x / A) / Math.expm1(1 / A);
+
+    private static double maxError(VolumesFinis1DSolver solver) {
+        Solution1D solution = solver.solve();
+        double[] x = solution.getMeshPoints();
+        double[] u = solution.getValues();
+        double max = 0;
+        for (int i = 0; i < u.length; i++) {
+            max = Math.max(max, Math.abs(u[i] - EXACT.evaluate(x[i])));
+        }
+        return max;
+    }
+
+    private static OptimizedVolumesFinis1DSolver solver(ConvectionScheme scheme, int n) {
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, A, 1.0, 0.0, x -> 0.0, 0.0, 1.0, true);
+        solver.setConvectionScheme(scheme);
+        return solver;
+    }
+
+    @Test
+    public void testPrecisionDesSchemas() {
+        System.out.println("Test: Précision des schémas de convection (Pe = 100)");
+
+        // Scharfetter–Gummel exact à coefficients constants, même sur maillage grossier
+        assertEquals(0.0, maxError(solver(ConvectionScheme.EXPONENTIAL, 600)), 1e-12);
+
+        // Central, loi de puissance, TVD : ordre 2 contre ordre 1 pour upwind
+        double upwind = maxError(solver(ConvectionScheme.UPWIND, 1200));
+        for (ConvectionScheme scheme : new ConvectionScheme[] {
+                ConvectionScheme.CENTRAL, ConvectionScheme.POWER_LAW,
+                ConvectionScheme.TVD_MINMOD, ConvectionScheme.TVD_VAN_LEER}) {
+            double coarse = maxError(solver(scheme, 1200));
+            double fine = maxError(solver(scheme, 2400));
+            System.out.println("  " + scheme.getSchemeName() + ": " + coarse + " -> " + fine);
+            assertTrue(coarse < upwind / 5);
+            assertTrue(coarse / fine > 3);
+        }
+
+        // Correction différée : quelques itérations, solution sans oscillation
+        OptimizedVolumesFinis1DSolver tvd = solver(ConvectionScheme.TVD_VAN_LEER, 2000);
+        double[] u = tvd.solve().getValues();
+        assertTrue(tvd.getLastReport().isConverged());
+        assertTrue(tvd.getIterations() <= 10);
+        for (int i = 1; i < u.length; i++) {
+            assertTrue(u[i] >= u[i-1] - 1e-12);
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testEspaceDeTravailEtCache() {
+        System.out.println("Test: Schémas dans l'espace de travail et le cache");
+
+        SolverWorkspace ws = new SolverWorkspace();
+        for (ConvectionScheme scheme : ConvectionScheme.values()) {
+            OptimizedVolumesFinis1DSolver solver = solver(scheme, 800);
+            double[] direct = solver.solve().getValues();
+            assertArrayEquals(scheme.getSchemeName(), direct, solver.solveInto(ws), 1e-12);
+        }
+
+        // Les schémas TVD partagent l'opérateur upwind
+        OperatorCache cache = new OperatorCache(4);
+        OperatorCache.Entry upwind = cache.get(100, 1.0, true, A, 1.0, 0.0, false,
+            BoundaryCondition.DIRICHLET, BoundaryCondition.DIRICHLET,
+            ConvectionScheme.UPWIND);
+        assertSame(upwind, cache.get(100, 1.0, true, A, 1.0, 0.0, false,
+            BoundaryCondition.DIRICHLET, BoundaryCondition.DIRICHLET,
+            ConvectionScheme.TVD_MINMOD));
+        assertNotSame(upwind, cache.get(100, 1.0, true, A, 1.0, 0.0, false,
+            BoundaryCondition.DIRICHLET, BoundaryCondition.DIRICHLET,
+            ConvectionScheme.CENTRAL));
+
+        assertEquals(ConvectionScheme.TVD_VAN_LEER, ConvectionScheme.fromName("tvd_van_leer"));
+        assertEquals(ConvectionScheme.POWER_LAW, ConvectionScheme.fromName("PowerLaw"));
+        assertEquals(ConvectionScheme.UPWIND, ConvectionScheme.fromName(null));
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+import com.ananum.vf1d.krylov.PreconditionerType;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests des solveurs de Krylov préconditionnés
+ */
+public class KrylovSolversTest {
+
+    private static VolumesFinis1DSolver solver(int n, double b, IterativeMethod method,
+                                               PreconditionerType preconditioner) {
+        VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+            n, 1.0, 1.0, b, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0, true);
+        solver.setIterativeMethod(method);
+        solver.setPreconditioner(preconditioner);
+        return solver;
+    }
+
+    @Test
+    public void testMultigrilleConvergeVersThomas() {
+        System.out.println("Test: Krylov + multigrille");
+
+        int n = 2000;
+        for (double b : new double[] {0.0, 0.5}) {
+            double[] direct = new OptimizedVolumesFinis1DSolver(
+                n, 1.0, 1.0, b, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0, true).solve().getValues();
+
+            for (IterativeMethod method : new IterativeMethod[] {
+                    IterativeMethod.CONJUGATE_GRADIENT, IterativeMethod.BICGSTAB, IterativeMethod.GMRES}) {
+                if (method == IterativeMethod.CONJUGATE_GRADIENT && b != 0) continue;
+
+                VolumesFinis1DSolver solver = solver(n, b, method, PreconditionerType.MULTIGRID);
+                double[] u = solver.solve().getValues();
+
+                assertTrue(solver.getLastReport().isConverged());
+                assertTrue(solver.getIterations() < 60);
+                for (int i = 0; i < n; i++) {
+                    assertEquals(direct[i], u[i], 1e-6);
+                }
+                System.out.println("  b = " + b + ", " + solver.getLastReport().getMethod()
+                    + " : " + solver.getIterations() + " itérations");
+            }
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testIlu0ExactPourTridiagonale() {
+        System.out.println("Test: ILU(0) exact sur l'opérateur tridiagonal");
+
+        VolumesFinis1DSolver solver = solver(500, 2.0, IterativeMethod.BICGSTAB, PreconditionerType.ILU0);
+        solver.solve();
+
+        assertEquals(1, solver.getIterations());
+        assertEquals("BiCGSTAB+ILU(0)", solver.getLastReport().getMethod());
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGradientConjugueRefuseConvection() {
+        solver(100, 1.0, IterativeMethod.CONJUGATE_GRADIENT, PreconditionerType.JACOBI).solve();
+    }
+}
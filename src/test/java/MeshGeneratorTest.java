@@ -0,0 +1,95 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.Mesh1D;
+import com.ananum.vf1d.MeshGenerator;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests des générateurs de maillage non uniformes
+ */
+public class MeshGeneratorTest {
+
+    @Test
+    public void testFacesEtLargeurs() {
+        System.out.println("Test: faces et largeurs des générateurs");
+
+        int n = 40;
+        double L = 2.0;
+        MeshGenerator[] generators = {
+            MeshGenerator.UNIFORM, MeshGenerator.SINE, MeshGenerator.CHEBYSHEV,
+            MeshGenerator.geometric(1.1), MeshGenerator.tanh(2.0),
+            MeshGenerator.shishkin(1e-3, 2.0, true), MeshGenerator.density(x -> 1 + 5 * x)
+        };
+        for (MeshGenerator generator : generators) {
+            Mesh1D mesh = Mesh1D.create(n, L, generator);
+            double[] x = mesh.getMeshPoints();
+            double[] dx = mesh.getCellWidths();
+            double[] faces = mesh.getFaces();
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                assertTrue(generator + " : largeur positive", dx[i] > 0);
+                assertEquals(0.5 * (faces[i] + faces[i+1]), x[i], 1e-12);
+                total += dx[i];
+            }
+            assertEquals(generator.toString(), L, total, 1e-12);
+        }
+
+        // Progression géométrique exacte, couche de Shishkin en x = L
+        double[] dx = Mesh1D.create(n, L, MeshGenerator.geometric(1.1)).getCellWidths();
+        for (int i = 1; i < n; i++) {
+            assertEquals(1.1, dx[i] / dx[i-1], 1e-9);
+        }
+        double[] shishkin = Mesh1D.create(n, L, MeshGenerator.shishkin(1e-3, 2.0, true)).getCellWidths();
+        double tau = 2.0 * 1e-3 * Math.log(n);
+        assertEquals(tau / (n / 2), shishkin[n-1], 1e-12);
+
+        // Densité : masse ∫ρ identique par volume (ρ = 1 + 5 x, masse totale 12 sur [0, 2])
+        double[] faces = Mesh1D.create(n, L, MeshGenerator.density(x -> 1 + 5 * x)).getFaces();
+        for (int i = 0; i < n; i++) {
+            double mass = faces[i+1] - faces[i] + 2.5 * (faces[i+1] * faces[i+1] - faces[i] * faces[i]);
+            assertEquals(12.0 / n, mass, 1e-3);
+        }
+
+        // Générateurs égaux : même maillage en cache
+        OperatorCache cache = new OperatorCache(4);
+        assertSame(cache.mesh(n, L, MeshGenerator.tanh(2.0)), cache.mesh(n, L, MeshGenerator.tanh(2.0)));
+        assertNotSame(cache.mesh(n, L, MeshGenerator.tanh(2.0)), cache.mesh(n, L, MeshGenerator.tanh(3.0)));
+        assertSame(MeshGenerator.UNIFORM, MeshGenerator.geometric(1.0));
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testShishkinCoucheLimite() {
+        System.out.println("Test: maillage de Shishkin pour une couche limite");
+
+        // -a u'' + b u' = 0, u(0) = 0, u(1) = 1 : couche d'épaisseur a/b en x = 1
+        int n = 64;
+        double a = 1e-3, b = 1.0;
+        double[] errors = new double[2];
+        for (int k = 0; k < 2; k++) {
+            VolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                n, 1.0, a, b, 0.0, x -> 0.0, 0.0, 1.0, true);
+            if (k == 1) {
+                solver.setMeshGenerator(MeshGenerator.shishkin(a / b, 2.0, true));
+            }
+            Solution1D solution = solver.solve();
+            double[] x = solution.getMeshPoints();
+            double[] u = solution.getValues();
+            for (int i = 0; i < n; i++) {
+                double exact = (Math.exp(b / a * (x[i] - 1)) - Math.exp(-b / a)) / (1 - Math.exp(-b / a));
+                errors[k] = Math.max(errors[k], Math.abs(u[i] - exact));
+            }
+        }
+
+        System.out.println("  Erreur max uniforme = " + errors[0] + ", Shishkin = " + errors[1]);
+        assertTrue(errors[1] < 0.5 * errors[0]);
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,64 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.SolverWorkspace;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de Thomas en précision mixte (float + raffinement itératif)
+ */
+public class MixedPrecisionTest {
+
+    @Test
+    public void testRaffinementRetrouveLaPrecisionDouble() {
+        System.out.println("Test: précision mixte contre Thomas double");
+
+        int n = 100_000;
+        double[] reference = solver(n, false).solve().getValues();
+        OptimizedVolumesFinis1DSolver mixed = solver(n, true);
+        double[] u = mixed.solve().getValues();
+        assertEquals("MixedThomas", mixed.getLastReport().getMethod());
+
+        double scale = 0, error = 0;
+        for (int i = 0; i < n; i++) {
+            scale = Math.max(scale, Math.abs(reference[i]));
+            error = Math.max(error, Math.abs(u[i] - reference[i]));
+        }
+        System.out.println("  Écart relatif = " + error / scale);
+        assertTrue(error < 1e-8 * scale);
+
+        // Espace de travail : même résultat, sans allocation après la première résolution
+        SolverWorkspace ws = new SolverWorkspace(n);
+        double[] fromWorkspace = mixed.solveInto(ws);
+        for (int i = 0; i < n; i++) {
+            assertEquals(u[i], fromWorkspace[i], 0.0);
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testPrecisionMixteAussiPourPetitN() {
+        System.out.println("Test: précision mixte appliquée pour N <= 500");
+
+        int n = 200;
+        double[] reference = solver(n, false).solveInto(new SolverWorkspace(n)).clone();
+        OptimizedVolumesFinis1DSolver mixed = solver(n, true);
+        double[] u = mixed.solve().getValues();
+        assertEquals("MixedThomas", mixed.getLastReport().getMethod());
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(reference[i], u[i], 1e-12);
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    private static OptimizedVolumesFinis1DSolver solver(int n, boolean mixedPrecision) {
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.5, 1.0, x -> Math.sin(Math.PI * x) + 1, 0.0, 1.0, true);
+        solver.setMixedPrecision(mixedPrecision);
+        return solver;
+    }
+}
@@ -0,0 +1,85 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.MovingMesh;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de l'adaptation du maillage à N fixé
+ */
+public class MovingMeshTest {
+
+    @Test
+    public void testCoucheLimiteAdaptee() {
+        System.out.println("Test: r-adaptivité sur une couche limite");
+
+        // -a u'' + b u' = 0, u(0) = 0, u(1) = 1 : couche d'épaisseur a/b en x = 1
+        int n = 64;
+        double a = 1e-3, b = 1.0;
+        for (MovingMesh.Monitor monitor : MovingMesh.Monitor.values()) {
+            double[] errors = new double[2];
+            for (int k = 0; k < 2; k++) {
+                VolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                    n, 1.0, a, b, 0.0, x -> 0.0, 0.0, 1.0, true);
+                Solution1D solution = MovingMesh.solve(solver, monitor, k == 0 ? 0 : 8);
+                errors[k] = maxError(solution, a, b);
+            }
+            System.out.println("  " + monitor + " : erreur max uniforme = " + errors[0]
+                + ", adaptée = " + errors[1]);
+            assertTrue(errors[1] < 0.2 * errors[0]);
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testEquirepartitionEtRemappageConservatif() {
+        System.out.println("Test: équirépartition et remappage conservatif");
+
+        int n = 50;
+        double[] faces = new double[n + 1];
+        double[] monitor = new double[n];
+        double[] values = new double[n];
+        for (int i = 0; i <= n; i++) {
+            faces[i] = (double) i / n;
+        }
+        for (int i = 0; i < n; i++) {
+            monitor[i] = 1 + 9 * (i >= n / 2 ? 1 : 0);
+            values[i] = Math.sin(3 * faces[i]) + i % 3;
+        }
+
+        // Contrôle 1 sur [0, 1/2], 10 sur [1/2, 1] : 1/11 des volumes à gauche
+        double[] adapted = MovingMesh.equidistribute(faces, monitor);
+        double step = 5.5 / n;
+        for (int j = 0; j < n; j++) {
+            double left = Math.min(adapted[j+1], 0.5) - Math.min(adapted[j], 0.5);
+            double right = Math.max(adapted[j+1], 0.5) - Math.max(adapted[j], 0.5);
+            assertEquals(step, left + 10 * right, 1e-12);
+        }
+
+        double[] remapped = MovingMesh.remap(faces, values, adapted);
+        double before = 0, after = 0;
+        for (int i = 0; i < n; i++) {
+            before += values[i] * (faces[i+1] - faces[i]);
+            after += remapped[i] * (adapted[i+1] - adapted[i]);
+        }
+        assertEquals(before, after, 1e-14);
+        assertArrayEquals(values, MovingMesh.remap(faces, values, faces), 1e-14);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    private static double maxError(Solution1D solution, double a, double b) {
+        double[] x = solution.getMeshPoints();
+        double[] u = solution.getValues();
+        double error = 0;
+        for (int i = 0; i < solution.getN(); i++) {
+            double exact = (Math.exp(b / a * (x[i] - 1)) - Math.exp(-b / a)) / (1 - Math.exp(-b / a));
+            error = Math.max(error, Math.abs(u[i] - exact));
+        }
+        return error;
+    }
+}
@@ -0,0 +1,90 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.Factorization;
+import com.ananum.vf1d.Mesh1D;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.TridiagonalOperator;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du cache de maillages et d'opérateurs factorisés
+ */
+public class OperatorCacheTest {
+
+    @Test
+    public void testResolutionsRepeteesIdentiques() {
+        System.out.println("Test: Résolutions avec et sans cache identiques");
+
+        OperatorCache cache = new OperatorCache(4);
+        int n = 2000;
+
+        for (int k = 0; k < 3; k++) {
+            final double freq = k + 1;
+            OptimizedVolumesFinis1DSolver cached = new OptimizedVolumesFinis1DSolver(
+                n, 1.0, 1.0, 0.5, 2.0, x -> Math.sin(freq * Math.PI * x), k, -k, false);
+            cached.setOperatorCache(cache);
+            OptimizedVolumesFinis1DSolver fresh = new OptimizedVolumesFinis1DSolver(
+                n, 1.0, 1.0, 0.5, 2.0, x -> Math.sin(freq * Math.PI * x), k, -k, false);
+            fresh.setOperatorCache(null);
+
+            Solution1D s1 = cached.solve();
+            Solution1D s2 = fresh.solve();
+            assertArrayEquals(s2.getValues(), s1.getValues(), 0.0);
+            assertArrayEquals(s2.getMeshPoints(), s1.getMeshPoints(), 0.0);
+        }
+
+        // Un seul assemblage pour les trois seconds membres
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.size());
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testPartageMaillageEtEviction() {
+        System.out.println("Test: Maillage partagé et éviction LRU");
+
+        OperatorCache cache = new OperatorCache(2);
+        OperatorCache.Entry e1 = cache.get(100, 1.0, true, 1.0, 0.0, 0.0);
+        OperatorCache.Entry e2 = cache.get(100, 1.0, true, 2.0, 0.0, 0.0);
+        assertSame(e1.getMesh(), e2.getMesh());
+        assertSame(e1, cache.get(100, 1.0, true, 1.0, 0.0, 0.0));
+
+        cache.get(100, 1.0, true, 3.0, 0.0, 0.0);   // évince (a = 2)
+        assertEquals(2, cache.size());
+        assertNotSame(e2, cache.get(100, 1.0, true, 2.0, 0.0, 0.0));
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testFactorisationReutilisable() {
+        System.out.println("Test: Factorisation réutilisable");
+
+        Mesh1D mesh = Mesh1D.create(50, 1.0, true);
+        TridiagonalOperator op = TridiagonalOperator.assemble(mesh, 1.0, 3.0, 1.0);
+        Factorization lu = op.factorize();
+
+        double[] rhs = new double[50];
+        for (int k = 0; k < 3; k++) {
+            op.buildRightHandSide(x -> 1.0, k, 0.0, rhs);
+            double[] original = rhs.clone();
+            double[] u = lu.solve(rhs);
+            assertArrayEquals(original, rhs, 0.0);
+
+            // Résidu A u - f sur les volumes intérieurs
+            double[] dx = mesh.getCellWidths();
+            for (int i = 1; i < 49; i++) {
+                double h = dx[i];
+                double r = -(1.0 / h + 3.0) * u[i-1] + (2.0 / h + 3.0 + h) * u[i] - (1.0 / h) * u[i+1];
+                assertEquals(original[i], r, 1e-10);
+            }
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,157 @@
+import org.junit.Test;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.analysis.AnalysisTools;
+import com.ananum.vf1d.integration.SourceFunctions;
+import com.ananum.vf1d.integration.VolumesFinis1DMethodeEnhanced;
+import com.ananum.vf1d.analysis.ParallelConvergenceStudy;
+import com.ananum.vf1d.analysis.AnalysisTools.ConvergenceStudy;
+
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de l'étude de convergence parallèle
+ */
+public class ParallelConvergenceStudyTest {
+
+    /**
+     * Les erreurs et les ordres doivent être identiques à l'étude séquentielle
+     */
+    @Test
+    public void testResultatsIdentiquesAuSequentiel() {
+        System.out.println("Test: Étude de convergence parallèle vs séquentielle");
+
+        double L = 1.0;
+        double a = 1.0, b = 0.5, c = 1.0;
+        Function1D source = x -> Math.sin(Math.PI * x);
+        Function1D exact = x -> Math.sin(Math.PI * x);
+        int[] meshSizes = {10, 20, 40, 80, 160};
+
+        ConvergenceStudy sequential = AnalysisTools.ErrorAnalysis.performConvergenceStudy(
+            L, a, b, c, source, exact, 0.0, 0.0, meshSizes
+        );
+        ConvergenceStudy parallel = AnalysisTools.ErrorAnalysis.performConvergenceStudyParallel(
+            L, a, b, c, source, exact, 0.0, 0.0, meshSizes, 3
+        );
+
+        assertArrayEquals(sequential.meshSizes, parallel.meshSizes);
+        for (int i = 0; i < meshSizes.length; i++) {
+            assertEquals(sequential.errors[i].errorL1, parallel.errors[i].errorL1, 0.0);
+            assertEquals(sequential.errors[i].errorL2, parallel.errors[i].errorL2, 0.0);
+            assertEquals(sequential.errors[i].errorLinf, parallel.errors[i].errorLinf, 0.0);
+        }
+        assertArrayEquals(sequential.orders, parallel.orders, 0.0);
+        assertEquals(sequential.averageOrder, parallel.averageOrder, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    /**
+     * L'erreur L2 du solveur (normalisée par L) doit être identique à celle
+     * d'une résolution séquentielle, y compris pour L ≠ 1
+     */
+    @Test
+    public void testErreurSolveurIdentiqueAvecLNonUnitaire() {
+        System.out.println("Test: erreur L2 du solveur en parallèle, L = 3");
+
+        double L = 3.0;
+        double a = 1.0, b = 0.0, c = 0.0;
+        double k = Math.PI / L;
+        Function1D exact = x -> Math.sin(k * x);
+        Function1D source = x -> a * k * k * Math.sin(k * x);
+        int[] meshSizes = {10, 20, 40, 80};
+
+        ParallelConvergenceStudy.MeshResult[] results = new ParallelConvergenceStudy(2).solveAll(
+            exact, meshSizes,
+            n -> new OptimizedVolumesFinis1DSolver(n, L, a, b, c, source, 0.0, 0.0, true)
+        );
+
+        for (int i = 0; i < meshSizes.length; i++) {
+            OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                meshSizes[i], L, a, b, c, source, 0.0, 0.0, true);
+            Solution1D solution = solver.solve();
+            assertEquals(meshSizes[i], results[i].n);
+            assertEquals(solver.computeL2Error(solution, exact), results[i].solverErrorL2, 0.0);
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    /**
+     * L'étude de convergence de la méthode Enhanced doit résoudre chaque
+     * maillage avec les conditions aux limites et le schéma demandés
+     */
+    @Test
+    public void testEtudeMethodeRespecteLimitesEtSchema() {
+        System.out.println("Test: étude de convergence avec Neumann, centré et périodique");
+
+        Function1D exact = x -> Math.sin(Math.PI * x);
+        int[] meshSizes = {600, 1200};
+
+        ParametresEntree neumann = new ParametresEntree();
+        neumann.a = 1.0;
+        neumann.b = 2.0;
+        neumann.c = 0.5;
+        neumann.xMin = 0.0;
+        neumann.xMax = 1.0;
+        neumann.fonctionSource = "sin(pi*x)";
+        neumann.schemaConvection = "central";
+        neumann.conditionsLimites = new ParametresEntree.ConditionLimite();
+        neumann.conditionsLimites.type0 = ParametresEntree.TypeLimite.NEUMANN;
+        neumann.conditionsLimites.u0 = -Math.PI;
+        neumann.conditionsLimites.uL = 0.0;
+
+        verifierEtude(neumann, exact, meshSizes, solver -> {
+            solver.setBoundaryConditions(BoundaryCondition.NEUMANN, BoundaryCondition.DIRICHLET);
+            solver.setConvectionScheme(ConvectionScheme.CENTRAL);
+        });
+
+        // L'étude avec les seuls coefficients (Dirichlet, centré) doit différer
+        ConvergenceStudy brute = AnalysisTools.ErrorAnalysis.performConvergenceStudy(
+            1.0, neumann.a, neumann.b, neumann.c, x -> Math.sin(Math.PI * x), exact,
+            neumann.conditionsLimites.u0, neumann.conditionsLimites.uL, meshSizes);
+        VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+        ConvergenceStudy configuree = methode.performConvergenceStudy(neumann, exact, meshSizes);
+        assertNotEquals(brute.errors[0].errorL2, configuree.errors[0].errorL2, 0.0);
+
+        ParametresEntree periodique = new ParametresEntree();
+        periodique.a = 1.0;
+        periodique.b = 1.0;
+        periodique.c = 1.0;
+        periodique.xMin = 0.0;
+        periodique.xMax = 1.0;
+        periodique.fonctionSource = "sin(2*pi*x)";
+        periodique.conditionsLimites = new ParametresEntree.ConditionLimite();
+        periodique.conditionsLimites.periodique = true;
+
+        verifierEtude(periodique, exact, new int[] {50, 100, 200}, solver -> solver.setPeriodic(true));
+
+        System.out.println("✓ Test réussi");
+    }
+
+    private static void verifierEtude(ParametresEntree params, Function1D exact, int[] meshSizes,
+                                      Consumer<OptimizedVolumesFinis1DSolver> configuration) {
+        Function1D source = SourceFunctions.parse(params.fonctionSource);
+        VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+        ConvergenceStudy parallele = methode.performConvergenceStudy(params, exact, meshSizes);
+        methode.setParallelConvergence(false);
+        ConvergenceStudy sequentielle = methode.performConvergenceStudy(params, exact, meshSizes);
+
+        for (int i = 0; i < meshSizes.length; i++) {
+            OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                meshSizes[i], params.xMax - params.xMin, params.a, params.b, params.c, source,
+                params.conditionsLimites.u0, params.conditionsLimites.uL, true);
+            configuration.accept(solver);
+            double attendu = AnalysisTools.ErrorAnalysis.computeErrorMetrics(solver.solve(), exact).errorL2;
+            assertEquals(attendu, parallele.errors[i].errorL2, 0.0);
+            assertEquals(attendu, sequentielle.errors[i].errorL2, 0.0);
+        }
+    }
+}
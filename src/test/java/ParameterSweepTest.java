@@ -0,0 +1,204 @@
+import org.junit.Test;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.sweep.ParameterSweep;
+import com.ananum.vf1d.sweep.SweepExecutor;
+import com.ananum.vf1d.sweep.SweepResultTable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du balayage de paramètres : décodage cartésien, stratification de
+ * l'hypercube latin, exécution et export CSV
+ */
+public class ParameterSweepTest {
+
+    private static ParametresEntree base() {
+        ParametresEntree base = new ParametresEntree();
+        base.a = 1.0;
+        base.b = 0.0;
+        base.c = 0.0;
+        base.nx = 600;
+        base.xMin = 0.0;
+        base.xMax = 1.0;
+        base.fonctionSource = "1";
+        base.conditionsLimites = new ParametresEntree.ConditionLimite();
+        base.conditionsLimites.u0 = 0.0;
+        base.conditionsLimites.uL = 1.0;
+        return base;
+    }
+
+    @Test
+    public void testFonctionSourceSurBalayageNeuf() {
+        System.out.println("Test: fonction source avant toute autre utilisation du balayage");
+
+        ParameterSweep sweep = ParameterSweep.cartesian(base()).sources("0", "x");
+        assertEquals(0.5, sweep.sourceFunction(1).evaluate(0.5), 0.0);
+
+        sweep = ParameterSweep.latinHypercube(base(), 4, 1L).aRange(0.5, 1.0);
+        assertEquals(1.0, sweep.sourceFunction(3).evaluate(0.25), 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testDecodageCartesien() {
+        System.out.println("Test: décodage des indices du produit cartésien");
+
+        double[] as = {1.0, 2.0};
+        double[] bs = {0.0, 5.0, 10.0};
+        int[] ns = {10, 20};
+        ParameterSweep sweep = ParameterSweep.cartesian(base()).a(as).b(bs).n(ns);
+        assertEquals(12, sweep.size());
+
+        ParametresEntree params = new ParametresEntree();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            sweep.fill(i, params);
+            // a varie le plus lentement, N le plus vite
+            assertEquals(as[i / 6], params.a, 0.0);
+            assertEquals(bs[(i / 2) % 3], params.b, 0.0);
+            assertEquals(ns[i % 2], params.nx);
+            assertEquals(0.0, params.c, 0.0);
+            assertEquals("1", params.fonctionSource);
+            assertTrue(seen.add(params.a + "/" + params.b + "/" + params.nx));
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testStratificationHypercubeLatin() {
+        System.out.println("Test: une valeur par strate de l'hypercube latin");
+
+        int samples = 50;
+        ParameterSweep sweep = ParameterSweep.latinHypercube(base(), samples, 7L)
+            .aRange(0.0, 1.0)
+            .bRange(-5.0, 5.0)
+            .nRange(100, 200)
+            .sources("0", "1");
+        assertEquals(samples, sweep.size());
+
+        boolean[] strataA = new boolean[samples], strataB = new boolean[samples];
+        int[] sourceCounts = new int[2];
+        ParametresEntree params = new ParametresEntree();
+        ParameterSweep again = ParameterSweep.latinHypercube(base(), samples, 7L)
+            .aRange(0.0, 1.0).bRange(-5.0, 5.0).nRange(100, 200).sources("0", "1");
+        ParametresEntree other = new ParametresEntree();
+        for (int i = 0; i < samples; i++) {
+            sweep.fill(i, params);
+            int ka = (int) (params.a * samples);
+            int kb = (int) ((params.b + 5.0) / 10.0 * samples);
+            assertFalse("Strate de a occupée deux fois", strataA[ka]);
+            assertFalse("Strate de b occupée deux fois", strataB[kb]);
+            strataA[ka] = true;
+            strataB[kb] = true;
+            assertTrue(params.nx >= 100 && params.nx <= 200);
+            sourceCounts[sweep.sourceIndex(i)]++;
+
+            // Reproductible pour une même graine
+            again.fill(i, other);
+            assertEquals(params.a, other.a, 0.0);
+            assertEquals(params.b, other.b, 0.0);
+            assertEquals(params.nx, other.nx);
+        }
+        assertEquals(samples / 2, sourceCounts[0]);
+        assertEquals(samples / 2, sourceCounts[1]);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testExecutionEtExportCsv() throws IOException {
+        System.out.println("Test: exécution du balayage et alignement du CSV");
+
+        String[] sources = {"1", "gaussian(x, \"large\")"};
+        ParameterSweep sweep = ParameterSweep.cartesian(base())
+            .a(0.5, 1.0)
+            .c(0.0, 2.0, 4.0)
+            .n(520, 700)
+            .sources(sources);
+
+        SweepResultTable table;
+        try (SweepExecutor executor = new SweepExecutor(2)) {
+            table = executor.run(sweep);
+        }
+        assertEquals(24, table.size());
+        assertEquals(24, table.completedRows());
+
+        // Chaque ligne correspond à une résolution directe (N > 500 : Thomas)
+        ParametresEntree params = new ParametresEntree();
+        for (int i = 0; i < table.size(); i++) {
+            sweep.fill(i, params);
+            OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+                params.nx, 1.0, params.a, params.b, params.c, sweep.sourceFunction(i), 0.0, 1.0, true);
+            double[] u = solver.solve().getValues();
+            double max = Double.NEGATIVE_INFINITY;
+            for (double v : u) max = Math.max(max, v);
+
+            assertEquals(params.a, table.a[i], 0.0);
+            assertEquals(params.c, table.c[i], 0.0);
+            assertEquals(params.nx, table.n[i]);
+            assertEquals(sources[sweep.sourceIndex(i)], table.sourceExpression(i));
+            assertEquals(max, table.uMax[i], 1e-12);
+        }
+
+        StringWriter out = new StringWriter();
+        table.writeCsv(out);
+        String[] lines = out.toString().split("\\R");
+        assertEquals(table.size() + 1, lines.length);
+        String[] header = lines[0].split(",");
+        assertEquals("a", header[0]);
+        assertEquals("source", header[4]);
+        assertEquals("uMax", header[6]);
+        for (int i = 0; i < table.size(); i++) {
+            List<String> fields = parseCsvLine(lines[i + 1]);
+            assertEquals(header.length, fields.size());
+            assertEquals(table.a[i], Double.parseDouble(fields.get(0)), 0.0);
+            assertEquals(table.c[i], Double.parseDouble(fields.get(2)), 0.0);
+            assertEquals(table.n[i], Integer.parseInt(fields.get(3)));
+            assertEquals(table.sourceExpression(i), fields.get(4));
+            assertEquals(table.uMax[i], Double.parseDouble(fields.get(6)), 0.0);
+            assertEquals(table.solveNanos[i], Long.parseLong(fields.get(9)));
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    /** Découpage d'une ligne CSV (champs entre guillemets, guillemets doublés) */
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.IterativeMethod;
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de Gauss-Seidel / SOR rouge-noir et de l'omega optimal
+ */
+public class RedBlackSORTest {
+
+    @Test
+    public void testSOROptimalConvergeVersThomas() {
+        System.out.println("Test: SOR rouge-noir à omega optimal");
+
+        int n = 600;
+        VolumesFinis1DSolver gs = new VolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.5, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0, true);
+        VolumesFinis1DSolver rb = new VolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.5, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0, true);
+        rb.setIterativeMethod(IterativeMethod.RED_BLACK_SOR);
+
+        gs.solve();
+        double[] u = rb.solve().getValues();
+
+        // Direct (Thomas) pour la référence
+        double[] direct = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.5, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0, true).solve().getValues();
+
+        assertTrue(rb.getLastReport().isConverged());
+        assertEquals("RedBlackSOR", rb.getLastReport().getMethod());
+        assertTrue(rb.getIterations() * 4 < gs.getIterations());
+        for (int i = 0; i < n; i++) {
+            assertEquals(direct[i], u[i], 1e-8);
+        }
+
+        double omega = OperatorCache.shared().get(n, 1.0, true, 1.0, 0.5, 1.0).getOptimalOmega();
+        assertTrue(omega > 1.9 && omega < 2.0);
+
+        System.out.println("  omega = " + omega + ", " + rb.getLastReport());
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testParalleleIdentiqueAuSequentiel() {
+        System.out.println("Test: rouge-noir parallèle = séquentiel");
+
+        int n = 50_000;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            double[][] results = new double[2][];
+            for (int k = 0; k < 2; k++) {
+                VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+                    n, 1.0, 1.0, 0.5, 1.0, x -> 1.0 + x, 0.0, 1.0, true);
+                solver.setIterativeMethod(IterativeMethod.RED_BLACK_SOR);
+                solver.setRelaxationFactor(1.5);
+                solver.setMaxIterations(25);
+                solver.setPool(k == 0 ? null : pool);
+                results[k] = solver.solve().getValues();
+                assertEquals(25, solver.getIterations());
+            }
+            assertArrayEquals(results[0], results[1], 0.0);
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+}
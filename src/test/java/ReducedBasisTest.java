@@ -0,0 +1,93 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.BoundaryCondition;
+import com.ananum.vf1d.reduced.ParametrizedProblem;
+import com.ananum.vf1d.reduced.ReducedBasis;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la base réduite POD et de sa borne d'erreur a posteriori
+ */
+public class ReducedBasisTest {
+
+    private static final double[] MIN = {0.05, -2.0, 0.0, 0.5};
+    private static final double[] MAX = {1.0, 2.0, 5.0, 2.0};
+
+    @Test
+    public void testBorneRigoureuseEtErreurFaible() {
+        System.out.println("Test: base réduite, erreur L2 ≤ borne a posteriori");
+
+        int n = 200;
+        ParametrizedProblem problem = new ParametrizedProblem(
+            n, 1.0, x -> Math.sin(Math.PI * x), 0.5, 1.0);
+        ReducedBasis basis = ReducedBasis.offline(
+            problem, ReducedBasis.trainingSet(MIN, MAX, 150, 1L), 1e-6, 40);
+        ReducedBasis.Evaluator evaluator = basis.evaluator();
+        double[] dx = problem.getMesh().getCellWidths();
+        assertTrue(basis.getSize() < 30);
+
+        double maxError = 0, maxEffectivity = 0;
+        for (double[] mu : ReducedBasis.trainingSet(MIN, MAX, 100, 7L)) {
+            double bound = evaluator.solve(mu[0], mu[1], mu[2], mu[3]);
+            double[] u = problem.solve(mu[0], mu[1], mu[2], mu[3]).getValues();
+            double[] v = evaluator.reconstruct().getValues();
+            double error = 0;
+            for (int i = 0; i < n; i++) error += dx[i] * (u[i] - v[i]) * (u[i] - v[i]);
+            error = Math.sqrt(error / problem.getL());
+
+            assertTrue(evaluator.getStabilityBound() >= mu[0] * (1 - 1e-9));
+            assertTrue("Borne " + bound + " < erreur " + error, bound >= error);
+            maxError = Math.max(maxError, error);
+            maxEffectivity = Math.max(maxEffectivity, bound / error);
+        }
+        assertTrue(maxError < 1e-3);
+        assertTrue(maxEffectivity < 1e3);
+
+        System.out.printf("  r = %d, erreur max = %.2e, efficacité max = %.0f%n",
+            basis.getSize(), maxError, maxEffectivity);
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testFonctionnelleReduiteEtNeumann() {
+        System.out.println("Test: fonctionnelle réduite, condition de Neumann");
+
+        int n = 150;
+        ParametrizedProblem problem = new ParametrizedProblem(n, 2.0, x -> 1.0, 1.0, 0.0);
+        problem.setBoundaryConditions(BoundaryCondition.DIRICHLET, BoundaryCondition.NEUMANN);
+        double[] min = {0.2, -1.0, 0.5, 0.5}, max = {1.0, 1.0, 2.0, 1.5};
+        ReducedBasis basis = ReducedBasis.offline(
+            problem, ReducedBasis.trainingSet(min, max, 60, 3L), 1e-8, 30);
+        ReducedBasis.Evaluator evaluator = basis.evaluator();
+
+        // Moyenne pondérée de la solution
+        double[] dx = problem.getMesh().getCellWidths();
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) weights[i] = dx[i] / problem.getL();
+        double[] reduced = basis.reduceFunctional(weights);
+
+        double[] mu = {0.6, 0.3, 1.1, 1.2};
+        double bound = evaluator.solve(mu[0], mu[1], mu[2], mu[3]);
+        double[] v = evaluator.reconstruct().getValues();
+        double[] u = problem.solve(mu[0], mu[1], mu[2], mu[3]).getValues();
+        double mean = 0, exact = 0;
+        for (int i = 0; i < n; i++) {
+            mean += weights[i] * v[i];
+            exact += weights[i] * u[i];
+        }
+        assertEquals(mean, evaluator.output(reduced), 1e-12);
+        assertEquals(exact, evaluator.output(reduced), bound);
+        assertTrue(bound < 1e-4);
+
+        try {
+            evaluator.solve(0.0, 0.0, 1.0, 1.0);
+            fail("Une diffusion nulle doit être refusée");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("diffusion"));
+        }
+
+        System.out.printf("  r = %d, moyenne = %.6f, borne = %.2e%n", basis.getSize(), mean, bound);
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,124 @@
+import org.junit.Test;
+
+import com.ananum.integration.ParametresEntree;
+import com.ananum.vf1d.ConvectionScheme;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.analysis.RichardsonExtrapolation;
+import com.ananum.vf1d.integration.VolumesFinis1DMethodeEnhanced;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de l'extrapolation de Richardson contre des solutions exactes
+ */
+public class RichardsonExtrapolationTest {
+
+    /**
+     * Diffusion pure -u'' = π² sin(πx) : ordre observé 2, erreur estimée
+     * proche de l'erreur réelle de la solution la plus fine
+     */
+    @Test
+    public void testOrdreObserveEtErreurDiffusion() {
+        System.out.println("Test: Richardson, diffusion pure (ordre 2)");
+
+        Function1D exact = x -> Math.sin(Math.PI * x);
+        Function1D source = x -> Math.PI * Math.PI * Math.sin(Math.PI * x);
+        OptimizedVolumesFinis1DSolver[] finest = new OptimizedVolumesFinis1DSolver[1];
+
+        RichardsonExtrapolation.Result result = RichardsonExtrapolation.estimate(
+            n -> finest[0] = new OptimizedVolumesFinis1DSolver(n, 1.0, 1.0, 0.0, 0.0, source, 0.0, 0.0, true),
+            20, 4, 2.0);
+
+        double actual = finest[0].computeL2Error(result.finest, exact);
+        assertEquals(2.0, result.observedOrder, 0.1);
+        assertEquals(result.observedOrder, result.orderUsed, 0.0);
+        assertEquals(1.0, result.estimatedErrorL2 / actual, 0.25);
+
+        System.out.printf("  ordre observé = %.3f, erreur estimée = %.3e, réelle = %.3e%n",
+            result.observedOrder, result.estimatedErrorL2, actual);
+        System.out.println("✓ Test réussi");
+    }
+
+    /**
+     * Convection-diffusion upwind -u'' + 2u' = 0 : ordre 1, et l'estimation
+     * à deux niveaux de la méthode utilise l'ordre formel du schéma
+     */
+    @Test
+    public void testOrdreFormelUpwindAvecDeuxNiveaux() {
+        System.out.println("Test: Richardson, upwind avec convection (ordre 1)");
+
+        double b = 2.0;
+        Function1D exact = x -> Math.expm1(b * x) / Math.expm1(b);
+        assertEquals(1.0, ConvectionScheme.UPWIND.formalOrder(b, 1.0, 1.0 / 520), 0.0);
+        assertEquals(2.0, ConvectionScheme.UPWIND.formalOrder(0.0, 1.0, 1.0 / 520), 0.0);
+        assertEquals(2.0, ConvectionScheme.CENTRAL.formalOrder(b, 1.0, 1.0 / 520), 0.0);
+
+        // Maillages > 500 : résolutions directes (Thomas)
+        RichardsonExtrapolation.Result observed = RichardsonExtrapolation.estimate(
+            n -> new OptimizedVolumesFinis1DSolver(n, 1.0, 1.0, b, 0.0, x -> 0.0, 0.0, 1.0, true),
+            520, 3, 2.0);
+        assertEquals(1.0, observed.observedOrder, 0.1);
+
+        ParametresEntree params = new ParametresEntree();
+        params.a = 1.0;
+        params.b = b;
+        params.c = 0.0;
+        params.fonctionSource = "0";
+        params.conditionsLimites = new ParametresEntree.ConditionLimite();
+        params.conditionsLimites.u0 = 0.0;
+        params.conditionsLimites.uL = 1.0;
+
+        RichardsonExtrapolation.Result result =
+            new VolumesFinis1DMethodeEnhanced().estimateDiscretizationError(params, 520, 2);
+        OptimizedVolumesFinis1DSolver reference = new OptimizedVolumesFinis1DSolver(
+            1040, 1.0, 1.0, b, 0.0, x -> 0.0, 0.0, 1.0, true);
+        double actual = reference.computeL2Error(result.finest, exact);
+
+        assertTrue(Double.isNaN(result.observedOrder));
+        assertEquals(1.0, result.orderUsed, 0.0);
+        assertEquals(1.0, result.estimatedErrorL2 / actual, 0.25);
+
+        System.out.printf("  ordre observé = %.3f, erreur estimée (2 niveaux) = %.3e, réelle = %.3e%n",
+            observed.observedOrder, result.estimatedErrorL2, actual);
+        System.out.println("✓ Test réussi");
+    }
+
+    /**
+     * Schémas hybride, loi de puissance et exponentiel : ordre 2 à faible
+     * Péclet de maille, ordre 1 au-delà de 2 (décentrage amont)
+     */
+    @Test
+    public void testOrdreFormelSelonLePeclet() {
+        System.out.println("Test: Richardson, ordre formel selon le Péclet de maille");
+
+        ConvectionScheme[] schemes = {
+            ConvectionScheme.HYBRID, ConvectionScheme.POWER_LAW, ConvectionScheme.EXPONENTIAL
+        };
+        for (ConvectionScheme scheme : schemes) {
+            assertEquals(scheme.name(), 2.0, scheme.formalOrder(0.0, 1.0, 0.1), 0.0);
+            assertEquals(scheme.name(), 2.0, scheme.formalOrder(-2.0, 1.0, 0.1), 0.0);    // Péclet 0,2
+            assertEquals(scheme.name(), 2.0, scheme.formalOrder(20.0, 1.0, 0.1), 0.0);    // Péclet 2
+            assertEquals(scheme.name(), 1.0, scheme.formalOrder(-30.0, 1.0, 0.1), 0.0);   // Péclet 3
+            assertEquals(scheme.name(), 1.0, scheme.formalOrder(1.0, 0.0, 0.1), 0.0);     // sans diffusion
+        }
+        assertEquals(2.0, ConvectionScheme.TVD_VAN_LEER.formalOrder(-30.0, 1.0, 0.1), 0.0);
+
+        // La méthode évalue le Péclet sur le maillage grossier (dx = L / coarseN)
+        ParametresEntree params = new ParametresEntree();
+        params.b = 1.0;
+        params.c = 0.0;
+        params.fonctionSource = "0";
+        params.schemaConvection = "hybrid";
+        params.conditionsLimites = new ParametresEntree.ConditionLimite();
+        params.conditionsLimites.uL = 1.0;
+        VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+
+        params.a = 1.0;    // Péclet grossier 1/520
+        assertEquals(2.0, methode.estimateDiscretizationError(params, 520, 2).orderUsed, 0.0);
+        params.a = 1e-4;   // Péclet grossier ≈ 19
+        assertEquals(1.0, methode.estimateDiscretizationError(params, 520, 2).orderUsed, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+}
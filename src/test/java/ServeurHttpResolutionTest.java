@@ -0,0 +1,296 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ananum.integration.FormatBinaireSolution;
+import com.ananum.integration.MethodeResolution;
+import com.ananum.integration.ParametresEntree;
+import com.ananum.integration.ResultatResolution;
+import com.ananum.integration.ServeurHttpResolution;
+import com.ananum.integration.ServiceResolution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du point d'accès HTTP : analyse du JSON, correspondance des erreurs
+ * (400, 413, 500) et aller-retour des formats base64 et binaire
+ */
+public class ServeurHttpResolutionTest {
+
+    /**
+     * Méthode factice (solution = a·x + u0), en échec si la source vaut "panne"
+     */
+    private static class MethodeFactice implements MethodeResolution {
+        volatile ParametresEntree derniers;
+
+        @Override
+        public ResultatResolution resoudre(ParametresEntree params) {
+            derniers = params;
+            if ("panne".equals(params.fonctionSource)) {
+                throw new IllegalStateException("panne simulée du solveur");
+            }
+            ResultatResolution r = new ResultatResolution();
+            r.x = new double[params.nx];
+            r.solution = new double[params.nx];
+            for (int i = 0; i < params.nx; i++) {
+                r.x[i] = params.xMin + (i + 0.5) * (params.xMax - params.xMin) / params.nx;
+                r.solution[i] = params.a * r.x[i] + params.conditionsLimites.u0;
+            }
+            r.iterations = 7;
+            r.erreur = 1.25e-3;
+            r.tempsCalcul = 0.5;
+            return r;
+        }
+
+        @Override
+        public String getNomMethode() { return "Factice"; }
+
+        @Override
+        public int getDimension() { return 1; }
+    }
+
+    private MethodeFactice methode;
+    private ServiceResolution service;
+    private ServeurHttpResolution serveur;
+    private HttpClient client;
+
+    @Before
+    public void demarrer() throws Exception {
+        methode = new MethodeFactice();
+        service = new ServiceResolution(methode, 2, 16);
+        serveur = new ServeurHttpResolution(service, 0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @After
+    public void arreter() {
+        serveur.close();
+        service.close();
+    }
+
+    private HttpResponse<byte[]> poster(String requete, String corps) throws Exception {
+        HttpRequest req = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + serveur.getPort() + requete))
+            .POST(HttpRequest.BodyPublishers.ofString(corps))
+            .build();
+        return client.send(req, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String texte(HttpResponse<byte[]> reponse) {
+        return new String(reponse.body(), java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    private static String champ(String json, String cle) {
+        Matcher m = Pattern.compile("\"" + cle + "\":(\"[^\"]*\"|[^,}]*)").matcher(json);
+        assertTrue("Champ " + cle + " absent de " + json, m.find());
+        String v = m.group(1);
+        return v.startsWith("\"") ? v.substring(1, v.length() - 1) : v;
+    }
+
+    @Test
+    public void testAnalyseJsonEtAllerRetourBase64() throws Exception {
+        System.out.println("\n=== Test analyse JSON et réponse base64 ===");
+
+        String corps = "{ \"a\" : 2.5, \"b\":-1e-1, \"nx\":5.0, \"xMin\":0, \"xMax\":2,"
+            + " \"mailleUniforme\":false, \"fonctionSource\":\"sin(pi*x)\\t\\u0041\\/\\\"\","
+            + " \"conditionsLimites\":{\"u0\":1.5, \"type0\":\"Neumann\", \"typeL\":\"robin\","
+            + " \"alphaL\":3, \"inconnu\":{\"x\":{}}}, \"ignore\":null }";
+        HttpResponse<byte[]> reponse = poster("/resoudre", corps);
+        assertEquals(texte(reponse), 200, reponse.statusCode());
+
+        ParametresEntree p = methode.derniers;
+        assertEquals(2.5, p.a, 0.0);
+        assertEquals(-0.1, p.b, 0.0);
+        assertEquals(5, p.nx);
+        assertFalse(p.mailleUniforme);
+        assertEquals("sin(pi*x)\tA/\"", p.fonctionSource);
+        assertEquals(1.5, p.conditionsLimites.u0, 0.0);
+        assertEquals(ParametresEntree.TypeLimite.NEUMANN, p.conditionsLimites.type0);
+        assertEquals(ParametresEntree.TypeLimite.ROBIN, p.conditionsLimites.typeL);
+        assertEquals(3.0, p.conditionsLimites.alphaL, 0.0);
+
+        String json = texte(reponse);
+        assertEquals("5", champ(json, "n"));
+        assertEquals("7", champ(json, "iterations"));
+        assertEquals(1.25e-3, Double.parseDouble(champ(json, "erreur")), 0.0);
+
+        ResultatResolution attendu = methode.resoudre(p);
+        assertArrayEquals(attendu.x, FormatBinaireSolution.depuisBase64(champ(json, "x")), 0.0);
+        assertArrayEquals(attendu.solution,
+                          FormatBinaireSolution.depuisBase64(champ(json, "solution")), 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testReponseBinaire() throws Exception {
+        System.out.println("\n=== Test réponse binaire ===");
+
+        HttpResponse<byte[]> reponse = poster("/resoudre?format=binaire",
+                                              "{\"a\":-3, \"nx\":20000, \"conditionsLimites\":{\"u0\":0.25}}");
+        assertEquals(200, reponse.statusCode());
+        assertEquals(FormatBinaireSolution.taille(20000), reponse.body().length);
+
+        ResultatResolution lu = FormatBinaireSolution.lire(new ByteArrayInputStream(reponse.body()));
+        ResultatResolution attendu = methode.resoudre(methode.derniers);
+        assertEquals(7, lu.iterations);
+        assertEquals(1.25e-3, lu.erreur, 0.0);
+        assertEquals(0.5, lu.tempsCalcul, 0.0);
+        assertArrayEquals(attendu.x, lu.x, 0.0);
+        assertArrayEquals(attendu.solution, lu.solution, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testFormatBinaireValeursSpeciales() throws Exception {
+        System.out.println("\n=== Test format binaire : valeurs spéciales ===");
+
+        double[] valeurs = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+                            Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE, Math.PI};
+        double[] relues = FormatBinaireSolution.depuisBase64(FormatBinaireSolution.versBase64(valeurs));
+        assertEquals(valeurs.length, relues.length);
+        for (int i = 0; i < valeurs.length; i++) {
+            assertEquals(Double.doubleToRawLongBits(valeurs[i]), Double.doubleToRawLongBits(relues[i]));
+        }
+
+        ResultatResolution r = new ResultatResolution();
+        r.x = valeurs;
+        r.solution = relues;
+        r.iterations = -1;
+        r.erreur = Double.NaN;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FormatBinaireSolution.ecrire(r, out);
+        assertEquals(FormatBinaireSolution.taille(valeurs.length), out.size());
+        ResultatResolution lu = FormatBinaireSolution.lire(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(-1, lu.iterations);
+        assertTrue(Double.isNaN(lu.erreur));
+        assertArrayEquals(valeurs, lu.x, 0.0);
+        assertArrayEquals(valeurs, lu.solution, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testRequetesInvalides400() throws Exception {
+        System.out.println("\n=== Test requêtes invalides (400) ===");
+
+        String[] corps = {
+            "{\"a\":1",
+            "{\"a\":1} x",
+            "{\"a\":\"un\"}",
+            "{\"nx\":10.5}",
+            "{\"nx\":0}",
+            "{\"nx\":-4}",
+            "{\"nx\":" + (ServeurHttpResolution.NX_MAX + 1) + "}",
+            "{\"nx\":1e300}",
+            "{\"conditionsLimites\":{\"type0\":\"mixte\"}}",
+            "{\"fonctionSource\":\"\\q\"}",
+            "{\"fonctionSource\":3}",
+            "{\"fonctionSource\":[\"x\"]}"
+        };
+        for (String c : corps) {
+            HttpResponse<byte[]> reponse = poster("/resoudre", c);
+            assertEquals(c + " -> " + texte(reponse), 400, reponse.statusCode());
+            assertTrue(texte(reponse).startsWith("{\"erreur\":"));
+        }
+        assertNull("Aucune requête invalide ne doit atteindre le solveur", methode.derniers);
+
+        HttpResponse<byte[]> limite = poster("/resoudre", "{\"nx\":" + ServeurHttpResolution.NX_MAX + ".0}");
+        assertEquals(200, limite.statusCode());
+        assertEquals(ServeurHttpResolution.NX_MAX, methode.derniers.nx);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testSourceNonReconnueVF1D400() throws Exception {
+        System.out.println("\n=== Test fonction source non reconnue, service VF1D (400) ===");
+
+        try (ServiceResolution vf1d = ServiceResolution.pourVF1D();
+             ServeurHttpResolution serveurVF1D = new ServeurHttpResolution(vf1d, 0)) {
+            String url = "http://localhost:" + serveurVF1D.getPort() + "/resoudre";
+            HttpResponse<byte[]> reponse = client.send(
+                HttpRequest.newBuilder(URI.create(url))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"nx\":20, \"fonctionSource\":\"sin(3x)\"}"))
+                    .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(texte(reponse), 400, reponse.statusCode());
+            assertTrue(texte(reponse), texte(reponse).contains("sin(3x)"));
+
+            HttpResponse<byte[]> valide = client.send(
+                HttpRequest.newBuilder(URI.create(url))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"nx\":20, \"fonctionSource\":\"sin(pi*x)\"}"))
+                    .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(texte(valide), 200, valide.statusCode());
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testImbricationProfonde400() throws Exception {
+        System.out.println("\n=== Test imbrication profonde (400) ===");
+
+        // 8 000 niveaux tiennent dans 64 Kio : doit échouer proprement, sans débordement de pile
+        StringBuilder sb = new StringBuilder("{\"a\":1,\"x\":");
+        int niveaux = 8_000;
+        for (int i = 0; i < niveaux; i++) sb.append("{\"y\":");
+        sb.append('1');
+        for (int i = 0; i < niveaux; i++) sb.append('}');
+        sb.append('}');
+
+        HttpResponse<byte[]> reponse = poster("/resoudre", sb.toString());
+        assertEquals(400, reponse.statusCode());
+        assertTrue(texte(reponse), texte(reponse).contains("imbrication"));
+
+        // Une imbrication raisonnable reste acceptée
+        HttpResponse<byte[]> normal = poster("/resoudre",
+                                             "{\"nx\":3, \"extra\":{\"a\":{\"b\":{\"c\":{}}}}}");
+        assertEquals(200, normal.statusCode());
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testCorpsTropVolumineux413() throws Exception {
+        System.out.println("\n=== Test corps trop volumineux (413) ===");
+
+        StringBuilder sb = new StringBuilder("{\"fonctionSource\":\"");
+        while (sb.length() <= 64 * 1024) sb.append("x+");
+        sb.append("x\"}");
+
+        HttpResponse<byte[]> reponse = poster("/resoudre", sb.toString());
+        assertEquals(413, reponse.statusCode());
+        assertNull(methode.derniers);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testEchecSolveur500EtMethode405() throws Exception {
+        System.out.println("\n=== Test échec du solveur (500) et méthode (405) ===");
+
+        HttpResponse<byte[]> reponse = poster("/resoudre", "{\"fonctionSource\":\"panne\"}");
+        assertEquals(500, reponse.statusCode());
+        assertTrue(texte(reponse).contains("panne simulée du solveur"));
+        assertEquals(1, service.getEchecs());
+
+        HttpResponse<byte[]> get = client.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + serveur.getPort() + "/resoudre")).GET().build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(405, get.statusCode());
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,236 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ananum.integration.MethodeResolution;
+import com.ananum.integration.ParametresEntree;
+import com.ananum.integration.ResultatResolution;
+import com.ananum.integration.ServiceResolution;
+import com.ananum.vf1d.integration.VolumesFinis1DMethodeEnhanced;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du service de résolution : soumission, rejet quand la file est
+ * pleine, chaîne de post-traitements
+ */
+public class ServiceResolutionTest {
+
+    @Rule
+    public TemporaryFolder dossier = new TemporaryFolder();
+
+    /**
+     * Méthode factice (solution = x + a), bloquée sur un verrou si demandé
+     */
+    private static class MethodeFactice implements MethodeResolution {
+        volatile CountDownLatch demarrees = new CountDownLatch(0);
+        volatile CountDownLatch barriere;
+
+        @Override
+        public ResultatResolution resoudre(ParametresEntree params) {
+            demarrees.countDown();
+            if (barriere != null) {
+                try {
+                    barriere.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ResultatResolution r = new VolumesFinis1DMethodeEnhanced.ResultatResolutionEnhanced();
+            r.x = new double[params.nx];
+            r.solution = new double[params.nx];
+            for (int i = 0; i < params.nx; i++) {
+                r.x[i] = params.xMin + (i + 0.5) * (params.xMax - params.xMin) / params.nx;
+                r.solution[i] = r.x[i] + params.a;
+            }
+            return r;
+        }
+
+        @Override
+        public String getNomMethode() { return "Factice"; }
+
+        @Override
+        public int getDimension() { return 1; }
+    }
+
+    private static ParametresEntree params(double a, int n) {
+        ParametresEntree p = new ParametresEntree();
+        p.a = a;
+        p.b = 0.0;
+        p.c = 0.0;
+        p.nx = n;
+        p.xMin = 0.0;
+        p.xMax = 1.0;
+        p.fonctionSource = "1";
+        p.conditionsLimites = new ParametresEntree.ConditionLimite();
+        return p;
+    }
+
+    @Test
+    public void testSoumissionsIdentiquesAuxResolutionsDirectes() throws Exception {
+        System.out.println("Test: soumissions concurrentes = résolutions directes");
+
+        VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+        methode.setGenerateGraphs(false);
+        methode.setPerformAnalysis(false);
+
+        try (ServiceResolution service = new ServiceResolution(methode, 2, 100)) {
+            List<CompletableFuture<ResultatResolution>> futures = new ArrayList<>();
+            for (int k = 0; k < 8; k++) {
+                futures.add(service.submit(params(0.5 + 0.1 * k, 600)));
+            }
+            for (int k = 0; k < 8; k++) {
+                ResultatResolution direct = methode.resoudre(params(0.5 + 0.1 * k, 600));
+                ResultatResolution r = futures.get(k).get(30, TimeUnit.SECONDS);
+                assertArrayEquals(direct.solution, r.solution, 0.0);
+                assertArrayEquals(direct.x, r.x, 0.0);
+            }
+            assertEquals(8, service.getSoumissions());
+            assertEquals(8, service.getTerminees());
+            assertEquals(0, service.getEchecs());
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testServiceVF1DSansMessagesConsole() throws Exception {
+        System.out.println("Test: service VF1D silencieux, méthode directe bavarde");
+
+        VolumesFinis1DMethodeEnhanced.ParametresEntreeEnhanced p =
+            new VolumesFinis1DMethodeEnhanced.ParametresEntreeEnhanced();
+        p.a = 1.0;
+        p.nx = 600;   // solveur optimisé
+        p.xMin = 0.0;
+        p.xMax = 1.0;
+        p.fonctionSource = "0";
+        p.solutionExacte = "0";
+        p.conditionsLimites = new ParametresEntree.ConditionLimite();
+
+        PrintStream sortie = System.out;
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(capture, true, StandardCharsets.UTF_8));
+        String messagesService;
+        String messagesDirects;
+        try {
+            try (ServiceResolution service = ServiceResolution.pourVF1D()) {
+                service.submit(p).get(30, TimeUnit.SECONDS);
+            }
+            messagesService = capture.toString(StandardCharsets.UTF_8);
+            capture.reset();
+
+            VolumesFinis1DMethodeEnhanced methode = new VolumesFinis1DMethodeEnhanced();
+            methode.setGenerateGraphs(false);
+            methode.setPerformAnalysis(false);
+            methode.resoudre(p);
+            messagesDirects = capture.toString(StandardCharsets.UTF_8);
+        } finally {
+            System.setOut(sortie);
+        }
+
+        assertEquals("", messagesService);
+        assertTrue(messagesDirects, messagesDirects.contains("solveur optimisé"));
+        assertTrue(messagesDirects, messagesDirects.contains("Erreur L2"));
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testRejetQuandLaFileEstPleine() throws Exception {
+        System.out.println("Test: rejet immédiat au-delà de la capacité de la file");
+
+        MethodeFactice methode = new MethodeFactice();
+        methode.demarrees = new CountDownLatch(1);
+        methode.barriere = new CountDownLatch(1);
+
+        try (ServiceResolution service = new ServiceResolution(methode, 1, 1)) {
+            CompletableFuture<ResultatResolution> enCours = service.submit(params(1.0, 10));
+            assertTrue(methode.demarrees.await(5, TimeUnit.SECONDS));
+            CompletableFuture<ResultatResolution> enAttente = service.submit(params(2.0, 10));
+            assertEquals(1, service.getFileAttente());
+
+            CompletableFuture<ResultatResolution> rejetee = service.submit(params(3.0, 10));
+            assertTrue(rejetee.isCompletedExceptionally());
+            try {
+                rejetee.get();
+                fail("La soumission aurait dû être rejetée");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+
+            methode.barriere.countDown();
+            assertEquals(1.05, enCours.get(5, TimeUnit.SECONDS).solution[0], 1e-12);
+            assertEquals(2.05, enAttente.get(5, TimeUnit.SECONDS).solution[0], 1e-12);
+            assertEquals(3, service.getSoumissions());
+            assertEquals(2, service.getTerminees());
+            assertEquals(1, service.getEchecs());
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testChaineDePostTraitements() throws Exception {
+        System.out.println("Test: post-traitements ordonnés, exports concurrents distincts");
+
+        Path repertoire = dossier.getRoot().toPath();
+        List<String> ordre = Collections.synchronizedList(new ArrayList<>());
+
+        try (ServiceResolution service = new ServiceResolution(new MethodeFactice(), 2, 100)) {
+            List<CompletableFuture<ResultatResolution>> futures = new ArrayList<>();
+            for (int k = 0; k < 20; k++) {
+                final int id = k;
+                ParametresEntree p = params(k, 16);
+                p.xMin = 2.0;
+                p.xMax = 3.0;
+                futures.add(service.submit(p,
+                    (params, r) -> ordre.add(id + ":avant"),
+                    ServiceResolution.exportCsv(repertoire),
+                    ServiceResolution.graphique(repertoire),
+                    (params, r) -> ordre.add(id + ":après")));
+            }
+            for (CompletableFuture<ResultatResolution> f : futures) {
+                ResultatResolution r = f.get(30, TimeUnit.SECONDS);
+                String graphe = ((VolumesFinis1DMethodeEnhanced.ResultatResolutionEnhanced) r).graphFile;
+                assertNotNull(graphe);
+                assertTrue(Files.size(repertoire.resolve(graphe)) > 0);
+            }
+
+            // Un fichier par export, aucun écrasement
+            List<Path> csv;
+            try (Stream<Path> fichiers = Files.list(repertoire)) {
+                csv = fichiers.filter(f -> f.toString().endsWith(".csv")).collect(Collectors.toList());
+            }
+            assertEquals(20, csv.size());
+            for (Path f : csv) {
+                List<String> lignes = Files.readAllLines(f);
+                assertEquals(18, lignes.size());
+                assertEquals("x,u", lignes.get(1));
+                String[] champs = lignes.get(2).split(",");
+                double x = Double.parseDouble(champs[0]);
+                assertEquals(2.0 + 0.5 / 16, x, 1e-6);
+            }
+            for (int k = 0; k < 20; k++) {
+                assertTrue(ordre.indexOf(k + ":avant") < ordre.indexOf(k + ":après"));
+            }
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+}
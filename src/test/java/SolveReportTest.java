@@ -0,0 +1,56 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.SolveReport;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du critère d'arrêt sur le résidu et du bilan de résolution
+ */
+public class SolveReportTest {
+
+    @Test
+    public void testBilanGaussSeidel() {
+        System.out.println("Test: Bilan Gauss-Seidel");
+
+        VolumesFinis1DSolver solver = new VolumesFinis1DSolver(
+            40, 1.0, 1.0, 0.5, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0, true);
+        solver.solve();
+        SolveReport report = solver.getLastReport();
+
+        assertTrue(report.isConverged());
+        assertEquals(solver.getIterations(), report.getIterations());
+        assertTrue(report.getFinalRelativeResidual() < VolumesFinis1DSolver.TOLERANCE);
+
+        // Historique : résidu initial puis un relevé tous les checkInterval balayages
+        double[] history = report.getResidualHistory();
+        int[] iterations = report.getHistoryIterations();
+        assertEquals(history.length, iterations.length);
+        assertEquals(0, iterations[0]);
+        assertEquals(report.getIterations(), iterations[iterations.length - 1]);
+        for (int k = 1; k < history.length; k++) {
+            assertTrue(history[k] < history[k - 1]);
+        }
+        assertTrue(report.getAverageConvergenceRate() < 1.0);
+
+        System.out.println("  " + report);
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testBilanMethodeDirecte() {
+        System.out.println("Test: Bilan méthode directe");
+
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            1000, 1.0, 1.0, 0.5, 1.0, x -> 1.0, 0.0, 0.0, true);
+        solver.solve();
+
+        assertTrue(solver.getLastReport().isConverged());
+        assertEquals("Thomas", solver.getLastReport().getMethod());
+        assertEquals(1, solver.getIterations());
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,81 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.VolumesFinis1DSolver;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests des événements JFR émis par les solveurs
+ */
+public class SolverEventsTest {
+
+    @Rule
+    public TemporaryFolder dossier = new TemporaryFolder();
+
+    @Test
+    public void testEvenementsResolution() throws Exception {
+        System.out.println("Test: Événements JFR des solveurs");
+
+        Path fichier = dossier.newFile("solveur.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable("com.ananum.vf1d.SolveStarted");
+            recording.enable("com.ananum.vf1d.SolveCompleted");
+            recording.enable("com.ananum.vf1d.Assembly");
+            recording.start();
+
+            OptimizedVolumesFinis1DSolver thomas = new OptimizedVolumesFinis1DSolver(
+                1000, 1.0, 1.0, 0.0, 1.0, x -> 1.0, 0.0, 0.0, true);
+            thomas.setOperatorCache(new OperatorCache(1));
+            thomas.solve();
+
+            VolumesFinis1DSolver gs = new VolumesFinis1DSolver(
+                20, 1.0, 1.0, 0.0, 1.0, x -> 1.0, 0.0, 0.0, true);
+            gs.setOperatorCache(null);
+            gs.solve();
+
+            recording.stop();
+            recording.dump(fichier);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(fichier);
+        List<RecordedEvent> completed = events.stream()
+            .filter(e -> e.getEventType().getName().equals("com.ananum.vf1d.SolveCompleted"))
+            .collect(Collectors.toList());
+        assertEquals(2, completed.size());
+
+        for (RecordedEvent e : completed) {
+            assertTrue(e.getDouble("residual") < 1e-8);
+            assertTrue(e.getInt("iterations") >= 1);
+            assertTrue(e.getBoolean("succeeded"));
+        }
+        assertTrue(completed.stream().anyMatch(e -> "Thomas".equals(e.getString("method"))
+                                                   && e.getInt("n") == 1000));
+
+        long started = events.stream()
+            .filter(e -> e.getEventType().getName().equals("com.ananum.vf1d.SolveStarted")).count();
+        assertEquals(2, started);
+
+        List<String> stages = events.stream()
+            .filter(e -> e.getEventType().getName().equals("com.ananum.vf1d.Assembly"))
+            .map(e -> e.getString("stage"))
+            .collect(Collectors.toList());
+        assertTrue(stages.contains("mesh"));
+        assertTrue(stages.contains("operator"));
+        assertTrue(stages.contains("factorization"));
+        assertTrue(stages.contains("rhs"));
+
+        System.out.println("✓ Test réussi");
+    }
+}
@@ -0,0 +1,80 @@
+import org.junit.After;
+import org.junit.Test;
+
+import com.ananum.vf1d.OperatorCache;
+import com.ananum.vf1d.OptimizedVolumesFinis1DSolver;
+import com.ananum.vf1d.metrics.MetricsSnapshot;
+import com.ananum.vf1d.metrics.Phase;
+import com.ananum.vf1d.metrics.SolverMetrics;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de l'instrumentation des phases du solveur
+ */
+public class SolverMetricsTest {
+
+    @After
+    public void tearDown() {
+        SolverMetrics.setEnabled(false);
+        SolverMetrics.reset();
+    }
+
+    private static OptimizedVolumesFinis1DSolver solver(int n) {
+        OptimizedVolumesFinis1DSolver solver = new OptimizedVolumesFinis1DSolver(
+            n, 1.0, 1.0, 0.0, 1.0, x -> 1.0, 0.0, 0.0, true);
+        solver.setOperatorCache(new OperatorCache(1));
+        return solver;
+    }
+
+    @Test
+    public void testDesactiveesRienNestMesure() {
+        System.out.println("Test: Métriques désactivées");
+
+        SolverMetrics.setEnabled(false);
+        SolverMetrics.reset();
+        solver(1000).solve();
+
+        MetricsSnapshot s = SolverMetrics.snapshot();
+        assertEquals(0, s.getSolves());
+        for (Phase phase : Phase.values()) {
+            assertEquals(0, s.getCount(phase));
+        }
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testPhasesEtResidu() throws Exception {
+        System.out.println("Test: Phases, itérations et résidu");
+
+        SolverMetrics.reset();
+        SolverMetrics.setEnabled(true);
+        OptimizedVolumesFinis1DSolver s = solver(1000);
+        s.solve();
+        s.solve();   // opérateur en cache : ni maillage ni assemblage
+
+        MetricsSnapshot m = SolverMetrics.snapshot();
+        assertEquals(2, m.getSolves());
+        assertEquals(1, m.getCount(Phase.MESH));
+        assertEquals(2, m.getCount(Phase.ASSEMBLY));   // assemblage + factorisation
+        assertEquals(2, m.getCount(Phase.RHS));
+        assertEquals(2, m.getCount(Phase.SOLVE));
+        assertEquals(1, m.getLastIterations());
+        assertTrue(m.getLastResidual() < 1e-10);
+        assertEquals(m.getLastResidual(), s.getResidual(), 0.0);
+        if (SolverMetrics.isAllocationTrackingSupported()) {
+            assertTrue(m.getLastAllocatedBytes() >= 8L * 1000);
+        }
+        assertTrue(m.format().contains("assemblage"));
+
+        SolverMetrics.registerMBean();
+        ObjectName name = new ObjectName("com.ananum.vf1d:type=SolverMetrics");
+        assertEquals(2L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "SolveCount"));
+
+        System.out.println("✓ Test réussi");
+    }
+}
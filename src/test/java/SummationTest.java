@@ -0,0 +1,102 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.CompensatedSum;
+import com.ananum.vf1d.Function1D;
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.analysis.AnalysisTools.ErrorAnalysis;
+import com.ananum.vf1d.analysis.AnalysisTools.ErrorMetrics;
+import com.ananum.vf1d.analysis.SummationMode;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests de la sommation compensée et de la réduction par paires
+ */
+public class SummationTest {
+
+    @Test
+    public void testSommeCompenseeExacte() {
+        System.out.println("Test: somme compensée de Kahan–Neumaier");
+
+        int n = 10_000_000;
+        double naive = 0;
+        CompensatedSum compensated = new CompensatedSum();
+        for (int i = 0; i < n; i++) {
+            naive += 0.1;
+            compensated.add(0.1);
+        }
+        double exact = new BigDecimal(0.1).multiply(BigDecimal.valueOf(n)).doubleValue();
+
+        System.out.println("  Naïve : " + Math.abs(naive - exact) + ", compensée : "
+            + Math.abs(compensated.value() - exact));
+        assertEquals(exact, compensated.value(), 0.0);
+        assertTrue(Math.abs(naive - exact) > 1e-6);
+
+        // Terme dominant (variante de Neumaier)
+        assertEquals(2.0, CompensatedSum.sum(new double[] {1.0, 1e100, 1.0, -1e100}), 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testReductionParPairesDeterministe() {
+        System.out.println("Test: réduction par paires indépendante du nombre de threads");
+
+        int n = 1_000_003;
+        double[] x = new double[n], u = new double[n], dx = new double[n];
+        for (int i = 0; i < n; i++) {
+            dx[i] = 1.0 / n;
+            x[i] = (i + 0.5) / n;
+            u[i] = Math.sin(Math.PI * x[i]) + 1e-7 * Math.cos(7 * x[i]);
+        }
+        Solution1D solution = new Solution1D(u, x, dx, n);
+
+        ErrorMetrics compensated = ErrorAnalysis.computeErrorMetrics(
+            solution, t -> Math.sin(Math.PI * t), SummationMode.COMPENSATED);
+        ErrorMetrics[] pairwise = new ErrorMetrics[3];
+        int[] threads = {1, 2, 4};
+        for (int k = 0; k < threads.length; k++) {
+            ForkJoinPool pool = new ForkJoinPool(threads[k]);
+            try {
+                pairwise[k] = ErrorAnalysis.computeErrorMetrics(
+                    solution, t -> Math.sin(Math.PI * t), SummationMode.PAIRWISE_PARALLEL, pool);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        for (int k = 1; k < threads.length; k++) {
+            assertEquals(pairwise[0].errorL2, pairwise[k].errorL2, 0.0);
+            assertEquals(pairwise[0].errorL1, pairwise[k].errorL1, 0.0);
+            assertEquals(pairwise[0].relativeErrorL2, pairwise[k].relativeErrorL2, 0.0);
+        }
+        assertEquals(compensated.errorL2, pairwise[0].errorL2, 1e-14 * compensated.errorL2);
+        assertEquals(compensated.errorLinf, pairwise[0].errorLinf, 0.0);
+
+        // Évaluation groupée : un appel par bloc, même résultat
+        AtomicInteger bulkCalls = new AtomicInteger();
+        Function1D bulk = new Function1D() {
+            @Override
+            public double evaluate(double t) {
+                return Math.sin(Math.PI * t);
+            }
+
+            @Override
+            public void evaluate(double[] t, int offset, double[] values, int count) {
+                bulkCalls.incrementAndGet();
+                for (int k = 0; k < count; k++) values[k] = Math.sin(Math.PI * t[offset + k]);
+            }
+        };
+        ErrorMetrics grouped = ErrorAnalysis.computeErrorMetrics(
+            solution, bulk, SummationMode.PAIRWISE_PARALLEL);
+        assertEquals((n + ErrorAnalysis.PAIRWISE_BLOCK - 1) / ErrorAnalysis.PAIRWISE_BLOCK, bulkCalls.get());
+        assertEquals(pairwise[0].errorL2, grouped.errorL2, 0.0);
+        assertEquals(pairwise[0].relativeErrorL1, grouped.relativeErrorL1, 0.0);
+
+        System.out.println("✓ Test réussi");
+    }
+}
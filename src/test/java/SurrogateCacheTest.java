@@ -0,0 +1,127 @@
+import org.junit.Test;
+
+import com.ananum.vf1d.Solution1D;
+import com.ananum.vf1d.reduced.ParametrizedProblem;
+import com.ananum.vf1d.reduced.SurrogateCache;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests du cache de substitution par interpolation IDW
+ */
+public class SurrogateCacheTest {
+
+    private static final double[] MIN = {0.2, 0.0};
+    private static final double[] MAX = {1.0, 4.0};
+
+    private static final ParametrizedProblem PROBLEM = new ParametrizedProblem(
+        100, 1.0, x -> Math.sin(Math.PI * x), 0.0, 1.0);
+
+    /** μ = (a, c), b = 1, s = 1 ; compte les appels */
+    private static final class CountingSolver implements SurrogateCache.Solver {
+        int calls;
+
+        @Override
+        public Solution1D solve(double[] mu) {
+            calls++;
+            return PROBLEM.solve(mu[0], 1.0, mu[1], 1.0);
+        }
+    }
+
+    private static double error(Solution1D exact, Solution1D approx) {
+        double[] u = exact.getValues(), v = approx.getValues(), dx = exact.getCellWidths();
+        double s = 0, length = 0;
+        for (int i = 0; i < u.length; i++) {
+            s += dx[i] * (u[i] - v[i]) * (u[i] - v[i]);
+            length += dx[i];
+        }
+        return Math.sqrt(s / length);
+    }
+
+    @Test
+    public void testInterpolationSousTolerance() {
+        System.out.println("Test: cache de substitution, erreur des succès ≤ tolérance");
+
+        double tolerance = 1e-2;
+        CountingSolver solver = new CountingSolver();
+        SurrogateCache cache = new SurrogateCache(solver, MIN, MAX, tolerance);
+        for (int i = 0; i <= 20; i++) {
+            for (int j = 0; j <= 20; j++) {
+                cache.add(0.2 + 0.8 * i / 20, 4.0 * j / 20);
+            }
+        }
+        assertEquals(441, cache.getSize());
+        assertEquals(441, solver.calls);
+        assertEquals(0, cache.getHits() + cache.getMisses());
+
+        Random random = new Random(5L);
+        double maxError = 0;
+        for (int k = 0; k < 500; k++) {
+            double a = 0.25 + 0.7 * random.nextDouble(), c = 0.2 + 3.6 * random.nextDouble();
+            long hits = cache.getHits();
+            Solution1D answer = cache.query(a, c);
+            Solution1D exact = PROBLEM.solve(a, 1.0, c, 1.0);
+            double e = error(exact, answer);
+            if (cache.getHits() > hits) {
+                assertTrue(cache.getLastEstimate() <= tolerance);
+                assertTrue("Erreur " + e + " > tolérance", e <= tolerance);
+                maxError = Math.max(maxError, e);
+            } else {
+                assertEquals(0.0, e, 1e-14);
+            }
+        }
+        assertEquals(500, cache.getHits() + cache.getMisses());
+        assertEquals(441 + cache.getMisses(), solver.calls);
+        assertEquals(solver.calls, cache.getSize());
+        assertTrue(cache.getHitRate() > 0.5);
+
+        System.out.printf("  %s, erreur max = %.2e%n", cache, maxError);
+        System.out.println("✓ Test réussi");
+    }
+
+    @Test
+    public void testPointConnuEtExtrapolation() {
+        System.out.println("Test: point déjà stocké, refus d'extrapoler");
+
+        CountingSolver solver = new CountingSolver();
+        SurrogateCache cache = new SurrogateCache(solver, MIN, MAX, 1.0);
+
+        // Cache vide puis un seul voisin : vrai solveur
+        cache.query(0.5, 1.0);
+        assertTrue(Double.isInfinite(cache.getLastEstimate()));
+        cache.query(0.6, 1.0);
+        assertEquals(2, cache.getMisses());
+
+        // Point déjà stocké : copie exacte, sans appel au solveur
+        Solution1D stored = cache.query(0.5, 1.0);
+        assertEquals(0.0, cache.getLastEstimate(), 0.0);
+        assertEquals(2, solver.calls);
+        stored.getValues()[0] = 42;
+        assertNotEquals(42, cache.query(0.5, 1.0).getValues()[0], 0.0);
+
+        // Voisins tous du même côté : extrapolation refusée malgré la tolérance
+        cache.query(0.55, 1.2);
+        cache.query(0.55, 0.8);
+        long misses = cache.getMisses();
+        cache.query(0.9, 1.0);
+        assertEquals(misses + 1, cache.getMisses());
+        assertTrue(Double.isInfinite(cache.getLastEstimate()));
+
+        // Point entouré : interpolé
+        long hits = cache.getHits();
+        cache.query(0.56, 1.0);
+        assertEquals(hits + 1, cache.getHits());
+
+        try {
+            cache.query(0.5);
+            fail("Un point de mauvaise dimension doit être refusé");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("2 paramètres"));
+        }
+
+        System.out.println("  " + cache);
+        System.out.println("✓ Test réussi");
+    }
+}